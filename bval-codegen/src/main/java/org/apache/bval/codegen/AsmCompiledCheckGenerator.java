@@ -0,0 +1,286 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.bval.codegen;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.AnnotatedElement;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Member;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+
+import jakarta.validation.ValidationException;
+
+import org.apache.bval.jsr.ApacheFactoryContext;
+import org.apache.bval.jsr.descriptor.PropertyD;
+import org.apache.bval.jsr.descriptor.ValidationPlan;
+import org.apache.bval.jsr.job.CheckContext;
+import org.apache.bval.jsr.job.CheckedProperty;
+import org.apache.bval.jsr.job.CompiledCheckGenerator;
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.Label;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.Type;
+
+/**
+ * {@link CompiledCheckGenerator} defining each check as a hidden class, nestmate of the bean class, that reads the
+ * checked properties of the bean directly, with no reflection, where the bean class itself declares them or they are
+ * public members of a public class; other properties are read through their descriptors.
+ */
+public class AsmCompiledCheckGenerator implements CompiledCheckGenerator {
+    private static final String CHECK_SUFFIX = "$$BValCheck";
+
+    private static final String OBJECT = Type.getInternalName(Object.class);
+    private static final String COMPILED_CHECK = Type.getInternalName(ValidationPlan.CompiledCheck.class);
+    private static final String HANDOFF = Type.getInternalName(ValidationPlan.Handoff.class);
+    private static final String CHECKED_PROPERTY = Type.getInternalName(CheckedProperty.class);
+    private static final String CHECKED_PROPERTIES = Type.getDescriptor(CheckedProperty[].class);
+    private static final String CHECK_CONTEXT = Type.getInternalName(CheckContext.class);
+    private static final String PROPERTY_D = Type.getInternalName(PropertyD.class);
+
+    private static final int BEAN = 3;
+    private static final int CONTEXT = 4;
+    private static final int VALUE = 5;
+
+    /**
+     * Delegates to the generated check, reporting failures to read properties as {@link PropertyD#readValue(Object)}
+     * would.
+     */
+    private static class GeneratedCheck implements ValidationPlan.CompiledCheck {
+        private final ValidationPlan.CompiledCheck delegate;
+
+        GeneratedCheck(ValidationPlan.CompiledCheck delegate) {
+            super();
+            this.delegate = delegate;
+        }
+
+        @Override
+        public ValidationPlan.Handoff check(Object bean, ApacheFactoryContext validatorContext) {
+            try {
+                return delegate.check(bean, validatorContext);
+            } catch (ValidationException e) {
+                throw e;
+            } catch (RuntimeException e) {
+                throw new ValidationException(e);
+            } catch (Exception e) {
+                // checked exceptions sneaked out of a getter:
+                throw new ValidationException(new IllegalArgumentException(new InvocationTargetException(e)));
+            }
+        }
+    }
+
+    private static boolean isReadDirectly(Class<?> beanClass, Member member) {
+        final Class<?> declaringClass = member.getDeclaringClass();
+        if (declaringClass.equals(beanClass)) {
+            return true;
+        }
+        return Modifier.isPublic(member.getModifiers()) && Modifier.isPublic(declaringClass.getModifiers());
+    }
+
+    private static void box(MethodVisitor mv, Class<?> type) {
+        if (!type.isPrimitive()) {
+            return;
+        }
+        final Type boxed;
+        switch (Type.getType(type).getSort()) {
+        case Type.BOOLEAN:
+            boxed = Type.getType(Boolean.class);
+            break;
+        case Type.CHAR:
+            boxed = Type.getType(Character.class);
+            break;
+        case Type.BYTE:
+            boxed = Type.getType(Byte.class);
+            break;
+        case Type.SHORT:
+            boxed = Type.getType(Short.class);
+            break;
+        case Type.INT:
+            boxed = Type.getType(Integer.class);
+            break;
+        case Type.FLOAT:
+            boxed = Type.getType(Float.class);
+            break;
+        case Type.LONG:
+            boxed = Type.getType(Long.class);
+            break;
+        case Type.DOUBLE:
+            boxed = Type.getType(Double.class);
+            break;
+        default:
+            throw new IllegalArgumentException(type.getName());
+        }
+        mv.visitMethodInsn(Opcodes.INVOKESTATIC, boxed.getInternalName(), "valueOf",
+            Type.getMethodDescriptor(boxed, Type.getType(type)), false);
+    }
+
+    @Override
+    public ValidationPlan.CompiledCheck generate(Class<?> beanClass, CheckedProperty[] properties) {
+        if (beanClass.isHidden() || beanClass.isInterface() || beanClass.isArray() || beanClass.isPrimitive()
+            || !isVisible(beanClass)) {
+            return null;
+        }
+        final MethodHandles.Lookup lookup;
+        final Class<?> checkClass;
+        try {
+            lookup = MethodHandles.privateLookupIn(beanClass, MethodHandles.lookup())
+                .defineHiddenClass(define(beanClass, properties), true, MethodHandles.Lookup.ClassOption.NESTMATE);
+            checkClass = lookup.lookupClass();
+        } catch (IllegalAccessException | LinkageError e) {
+            return null;
+        }
+        final ValidationPlan.CompiledCheck check;
+        try {
+            final MethodHandle constructor =
+                lookup.findConstructor(checkClass, MethodType.methodType(void.class, CheckedProperty[].class));
+            check = (ValidationPlan.CompiledCheck) constructor.invoke(properties.clone());
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable t) {
+            throw new IllegalStateException(t);
+        }
+        return new GeneratedCheck(check);
+    }
+
+    /**
+     * Learn whether the checks of {@code beanClass} can be defined alongside it: its class loader must link them to
+     * the same BVal classes as this generator's.
+     *
+     * @param beanClass
+     * @return {@code boolean}
+     */
+    protected boolean isVisible(Class<?> beanClass) {
+        try {
+            return Class.forName(CheckedProperty.class.getName(), false,
+                beanClass.getClassLoader()) == CheckedProperty.class;
+        } catch (ClassNotFoundException e) {
+            return false;
+        }
+    }
+
+    private byte[] define(Class<?> beanClass, CheckedProperty[] properties) {
+        final String beanName = Type.getInternalName(beanClass);
+        final String checkName = beanName + CHECK_SUFFIX;
+
+        final ClassWriter cw = new ClassWriter(ClassWriter.COMPUTE_FRAMES) {
+
+            @Override
+            protected String getCommonSuperClass(String type1, String type2) {
+                // no class is loaded to compute frames:
+                return OBJECT;
+            }
+        };
+        cw.visit(Opcodes.V17, Opcodes.ACC_PUBLIC | Opcodes.ACC_FINAL | Opcodes.ACC_SUPER, checkName, null, OBJECT,
+            new String[] { COMPILED_CHECK });
+        cw.visitField(Opcodes.ACC_PRIVATE | Opcodes.ACC_FINAL, "properties", CHECKED_PROPERTIES, null, null)
+            .visitEnd();
+
+        MethodVisitor mv = cw.visitMethod(Opcodes.ACC_PUBLIC, "<init>",
+            Type.getMethodDescriptor(Type.VOID_TYPE, Type.getType(CheckedProperty[].class)), null, null);
+        mv.visitCode();
+        mv.visitVarInsn(Opcodes.ALOAD, 0);
+        mv.visitMethodInsn(Opcodes.INVOKESPECIAL, OBJECT, "<init>", "()V", false);
+        mv.visitVarInsn(Opcodes.ALOAD, 0);
+        mv.visitVarInsn(Opcodes.ALOAD, 1);
+        mv.visitFieldInsn(Opcodes.PUTFIELD, checkName, "properties", CHECKED_PROPERTIES);
+        mv.visitInsn(Opcodes.RETURN);
+        mv.visitMaxs(0, 0);
+        mv.visitEnd();
+
+        mv = cw.visitMethod(Opcodes.ACC_PUBLIC, "check",
+            Type.getMethodDescriptor(Type.getType(ValidationPlan.Handoff.class), Type.getType(Object.class),
+                Type.getType(ApacheFactoryContext.class)),
+            null, null);
+        mv.visitCode();
+        mv.visitVarInsn(Opcodes.ALOAD, 1);
+        mv.visitTypeInsn(Opcodes.CHECKCAST, beanName);
+        mv.visitVarInsn(Opcodes.ASTORE, BEAN);
+        mv.visitTypeInsn(Opcodes.NEW, CHECK_CONTEXT);
+        mv.visitInsn(Opcodes.DUP);
+        mv.visitVarInsn(Opcodes.ALOAD, 2);
+        mv.visitMethodInsn(Opcodes.INVOKESPECIAL, CHECK_CONTEXT, "<init>",
+            Type.getMethodDescriptor(Type.VOID_TYPE, Type.getType(ApacheFactoryContext.class)), false);
+        mv.visitVarInsn(Opcodes.ASTORE, CONTEXT);
+
+        for (int i = 0; i < properties.length; i++) {
+            readValue(mv, checkName, beanClass, properties[i], i);
+            mv.visitVarInsn(Opcodes.ASTORE, VALUE);
+
+            loadProperty(mv, checkName, i);
+            mv.visitVarInsn(Opcodes.ALOAD, VALUE);
+            mv.visitVarInsn(Opcodes.ALOAD, CONTEXT);
+            mv.visitMethodInsn(Opcodes.INVOKEVIRTUAL, CHECKED_PROPERTY, "isValid", Type.getMethodDescriptor(
+                Type.BOOLEAN_TYPE, Type.getType(Object.class), Type.getType(CheckContext.class)), false);
+            final Label valid = new Label();
+            mv.visitJumpInsn(Opcodes.IFNE, valid);
+            mv.visitTypeInsn(Opcodes.NEW, HANDOFF);
+            mv.visitInsn(Opcodes.DUP);
+            mv.visitLdcInsn(Integer.valueOf(properties[i].getIndex()));
+            mv.visitVarInsn(Opcodes.ALOAD, VALUE);
+            mv.visitMethodInsn(Opcodes.INVOKESPECIAL, HANDOFF, "<init>",
+                Type.getMethodDescriptor(Type.VOID_TYPE, Type.INT_TYPE, Type.getType(Object.class)), false);
+            mv.visitInsn(Opcodes.ARETURN);
+            mv.visitLabel(valid);
+        }
+        mv.visitInsn(Opcodes.ACONST_NULL);
+        mv.visitInsn(Opcodes.ARETURN);
+        mv.visitMaxs(0, 0);
+        mv.visitEnd();
+
+        cw.visitEnd();
+        return cw.toByteArray();
+    }
+
+    private void readValue(MethodVisitor mv, String checkName, Class<?> beanClass, CheckedProperty property,
+        int position) {
+        final AnnotatedElement target = property.getDescriptor().getTarget();
+
+        if (target instanceof Field && isReadDirectly(beanClass, (Field) target)) {
+            final Field field = (Field) target;
+            mv.visitVarInsn(Opcodes.ALOAD, BEAN);
+            mv.visitFieldInsn(Opcodes.GETFIELD, Type.getInternalName(field.getDeclaringClass()), field.getName(),
+                Type.getDescriptor(field.getType()));
+            box(mv, field.getType());
+        } else if (target instanceof Method && isReadDirectly(beanClass, (Method) target)) {
+            final Method getter = (Method) target;
+            mv.visitVarInsn(Opcodes.ALOAD, BEAN);
+            mv.visitMethodInsn(Opcodes.INVOKEVIRTUAL, Type.getInternalName(getter.getDeclaringClass()),
+                getter.getName(), Type.getMethodDescriptor(getter), false);
+            box(mv, getter.getReturnType());
+        } else {
+            loadProperty(mv, checkName, position);
+            mv.visitMethodInsn(Opcodes.INVOKEVIRTUAL, CHECKED_PROPERTY, "getDescriptor",
+                Type.getMethodDescriptor(Type.getType(PropertyD.class)), false);
+            mv.visitVarInsn(Opcodes.ALOAD, 1);
+            mv.visitMethodInsn(Opcodes.INVOKEVIRTUAL, PROPERTY_D, "readValue",
+                Type.getMethodDescriptor(Type.getType(Object.class), Type.getType(Object.class)), false);
+        }
+    }
+
+    private void loadProperty(MethodVisitor mv, String checkName, int position) {
+        mv.visitVarInsn(Opcodes.ALOAD, 0);
+        mv.visitFieldInsn(Opcodes.GETFIELD, checkName, "properties", CHECKED_PROPERTIES);
+        mv.visitLdcInsn(Integer.valueOf(position));
+        mv.visitInsn(Opcodes.AALOAD);
+    }
+}
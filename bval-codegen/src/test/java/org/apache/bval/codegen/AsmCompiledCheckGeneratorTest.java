@@ -0,0 +1,157 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.bval.codegen;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.ValidationException;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import org.apache.bval.jsr.ApacheValidationProvider;
+import org.apache.bval.jsr.ApacheValidatorConfiguration;
+import org.apache.bval.jsr.descriptor.ValidationPlan;
+import org.apache.bval.jsr.job.CheckedProperty;
+import org.apache.bval.jsr.resolver.SimpleTraversableResolver;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests {@link AsmCompiledCheckGenerator}.
+ */
+public class AsmCompiledCheckGeneratorTest {
+
+    public static class RecordingGenerator extends AsmCompiledCheckGenerator {
+        static final Set<Class<?>> GENERATED = ConcurrentHashMap.newKeySet();
+
+        @Override
+        public ValidationPlan.CompiledCheck generate(Class<?> beanClass, CheckedProperty[] properties) {
+            final ValidationPlan.CompiledCheck result = super.generate(beanClass, properties);
+            if (result != null) {
+                GENERATED.add(beanClass);
+            }
+            return result;
+        }
+    }
+
+    static class Base {
+        @Min(0)
+        int base;
+    }
+
+    public static class Bean extends Base {
+        int reads;
+
+        @NotNull
+        private String name = "abc";
+
+        @Min(0)
+        private long count;
+
+        String code = "x";
+
+        @Size(max = 3)
+        public String getCode() {
+            reads++;
+            return code;
+        }
+    }
+
+    public static class Failing {
+        @NotNull
+        public String getCode() {
+            throw new IllegalStateException("unreadable");
+        }
+    }
+
+    private ValidatorFactory factory;
+    private Validator validator;
+
+    @Before
+    public void setup() {
+        // the JPA-aware default resolver, if JPA is present, would not let beans be checked by compiled checks:
+        factory = Validation.byProvider(ApacheValidationProvider.class).configure()
+            .traversableResolver(new SimpleTraversableResolver())
+            .addProperty(ApacheValidatorConfiguration.Properties.COMPILED_BEAN_VALIDATION, "true")
+            .addProperty(ApacheValidatorConfiguration.Properties.COMPILED_CHECK_GENERATOR,
+                RecordingGenerator.class.getName())
+            .buildValidatorFactory();
+        validator = factory.getValidator();
+    }
+
+    @After
+    public void tearDown() {
+        factory.close();
+    }
+
+    private static Set<String> paths(Set<? extends ConstraintViolation<?>> violations) {
+        return violations.stream().map(v -> v.getPropertyPath().toString())
+            .collect(Collectors.toCollection(TreeSet::new));
+    }
+
+    @Test
+    public void testValidBeanCheckedOnce() {
+        final Bean bean = new Bean();
+        assertTrue(validator.validate(bean).isEmpty());
+        assertTrue(RecordingGenerator.GENERATED.contains(Bean.class));
+        assertEquals(1, bean.reads);
+    }
+
+    @Test
+    public void testInvalidBeanValidatedNormally() {
+        final Bean bean = new Bean();
+        bean.code = "abcd";
+
+        assertEquals(Collections.singleton("code"), paths(validator.validate(bean)));
+        assertTrue(RecordingGenerator.GENERATED.contains(Bean.class));
+        // normal validation takes over with the value read by the generated check:
+        assertEquals(1, bean.reads);
+
+        bean.code = "x";
+        bean.name = null;
+        bean.count = -1;
+        bean.base = -1;
+        final Set<String> expected = new TreeSet<>(Arrays.asList("base", "count", "name"));
+        assertEquals(expected, paths(validator.validate(bean)));
+
+        try (ValidatorFactory plain = Validation.byProvider(ApacheValidationProvider.class).configure()
+            .buildValidatorFactory()) {
+            assertEquals(expected, paths(plain.getValidator().validate(bean)));
+        }
+    }
+
+    @Test(expected = ValidationException.class)
+    public void testPropertyReadFailure() {
+        validator.validate(new Failing());
+    }
+}
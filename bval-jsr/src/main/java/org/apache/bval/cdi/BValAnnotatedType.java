@@ -19,24 +19,63 @@
 package org.apache.bval.cdi;
 
 import java.lang.annotation.Annotation;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
 import java.lang.reflect.Type;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 
+import jakarta.enterprise.inject.spi.AnnotatedCallable;
 import jakarta.enterprise.inject.spi.AnnotatedConstructor;
 import jakarta.enterprise.inject.spi.AnnotatedField;
 import jakarta.enterprise.inject.spi.AnnotatedMethod;
+import jakarta.enterprise.inject.spi.AnnotatedParameter;
 import jakarta.enterprise.inject.spi.AnnotatedType;
 
 public class BValAnnotatedType<A> implements AnnotatedType<A> {
     private final AnnotatedType<A> delegate;
     private final Set<Annotation> annotations;
+    private final Set<AnnotatedConstructor<A>> constructors;
+    private final Set<AnnotatedMethod<? super A>> methods;
 
+    /**
+     * Create a new {@link BValAnnotatedType} binding the interceptor to the whole type.
+     * @param annotatedType
+     */
     public BValAnnotatedType(final AnnotatedType<A> annotatedType) {
         delegate = annotatedType;
 
         annotations = new HashSet<>(annotatedType.getAnnotations());
         annotations.add(BValBindingLiteral.INSTANCE);
+        constructors = annotatedType.getConstructors();
+        methods = annotatedType.getMethods();
+    }
+
+    /**
+     * Create a new {@link BValAnnotatedType} binding the interceptor to the specified constructors and methods only.
+     * @param annotatedType
+     * @param boundConstructors
+     * @param boundMethods
+     */
+    public BValAnnotatedType(final AnnotatedType<A> annotatedType,
+        final Set<? extends AnnotatedConstructor<A>> boundConstructors,
+        final Set<? extends AnnotatedMethod<? super A>> boundMethods) {
+        delegate = annotatedType;
+
+        annotations = annotatedType.getAnnotations();
+        constructors = new HashSet<>();
+        for (final AnnotatedConstructor<A> c : annotatedType.getConstructors()) {
+            constructors.add(boundConstructors.contains(c) ? new BoundConstructor<>(c) : c);
+        }
+        methods = new HashSet<>();
+        for (final AnnotatedMethod<? super A> m : annotatedType.getMethods()) {
+            methods.add(boundMethods.contains(m) ? bind(m) : m);
+        }
+    }
+
+    private static <X> AnnotatedMethod<X> bind(AnnotatedMethod<X> method) {
+        return new BoundMethod<>(method);
     }
 
     @Override
@@ -46,12 +85,12 @@ public class BValAnnotatedType<A> implements AnnotatedType<A> {
 
     @Override
     public Set<AnnotatedConstructor<A>> getConstructors() {
-        return delegate.getConstructors();
+        return constructors;
     }
 
     @Override
     public Set<AnnotatedMethod<? super A>> getMethods() {
-        return delegate.getMethods();
+        return methods;
     }
 
     @Override
@@ -85,6 +124,86 @@ public class BValAnnotatedType<A> implements AnnotatedType<A> {
         return annotations.stream().anyMatch(ann -> ann.annotationType().equals(annotationType));
     }
 
+    /**
+     * {@link AnnotatedCallable} with the {@link BValBinding} added to its annotations.
+     * @param <X>
+     * @param <C>
+     */
+    private abstract static class BoundCallable<X, C extends AnnotatedCallable<X>> implements AnnotatedCallable<X> {
+        final C delegate;
+        private final Set<Annotation> annotations;
+
+        BoundCallable(C delegate) {
+            this.delegate = delegate;
+            annotations = new HashSet<>(delegate.getAnnotations());
+            annotations.add(BValBindingLiteral.INSTANCE);
+        }
+
+        @Override
+        public List<AnnotatedParameter<X>> getParameters() {
+            return delegate.getParameters();
+        }
+
+        @Override
+        public boolean isStatic() {
+            return delegate.isStatic();
+        }
+
+        @Override
+        public AnnotatedType<X> getDeclaringType() {
+            return delegate.getDeclaringType();
+        }
+
+        @Override
+        public Type getBaseType() {
+            return delegate.getBaseType();
+        }
+
+        @Override
+        public Set<Type> getTypeClosure() {
+            return delegate.getTypeClosure();
+        }
+
+        @Override
+        public <T extends Annotation> T getAnnotation(final Class<T> annotationType) {
+            return annotations.stream().filter(ann -> ann.annotationType().equals(annotationType))
+                .map(annotationType::cast).findFirst().orElse(null);
+        }
+
+        @Override
+        public Set<Annotation> getAnnotations() {
+            return annotations;
+        }
+
+        @Override
+        public boolean isAnnotationPresent(Class<? extends Annotation> annotationType) {
+            return annotations.stream().anyMatch(ann -> ann.annotationType().equals(annotationType));
+        }
+    }
+
+    private static class BoundMethod<X> extends BoundCallable<X, AnnotatedMethod<X>> implements AnnotatedMethod<X> {
+        BoundMethod(AnnotatedMethod<X> delegate) {
+            super(delegate);
+        }
+
+        @Override
+        public Method getJavaMember() {
+            return delegate.getJavaMember();
+        }
+    }
+
+    private static class BoundConstructor<X> extends BoundCallable<X, AnnotatedConstructor<X>>
+        implements AnnotatedConstructor<X> {
+        BoundConstructor(AnnotatedConstructor<X> delegate) {
+            super(delegate);
+        }
+
+        @Override
+        public Constructor<X> getJavaMember() {
+            return delegate.getJavaMember();
+        }
+    }
+
     public static class BValBindingLiteral extends EmptyAnnotationLiteral<BValBinding> implements BValBinding {
         private static final long serialVersionUID = 1L;
 
@@ -19,17 +19,17 @@
 package org.apache.bval.cdi;
 
 import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 import java.lang.reflect.Type;
-import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.logging.Level;
 import java.util.logging.Logger;
-import java.util.stream.Stream;
 
 import jakarta.enterprise.context.spi.CreationalContext;
 import jakarta.enterprise.event.Observes;
@@ -61,6 +61,7 @@ import jakarta.validation.executable.ExecutableType;
 import jakarta.validation.executable.ValidateOnExecution;
 
 import org.apache.bval.jsr.ConfigurationImpl;
+import org.apache.bval.jsr.metadata.Signature;
 import org.apache.bval.jsr.util.ExecutableTypes;
 import org.apache.bval.util.Lazy;
 import org.apache.bval.util.Validate;
@@ -90,8 +91,9 @@ public class BValExtension implements Extension {
     private Set<ExecutableType> globalExecutableTypes;
     private boolean isExecutableValidationEnabled;
 
-    private final Collection<Class<?>> potentiallyBValAnnotation = new HashSet<>();
-    private final Collection<Class<?>> notBValAnnotation = new HashSet<>();
+    // containers may process annotated types in parallel:
+    private final Set<Class<?>> potentiallyBValAnnotation = ConcurrentHashMap.newKeySet();
+    private final Set<Class<?>> notBValAnnotation = ConcurrentHashMap.newKeySet();
 
     public BValExtension() { // read the config, could be done in a quicker way but this let us get defaults without duplicating code
         config = Validation.byDefaultProvider().configure();
@@ -134,32 +136,28 @@ public class BValExtension implements Extension {
         final int modifiers = javaClass.getModifiers();
         if (!javaClass.isInterface() && !javaClass.isAnonymousClass() && !Modifier.isFinal(modifiers) && !Modifier.isAbstract(modifiers)) {
             try {
-                Queue<AnnotatedType<?>> toProcess = new LinkedList<>();
-                toProcess.add(annotatedType);
-
-                while (!toProcess.isEmpty()) {
-                    AnnotatedType<?> now = toProcess.poll();
-                    Set<? extends AnnotatedMethod<?>> methods = now.getMethods();
-                    Set<? extends AnnotatedConstructor<?>> constructors = now.getConstructors();
-
-                    if (hasValidation(now)
-                            || methods.stream().anyMatch(this::hasValidation)
-                            || constructors.stream().anyMatch(this::hasValidation)
-                            || methods.stream().anyMatch(this::hasParamsWithValidation)
-                            || constructors.stream().anyMatch(this::hasParamsWithValidation)) {
-                        pat.setAnnotatedType(new BValAnnotatedType<>(annotatedType));
-                        break;
+                final Set<AnnotatedConstructor<A>> constructors = new HashSet<>();
+                for (AnnotatedConstructor<A> constructor : annotatedType.getConstructors()) {
+                    if (hasValidation(constructor) || hasParamsWithValidation(constructor)) {
+                        constructors.add(constructor);
                     }
-
-                    Class<?> superclass = now.getJavaClass().getSuperclass();
-                    if (superclass != Object.class && superclass != null) {
-                        toProcess.add(beanManager.createAnnotatedType(superclass));
-                    }
-
-                    for (Class<?> iface : now.getJavaClass().getInterfaces()) {
-                        toProcess.add(beanManager.createAnnotatedType(iface));
+                }
+                final Set<Signature> constrainedMethods = findConstrainedMethods(annotatedType, beanManager);
+
+                final Set<AnnotatedMethod<? super A>> methods = new HashSet<>();
+                if (!constrainedMethods.isEmpty()) {
+                    for (AnnotatedMethod<? super A> method : annotatedType.getMethods()) {
+                        final Method javaMethod = method.getJavaMember();
+                        if (!method.isStatic() && constrainedMethods.contains(Signature.of(javaMethod))
+                            && BValInterceptor.isMethodValidated(beanManager, javaClass, javaMethod,
+                                globalExecutableTypes)) {
+                            methods.add(method);
+                        }
                     }
                 }
+                if (!constructors.isEmpty() || !methods.isEmpty()) {
+                    pat.setAnnotatedType(new BValAnnotatedType<>(annotatedType, constructors, methods));
+                }
             } catch (final Exception e) {
                 if (e instanceof ValidationException) {
                     throw e;
@@ -170,6 +168,37 @@ public class BValExtension implements Extension {
             }
         }
     }
+
+    /**
+     * Find the signatures of the methods declared with constraints or {@link Valid} anywhere in the hierarchy of
+     * {@code annotatedType}.
+     */
+    private Set<Signature> findConstrainedMethods(AnnotatedType<?> annotatedType, BeanManager beanManager) {
+        final Set<Signature> result = new HashSet<>();
+        final Set<Class<?>> seen = new HashSet<>();
+        final Queue<AnnotatedType<?>> toProcess = new LinkedList<>();
+        toProcess.add(annotatedType);
+
+        while (!toProcess.isEmpty()) {
+            final AnnotatedType<?> now = toProcess.poll();
+            for (AnnotatedMethod<?> method : now.getMethods()) {
+                if (hasValidation(method) || hasParamsWithValidation(method)) {
+                    result.add(Signature.of(method.getJavaMember()));
+                }
+            }
+            final Class<?> superclass = now.getJavaClass().getSuperclass();
+            if (superclass != Object.class && superclass != null && seen.add(superclass)) {
+                toProcess.add(beanManager.createAnnotatedType(superclass));
+            }
+            for (Class<?> iface : now.getJavaClass().getInterfaces()) {
+                if (seen.add(iface)) {
+                    toProcess.add(beanManager.createAnnotatedType(iface));
+                }
+            }
+        }
+        return result;
+    }
+
     public <A> void processBean(final @Observes ProcessBean<A> processBeanEvent) {
         if (validatorFound && validatorFactoryFound) {
             return;
@@ -275,24 +304,26 @@ public class BValExtension implements Extension {
     }
 
     private void cacheIsBvalAnnotation(final Class<? extends Annotation> type) {
-        if (flattenAnnotations(type, new HashSet<>()).anyMatch(it -> it == Constraint.class)) {
+        if (isMetaAnnotatedWithConstraint(type, new HashSet<>())) {
             potentiallyBValAnnotation.add(type);
         } else {
             notBValAnnotation.add(type);
         }
     }
 
-    private Stream<Class<?>> flattenAnnotations(final Class<? extends Annotation> type, final Set<Class<?>> seen) {
+    private boolean isMetaAnnotatedWithConstraint(final Class<? extends Annotation> type, final Set<Class<?>> seen) {
         seen.add(type);
-        return Stream.of(type)
-                     .flatMap(it -> Stream.concat(
-                             Stream.of(it),
-                             Stream.of(it.getAnnotations())
-                                   .map(Annotation::annotationType)
-                                   .distinct()
-                                   .filter(a -> !isSkippedAnnotation(a))
-                                   .filter(seen::add)
-                                   .flatMap(a -> flattenAnnotations(a, seen))));
+        for (Annotation annotation : type.getAnnotations()) {
+            final Class<? extends Annotation> metaType = annotation.annotationType();
+            if (metaType == Constraint.class || potentiallyBValAnnotation.contains(metaType)) {
+                return true;
+            }
+            if (!isSkippedAnnotation(metaType) && !notBValAnnotation.contains(metaType) && seen.add(metaType)
+                && isMetaAnnotatedWithConstraint(metaType, seen)) {
+                return true;
+            }
+        }
+        return false;
     }
 
     /**
@@ -37,6 +37,7 @@ import java.util.function.BiPredicate;
 import jakarta.annotation.Priority;
 import jakarta.enterprise.inject.spi.AnnotatedMethod;
 import jakarta.enterprise.inject.spi.AnnotatedType;
+import jakarta.enterprise.inject.spi.BeanManager;
 import jakarta.enterprise.inject.spi.CDI;
 import jakarta.inject.Inject;
 import jakarta.interceptor.AroundConstruct;
@@ -46,6 +47,7 @@ import jakarta.interceptor.InterceptorBinding;
 import jakarta.interceptor.InvocationContext;
 import jakarta.validation.ConstraintViolation;
 import jakarta.validation.ConstraintViolationException;
+import jakarta.validation.ValidationException;
 import jakarta.validation.Validator;
 import jakarta.validation.executable.ExecutableType;
 import jakarta.validation.executable.ExecutableValidator;
@@ -53,6 +55,8 @@ import jakarta.validation.executable.ValidateOnExecution;
 import jakarta.validation.metadata.ConstructorDescriptor;
 import jakarta.validation.metadata.MethodDescriptor;
 
+import org.apache.bval.jsr.ApacheValidator;
+import org.apache.bval.jsr.PreparedExecutableValidator;
 import org.apache.bval.jsr.descriptor.DescriptorManager;
 import org.apache.bval.jsr.metadata.Signature;
 import org.apache.bval.jsr.util.ExecutableTypes;
@@ -87,8 +91,28 @@ public class BValInterceptor implements Serializable {
         return coll;
     }
 
+    /**
+     * What to validate upon the invocations of a given method.
+     */
+    private static final class InvocationPlan {
+        static final InvocationPlan NONE = new InvocationPlan(null, null);
+
+        final MethodDescriptor descriptor;
+        final PreparedExecutableValidator<Object> validator;
+        final boolean parameters;
+        final boolean returnValue;
+
+        InvocationPlan(MethodDescriptor descriptor, PreparedExecutableValidator<Object> validator) {
+            this.descriptor = descriptor;
+            this.validator = validator;
+            this.parameters = descriptor != null && descriptor.hasConstrainedParameters();
+            this.returnValue = descriptor != null && descriptor.hasConstrainedReturnValue();
+        }
+    }
+
     private transient volatile Set<ExecutableType> classConfiguration;
     private transient volatile Map<Signature, Boolean> executableValidation;
+    private transient volatile ConcurrentMap<Method, InvocationPlan> invocationPlans;
 
     @Inject
     private Validator validator;
@@ -136,32 +160,23 @@ public class BValInterceptor implements Serializable {
     @AroundInvoke
     public Object invoke(final InvocationContext context) throws Exception {
         final Method method = context.getMethod();
-        final Class<?> targetClass = getTargetClass(context);
+        final InvocationPlan plan = getInvocationPlan(context, method);
 
-        if (!isExecutableValidated(targetClass, method, this::computeIsMethodValidated)) {
+        if (plan == InvocationPlan.NONE) {
             return context.proceed();
         }
-
-        final MethodDescriptor constraintsForMethod = validator.getConstraintsForClass(targetClass)
-            .getConstraintsForMethod(method.getName(), method.getParameterTypes());
-
-        if (!DescriptorManager.isConstrained(constraintsForMethod)) {
-            return context.proceed();
-        }
-        initExecutableValidator();
-
-        if (constraintsForMethod.hasConstrainedParameters()) {
+        if (plan.parameters) {
             final Set<ConstraintViolation<Object>> violations =
-                executableValidator.validateParameters(context.getTarget(), method, context.getParameters());
+                plan.validator.validateParameters(context.getTarget(), context.getParameters());
             if (!violations.isEmpty()) {
                 throw new ConstraintViolationException(violations);
             }
         }
         final Object result = context.proceed();
 
-        if (constraintsForMethod.hasConstrainedReturnValue()) {
+        if (plan.returnValue) {
             final Set<ConstraintViolation<Object>> violations =
-                executableValidator.validateReturnValue(context.getTarget(), method, result);
+                plan.validator.validateReturnValue(context.getTarget(), result);
             if (!violations.isEmpty()) {
                 throw new ConstraintViolationException(violations);
             }
@@ -169,6 +184,61 @@ public class BValInterceptor implements Serializable {
         return result;
     }
 
+    private InvocationPlan getInvocationPlan(final InvocationContext context, final Method method) {
+        if (invocationPlans == null) {
+            synchronized (this) {
+                if (invocationPlans == null) {
+                    invocationPlans = new ConcurrentHashMap<>();
+                }
+            }
+        }
+        InvocationPlan plan = invocationPlans.get(method);
+        if (plan == null) {
+            plan = computeInvocationPlan(getTargetClass(context), method);
+            invocationPlans.putIfAbsent(method, plan);
+        }
+        return plan;
+    }
+
+    private InvocationPlan computeInvocationPlan(final Class<?> targetClass, final Method method) {
+        if (!isExecutableValidated(targetClass, method, this::computeIsMethodValidated)) {
+            return InvocationPlan.NONE;
+        }
+        final MethodDescriptor constraintsForMethod = validator.getConstraintsForClass(targetClass)
+            .getConstraintsForMethod(method.getName(), method.getParameterTypes());
+
+        if (!DescriptorManager.isConstrained(constraintsForMethod)) {
+            return InvocationPlan.NONE;
+        }
+        if (!(constraintsForMethod.hasConstrainedParameters() || constraintsForMethod.hasConstrainedReturnValue())) {
+            return InvocationPlan.NONE;
+        }
+        return new InvocationPlan(constraintsForMethod, prepare(method));
+    }
+
+    private PreparedExecutableValidator<Object> prepare(final Method method) {
+        final ApacheValidator apacheValidator;
+        try {
+            apacheValidator = validator.unwrap(ApacheValidator.class);
+        } catch (ValidationException e) {
+            // not our validator; resolve the method on every invocation:
+            initExecutableValidator();
+            return new PreparedExecutableValidator<Object>() {
+
+                @Override
+                public Set<ConstraintViolation<Object>> validateParameters(Object object, Object[] parameterValues) {
+                    return executableValidator.validateParameters(object, method, parameterValues);
+                }
+
+                @Override
+                public Set<ConstraintViolation<Object>> validateReturnValue(Object object, Object returnValue) {
+                    return executableValidator.validateReturnValue(object, method, returnValue);
+                }
+            };
+        }
+        return apacheValidator.prepare(method);
+    }
+
     private Class<?> getTargetClass(final InvocationContext context) {
         final Class<?> key = context.getTarget().getClass();
         if (classMapping == null) {
@@ -241,12 +311,23 @@ public class BValInterceptor implements Serializable {
     }
 
     private <T> boolean computeIsMethodValidated(Class<T> targetClass, Method method) {
+        return isMethodValidated(CDI.current().getBeanManager(), targetClass, method,
+            globalConfiguration.getGlobalExecutableTypes());
+    }
+
+    /**
+     * Learn whether {@code method} of {@code targetClass} is to be validated upon invocation according to the
+     * {@link ValidateOnExecution} annotations of its declaration, of the declaring type or package, and to the
+     * globally configured executable types.
+     */
+    static boolean isMethodValidated(BeanManager beanManager, Class<?> targetClass, Method method,
+        Set<ExecutableType> globalExecutableTypes) {
         final Signature signature = Signature.of(method);
 
         AnnotatedMethod<?> declaringMethod = null;
 
         for (final Class<?> c : Reflection.hierarchy(targetClass, Interfaces.INCLUDE)) {
-            final AnnotatedType<?> annotatedType = CDI.current().getBeanManager().createAnnotatedType(c);
+            final AnnotatedType<?> annotatedType = beanManager.createAnnotatedType(c);
 
             final AnnotatedMethod<?> annotatedMethod = annotatedType.getMethods().stream()
                 .filter(am -> Signature.of(am.getJavaMember()).equals(signature)).findFirst().orElse(null);
@@ -291,7 +372,7 @@ public class BValInterceptor implements Serializable {
             Methods.isGetter(method) ? ExecutableType.GETTER_METHODS : ExecutableType.NON_GETTER_METHODS;
 
         return Optional.ofNullable(declaredExecutableTypes).map(ExecutableTypes::interpret)
-            .orElse(globalConfiguration.getGlobalExecutableTypes()).contains(methodType);
+            .orElse(globalExecutableTypes).contains(methodType);
     }
 
     private void initExecutableValidator() {
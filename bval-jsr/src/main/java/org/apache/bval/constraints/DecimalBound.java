@@ -0,0 +1,126 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.bval.constraints;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+
+import org.apache.bval.util.Validate;
+
+/**
+ * {@link BigDecimal} bound with its nearest {@code long} and {@code double} values precomputed, so that values of
+ * other numeric types can be compared to it exactly, without converting them to {@link BigDecimal}.
+ */
+final class DecimalBound {
+    private static final BigInteger MIN_LONG = BigInteger.valueOf(Long.MIN_VALUE);
+    private static final BigInteger MAX_LONG = BigInteger.valueOf(Long.MAX_VALUE);
+
+    private final BigDecimal value;
+    private final BigInteger floor;
+    private final boolean integral;
+
+    /**
+     * Result of comparing any {@code long} to the bound, if the floor of the bound lies outside the {@code long}
+     * range, else {@code 0}.
+     */
+    private final int longOutOfRange;
+    private final long longFloor;
+
+    private final double nearestDouble;
+    private final int comparisonAtNearestDouble;
+
+    DecimalBound(BigDecimal value) {
+        super();
+        this.value = Validate.notNull(value);
+
+        final BigDecimal floor = value.setScale(0, RoundingMode.FLOOR);
+        this.floor = floor.toBigIntegerExact();
+        this.integral = floor.compareTo(value) == 0;
+
+        if (this.floor.compareTo(MAX_LONG) > 0) {
+            longOutOfRange = -1;
+        } else if (this.floor.compareTo(MIN_LONG) < 0) {
+            longOutOfRange = 1;
+        } else {
+            longOutOfRange = 0;
+        }
+        longFloor = longOutOfRange == 0 ? this.floor.longValue() : 0L;
+
+        nearestDouble = value.doubleValue();
+        if (Double.isInfinite(nearestDouble)) {
+            comparisonAtNearestDouble = nearestDouble > 0 ? 1 : -1;
+        } else {
+            comparisonAtNearestDouble = new BigDecimal(nearestDouble).compareTo(value);
+        }
+    }
+
+    /**
+     * Compare {@code n} to this bound.
+     *
+     * @param n
+     * @return negative, zero, or positive as {@code n} is less than, equal to, or greater than this bound
+     */
+    int compare(BigDecimal n) {
+        return n.compareTo(value);
+    }
+
+    /**
+     * Compare {@code n} to this bound.
+     *
+     * @param n
+     * @return negative, zero, or positive as {@code n} is less than, equal to, or greater than this bound
+     */
+    int compare(BigInteger n) {
+        // any integer above the floor is above the bound; the floor itself only equals an integral bound:
+        final int result = n.compareTo(floor);
+        return result == 0 && !integral ? -1 : result;
+    }
+
+    /**
+     * Compare {@code n} to this bound.
+     *
+     * @param n
+     * @return negative, zero, or positive as {@code n} is less than, equal to, or greater than this bound
+     */
+    int compare(long n) {
+        if (longOutOfRange != 0) {
+            return longOutOfRange;
+        }
+        if (n == longFloor) {
+            return integral ? 0 : -1;
+        }
+        return n < longFloor ? -1 : 1;
+    }
+
+    /**
+     * Compare {@code n} to this bound.
+     *
+     * @param n
+     *            not {@link Double#NaN}
+     * @return negative, zero, or positive as {@code n} is less than, equal to, or greater than this bound
+     */
+    int compare(double n) {
+        // the bound lies closer to its nearest double than to any other double:
+        if (n == nearestDouble) {
+            return comparisonAtNearestDouble;
+        }
+        return n < nearestDouble ? -1 : 1;
+    }
+}
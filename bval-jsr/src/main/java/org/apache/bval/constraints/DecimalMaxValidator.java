@@ -66,13 +66,85 @@ public abstract class DecimalMaxValidator<T> implements ConstraintValidator<Deci
         }
     }
 
-    private BigDecimal maxValue;
+    /**
+     * Check that the {@link BigDecimal} being validated has a value less than or equal to
+     * the maximum value specified.
+     */
+    public static class ForBigDecimal extends DecimalMaxValidator<BigDecimal> {
+        @Override
+        public boolean isValid(BigDecimal value, ConstraintValidatorContext context) {
+            return value == null || isValid(value);
+        }
+    }
+
+    /**
+     * Check that the {@link BigInteger} being validated has a value less than or equal to
+     * the maximum value specified.
+     */
+    public static class ForBigInteger extends DecimalMaxValidator<BigInteger> {
+        @Override
+        public boolean isValid(BigInteger value, ConstraintValidatorContext context) {
+            return value == null || isValid(value);
+        }
+    }
+
+    /**
+     * Check that the integral number being validated has a value less than or equal to
+     * the maximum value specified.
+     */
+    public static class ForIntegral<T extends Number> extends DecimalMaxValidator<T>
+        implements PrimitiveNumberValidator {
+        public static class OfByte extends ForIntegral<Byte> {
+        }
+
+        public static class OfShort extends ForIntegral<Short> {
+        }
+
+        public static class OfInteger extends ForIntegral<Integer> {
+        }
+
+        public static class OfLong extends ForIntegral<Long> {
+        }
+
+        protected ForIntegral() {
+            super();
+        }
+
+        @Override
+        public boolean isValid(T value, ConstraintValidatorContext context) {
+            return value == null || isValid(value.longValue());
+        }
+    }
+
+    /**
+     * Check that the floating point number being validated has a value less than or equal to
+     * the maximum value specified; {@code NaN} is invalid.
+     */
+    public static class ForFloatingPoint<T extends Number> extends DecimalMaxValidator<T>
+        implements PrimitiveNumberValidator {
+        public static class OfFloat extends ForFloatingPoint<Float> {
+        }
+
+        public static class OfDouble extends ForFloatingPoint<Double> {
+        }
+
+        protected ForFloatingPoint() {
+            super();
+        }
+
+        @Override
+        public boolean isValid(T value, ConstraintValidatorContext context) {
+            return value == null || isValid(value.doubleValue());
+        }
+    }
+
+    private DecimalBound maxValue;
     private boolean inclusive;
 
     @Override
     public void initialize(DecimalMax annotation) {
         try {
-            this.maxValue = new BigDecimal(annotation.value());
+            this.maxValue = new DecimalBound(new BigDecimal(annotation.value()));
         } catch (NumberFormatException nfe) {
             throw new IllegalArgumentException(annotation.value() + " does not represent a valid BigDecimal format");
         }
@@ -80,7 +152,22 @@ public abstract class DecimalMaxValidator<T> implements ConstraintValidator<Deci
     }
 
     protected boolean isValid(BigDecimal value) {
-        final int comparison = value.compareTo(maxValue);
+        return accept(maxValue.compare(value));
+    }
+
+    protected boolean isValid(BigInteger value) {
+        return accept(maxValue.compare(value));
+    }
+
+    public boolean isValid(long value) {
+        return accept(maxValue.compare(value));
+    }
+
+    public boolean isValid(double value) {
+        return !Double.isNaN(value) && accept(maxValue.compare(value));
+    }
+
+    private boolean accept(int comparison) {
         return comparison < 0 || inclusive && comparison == 0;
     }
 }
@@ -66,13 +66,85 @@ public abstract class DecimalMinValidator<T> implements ConstraintValidator<Deci
         }
     }
 
-    private BigDecimal minValue;
+    /**
+     * Check that the {@link BigDecimal} being validated has a value more than or equal to
+     * the minimum value specified.
+     */
+    public static class ForBigDecimal extends DecimalMinValidator<BigDecimal> {
+        @Override
+        public boolean isValid(BigDecimal value, ConstraintValidatorContext context) {
+            return value == null || isValid(value);
+        }
+    }
+
+    /**
+     * Check that the {@link BigInteger} being validated has a value more than or equal to
+     * the minimum value specified.
+     */
+    public static class ForBigInteger extends DecimalMinValidator<BigInteger> {
+        @Override
+        public boolean isValid(BigInteger value, ConstraintValidatorContext context) {
+            return value == null || isValid(value);
+        }
+    }
+
+    /**
+     * Check that the integral number being validated has a value more than or equal to
+     * the minimum value specified.
+     */
+    public static class ForIntegral<T extends Number> extends DecimalMinValidator<T>
+        implements PrimitiveNumberValidator {
+        public static class OfByte extends ForIntegral<Byte> {
+        }
+
+        public static class OfShort extends ForIntegral<Short> {
+        }
+
+        public static class OfInteger extends ForIntegral<Integer> {
+        }
+
+        public static class OfLong extends ForIntegral<Long> {
+        }
+
+        protected ForIntegral() {
+            super();
+        }
+
+        @Override
+        public boolean isValid(T value, ConstraintValidatorContext context) {
+            return value == null || isValid(value.longValue());
+        }
+    }
+
+    /**
+     * Check that the floating point number being validated has a value more than or equal to
+     * the minimum value specified; {@code NaN} is invalid.
+     */
+    public static class ForFloatingPoint<T extends Number> extends DecimalMinValidator<T>
+        implements PrimitiveNumberValidator {
+        public static class OfFloat extends ForFloatingPoint<Float> {
+        }
+
+        public static class OfDouble extends ForFloatingPoint<Double> {
+        }
+
+        protected ForFloatingPoint() {
+            super();
+        }
+
+        @Override
+        public boolean isValid(T value, ConstraintValidatorContext context) {
+            return value == null || isValid(value.doubleValue());
+        }
+    }
+
+    private DecimalBound minValue;
     private boolean inclusive;
 
     @Override
     public void initialize(DecimalMin annotation) {
         try {
-            this.minValue = new BigDecimal(annotation.value());
+            this.minValue = new DecimalBound(new BigDecimal(annotation.value()));
         } catch (NumberFormatException nfe) {
             throw new IllegalArgumentException(annotation.value() + " does not represent a valid BigDecimal format");
         }
@@ -80,7 +152,22 @@ public abstract class DecimalMinValidator<T> implements ConstraintValidator<Deci
     }
 
     protected boolean isValid(BigDecimal value) {
-        final int comparison = value.compareTo(minValue);
+        return accept(minValue.compare(value));
+    }
+
+    protected boolean isValid(BigInteger value) {
+        return accept(minValue.compare(value));
+    }
+
+    public boolean isValid(long value) {
+        return accept(minValue.compare(value));
+    }
+
+    public boolean isValid(double value) {
+        return !Double.isNaN(value) && accept(minValue.compare(value));
+    }
+
+    private boolean accept(int comparison) {
         return comparison > 0 || inclusive && comparison == 0;
     }
 }
@@ -22,6 +22,7 @@ import jakarta.validation.ConstraintValidator;
 import jakarta.validation.ConstraintValidatorContext;
 import jakarta.validation.constraints.Digits;
 import java.math.BigDecimal;
+import java.math.BigInteger;
 
 /**
  * Validates that the <code>Number</code> being validates matches the pattern
@@ -29,6 +30,153 @@ import java.math.BigDecimal;
  */
 public class DigitsValidatorForNumber implements ConstraintValidator<Digits, Number> {
 
+    /**
+     * Base of the validators of specific {@link Number} types, which precompute what they can from the constraint.
+     *
+     * @param <T>
+     *            validated type
+     */
+    public static abstract class Specialized<T extends Number> implements ConstraintValidator<Digits, T> {
+        protected int integral;
+        protected int fractional;
+
+        @Override
+        public void initialize(Digits annotation) {
+            this.integral = annotation.integer();
+            this.fractional = annotation.fraction();
+            checkLengths(integral, fractional);
+        }
+    }
+
+    /**
+     * Validates that the integral number being validated has no more integer digits than allowed; the limit of its
+     * magnitude is computed once.
+     *
+     * @param <T>
+     *            validated type
+     */
+    public static class ForIntegral<T extends Number> extends Specialized<T> {
+        public static class OfByte extends ForIntegral<Byte> {
+        }
+
+        public static class OfShort extends ForIntegral<Short> {
+        }
+
+        public static class OfInteger extends ForIntegral<Integer> {
+        }
+
+        public static class OfLong extends ForIntegral<Long> {
+        }
+
+        private boolean unlimited;
+        private long limit;
+
+        protected ForIntegral() {
+            super();
+        }
+
+        @Override
+        public void initialize(Digits annotation) {
+            super.initialize(annotation);
+            initializeLimit(integral);
+        }
+
+        void initializeLimit(int integral) {
+            // every long has at most 19 digits; zero has one:
+            unlimited = integral >= 19;
+            if (integral == 0 || unlimited) {
+                limit = 0L;
+            } else {
+                long l = 1L;
+                for (int i = 0; i < integral; i++) {
+                    l *= 10;
+                }
+                limit = l;
+            }
+        }
+
+        @Override
+        public boolean isValid(T value, ConstraintValidatorContext context) {
+            return value == null || isValid(value.longValue());
+        }
+
+        boolean isValid(long value) {
+            return unlimited || value < limit && value > -limit;
+        }
+    }
+
+    /**
+     * Validates that the floating point number being validated matches the pattern defined in the constraint; its
+     * decimal representation is only parsed if it is not an integer, which is checked as an integral number.
+     *
+     * @param <T>
+     *            validated type
+     */
+    public static class ForFloatingPoint<T extends Number> extends Specialized<T> {
+        public static class OfFloat extends ForFloatingPoint<Float> {
+            public OfFloat() {
+                super(0x1p24);
+            }
+        }
+
+        public static class OfDouble extends ForFloatingPoint<Double> {
+            public OfDouble() {
+                super(0x1p53);
+            }
+        }
+
+        private final ForIntegral<?> integralValidator = new ForIntegral<>();
+
+        /**
+         * Magnitude under which every integer is exactly representable, and is represented as such by
+         * {@link Object#toString()}.
+         */
+        private final double exactIntegers;
+
+        protected ForFloatingPoint(double exactIntegers) {
+            super();
+            this.exactIntegers = exactIntegers;
+        }
+
+        @Override
+        public void initialize(Digits annotation) {
+            super.initialize(annotation);
+            integralValidator.initializeLimit(integral);
+        }
+
+        @Override
+        public boolean isValid(T value, ConstraintValidatorContext context) {
+            if (value == null) {
+                return true;
+            }
+            final double d = value.doubleValue();
+            if (Math.abs(d) < exactIntegers && d == Math.rint(d)) {
+                return integralValidator.isValid((long) d);
+            }
+            return DigitsValidatorForNumber.isValid(new BigDecimal(value.toString()), integral, fractional);
+        }
+    }
+
+    /**
+     * Validates that the {@link BigDecimal} being validated matches the pattern defined in the constraint.
+     */
+    public static class ForBigDecimal extends Specialized<BigDecimal> {
+        @Override
+        public boolean isValid(BigDecimal value, ConstraintValidatorContext context) {
+            return value == null || DigitsValidatorForNumber.isValid(value, integral, fractional);
+        }
+    }
+
+    /**
+     * Validates that the {@link BigInteger} being validated matches the pattern defined in the constraint.
+     */
+    public static class ForBigInteger extends Specialized<BigInteger> {
+        @Override
+        public boolean isValid(BigInteger value, ConstraintValidatorContext context) {
+            return value == null || DigitsValidatorForNumber.isValid(new BigDecimal(value), integral, fractional);
+        }
+    }
+
     private int integral;
     private int fractional;
 
@@ -52,12 +200,7 @@ public class DigitsValidatorForNumber implements ConstraintValidator<Digits, Num
     public void initialize(Digits annotation) {
         this.integral = annotation.integer();
         this.fractional = annotation.fraction();
-        if (integral < 0) {
-            throw new IllegalArgumentException("The length of the integer part cannot be negative.");
-        }
-        if (fractional < 0) {
-            throw new IllegalArgumentException("The length of the fraction part cannot be negative.");
-        }
+        checkLengths(integral, fractional);
     }
 
     @Override
@@ -72,12 +215,27 @@ public class DigitsValidatorForNumber implements ConstraintValidator<Digits, Num
         } else {
             bigDecimal = new BigDecimal(num.toString());
         }
-        bigDecimal = bigDecimal.stripTrailingZeros();
+        return isValid(bigDecimal, integral, fractional);
+    }
+
+    private static void checkLengths(int integral, int fractional) {
+        if (integral < 0) {
+            throw new IllegalArgumentException("The length of the integer part cannot be negative.");
+        }
+        if (fractional < 0) {
+            throw new IllegalArgumentException("The length of the fraction part cannot be negative.");
+        }
+    }
 
+    private static boolean isValid(BigDecimal bigDecimal, int integral, int fractional) {
+        if (bigDecimal.signum() == 0) {
+            // zero has a single integer digit:
+            return integral >= 1;
+        }
+        // stripping trailing zeros changes precision and scale alike:
         final int intLength = bigDecimal.precision() - bigDecimal.scale();
         if (integral >= intLength) {
-            int factionLength = bigDecimal.scale() < 0 ? 0 : bigDecimal.scale();
-            return fractional >= factionLength;
+            return bigDecimal.scale() <= fractional || bigDecimal.stripTrailingZeros().scale() <= fractional;
         }
         return false;
     }
@@ -30,6 +30,98 @@ import java.math.BigInteger;
  */
 public class MaxValidatorForNumber implements ConstraintValidator<Max, Number> {
 
+    /**
+     * Check that the wrapped primitive number being validated, taken as a {@code long} like
+     * {@link MaxValidatorForNumber} does, is less than or equal to the maximum value specified, with no conversion
+     * to another {@link Number} type.
+     *
+     * @param <T>
+     *            validated type
+     */
+    public static class ForPrimitive<T extends Number>
+        implements ConstraintValidator<Max, T>, PrimitiveNumberValidator {
+        public static class OfByte extends ForPrimitive<Byte> {
+        }
+
+        public static class OfShort extends ForPrimitive<Short> {
+        }
+
+        public static class OfInteger extends ForPrimitive<Integer> {
+        }
+
+        public static class OfLong extends ForPrimitive<Long> {
+        }
+
+        public static class OfFloat extends ForPrimitive<Float> {
+        }
+
+        public static class OfDouble extends ForPrimitive<Double> {
+        }
+
+        private long max;
+
+        protected ForPrimitive() {
+            super();
+        }
+
+        @Override
+        public void initialize(Max annotation) {
+            this.max = annotation.value();
+        }
+
+        @Override
+        public boolean isValid(T value, ConstraintValidatorContext context) {
+            return value == null || value.longValue() <= max;
+        }
+
+        @Override
+        public boolean isValid(long value) {
+            return value <= max;
+        }
+
+        @Override
+        public boolean isValid(double value) {
+            // as Double.longValue():
+            return (long) value <= max;
+        }
+    }
+
+    /**
+     * Check that the {@link BigDecimal} being validated is less than or equal to the maximum value specified,
+     * converted to {@link BigDecimal} once.
+     */
+    public static class ForBigDecimal implements ConstraintValidator<Max, BigDecimal> {
+        private BigDecimal max;
+
+        @Override
+        public void initialize(Max annotation) {
+            this.max = BigDecimal.valueOf(annotation.value());
+        }
+
+        @Override
+        public boolean isValid(BigDecimal value, ConstraintValidatorContext context) {
+            return value == null || value.compareTo(max) < 1;
+        }
+    }
+
+    /**
+     * Check that the {@link BigInteger} being validated is less than or equal to the maximum value specified,
+     * converted to {@link BigInteger} once.
+     */
+    public static class ForBigInteger implements ConstraintValidator<Max, BigInteger> {
+        private BigInteger max;
+
+        @Override
+        public void initialize(Max annotation) {
+            this.max = BigInteger.valueOf(annotation.value());
+        }
+
+        @Override
+        public boolean isValid(BigInteger value, ConstraintValidatorContext context) {
+            return value == null || value.compareTo(max) < 1;
+        }
+    }
+
     private long max;
 
     @Override
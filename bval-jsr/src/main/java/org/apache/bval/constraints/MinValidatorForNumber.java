@@ -29,6 +29,95 @@ import java.math.BigInteger;
  */
 public class MinValidatorForNumber implements ConstraintValidator<Min, Number> {
 
+    /**
+     * Validate that the wrapped primitive number being validated, taken as a {@code long} like
+     * {@link MinValidatorForNumber} does, is >= min-value, with no conversion to another {@link Number} type.
+     *
+     * @param <T>
+     *            validated type
+     */
+    public static class ForPrimitive<T extends Number>
+        implements ConstraintValidator<Min, T>, PrimitiveNumberValidator {
+        public static class OfByte extends ForPrimitive<Byte> {
+        }
+
+        public static class OfShort extends ForPrimitive<Short> {
+        }
+
+        public static class OfInteger extends ForPrimitive<Integer> {
+        }
+
+        public static class OfLong extends ForPrimitive<Long> {
+        }
+
+        public static class OfFloat extends ForPrimitive<Float> {
+        }
+
+        public static class OfDouble extends ForPrimitive<Double> {
+        }
+
+        private long minValue;
+
+        protected ForPrimitive() {
+            super();
+        }
+
+        @Override
+        public void initialize(Min annotation) {
+            this.minValue = annotation.value();
+        }
+
+        @Override
+        public boolean isValid(T value, ConstraintValidatorContext context) {
+            return value == null || value.longValue() >= minValue;
+        }
+
+        @Override
+        public boolean isValid(long value) {
+            return value >= minValue;
+        }
+
+        @Override
+        public boolean isValid(double value) {
+            // as Double.longValue():
+            return (long) value >= minValue;
+        }
+    }
+
+    /**
+     * Validate that the {@link BigDecimal} being validated is >= min-value, converted to {@link BigDecimal} once.
+     */
+    public static class ForBigDecimal implements ConstraintValidator<Min, BigDecimal> {
+        private BigDecimal minValue;
+
+        @Override
+        public void initialize(Min annotation) {
+            this.minValue = BigDecimal.valueOf(annotation.value());
+        }
+
+        @Override
+        public boolean isValid(BigDecimal value, ConstraintValidatorContext context) {
+            return value == null || value.compareTo(minValue) >= 0;
+        }
+    }
+
+    /**
+     * Validate that the {@link BigInteger} being validated is >= min-value, converted to {@link BigInteger} once.
+     */
+    public static class ForBigInteger implements ConstraintValidator<Min, BigInteger> {
+        private BigInteger minValue;
+
+        @Override
+        public void initialize(Min annotation) {
+            this.minValue = BigInteger.valueOf(annotation.value());
+        }
+
+        @Override
+        public boolean isValid(BigInteger value, ConstraintValidatorContext context) {
+            return value == null || value.compareTo(minValue) >= 0;
+        }
+    }
+
     private long minValue;
 
     @Override
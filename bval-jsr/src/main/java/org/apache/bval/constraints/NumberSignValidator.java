@@ -19,6 +19,8 @@
 package org.apache.bval.constraints;
 
 import java.lang.annotation.Annotation;
+import java.math.BigDecimal;
+import java.math.BigInteger;
 import java.util.function.IntPredicate;
 
 import jakarta.validation.ConstraintValidator;
@@ -33,7 +35,8 @@ import org.apache.bval.util.Validate;
 /**
  * Description: validate positive/negative number values.
  */
-public abstract class NumberSignValidator<A extends Annotation> implements ConstraintValidator<A, Number> {
+public abstract class NumberSignValidator<A extends Annotation>
+    implements ConstraintValidator<A, Number>, PrimitiveNumberValidator {
     public static class ForPositive extends NumberSignValidator<Positive> {
         public static class OrZero extends NumberSignValidator<PositiveOrZero> {
             public OrZero() {
@@ -70,10 +73,23 @@ public abstract class NumberSignValidator<A extends Annotation> implements Const
         if (value == null) {
             return true;
         }
-        final double d = value.doubleValue();
-        if (Double.isNaN(d)) {
-            return false;
+        // the sign of a big number is known without converting it to a double, which may underflow to zero:
+        if (value instanceof BigDecimal) {
+            return comparisonTest.test(((BigDecimal) value).signum());
         }
-        return comparisonTest.test(Double.compare(d, 0.0));
+        if (value instanceof BigInteger) {
+            return comparisonTest.test(((BigInteger) value).signum());
+        }
+        return isValid(value.doubleValue());
+    }
+
+    @Override
+    public boolean isValid(long value) {
+        return comparisonTest.test(Long.signum(value));
+    }
+
+    @Override
+    public boolean isValid(double value) {
+        return !Double.isNaN(value) && comparisonTest.test(Double.compare(value, 0.0));
     }
 }
@@ -30,11 +30,14 @@ import jakarta.el.ExpressionFactory;
 import jakarta.el.FunctionMapper;
 import jakarta.el.ListELResolver;
 import jakarta.el.MapELResolver;
+import jakarta.el.PropertyNotWritableException;
 import jakarta.el.ResourceBundleELResolver;
 import jakarta.el.ValueExpression;
 import jakarta.el.VariableMapper;
 
 import org.apache.bval.jsr.util.LookBehindRegexHolder;
+import org.apache.bval.util.Cache;
+import org.apache.bval.util.ConcurrentCache;
 import org.apache.bval.util.Lazy;
 
 // ELProcessor or JavaEE 7 would be perfect too but this impl can be used in javaee 6
@@ -55,6 +58,15 @@ public final class ELFacade implements MessageEvaluator {
         }
     }
 
+    private static final String VALIDATED_VALUE = "validatedValue";
+    private static final String FORMATTER = "formatter";
+    private static final BValFormatter SHARED_FORMATTER = new BValFormatter();
+    /**
+     * Number of parsed expressions beyond which further expressions are evaluated without being cached: expressions
+     * are keyed by message text, which custom violations may build at will.
+     */
+    private static final int MAXIMUM_CACHED_EXPRESSIONS = 1000;
+
     private static final ELResolver RESOLVER = initResolver();
 
     // Lazily initialized: ExpressionFactory.newInstance() performs a relatively expensive
@@ -62,25 +74,30 @@ public final class ELFacade implements MessageEvaluator {
     // constraint messages use no ${...} syntax). Deferring it keeps bootstrap cheap.
     private final Lazy<ExpressionFactory> expressionFactory = new Lazy<>(ExpressionFactory::newInstance);
 
+    // Expressions are parsed without variables, which are resolved by ELResolver upon evaluation instead, so that
+    // a parsed expression does not depend on the message context and can be reused:
+    private volatile Cache<String, ValueExpression> expressions = new ConcurrentCache<>(0, false);
+
     @Override
     public String interpolate(final String message, final Map<String, Object> annotationParameters,
         final Object validatedValue) {
         // BVAL-170: simple pre-check to improve performance
         if (message.contains("${")) {
             try {
-                final ExpressionFactory expressionFactory = this.expressionFactory.get();
-                final BValELContext context = new BValELContext();
-                final VariableMapper variables = context.getVariableMapper();
-                annotationParameters.forEach(
-                    (k, v) -> variables.setVariable(k, expressionFactory.createValueExpression(v, Object.class)));
-
-                variables.setVariable("validatedValue",
-                    expressionFactory.createValueExpression(validatedValue, Object.class));
-
-                // Java Bean Validation does not support EL expressions that look like JSP "deferred" expressions
-                return expressionFactory.createValueExpression(context,
-                    EvaluationType.DEFERRED.regex.matcher(message).replaceAll("\\$0"), String.class).getValue(context)
-                    .toString();
+                final BValELContext context = new BValELContext(annotationParameters, validatedValue);
+                final Cache<String, ValueExpression> cache = expressions;
+                ValueExpression expression = cache.get(message);
+                if (expression == null) {
+                    expression = parse(context, message);
+                    // a cache bounded by the configured maximum size evicts entries, an unbounded one stops growing:
+                    if (cache.size() < MAXIMUM_CACHED_EXPRESSIONS) {
+                        final ValueExpression raced = cache.putIfAbsent(message, expression);
+                        if (raced != null) {
+                            expression = raced;
+                        }
+                    }
+                }
+                return expression.getValue(context).toString();
             } catch (final Exception e) {
                 // no-op
             }
@@ -88,8 +105,20 @@ public final class ELFacade implements MessageEvaluator {
         return message;
     }
 
+    private ValueExpression parse(ELContext context, String message) {
+        // Java Bean Validation does not support EL expressions that look like JSP "deferred" expressions
+        return expressionFactory.get().createValueExpression(context,
+            EvaluationType.DEFERRED.regex.matcher(message).replaceAll("\\$0"), String.class);
+    }
+
+    @Override
+    public void setCacheFactory(Cache.Factory cacheFactory) {
+        expressions = cacheFactory.create("elExpressions", String.class);
+    }
+
     private static ELResolver initResolver() {
         final CompositeELResolver resolver = new CompositeELResolver();
+        resolver.add(new MessageVariableResolver());
         resolver.add(new MapELResolver());
         resolver.add(new ListELResolver());
         resolver.add(new ArrayELResolver());
@@ -98,9 +127,19 @@ public final class ELFacade implements MessageEvaluator {
         return resolver;
     }
 
-    private class BValELContext extends ELContext {
-        private final FunctionMapper functions = new BValFunctionMapper();
-        private final VariableMapper variables = new BValVariableMapper();
+    /**
+     * Per-evaluation {@link ELContext}, carrying the values of the message variables.
+     */
+    private static class BValELContext extends ELContext {
+        private final Map<String, Object> annotationParameters;
+        private final Object validatedValue;
+        private VariableMapper variables;
+
+        BValELContext(Map<String, Object> annotationParameters, Object validatedValue) {
+            super();
+            this.annotationParameters = annotationParameters;
+            this.validatedValue = validatedValue;
+        }
 
         @Override
         public ELResolver getELResolver() {
@@ -109,46 +148,143 @@ public final class ELFacade implements MessageEvaluator {
 
         @Override
         public FunctionMapper getFunctionMapper() {
-            return functions;
+            return NoFunctions.INSTANCE;
         }
 
         @Override
         public VariableMapper getVariableMapper() {
+            // variables are only ever set by the expression being evaluated, so they are kept with this context:
+            if (variables == null) {
+                variables = new Variables();
+            }
             return variables;
         }
+
+        @Override
+        public Object getContext(Class<?> key) {
+            // found as-is when wrapped by an EL implementation's own context:
+            return key == BValELContext.class ? this : super.getContext(key);
+        }
+
+        /**
+         * Resolve a message variable.
+         *
+         * @param name
+         * @return the variable value, or {@code this} if there is no such variable
+         */
+        Object resolve(String name) {
+            if (FORMATTER.equals(name)) {
+                return SHARED_FORMATTER;
+            }
+            if (VALIDATED_VALUE.equals(name)) {
+                return validatedValue;
+            }
+            final Object value = annotationParameters.get(name);
+            return value == null ? this : value;
+        }
+    }
+
+    /**
+     * Resolves the top-level identifiers {@code formatter}, {@code validatedValue} and the constraint annotation
+     * attributes, on demand.
+     */
+    private static class MessageVariableResolver extends ELResolver {
+
+        private static BValELContext messageContext(ELContext context) {
+            return (BValELContext) context.getContext(BValELContext.class);
+        }
+
+        @Override
+        public Object getValue(ELContext context, Object base, Object property) {
+            if (base == null && property instanceof String) {
+                final BValELContext messageContext = messageContext(context);
+                if (messageContext != null) {
+                    final Object value = messageContext.resolve((String) property);
+                    if (value != messageContext) {
+                        context.setPropertyResolved(base, property);
+                        return value;
+                    }
+                }
+            }
+            return null;
+        }
+
+        @Override
+        public Class<?> getType(ELContext context, Object base, Object property) {
+            if (base == null && property instanceof String) {
+                final BValELContext messageContext = messageContext(context);
+                if (messageContext != null && messageContext.resolve((String) property) != messageContext) {
+                    context.setPropertyResolved(base, property);
+                }
+            }
+            // read-only
+            return null;
+        }
+
+        @Override
+        public void setValue(ELContext context, Object base, Object property, Object value) {
+            if (base == null && property instanceof String) {
+                final BValELContext messageContext = messageContext(context);
+                if (messageContext != null && messageContext.resolve((String) property) != messageContext) {
+                    throw new PropertyNotWritableException(property.toString());
+                }
+            }
+        }
+
+        @Override
+        public boolean isReadOnly(ELContext context, Object base, Object property) {
+            if (base == null && property instanceof String) {
+                final BValELContext messageContext = messageContext(context);
+                if (messageContext != null && messageContext.resolve((String) property) != messageContext) {
+                    context.setPropertyResolved(base, property);
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        @Override
+        public Class<?> getCommonPropertyType(ELContext context, Object base) {
+            return base == null ? String.class : null;
+        }
     }
 
-    private static class BValFunctionMapper extends FunctionMapper {
+    private static class NoFunctions extends FunctionMapper {
+        static final NoFunctions INSTANCE = new NoFunctions();
+
         @Override
         public Method resolveFunction(final String prefix, final String localName) {
             return null;
         }
     }
 
-    private class BValVariableMapper extends VariableMapper {
-        private final Map<String, ValueExpression> variables = new HashMap<String, ValueExpression>();
+    private static class Variables extends VariableMapper {
+        private final Map<String, ValueExpression> variables = new HashMap<>();
 
         @Override
         public ValueExpression resolveVariable(final String variable) {
-            if ("formatter".equals(variable)) {
-                return expressionFactory.get().createValueExpression(new BValFormatter(), Object.class);
-            }
             return variables.get(variable);
         }
 
         @Override
         public ValueExpression setVariable(final String variable, final ValueExpression expression) {
-            variables.put(variable, expression);
-            return expression;
+            return expression == null ? variables.remove(variable) : variables.put(variable, expression);
         }
     }
 
     // used to not expose all method and avoid ambiguity with format(Local, String, Object...) in EL
     public static class BValFormatter {
-        private final Formatter formatter = new Formatter();
 
+        /**
+         * Format {@code args} into a new {@link Formatter}; this method keeps no state, so that a single
+         * {@link BValFormatter} can be shared.
+         *
+         * @param format
+         * @param args
+         * @return {@link Formatter}
+         */
         public Formatter format(final String format, final Object... args) {
-            return formatter.format(format, args);
+            return new Formatter().format(format, args);
         }
     }
 }
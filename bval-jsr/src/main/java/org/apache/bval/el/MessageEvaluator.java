@@ -18,8 +18,19 @@ package org.apache.bval.el;
 
 import java.util.Map;
 
+import org.apache.bval.util.Cache;
+
 // just here to ensure we can use Expression Language if at classpath
 // but not fail if not here (as before)
 public interface MessageEvaluator {
     String interpolate(String message, Map<String, Object> annotationParameters, Object validatedValue);
+
+    /**
+     * Set the {@link Cache.Factory} to use for any state cached by this {@link MessageEvaluator}.
+     *
+     * @param cacheFactory
+     * @since 4.0
+     */
+    default void setCacheFactory(Cache.Factory cacheFactory) {
+    }
 }
@@ -18,7 +18,8 @@
  */
 package org.apache.bval.jsr;
 
-import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.Supplier;
 
 import jakarta.validation.ClockProvider;
@@ -35,7 +36,10 @@ import jakarta.validation.valueextraction.ValueExtractor;
 import org.apache.bval.jsr.descriptor.ConstraintD;
 import org.apache.bval.jsr.descriptor.DescriptorManager;
 import org.apache.bval.jsr.groups.GroupsComputer;
+import org.apache.bval.jsr.resolver.DefaultTraversableResolver;
+import org.apache.bval.jsr.resolver.SimpleTraversableResolver;
 import org.apache.bval.jsr.valueextraction.ValueExtractors;
+import org.apache.bval.util.Cache;
 import org.apache.bval.util.reflection.Reflection;
 import org.apache.commons.weaver.privilizer.Privilizing;
 import org.apache.commons.weaver.privilizer.Privilizing.CallTo;
@@ -53,6 +57,11 @@ public class ApacheFactoryContext implements ValidatorContext {
     private ParameterNameProvider parameterNameProvider;
     private ConstraintValidatorFactory constraintValidatorFactory;
     private ClockProvider clockProvider;
+    private Executor cascadeExecutor;
+    private Integer parallelCascadeThreshold;
+    private Integer maxViolations;
+    private Boolean lazyMessageInterpolation;
+    private boolean customValueExtractors;
 
     /**
      * Create a new ApacheFactoryContext instance.
@@ -124,6 +133,71 @@ public class ApacheFactoryContext implements ValidatorContext {
     @Override
     public ApacheFactoryContext addValueExtractor(ValueExtractor<?> extractor) {
         valueExtractors.add(extractor);
+        customValueExtractors = true;
+        return this;
+    }
+
+    /**
+     * Set the {@link Executor} running the tasks of parallel cascades; see
+     * {@link #parallelCascadeThreshold(int)}.
+     *
+     * @param cascadeExecutor
+     *            {@code null} for the common {@link ForkJoinPool}
+     * @return {@code this}, fluently
+     */
+    public ApacheFactoryContext cascadeExecutor(Executor cascadeExecutor) {
+        this.cascadeExecutor = cascadeExecutor;
+        return this;
+    }
+
+    /**
+     * Set the minimum container size from which cascaded validation of the container's elements is split across
+     * tasks run on the {@link #cascadeExecutor(Executor) cascade executor}, overriding the factory setting
+     * ({@link ApacheValidatorConfiguration.Properties#PARALLEL_CASCADE_THRESHOLD}).
+     *
+     * @param parallelCascadeThreshold
+     *            {@code <= 0} to disable parallel cascading
+     * @return {@code this}, fluently
+     */
+    public ApacheFactoryContext parallelCascadeThreshold(int parallelCascadeThreshold) {
+        this.parallelCascadeThreshold = Integer.valueOf(parallelCascadeThreshold);
+        return this;
+    }
+
+    /**
+     * Set whether validation should stop at the first constraint violation found, overriding the factory setting
+     * ({@link ApacheValidatorConfiguration.Properties#FAIL_FAST}); equivalent to {@code maxViolations(1)} or
+     * {@code maxViolations(0)}.
+     *
+     * @param failFast
+     * @return {@code this}, fluently
+     */
+    public ApacheFactoryContext failFast(boolean failFast) {
+        return maxViolations(failFast ? 1 : 0);
+    }
+
+    /**
+     * Set the maximum number of constraint violations reported by a validation, overriding the factory setting
+     * ({@link ApacheValidatorConfiguration.Properties#MAX_VIOLATIONS}).
+     *
+     * @param maxViolations
+     *            {@code <= 0} for no limit
+     * @return {@code this}, fluently
+     */
+    public ApacheFactoryContext maxViolations(int maxViolations) {
+        this.maxViolations = Integer.valueOf(maxViolations);
+        return this;
+    }
+
+    /**
+     * Set whether violation messages are interpolated on first access rather than upon creation of the violation,
+     * overriding the factory setting ({@link ApacheValidatorConfiguration.Properties#LAZY_MESSAGE_INTERPOLATION}).
+     *
+     * @param lazyMessageInterpolation
+     * @return {@code this}, fluently
+     */
+    public ApacheFactoryContext lazyMessageInterpolation(boolean lazyMessageInterpolation) {
+        this.lazyMessageInterpolation = Boolean.valueOf(lazyMessageInterpolation);
         return this;
     }
 
@@ -171,10 +245,56 @@ public class ApacheFactoryContext implements ValidatorContext {
         return clockProvider == null ? factory.getClockProvider() : clockProvider;
     }
 
+    public Executor getCascadeExecutor() {
+        return cascadeExecutor == null ? ForkJoinPool.commonPool() : cascadeExecutor;
+    }
+
+    public int getParallelCascadeThreshold() {
+        return parallelCascadeThreshold == null ? factory.getParallelCascadeThreshold()
+            : parallelCascadeThreshold.intValue();
+    }
+
+    public int getMaxViolations() {
+        return maxViolations == null ? factory.getMaxViolations() : maxViolations.intValue();
+    }
+
+    public boolean isLazyMessageInterpolation() {
+        return lazyMessageInterpolation == null ? factory.isLazyMessageInterpolation()
+            : lazyMessageInterpolation.booleanValue();
+    }
+
     public ValueExtractors getValueExtractors() {
         return valueExtractors;
     }
 
+    /**
+     * Learn whether beans validated in this context may first be checked by the precomputed readers and validators
+     * of {@link ApacheValidatorConfiguration.Properties#COMPILED_BEAN_VALIDATION}, which are context-independent
+     * but for the clock provider.
+     *
+     * @return {@code boolean}
+     */
+    public boolean isCompiledBeanValidation() {
+        if (!factory.isCompiledBeanValidation() || customValueExtractors) {
+            return false;
+        }
+        return isTraversingAll();
+    }
+
+    /**
+     * Learn whether the {@link TraversableResolver} of this context is known to reach and cascade every property,
+     * such that it need not be asked.
+     *
+     * @return {@code boolean}
+     */
+    public boolean isTraversingAll() {
+        final TraversableResolver resolver = getTraversableResolver();
+        // subclasses may override the resolution:
+        return resolver.getClass() == SimpleTraversableResolver.class
+            || resolver.getClass() == DefaultTraversableResolver.class
+                && ((DefaultTraversableResolver) resolver).isTraversingAll();
+    }
+
     public DescriptorManager getDescriptorManager() {
         // TODO implementation-specific feature to handle context-local descriptor customizations
         return factory.getDescriptorManager();
@@ -193,24 +313,36 @@ public class ApacheFactoryContext implements ValidatorContext {
     }
 
     /**
-     * Create (if missing) and cache a {@link ConstraintValidator} for this constraint, and call
-     * {@link ConstraintValidator#initialize} once. Per BV usage, a cached instance is reused; initialize is not
-     * repeated on every {@code isValid} invocation.
+     * Create (if missing) and cache a {@link ConstraintValidator} for this constraint and the type of the values it
+     * validates, and call {@link ConstraintValidator#initialize} once. Per BV usage, a cached instance is reused;
+     * initialize is not repeated on every {@code isValid} invocation. The instance is released to the
+     * {@link ConstraintValidatorFactory} of this context when the {@link ApacheValidatorFactory} is closed.
+     *
+     * @param constraint
+     * @param valueType
+     *            runtime type of the validated values, {@code null} for {@code null} values
+     * @param computer
+     *            may return {@code null} for a constraint validated by its composing constraints alone
+     * @return {@link ConstraintValidator} or {@code null}
      */
-    public ConstraintValidator getOrComputeConstraintValidator(final ConstraintD<?> constraint, final Supplier<ConstraintValidator> computer) {
-        final ConcurrentMap<ConstraintD<?>, ConstraintValidator<?, ?>> constraintsCache = factory.getConstraintsCache().getValidators();
-        return constraintsCache.computeIfAbsent(constraint, c -> {
-            final ConstraintValidator instance = computer.get();
-            if (instance != null) {
-                try {
-                    instance.initialize(c.getAnnotation());
-                } catch (ValidationException e) {
-                    throw e;
-                } catch (Exception e) {
-                    throw new ValidationException(e);
+    public ConstraintValidator getOrComputeConstraintValidator(final ConstraintD<?> constraint,
+        final Class<?> valueType, final Supplier<ConstraintValidator> computer) {
+        final Cache<ConstraintD<?>, ConstraintCached.ConstraintValidators> constraintsCache =
+            factory.getConstraintsCache().getValidators();
+        return constraintsCache.computeIfAbsent(constraint, c -> new ConstraintCached.ConstraintValidators())
+            .computeIfAbsent(valueType, () -> {
+                final ConstraintValidator instance = computer.get();
+                if (instance != null) {
+                    factory.getConstraintsCache().obtained(getConstraintValidatorFactory(), instance);
+                    try {
+                        instance.initialize(constraint.getAnnotation());
+                    } catch (ValidationException e) {
+                        throw e;
+                    } catch (Exception e) {
+                        throw new ValidationException(e);
+                    }
                 }
-            }
-            return instance;
-        });
+                return instance;
+            });
     }
 }
@@ -91,8 +91,9 @@ public class ApacheValidationProvider implements ValidationProvider<ApacheValida
             throw new ValidationException("error building ValidatorFactory", ex);
         }
 
+        final ValidatorFactory result;
         try {
-            return validatorFactoryClass.getConstructor(ConfigurationState.class).newInstance(configuration);
+            result = validatorFactoryClass.getConstructor(ConfigurationState.class).newInstance(configuration);
         } catch (Exception e) {
             final Throwable t = Exceptions.causeOf(e);
             if (t instanceof ValidationException) {
@@ -101,5 +102,10 @@ public class ApacheValidationProvider implements ValidationProvider<ApacheValida
             throw Exceptions.create(ValidationException::new, t, "Cannot instantiate %s",
                 validatorFactoryClass.getName());
         }
+        if (result instanceof ApacheValidatorFactory) {
+            // not from the constructor, so that warm-up tasks never see a partially constructed factory:
+            ((ApacheValidatorFactory) result).startWarmUp();
+        }
+        return result;
     }
 }
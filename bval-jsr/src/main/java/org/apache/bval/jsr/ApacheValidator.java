@@ -0,0 +1,144 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one or more
+ *  contributor license agreements.  See the NOTICE file distributed with
+ *  this work for additional information regarding copyright ownership.
+ *  The ASF licenses this file to You under the Apache License, Version 2.0
+ *  (the "License"); you may not use this file except in compliance with
+ *  the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.apache.bval.jsr;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.ValidationException;
+import jakarta.validation.Validator;
+import jakarta.validation.executable.ExecutableValidator;
+
+/**
+ * Apache BVal {@link Validator} extensions, available via {@code validator.unwrap(ApacheValidator.class)}.
+ */
+public interface ApacheValidator extends CascadingPropertyValidator {
+
+    /**
+     * Validates all constraints on {@code object}, passing each {@link ConstraintViolation} to {@code sink} as soon as
+     * it is found rather than collecting violations into a {@link java.util.Set}. Violations are neither retained nor
+     * hashed by the validator, nor de-duplicated; otherwise the same violations are reported, in the same order, as by
+     * {@link #validate(Object, Class...)}.
+     *
+     * @param object
+     *            object to validate
+     * @param sink
+     *            receives violations
+     * @param groups
+     *            the group or list of groups targeted for validation (defaults to
+     *            {@link jakarta.validation.groups.Default})
+     * @return number of violations passed to {@code sink}
+     * @throws IllegalArgumentException
+     *             if {@code object} or {@code sink} is {@code null} or if {@code null} is passed to the varargs
+     *             {@code groups}
+     * @throws ValidationException
+     *             if a non recoverable error happens during the validation process
+     */
+    <T> int validate(T object, Consumer<? super ConstraintViolation<T>> sink, Class<?>... groups);
+
+    /**
+     * Validates {@code object} again after some of its properties have changed: the constraints of the changed
+     * properties, along with any constraints they cascade to, and the class-level constraints of {@code object} are
+     * validated, while the violations of other properties are taken from {@code previousViolations}. These must be
+     * the violations most recently reported for {@code object} by {@link #validate(Object, Class...)} or by this
+     * method, for the same {@code groups}, and any property whose value may have changed since must be named in
+     * {@code changedProperties}. When the targeted groups form a sequence, or the number of violations to report is
+     * limited, all constraints are validated anew, since which constraints are validated then depends on the
+     * violations of every property.
+     *
+     * @param object
+     *            object to validate
+     * @param changedProperties
+     *            names of the properties of {@code object} that have changed
+     * @param previousViolations
+     *            violations previously reported for {@code object}
+     * @param groups
+     *            the group or list of groups targeted for validation (defaults to
+     *            {@link jakarta.validation.groups.Default})
+     * @return constraint violations or an empty {@link Set} if none
+     * @throws IllegalArgumentException
+     *             if {@code object}, {@code changedProperties} or {@code previousViolations} is {@code null}, if
+     *             {@code previousViolations} were reported for another root bean, or if {@code null} is passed to the
+     *             varargs {@code groups}
+     * @throws ValidationException
+     *             if a non recoverable error happens during the validation process
+     * @since 4.0
+     */
+    <T> Set<ConstraintViolation<T>> revalidate(T object, Set<String> changedProperties,
+        Set<ConstraintViolation<T>> previousViolations, Class<?>... groups);
+
+    /**
+     * Prepares the validation of beans of {@code type} for {@code groups}. The groups, and the metadata, validation
+     * plan and constraint validators of {@code type}, are resolved once rather than on every call to
+     * {@link #validate(Object, Class...)}; the returned handle can be kept, e.g. by a consumer of messages of a single
+     * type, and shared between threads. It reports the same violations as {@link #validate(Object, Class...)}.
+     *
+     * @param type
+     *            the type of the beans to validate
+     * @param groups
+     *            the group or list of groups targeted for validation (defaults to
+     *            {@link jakarta.validation.groups.Default})
+     * @return {@link PreparedValidator}
+     * @throws IllegalArgumentException
+     *             if {@code type} is {@code null} or if {@code null} is passed to the varargs {@code groups}
+     * @throws ValidationException
+     *             if a non recoverable error happens while resolving the groups or the metadata of {@code type}
+     * @since 4.0
+     */
+    <T> PreparedValidator<T> prepare(Class<T> type, Class<?>... groups);
+
+    /**
+     * Prepares the validation of the parameters and return values of {@code method} for {@code groups}, resolving
+     * its metadata once rather than on every invocation as {@link ExecutableValidator} does. The returned handle can
+     * be kept, e.g. for each endpoint of a service, and shared between threads.
+     *
+     * @param method
+     *            the method to validate invocations of
+     * @param groups
+     *            the group or list of groups targeted for validation (defaults to
+     *            {@link jakarta.validation.groups.Default})
+     * @return {@link PreparedExecutableValidator}
+     * @throws IllegalArgumentException
+     *             if {@code method} is {@code null} or if {@code null} is passed to the varargs {@code groups}
+     * @throws ValidationException
+     *             if a non recoverable error happens while resolving the groups
+     * @since 4.0
+     */
+    <T> PreparedExecutableValidator<T> prepare(Method method, Class<?>... groups);
+
+    /**
+     * Prepares the validation of the parameters and return values of {@code constructor} for {@code groups},
+     * resolving its metadata once rather than on every invocation as {@link ExecutableValidator} does. The returned
+     * handle can be kept and shared between threads.
+     *
+     * @param constructor
+     *            the constructor to validate invocations of
+     * @param groups
+     *            the group or list of groups targeted for validation (defaults to
+     *            {@link jakarta.validation.groups.Default})
+     * @return {@link PreparedExecutableValidator}
+     * @throws IllegalArgumentException
+     *             if {@code constructor} is {@code null} or if {@code null} is passed to the varargs {@code groups}
+     * @throws ValidationException
+     *             if a non recoverable error happens while resolving the groups
+     * @since 4.0
+     */
+    <T> PreparedExecutableValidator<T> prepare(Constructor<? extends T> constructor, Class<?>... groups);
+}
@@ -54,5 +54,110 @@ public interface ApacheValidatorConfiguration extends Configuration<ApacheValida
          * injection attacks.
          */
         String CUSTOM_TEMPLATE_EXPRESSION_EVALUATION = "apache.bval.custom-template-expression-evaluation";
+
+        /**
+         * Specifies the minimum number of elements of an array, {@link java.util.Collection} or {@link java.util.Map}
+         * for cascaded validation of its elements to be split into tasks run in parallel, by default on the common
+         * {@link java.util.concurrent.ForkJoinPool} (see
+         * {@link ApacheFactoryContext#cascadeExecutor(java.util.concurrent.Executor)}). Violations are reported in
+         * the same order as by a sequential cascade. Containers nested in the elements of a split container are
+         * cascaded sequentially by the task validating the element. Cascaded elements may then be validated on
+         * threads other than the caller's, so any custom {@link jakarta.validation.ConstraintValidator},
+         * {@link jakarta.validation.TraversableResolver}, etc. involved must be thread-safe.
+         * default: none (parallel cascading disabled)
+         */
+        String PARALLEL_CASCADE_THRESHOLD = "apache.bval.parallel-cascade-threshold";
+
+        /**
+         * Specifies whether validation should stop at the first constraint violation found, reporting only that one
+         * (unless {@link #MAX_VIOLATIONS} specifies a different limit). Which violation is reported is not defined
+         * beyond being the first encountered in BVal's traversal order.
+         * default: false
+         */
+        String FAIL_FAST = "apache.bval.fail-fast";
+
+        /**
+         * Specifies the maximum number of constraint violations to report from a single validation; traversal of
+         * the validated object graph stops once this many have been found.
+         * default: none (unlimited)
+         */
+        String MAX_VIOLATIONS = "apache.bval.max-violations";
+
+        /**
+         * Specifies whether the message of a constraint violation should only be interpolated when first requested
+         * by {@link jakarta.validation.ConstraintViolation#getMessage()}, rather than when the violation is created.
+         * The interpolation context and locale are captured upon creation of the violation; the
+         * {@link jakarta.validation.MessageInterpolator} in use must remain usable for as long as messages may be
+         * requested.
+         * default: false
+         */
+        String LAZY_MESSAGE_INTERPOLATION = "apache.bval.lazy-message-interpolation";
+
+        /**
+         * Specifies the fully qualified name of a {@link org.apache.bval.util.Cache.Factory} implementation
+         * creating the caches of validation metadata, proxy class resolution, constraint validator instances and
+         * compiled message templates (the latter only for the default message interpolator). When set,
+         * {@link #CACHE_MAXIMUM_SIZE} and {@link #CACHE_RECORD_STATS} are ignored.
+         * default: {@link org.apache.bval.util.ConcurrentCache.Factory} configured by those properties
+         */
+        String CACHE_FACTORY = "apache.bval.cache-factory";
+
+        /**
+         * Specifies the maximum number of entries of each cache, beyond which entries least recently used are
+         * evicted and recomputed when next needed.
+         * default: none (unbounded caches)
+         */
+        String CACHE_MAXIMUM_SIZE = "apache.bval.cache-maximum-size";
+
+        /**
+         * Specifies whether caches should count hits, misses and evictions, as reported by
+         * {@link org.apache.bval.jsr.ApacheValidatorFactory#getCacheStats()}.
+         * default: false
+         */
+        String CACHE_RECORD_STATS = "apache.bval.cache-record-stats";
+
+        /**
+         * Specifies whether to use the build-time metadata indexes written by
+         * {@link org.apache.bval.jsr.metadata.MetadataIndexProcessor}, so that the annotations of members without
+         * constraint metadata are not read when building bean descriptors.
+         * default: false
+         */
+        String METADATA_INDEX = "apache.bval.metadata-index";
+
+        /**
+         * Specifies a comma-separated list of classes whose bean descriptors and constraint validators should be
+         * built in the background as soon as the {@link jakarta.validation.ValidatorFactory} is created, as by
+         * {@link org.apache.bval.jsr.ApacheValidatorFactory#warmUp(java.util.Collection, java.util.concurrent.Executor)}.
+         * An entry ending with {@code .*} denotes all classes of a package and its subpackages.
+         * default: none
+         */
+        String WARM_UP = "apache.bval.warm-up";
+
+        /**
+         * Specifies whether a bean whose constraints are all simple built-in constraints on properties of final or
+         * primitive types should first be checked by a precomputed list of property readers and validators, without
+         * building any validation state, and only validated normally, from the first property failing the check, if
+         * that check fails. This applies to {@link jakarta.validation.Validator#validate(Object, Class...)} with a
+         * traversable resolver that reaches every property and without context-specific value extractors.
+         * default: false
+         */
+        String COMPILED_BEAN_VALIDATION = "apache.bval.compiled-bean-validation";
+
+        /**
+         * Specifies the fully qualified class name of a {@link org.apache.bval.jsr.job.CompiledCheckGenerator}, with a
+         * public no-argument constructor, generating the checks enabled by {@link #COMPILED_BEAN_VALIDATION}, e.g.
+         * {@code org.apache.bval.codegen.AsmCompiledCheckGenerator} from the {@code bval-codegen} module.
+         * default: none (checks are interpreted)
+         */
+        String COMPILED_CHECK_GENERATOR = "apache.bval.compiled-check-generator";
+
+        /**
+         * Specifies whether the caches of {@link jakarta.validation.TraversableResolver} results, which are only
+         * needed if the configured resolver is not known to reach and cascade every property, should be kept per
+         * thread between validations instead of being created anew by each. A pooled cache retains its capacity, and
+         * holds a reference to a BVal class from the thread, until the thread ends.
+         * default: false
+         */
+        String TRAVERSABLE_RESOLVER_CACHE_POOLING = "apache.bval.traversable-resolver-cache-pooling";
     }
 }
@@ -23,9 +23,17 @@ import java.lang.reflect.Modifier;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.BiConsumer;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 
 import jakarta.validation.ClockProvider;
 import jakarta.validation.ConstraintValidator;
@@ -40,8 +48,10 @@ import jakarta.validation.ValidatorFactory;
 import jakarta.validation.spi.ConfigurationState;
 import jakarta.validation.valueextraction.ValueExtractor;
 
+import org.apache.bval.jsr.descriptor.ConstraintD;
 import org.apache.bval.jsr.descriptor.DescriptorManager;
 import org.apache.bval.jsr.groups.GroupsComputer;
+import org.apache.bval.jsr.job.CompiledCheckGenerator;
 import org.apache.bval.jsr.metadata.MetadataBuilder;
 import org.apache.bval.jsr.metadata.MetadataBuilder.ForBean;
 import org.apache.bval.jsr.metadata.MetadataBuilders;
@@ -50,7 +60,11 @@ import org.apache.bval.jsr.metadata.ServiceLoaderValidatorMappingProvider;
 import org.apache.bval.jsr.util.AnnotationsManager;
 import org.apache.bval.jsr.valueextraction.ValueExtractors;
 import org.apache.bval.jsr.valueextraction.ValueExtractors.OnDuplicateContainerElementKey;
+import org.apache.bval.util.Cache;
 import org.apache.bval.util.CloseableAble;
+import org.apache.bval.util.ConcurrentCache;
+import org.apache.bval.util.Exceptions;
+import org.apache.bval.util.StringUtils;
 import org.apache.bval.util.reflection.Reflection;
 import org.apache.commons.weaver.privilizer.Privilizing;
 import org.apache.commons.weaver.privilizer.Privilizing.CallTo;
@@ -62,6 +76,7 @@ import org.apache.commons.weaver.privilizer.Privilizing.CallTo;
  */
 @Privilizing(@CallTo(Reflection.class))
 public class ApacheValidatorFactory implements ValidatorFactory, Cloneable {
+    private static final Logger log = Logger.getLogger(ApacheValidatorFactory.class.getName());
 
     private static volatile ApacheValidatorFactory DEFAULT_FACTORY;
 
@@ -99,14 +114,23 @@ public class ApacheValidatorFactory implements ValidatorFactory, Cloneable {
 
     private final Map<String, String> properties;
     private final AnnotationsManager annotationsManager;
-    private final DescriptorManager descriptorManager = new DescriptorManager(this);
+    private final Map<String, Cache<?, ?>> caches = new ConcurrentHashMap<>();
+    private final Cache.Factory cacheFactory;
+    private final DescriptorManager descriptorManager;
     private final MetadataBuilders metadataBuilders = new MetadataBuilders();
-    private final ConstraintCached constraintsCache = new ConstraintCached();
-    private final Map<Class<?>, Class<?>> unwrappedClassCache = new ConcurrentHashMap<>();
+    private final ConstraintCached constraintsCache;
+    private final Cache<Class<?>, Class<?>> unwrappedClassCache;
     private final Collection<Closeable> toClose = new ArrayList<>();
     private final GroupsComputer groupsComputer = new GroupsComputer();
     private final ParticipantFactory participantFactory;
     private final ValueExtractors valueExtractors;
+    private final int parallelCascadeThreshold;
+    private final int maxViolations;
+    private final boolean lazyMessageInterpolation;
+    private final boolean metadataIndexEnabled;
+    private final boolean compiledBeanValidation;
+    private final CompiledCheckGenerator compiledCheckGenerator;
+    private final boolean traversableResolverCachePooling;
 
     private MessageInterpolator messageResolver;
     private TraversableResolver traversableResolver;
@@ -121,6 +145,13 @@ public class ApacheValidatorFactory implements ValidatorFactory, Cloneable {
      */
     private volatile Validator defaultValidator;
 
+    /**
+     * Background warm-up started by {@link #startWarmUp()}, cancelled on {@link #close()}. Not copied on
+     * {@link #clone()}.
+     */
+    private volatile CompletableFuture<Void> warmUp;
+    private volatile boolean closed;
+
     /**
      * Create a new ApacheValidatorFactory instance.
      */
@@ -131,6 +162,17 @@ public class ApacheValidatorFactory implements ValidatorFactory, Cloneable {
         traversableResolver = configuration.getTraversableResolver();
         constraintValidatorFactory = configuration.getConstraintValidatorFactory();
         clockProvider = configuration.getClockProvider();
+        parallelCascadeThreshold = intProperty(ApacheValidatorConfiguration.Properties.PARALLEL_CASCADE_THRESHOLD, 0);
+        maxViolations = intProperty(ApacheValidatorConfiguration.Properties.MAX_VIOLATIONS,
+            Boolean.parseBoolean(properties.get(ApacheValidatorConfiguration.Properties.FAIL_FAST)) ? 1 : 0);
+        lazyMessageInterpolation =
+            Boolean.parseBoolean(properties.get(ApacheValidatorConfiguration.Properties.LAZY_MESSAGE_INTERPOLATION));
+        metadataIndexEnabled =
+            Boolean.parseBoolean(properties.get(ApacheValidatorConfiguration.Properties.METADATA_INDEX));
+        compiledBeanValidation =
+            Boolean.parseBoolean(properties.get(ApacheValidatorConfiguration.Properties.COMPILED_BEAN_VALIDATION));
+        traversableResolverCachePooling = Boolean.parseBoolean(
+            properties.get(ApacheValidatorConfiguration.Properties.TRAVERSABLE_RESOLVER_CACHE_POOLING));
 
         if (configuration instanceof CloseableAble) {
             toClose.add(((CloseableAble) configuration).getCloseable());
@@ -140,6 +182,17 @@ public class ApacheValidatorFactory implements ValidatorFactory, Cloneable {
 
         toClose.add(participantFactory);
 
+        cacheFactory = createCacheFactory();
+        compiledCheckGenerator = createCompiledCheckGenerator();
+        descriptorManager = new DescriptorManager(this);
+        constraintsCache = new ConstraintCached(createCache("constraintValidators", ConstraintD.class));
+        unwrappedClassCache = createCache("unwrappedClasses", Class.class);
+        if (messageResolver instanceof DefaultMessageInterpolator
+            && configuration instanceof ConfigurationImpl
+            && messageResolver == ((ConfigurationImpl) configuration).getDefaultMessageInterpolator()) {
+            ((DefaultMessageInterpolator) messageResolver).setCacheFactory(this::createCache);
+        }
+
         constraintsCache.setServiceLoaderValidatorMappingProvider(new ServiceLoaderValidatorMappingProvider(
             participantFactory.loadServiceClasses(ConstraintValidator.class)));
 
@@ -148,12 +201,87 @@ public class ApacheValidatorFactory implements ValidatorFactory, Cloneable {
 
         annotationsManager = new AnnotationsManager(this);
         loadAndVerifyUserCustomizations(configuration);
+
+    }
+
+    /**
+     * Start warming up the classes configured by {@link ApacheValidatorConfiguration.Properties#WARM_UP}, if any,
+     * once this factory is fully constructed.
+     */
+    void startWarmUp() {
+        final String classes = properties.get(ApacheValidatorConfiguration.Properties.WARM_UP);
+        if (StringUtils.isBlank(classes) || warmUp != null) {
+            return;
+        }
+        final Executor executor = ForkJoinPool.commonPool();
+        final CompletableFuture<Void> result = CompletableFuture.supplyAsync(() -> warmUpClasses(classes), executor)
+            .thenCompose(beanClasses -> warmUp(beanClasses, executor));
+        warmUp = result;
+        result.whenComplete((v, t) -> {
+            if (t != null && !closed) {
+                log.log(Level.WARNING, "Unable to warm up " + classes, t);
+            }
+        });
+    }
+
+    /**
+     * Build the bean descriptors of {@code beanClasses}, and of the declared types of their cascaded elements, ahead
+     * of their first use, and create the constraint validators they require where these do not depend on the runtime
+     * type of the validated values. Each class is processed by a separate task of {@code executor}; tasks that have
+     * not yet started when this factory is closed do nothing.
+     *
+     * @param beanClasses
+     * @param executor
+     * @return {@link CompletableFuture} completed when all classes are processed, exceptionally if any failed
+     * @since 4.0
+     */
+    public CompletableFuture<Void> warmUp(Collection<Class<?>> beanClasses, Executor executor) {
+        return new DescriptorWarmUp(usingContext()).run(beanClasses, executor);
+    }
+
+    /**
+     * Learn whether this factory has been closed.
+     *
+     * @return {@code boolean}
+     */
+    boolean isClosed() {
+        return closed;
     }
 
-    public Map<Class<?>, Class<?>> getUnwrappedClassCache() {
+    public Cache<Class<?>, Class<?>> getUnwrappedClassCache() {
         return unwrappedClassCache;
     }
 
+    /**
+     * Create a cache using the {@link Cache.Factory} configured by
+     * {@link ApacheValidatorConfiguration.Properties#CACHE_FACTORY} and related properties, and include it in
+     * {@link #getCacheStats()}.
+     *
+     * @param name
+     *            unique among the caches of this factory
+     * @param keyType
+     *            common supertype of the cache's keys
+     * @return {@link Cache}
+     * @since 4.0
+     */
+    public <K, V> Cache<K, V> createCache(String name, Class<?> keyType) {
+        final Cache<K, V> result = cacheFactory.create(name, keyType);
+        caches.put(name, result);
+        return result;
+    }
+
+    /**
+     * Get the current statistics of the caches of this factory, by name.
+     *
+     * @return {@link Map} of {@link Cache.Stats}
+     * @since 4.0
+     */
+    public Map<String, Cache.Stats> getCacheStats() {
+        final Map<String, Cache.Stats> result = new TreeMap<>();
+        caches.forEach((name, cache) -> result.put(name, cache.stats()));
+        return result;
+    }
+
     /**
      * Get the property map of this {@link ApacheValidatorFactory}.
      *
@@ -202,6 +330,8 @@ public class ApacheValidatorFactory implements ValidatorFactory, Cloneable {
         try {
             final ApacheValidatorFactory copy = (ApacheValidatorFactory) super.clone();
             copy.defaultValidator = null;
+            // the warm-up belongs to the original:
+            copy.warmUp = null;
             return copy;
         } catch (CloneNotSupportedException e) {
             throw new InternalError(); // VM bug.
@@ -290,8 +420,86 @@ public class ApacheValidatorFactory implements ValidatorFactory, Cloneable {
         return clockProvider;
     }
 
+    /**
+     * Get the container size from which cascaded validation is parallelized, as configured by
+     * {@link ApacheValidatorConfiguration.Properties#PARALLEL_CASCADE_THRESHOLD}.
+     *
+     * @return {@code int}, {@code <= 0} if parallel cascading is disabled
+     */
+    public int getParallelCascadeThreshold() {
+        return parallelCascadeThreshold;
+    }
+
+    /**
+     * Get the maximum number of violations reported by a validation, as configured by
+     * {@link ApacheValidatorConfiguration.Properties#MAX_VIOLATIONS} or
+     * {@link ApacheValidatorConfiguration.Properties#FAIL_FAST}.
+     *
+     * @return {@code int}, {@code <= 0} if unlimited
+     */
+    public int getMaxViolations() {
+        return maxViolations;
+    }
+
+    /**
+     * Learn whether violation messages are interpolated on first access, as configured by
+     * {@link ApacheValidatorConfiguration.Properties#LAZY_MESSAGE_INTERPOLATION}.
+     *
+     * @return {@code boolean}
+     */
+    public boolean isLazyMessageInterpolation() {
+        return lazyMessageInterpolation;
+    }
+
+    /**
+     * Learn whether build-time metadata indexes are used, as configured by
+     * {@link ApacheValidatorConfiguration.Properties#METADATA_INDEX}.
+     *
+     * @return {@code boolean}
+     */
+    public boolean isMetadataIndexEnabled() {
+        return metadataIndexEnabled;
+    }
+
+    /**
+     * Learn whether beans are first checked by precomputed readers and validators, as configured by
+     * {@link ApacheValidatorConfiguration.Properties#COMPILED_BEAN_VALIDATION}.
+     *
+     * @return {@code boolean}
+     */
+    public boolean isCompiledBeanValidation() {
+        return compiledBeanValidation;
+    }
+
+    /**
+     * Get the {@link CompiledCheckGenerator} configured by
+     * {@link ApacheValidatorConfiguration.Properties#COMPILED_CHECK_GENERATOR}.
+     *
+     * @return {@link CompiledCheckGenerator} or {@code null} if compiled checks are interpreted
+     * @since 4.0
+     */
+    public CompiledCheckGenerator getCompiledCheckGenerator() {
+        return compiledCheckGenerator;
+    }
+
+    /**
+     * Learn whether caches of traversable resolver results are kept per thread, as configured by
+     * {@link ApacheValidatorConfiguration.Properties#TRAVERSABLE_RESOLVER_CACHE_POOLING}.
+     *
+     * @return {@code boolean}
+     */
+    public boolean isTraversableResolverCachePooling() {
+        return traversableResolverCachePooling;
+    }
+
     @Override
     public void close() {
+        closed = true;
+        final CompletableFuture<Void> pendingWarmUp = warmUp;
+        if (pendingWarmUp != null) {
+            pendingWarmUp.cancel(false);
+        }
+        constraintsCache.releaseAll();
         try {
             for (final Closeable c : toClose) {
                 c.close();
@@ -393,6 +601,46 @@ public class ApacheValidatorFactory implements ValidatorFactory, Cloneable {
         return groupsComputer;
     }
 
+    private Cache.Factory createCacheFactory() {
+        final String cacheFactoryClassName = properties.get(ApacheValidatorConfiguration.Properties.CACHE_FACTORY);
+        if (StringUtils.isNotBlank(cacheFactoryClassName)) {
+            return participantFactory.create(cacheFactoryClassName.trim());
+        }
+        return new ConcurrentCache.Factory(intProperty(ApacheValidatorConfiguration.Properties.CACHE_MAXIMUM_SIZE, 0),
+            Boolean.parseBoolean(properties.get(ApacheValidatorConfiguration.Properties.CACHE_RECORD_STATS)));
+    }
+
+    private CompiledCheckGenerator createCompiledCheckGenerator() {
+        final String generatorClassName =
+            properties.get(ApacheValidatorConfiguration.Properties.COMPILED_CHECK_GENERATOR);
+        return StringUtils.isBlank(generatorClassName) ? null : participantFactory.create(generatorClassName.trim());
+    }
+
+    private int intProperty(String key, int defaultValue) {
+        final String value = properties.get(key);
+        if (StringUtils.isBlank(value)) {
+            return defaultValue;
+        }
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            throw Exceptions.create(ValidationException::new, e, "Invalid value '%s' for property %s", value, key);
+        }
+    }
+
+    private Collection<Class<?>> warmUpClasses(String warmUp) {
+        final Set<Class<?>> result = new LinkedHashSet<>();
+        for (String name : warmUp.split(",")) {
+            final String className = name.trim();
+            if (className.endsWith(".*")) {
+                result.addAll(participantFactory.loadPackageClasses(className.substring(0, className.length() - 2)));
+            } else if (!className.isEmpty()) {
+                result.add(participantFactory.loadClass(className));
+            }
+        }
+        return result;
+    }
+
     private void loadAndVerifyUserCustomizations(ConfigurationState configuration) {
         @SuppressWarnings({ "unchecked", "rawtypes" })
         final BiConsumer<Class<?>, ForBean<?>> addBuilder = (t, b) -> {
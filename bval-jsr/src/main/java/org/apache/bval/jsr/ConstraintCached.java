@@ -25,13 +25,17 @@ import java.util.Collections;
 import java.util.EnumSet;
 import java.util.List;
 import java.util.Objects;
+import java.util.Queue;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import jakarta.validation.ConstraintDefinitionException;
 import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorFactory;
 import jakarta.validation.constraintvalidation.SupportedValidationTarget;
 import jakarta.validation.constraintvalidation.ValidationTarget;
 
@@ -41,6 +45,8 @@ import org.apache.bval.jsr.metadata.CompositeValidatorMappingProvider;
 import org.apache.bval.jsr.metadata.DualValidationMappingProvider;
 import org.apache.bval.jsr.metadata.ValidatorMappingProvider;
 import org.apache.bval.jsr.util.ToUnmodifiable;
+import org.apache.bval.util.Cache;
+import org.apache.bval.util.ConcurrentCache;
 import org.apache.bval.util.Exceptions;
 import org.apache.bval.util.Lazy;
 import org.apache.bval.util.Validate;
@@ -97,10 +103,102 @@ public class ConstraintCached {
         }
     }
 
+    /**
+     * The initialized {@link ConstraintValidator}s of a constraint, by the runtime type of the values they validate:
+     * the validator class selected for a constraint depends on the type of the validated value, which varies when the
+     * constrained element is of a non-final type.
+     *
+     * @since 4.0
+     */
+    public static final class ConstraintValidators {
+        private static final class Entry {
+            final Class<?> valueType;
+            // null for a constraint validated by its composing constraints alone:
+            final ConstraintValidator<?, ?> validator;
+
+            Entry(Class<?> valueType, ConstraintValidator<?, ?> validator) {
+                super();
+                this.valueType = valueType;
+                this.validator = validator;
+            }
+        }
+
+        private final ConcurrentMap<Class<?>, Entry> byValueType = new ConcurrentHashMap<>();
+        // validator of null values, which is selected by the declared type of the constrained element:
+        private volatile Entry forNullValues;
+        // most values of an element are of the same type:
+        private volatile Entry last;
+
+        /**
+         * Get the validator of values of {@code valueType}.
+         *
+         * @param valueType
+         *            {@code null} for {@code null} values
+         * @return {@link ConstraintValidator} or {@code null} if none is cached
+         */
+        public ConstraintValidator<?, ?> get(Class<?> valueType) {
+            if (valueType == null) {
+                final Entry e = forNullValues;
+                return e == null ? null : e.validator;
+            }
+            final Entry e = last;
+            if (e != null && e.valueType == valueType) {
+                return e.validator;
+            }
+            final Entry found = byValueType.get(valueType);
+            if (found == null) {
+                return null;
+            }
+            last = found;
+            return found.validator;
+        }
+
+        /**
+         * Get the validator of values of {@code valueType}, computing and caching it if absent.
+         *
+         * @param valueType
+         *            {@code null} for {@code null} values
+         * @param computer
+         *            may return {@code null} for a constraint validated by its composing constraints alone
+         * @return {@link ConstraintValidator} or {@code null}
+         */
+        public ConstraintValidator<?, ?> computeIfAbsent(Class<?> valueType,
+            Supplier<? extends ConstraintValidator<?, ?>> computer) {
+            if (valueType == null) {
+                Entry result = forNullValues;
+                if (result == null) {
+                    synchronized (this) {
+                        result = forNullValues;
+                        if (result == null) {
+                            forNullValues = result = new Entry(null, computer.get());
+                        }
+                    }
+                }
+                return result.validator;
+            }
+            return byValueType.computeIfAbsent(valueType, t -> new Entry(t, computer.get())).validator;
+        }
+    }
+
+    /**
+     * A {@link ConstraintValidator} to be released to the {@link ConstraintValidatorFactory} it was obtained from.
+     */
+    private static final class Obtained {
+        final ConstraintValidatorFactory factory;
+        final ConstraintValidator<?, ?> validator;
+
+        Obtained(ConstraintValidatorFactory factory, ConstraintValidator<?, ?> validator) {
+            super();
+            this.factory = factory;
+            this.validator = validator;
+        }
+    }
+
     private final ConcurrentMap<Class<? extends Annotation>, Set<ConstraintValidatorInfo<?>>> constraintValidatorInfo =
         new ConcurrentHashMap<>();
-    private final ConcurrentMap<ConstraintD<?>, ConstraintValidator<?, ?>> validators =
-        new ConcurrentHashMap<>();
+    private final Cache<ConstraintD<?>, ConstraintValidators> validators;
+    // validators are not released when evicted from the cache, since a validation may still be using them:
+    private final Queue<Obtained> obtained = new ConcurrentLinkedQueue<>();
 
     private final List<ValidatorMappingProvider> customValidatorMappingProviders = new ArrayList<>();
     private final Lazy<ValidatorMappingProvider> validatorMappingProvider =
@@ -108,10 +206,56 @@ public class ConstraintCached {
 
     private ValidatorMappingProvider serviceLoaderValidatorMappingProvider;
 
-    public ConcurrentMap<ConstraintD<?>, ConstraintValidator<?, ?>> getValidators() {
+    /**
+     * Create a new {@link ConstraintCached} instance with an unbounded cache of {@link ConstraintValidator}s.
+     */
+    public ConstraintCached() {
+        this(new ConcurrentCache<>(0, false));
+    }
+
+    /**
+     * Create a new {@link ConstraintCached} instance.
+     *
+     * @param validators
+     *            cache of initialized {@link ConstraintValidator}s
+     * @since 4.0
+     */
+    public ConstraintCached(Cache<ConstraintD<?>, ConstraintValidators> validators) {
+        super();
+        this.validators = Validate.notNull(validators, "validators");
+    }
+
+    public Cache<ConstraintD<?>, ConstraintValidators> getValidators() {
         return validators;
     }
 
+    /**
+     * Record a {@link ConstraintValidator} obtained from {@code factory}, to be released by {@link #releaseAll()}.
+     * Validators obtained from a {@link DefaultConstraintValidatorFactory}, which releases its own instances on
+     * close, are not recorded.
+     *
+     * @param factory
+     * @param validator
+     * @since 4.0
+     */
+    public void obtained(ConstraintValidatorFactory factory, ConstraintValidator<?, ?> validator) {
+        if (factory != null && validator != null && factory.getClass() != DefaultConstraintValidatorFactory.class) {
+            obtained.add(new Obtained(factory, validator));
+        }
+    }
+
+    /**
+     * Release every {@link ConstraintValidator} recorded by {@link #obtained(ConstraintValidatorFactory,
+     * ConstraintValidator)} to the factory it was obtained from. Called once no validation may use them any longer.
+     *
+     * @since 4.0
+     */
+    public void releaseAll() {
+        for (Obtained o = obtained.poll(); o != null; o = obtained.poll()) {
+            o.factory.releaseInstance(o.validator);
+        }
+    }
+
     public void add(ValidatorMappingProvider validatorMappingProvider) {
         customValidatorMappingProviders.add(validatorMappingProvider);
         resetValidatorMappingProvider();
@@ -23,10 +23,13 @@ import jakarta.validation.metadata.ConstraintDescriptor;
 
 import org.apache.bval.util.Exceptions;
 
+import java.io.IOException;
+import java.io.ObjectOutputStream;
 import java.io.Serializable;
 import java.lang.annotation.ElementType;
 import java.util.Arrays;
 import java.util.Objects;
+import java.util.function.Supplier;
 
 /**
  * Description: Describe a constraint validation defect.<br/>
@@ -38,7 +41,9 @@ public class ConstraintViolationImpl<T> implements ConstraintViolation<T>, Seria
     private static final long serialVersionUID = 1L;
 
     private final String messageTemplate;
-    private final String message;
+    private String message;
+    /** interpolates {@link #message} on first access; {@code null} once interpolated. */
+    private transient volatile Supplier<String> messageSupplier;
     /** root bean validation was invoked on. */
     private final T rootBean;
     private final Class<T> rootBeanClass;
@@ -50,7 +55,8 @@ public class ConstraintViolationImpl<T> implements ConstraintViolation<T>, Seria
     private final ConstraintDescriptor<?> constraintDescriptor;
     private final Object returnValue;
     private final Object[] parameters;
-    private final int hashCode;
+    // computed on first use: violations that are only streamed to a consumer are never hashed
+    private transient int hashCode;
 
     /**
      * Create a new ConstraintViolationImpl instance.
@@ -72,8 +78,33 @@ public class ConstraintViolationImpl<T> implements ConstraintViolation<T>, Seria
     public ConstraintViolationImpl(String messageTemplate, String message, T rootBean, Object leafBean,
         Path propertyPath, Object value, ConstraintDescriptor<?> constraintDescriptor, Class<T> rootBeanClass,
         ElementType elementType, Object returnValue, Object[] parameters) {
-        this.messageTemplate = messageTemplate;
+        this(messageTemplate, (Supplier<String>) null, rootBean, leafBean, propertyPath, value, constraintDescriptor,
+            rootBeanClass, elementType, returnValue, parameters);
         this.message = message;
+    }
+
+    /**
+     * Create a new ConstraintViolationImpl instance whose message is interpolated on first access.
+     * 
+     * @param messageTemplate
+     *            - message reason (raw message)
+     * @param message
+     *            - interpolates the message (locale specific); invoked at most once, unless concurrently
+     * @param rootBean
+     * @param leafBean
+     * @param propertyPath
+     * @param value
+     * @param constraintDescriptor
+     * @param rootBeanClass
+     * @param elementType
+     * @param returnValue
+     * @param parameters
+     */
+    public ConstraintViolationImpl(String messageTemplate, Supplier<String> message, T rootBean, Object leafBean,
+        Path propertyPath, Object value, ConstraintDescriptor<?> constraintDescriptor, Class<T> rootBeanClass,
+        ElementType elementType, Object returnValue, Object[] parameters) {
+        this.messageTemplate = messageTemplate;
+        this.messageSupplier = message;
         this.rootBean = rootBean;
         this.rootBeanClass = rootBeanClass;
         this.propertyPath = propertyPath;
@@ -83,8 +114,6 @@ public class ConstraintViolationImpl<T> implements ConstraintViolation<T>, Seria
         this.elementType = elementType;
         this.returnValue = returnValue;
         this.parameters = parameters;
-        this.hashCode = Arrays.deepHashCode(new Object[] { messageTemplate, message, rootBean, rootBeanClass, leafBean,
-            value, propertyPath, elementType, constraintDescriptor, returnValue, parameters });
     }
 
     /**
@@ -94,6 +123,12 @@ public class ConstraintViolationImpl<T> implements ConstraintViolation<T>, Seria
      */
     @Override
     public String getMessage() {
+        final Supplier<String> supplier = messageSupplier;
+        if (supplier != null) {
+            // interpolation is idempotent, so concurrent first accesses may both compute it:
+            message = supplier.get();
+            messageSupplier = null;
+        }
         return message;
     }
 
@@ -184,7 +219,7 @@ public class ConstraintViolationImpl<T> implements ConstraintViolation<T>, Seria
     @Override
     public String toString() {
         return String.format("%s{rootBean=%s, propertyPath='%s', message='%s', leafBean=%s, value=%s}",
-            ConstraintViolationImpl.class.getSimpleName(), rootBean, propertyPath, message, leafBean, value);
+            ConstraintViolationImpl.class.getSimpleName(), rootBean, propertyPath, getMessage(), leafBean, value);
     }
 
     @Override
@@ -200,15 +235,27 @@ public class ConstraintViolationImpl<T> implements ConstraintViolation<T>, Seria
         final ConstraintViolationImpl that = (ConstraintViolationImpl) o;
 
         return Objects.equals(constraintDescriptor, that.constraintDescriptor) && elementType == that.elementType
-            && Objects.equals(leafBean, that.leafBean) && Objects.equals(message, that.message)
-            && Objects.equals(messageTemplate, that.messageTemplate) && Arrays.equals(parameters, that.parameters)
-            && Objects.equals(propertyPath, that.propertyPath) && Objects.equals(returnValue, that.returnValue)
-            && Objects.equals(rootBean, that.rootBean) && Objects.equals(rootBeanClass, that.rootBeanClass)
-            && Objects.equals(value, that.value);
+            && Objects.equals(leafBean, that.leafBean) && Objects.equals(messageTemplate, that.messageTemplate)
+            && Arrays.equals(parameters, that.parameters) && Objects.equals(propertyPath, that.propertyPath)
+            && Objects.equals(returnValue, that.returnValue) && Objects.equals(rootBean, that.rootBean)
+            && Objects.equals(rootBeanClass, that.rootBeanClass) && Objects.equals(value, that.value)
+            && Objects.equals(getMessage(), that.getMessage());
     }
 
     @Override
     public int hashCode() {
-        return hashCode;
+        int result = hashCode;
+        if (result == 0) {
+            // the message is left out so that hashing does not force its interpolation:
+            result = Arrays.deepHashCode(new Object[] { messageTemplate, rootBean, rootBeanClass, leafBean, value,
+                propertyPath, elementType, constraintDescriptor, returnValue, parameters });
+            hashCode = result;
+        }
+        return result;
+    }
+
+    private void writeObject(ObjectOutputStream out) throws IOException {
+        getMessage();
+        out.defaultWriteObject();
     }
 }
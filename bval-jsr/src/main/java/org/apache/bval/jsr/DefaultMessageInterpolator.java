@@ -20,10 +20,10 @@ import static java.util.Collections.emptyEnumeration;
 import static java.util.Optional.empty;
 import static java.util.Optional.of;
 
-import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Enumeration;
+import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.MissingResourceException;
@@ -31,15 +31,15 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.ResourceBundle;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentMap;
 import java.util.logging.Level;
 import java.util.logging.Logger;
-import java.util.regex.Matcher;
 
 import jakarta.validation.MessageInterpolator;
 
 import org.apache.bval.el.MessageEvaluator;
-import org.apache.bval.jsr.util.LookBehindRegexHolder;
+import org.apache.bval.util.Cache;
+import org.apache.bval.util.ConcurrentCache;
+import org.apache.bval.util.Validate;
 import org.apache.bval.util.reflection.Reflection;
 import org.apache.commons.weaver.privilizer.Privilizing;
 import org.apache.commons.weaver.privilizer.Privilizing.CallTo;
@@ -57,12 +57,6 @@ public class DefaultMessageInterpolator implements MessageInterpolator {
     private static final String DEFAULT_VALIDATION_MESSAGES = "org.apache.bval.jsr.ValidationMessages";
     private static final String USER_VALIDATION_MESSAGES = "ValidationMessages";
 
-    /**
-     * {@link LookBehindRegexHolder} to match Bean Validation attribute patterns, considering character escaping.
-     */
-    private static final LookBehindRegexHolder MESSAGE_PARAMETER = new LookBehindRegexHolder(
-        "(?<!(?:^|[^\\\\])(?:\\\\\\\\){0,%1$d}\\\\)\\{((?:[\\w\\.]|\\\\[\\{\\$\\}\\\\])+)\\}", n -> (n - 4) / 2);
-
     private static final ResourceBundle EMPTY_BUNDLE = new ResourceBundle() {
         @Override
         protected Object handleGetObject(final String key) {
@@ -84,9 +78,8 @@ public class DefaultMessageInterpolator implements MessageInterpolator {
     /** Builtin resource bundles hashed against their locale. */
     private final Map<Locale, ResourceBundle> defaultBundlesMap = new ConcurrentHashMap<>();
 
-    private final ConcurrentMap<ComputedMessageKey, String> interpolatedMessages = new ConcurrentHashMap<>();
-    private final ConcurrentMap<Class<?>, Method> toStringMethods = new ConcurrentHashMap<>();
-    private final ConcurrentMap<MessageWithParamsKey, String> interpolations = new ConcurrentHashMap<>();
+    private volatile Cache<ComputedMessageKey, CompiledTemplate> compiledTemplates =
+        new ConcurrentCache<>(0, false);
 
     private final MessageEvaluator evaluator;
 
@@ -138,22 +131,22 @@ public class DefaultMessageInterpolator implements MessageInterpolator {
             return resolveEscapeSequences(message);
         }
 
-        String resolvedMessage = getSharedInterpolatedMessage(message, locale);
+        final CompiledTemplate template = getCompiledTemplate(message, locale);
 
         // resolve annotation attributes (step 4)
         final Map<String, Object> annotationParameters = context.getConstraintDescriptor().getAttributes();
-        resolvedMessage = replaceAnnotationAttributes(resolvedMessage, annotationParameters);
+        String resolvedMessage = template.replaceAnnotationAttributes(annotationParameters);
 
-        // EL handling
-        if (evaluateExpressionLanguage(message, context)) {
+        // EL handling; the evaluator ignores messages without expressions
+        if (resolvedMessage.contains("${") && evaluateExpressionLanguage(message, context)) {
             resolvedMessage = evaluator.interpolate(resolvedMessage, annotationParameters, context.getValidatedValue());
         }
         return resolveEscapeSequences(resolvedMessage);
     }
 
-    private String getSharedInterpolatedMessage(final String message, final Locale locale) {
+    private CompiledTemplate getCompiledTemplate(final String message, final Locale locale) {
         final ComputedMessageKey key = new ComputedMessageKey(locale, message);
-        String value = interpolatedMessages.get(key);
+        CompiledTemplate value = compiledTemplates.get(key);
         if (value == null) {
             final ResourceBundle userResourceBundle = findUserResourceBundle(locale);
             final ResourceBundle defaultResourceBundle = findDefaultResourceBundle(locale);
@@ -174,8 +167,11 @@ public class DefaultMessageInterpolator implements MessageInterpolator {
                 resolvedMessage = doReplaceVariables(userBundleResolvedMessage, defaultResourceBundle, locale, false);
                 evaluatedDefaultBundleOnce = true;
             } while (true);
-            value = resolvedMessage;
-            interpolatedMessages.putIfAbsent(key, value);
+            value = new CompiledTemplate(resolvedMessage);
+            final CompiledTemplate raced = compiledTemplates.putIfAbsent(key, value);
+            if (raced != null) {
+                value = raced;
+            }
         }
         return value;
     }
@@ -259,80 +255,113 @@ public class DefaultMessageInterpolator implements MessageInterpolator {
     }
 
     private String doReplaceVariables(String message, ResourceBundle bundle, Locale locale, boolean recurse) {
-        final Matcher matcher = MESSAGE_PARAMETER.matcher(message);
-        final StringBuilder sb = new StringBuilder(64);
+        StringBuilder sb = null;
         int prev = 0;
-        while (matcher.find()) {
-            int start = matcher.start();
-            if (start > prev) {
-                sb.append(message, prev, start);
+        for (int start = message.indexOf('{'); start >= 0; start = message.indexOf('{', start + 1)) {
+            final int end = parameterEnd(message, start);
+            if (end < 0) {
+                continue;
+            }
+            final Optional<String> resolved =
+                resolveParameter(message.substring(start + 1, end - 1), bundle, locale, recurse);
+            if (resolved.isPresent()) {
+                if (sb == null) {
+                    sb = new StringBuilder(64);
+                }
+                sb.append(message, prev, start).append(resolved.get());
+                prev = end;
             }
-            sb.append(resolveParameter(matcher.group(1), bundle, locale, recurse).orElseGet(matcher::group));
-            prev = matcher.end();
+            start = end - 1;
         }
-        if (prev < message.length()) {
-            sb.append(message, prev, message.length());
+        if (sb == null) {
+            return message;
         }
-        return sb.toString();
+        return sb.append(message, prev, message.length()).toString();
     }
 
-    private String replaceAnnotationAttributes(final String message, final Map<String, Object> annotationParameters) {
-        final MessageWithParamsKey key = new MessageWithParamsKey(message, annotationParameters);
-        String result = interpolations.get(key);
-        if (result == null) {
-            final Matcher matcher = MESSAGE_PARAMETER.matcher(message);
-            if (!matcher.find()) {
-                result = message;
+    /**
+     * Find the end of the message parameter opened at {@code start}, i.e. an unescaped <code>{</code> followed by a
+     * name consisting of word characters, dots and escaped <code>{$}\</code> characters, and a closing
+     * <code>}</code>.
+     *
+     * @param message
+     * @param start
+     *            index of <code>{</code> in {@code message}
+     * @return index after the closing <code>}</code>, or {@code -1} if there is no parameter at {@code start}
+     */
+    private static int parameterEnd(String message, int start) {
+        int backslashes = 0;
+        for (int i = start - 1; i >= 0 && message.charAt(i) == '\\'; i--) {
+            backslashes++;
+        }
+        if (backslashes % 2 != 0) {
+            return -1;
+        }
+        int pos = start + 1;
+        while (pos < message.length()) {
+            final char c = message.charAt(pos);
+            if (c == '}') {
+                return pos > start + 1 ? pos + 1 : -1;
+            }
+            if (c == '.' || c == '_' || c >= 'a' && c <= 'z' || c >= 'A' && c <= 'Z' || c >= '0' && c <= '9') {
+                pos++;
+            } else if (c == '\\' && pos + 1 < message.length() && "{$}\\".indexOf(message.charAt(pos + 1)) >= 0) {
+                pos += 2;
             } else {
-                final StringBuilder sb = new StringBuilder(64);
-                int prev = 0;
-                do {
-                    int start = matcher.start();
-                    String resolvedParameterValue;
-                    String parameter = matcher.group(1);
-                    Object variable = annotationParameters.get(parameter);
-                    if (variable == null) {
-                        resolvedParameterValue = matcher.group();
-                    } else if (Object[].class.isInstance(variable)) {
-                        resolvedParameterValue = Arrays.toString((Object[]) variable);
-                    } else if (variable.getClass().isArray()) {
-                        try {
-                            resolvedParameterValue = (String) getToStringMethod(variable).invoke(null, variable);
-                        } catch (IllegalAccessException | IllegalArgumentException | InvocationTargetException e) {
-                            throw new IllegalStateException("Could not expand array " + variable);
-                        }
-                    } else {
-                        resolvedParameterValue = variable.toString();
-                    }
-                    if (start > prev) {
-                        sb.append(message, prev, start);
-                    }
-                    sb.append(resolvedParameterValue);
-                    prev = matcher.end();
-                } while (matcher.find());
-                if (prev < message.length()) {
-                    sb.append(message, prev, message.length());
-                }
-                result = sb.toString();
+                return -1;
             }
-            interpolations.putIfAbsent(key, result);
         }
-        return result;
+        return -1;
+    }
+
+    private static String formatAttribute(Object variable) {
+        if (Object[].class.isInstance(variable)) {
+            return Arrays.toString((Object[]) variable);
+        }
+        if (variable instanceof boolean[]) {
+            return Arrays.toString((boolean[]) variable);
+        }
+        if (variable instanceof byte[]) {
+            return Arrays.toString((byte[]) variable);
+        }
+        if (variable instanceof char[]) {
+            return Arrays.toString((char[]) variable);
+        }
+        if (variable instanceof short[]) {
+            return Arrays.toString((short[]) variable);
+        }
+        if (variable instanceof int[]) {
+            return Arrays.toString((int[]) variable);
+        }
+        if (variable instanceof long[]) {
+            return Arrays.toString((long[]) variable);
+        }
+        if (variable instanceof float[]) {
+            return Arrays.toString((float[]) variable);
+        }
+        if (variable instanceof double[]) {
+            return Arrays.toString((double[]) variable);
+        }
+        return variable.toString();
     }
 
     public void clearCache() {
-        interpolatedMessages.clear();
-        interpolations.clear();
+        compiledTemplates.clear();
     }
 
-    private Method getToStringMethod(final Object variable) {
-        final Class<?> variableClass = variable.getClass();
-        Method method = toStringMethods.get(variableClass);
-        if (method == null) {
-            method = Reflection.getDeclaredMethod(Arrays.class, "toString", variableClass);
-            toStringMethods.putIfAbsent(variableClass, method);
+    /**
+     * Set the {@link Cache.Factory} creating the caches of compiled message templates and of parsed expressions,
+     * replacing the current caches.
+     *
+     * @param cacheFactory
+     * @since 4.0
+     */
+    public void setCacheFactory(Cache.Factory cacheFactory) {
+        compiledTemplates = Validate.notNull(cacheFactory, "cacheFactory").create("messageTemplates",
+            ComputedMessageKey.class);
+        if (evaluator != null) {
+            evaluator.setCacheFactory(cacheFactory);
         }
-        return method;
     }
 
     private Optional<String> resolveParameter(String parameterName, ResourceBundle bundle, Locale locale,
@@ -354,6 +383,14 @@ public class DefaultMessageInterpolator implements MessageInterpolator {
         return userBundlesMap.computeIfAbsent(locale, this::getFileBasedResourceBundle);
     }
 
+    /**
+     * Get the default locale used by this {@link DefaultMessageInterpolator}.
+     * @return {@link Locale}
+     */
+    public Locale getLocale() {
+        return defaultLocale;
+    }
+
     /**
      * Set the default locale used by this {@link DefaultMessageInterpolator}.
      * @param locale
@@ -392,32 +429,55 @@ public class DefaultMessageInterpolator implements MessageInterpolator {
         }
     }
 
-    private static class MessageWithParamsKey {
-        private final String message;
-        private final Map<String, Object> annotationParameters;
-        private final int hash;
+    /**
+     * A message template with its resource bundle references (steps 1-3) resolved for some locale, split into
+     * literal text and the message parameters remaining, which refer to constraint annotation attributes (step 4).
+     * Expression language, where applicable, and escape sequences are handled on the assembled message.
+     */
+    private static class CompiledTemplate {
+        /** Literal text around {@link #parameters}, one element longer. */
+        private final String[] literals;
+        /** Annotation attribute names. */
+        private final String[] parameters;
+        /** Raw parameter text, to retain when the named attribute does not exist. */
+        private final String[] placeholders;
+        private final int length;
+
+        CompiledTemplate(String message) {
+            final List<String> literalList = new ArrayList<>();
+            final List<String> parameterList = new ArrayList<>();
+            final List<String> placeholderList = new ArrayList<>();
+            int prev = 0;
+            for (int start = message.indexOf('{'); start >= 0; start = message.indexOf('{', start + 1)) {
+                final int end = parameterEnd(message, start);
+                if (end < 0) {
+                    continue;
+                }
+                literalList.add(message.substring(prev, start));
+                parameterList.add(message.substring(start + 1, end - 1));
+                placeholderList.add(message.substring(start, end));
+                prev = end;
+                start = end - 1;
+            }
+            literalList.add(message.substring(prev));
 
-        private MessageWithParamsKey(final String message, final Map<String, Object> annotationParameters) {
-            this.message = message;
-            this.annotationParameters = annotationParameters;
-            this.hash = Objects.hash(message, annotationParameters);
+            literals = literalList.toArray(new String[literalList.size()]);
+            parameters = parameterList.toArray(new String[parameterList.size()]);
+            placeholders = placeholderList.toArray(new String[placeholderList.size()]);
+            length = message.length();
         }
 
-        @Override
-        public boolean equals(final Object o) {
-            if (this == o) {
-                return true;
+        String replaceAnnotationAttributes(Map<String, Object> annotationParameters) {
+            if (parameters.length == 0) {
+                return literals[0];
             }
-            if (o == null || getClass() != o.getClass()) {
-                return false;
+            final StringBuilder sb = new StringBuilder(length + 16);
+            for (int i = 0; i < parameters.length; i++) {
+                sb.append(literals[i]);
+                final Object variable = annotationParameters.get(parameters[i]);
+                sb.append(variable == null ? placeholders[i] : formatAttribute(variable));
             }
-            final MessageWithParamsKey that = MessageWithParamsKey.class.cast(o);
-            return message.equals(that.message) && annotationParameters.equals(that.annotationParameters);
-        }
-
-        @Override
-        public int hashCode() {
-            return hash;
+            return sb.append(literals[parameters.length]).toString();
         }
     }
 }
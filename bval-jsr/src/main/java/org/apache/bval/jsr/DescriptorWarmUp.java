@@ -0,0 +1,117 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.bval.jsr;
+
+import java.util.Collection;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+
+import jakarta.validation.constraintvalidation.ValidationTarget;
+import jakarta.validation.metadata.BeanDescriptor;
+import jakarta.validation.metadata.CascadableDescriptor;
+import jakarta.validation.metadata.ConstraintDescriptor;
+import jakarta.validation.metadata.ContainerDescriptor;
+import jakarta.validation.metadata.ElementDescriptor;
+import jakarta.validation.metadata.ExecutableDescriptor;
+import jakarta.validation.metadata.MethodType;
+
+import org.apache.bval.jsr.descriptor.ConstraintD;
+import org.apache.bval.jsr.job.ValidationJob;
+import org.apache.bval.util.Validate;
+
+/**
+ * Builds the bean descriptors of a set of classes, and creates the constraint validators they require, ahead of
+ * their first use. Each class is processed by a separate task of the supplied {@link Executor}; concurrent (and
+ * recursive) descriptor building is handled by the {@link org.apache.bval.jsr.descriptor.DescriptorManager}.
+ * <p>
+ * As validators are selected by the runtime type of the validated value, they are only created for constraints
+ * whose validated type is known in advance: final (or primitive) types that are not unwrapped, and cross-parameter
+ * constraints.
+ */
+class DescriptorWarmUp {
+    private final ApacheFactoryContext validatorContext;
+    private final Set<Class<?>> visited = ConcurrentHashMap.newKeySet();
+
+    DescriptorWarmUp(ApacheFactoryContext validatorContext) {
+        super();
+        this.validatorContext = Validate.notNull(validatorContext, "validatorContext");
+    }
+
+    CompletableFuture<Void> run(Collection<Class<?>> beanClasses, Executor executor) {
+        Validate.notNull(beanClasses, "beanClasses");
+        Validate.notNull(executor, "executor");
+
+        return CompletableFuture.allOf(beanClasses.stream()
+            .map(beanClass -> CompletableFuture.runAsync(() -> warmUp(beanClass), executor))
+            .toArray(CompletableFuture[]::new));
+    }
+
+    private void warmUp(Class<?> beanClass) {
+        if (validatorContext.getFactory().isClosed() || !visited.add(beanClass)) {
+            return;
+        }
+        final BeanDescriptor bean = validatorContext.getDescriptorManager().getBeanDescriptor(beanClass);
+
+        constraints(bean, ValidationTarget.ANNOTATED_ELEMENT, beanClass);
+        bean.getConstrainedProperties().forEach(this::container);
+        bean.getConstrainedMethods(MethodType.GETTER, MethodType.NON_GETTER).forEach(this::executable);
+        bean.getConstrainedConstructors().forEach(this::executable);
+    }
+
+    private void executable(ExecutableDescriptor executable) {
+        executable.getParameterDescriptors().forEach(this::container);
+        constraints(executable.getCrossParameterDescriptor(), ValidationTarget.PARAMETERS, Object[].class);
+        container(executable.getReturnValueDescriptor());
+    }
+
+    private <D extends ElementDescriptor & CascadableDescriptor & ContainerDescriptor> void container(D container) {
+        if (container == null) {
+            return;
+        }
+        constraints(container, ValidationTarget.ANNOTATED_ELEMENT, container.getElementClass());
+        container.getConstrainedContainerElementTypes().forEach(this::container);
+
+        // the declared type of a cascaded element is most often its runtime type, except for JDK types:
+        final Class<?> elementClass = container.getElementClass();
+        if (container.isCascaded() && elementClass != null && !elementClass.isArray()
+            && elementClass.getClassLoader() != null) {
+            warmUp(elementClass);
+        }
+    }
+
+    private void constraints(ElementDescriptor element, ValidationTarget validationTarget, Class<?> elementClass) {
+        for (ConstraintDescriptor<?> constraint : element.getConstraintDescriptors()) {
+            constraint((ConstraintD<?>) constraint, validationTarget, elementClass);
+        }
+    }
+
+    private void constraint(ConstraintD<?> constraint, ValidationTarget validationTarget, Class<?> elementClass) {
+        final Class<?> validatedType = validationTarget == ValidationTarget.PARAMETERS ? elementClass
+            : ValidationJob.getKnownValidatedType(validatorContext.getValueExtractors(), constraint, elementClass);
+        if (validatedType != null) {
+            ValidationJob.getConstraintValidator(validatorContext, constraint, validationTarget, validatedType);
+        }
+        // composing constraints are validated against the same value:
+        for (ConstraintDescriptor<?> composing : constraint.getComposingConstraints()) {
+            constraint((ConstraintD<?>) composing, validationTarget, elementClass);
+        }
+    }
+}
@@ -41,9 +41,11 @@ public class GraphContext {
     // reads the path only when a violation occurs, so most contexts (e.g. leaf-property values) never build one.
     private PathImpl path;
     private final NodeImpl pendingNode;
-    private final Consumer<PathImpl> pendingMutation;
-    private final Object value;
+    // mutable only for contexts created by reusableChild():
+    private Consumer<PathImpl> pendingMutation;
+    private Object value;
     private final GraphContext parent;
+    private final boolean reusable;
 
     public GraphContext(ApacheFactoryContext validatorContext, PathImpl path, Object value) {
         this(validatorContext, path, value, null, null, null);
@@ -51,7 +53,13 @@ public class GraphContext {
 
     private GraphContext(ApacheFactoryContext validatorContext, PathImpl path, Object value, GraphContext parent,
         NodeImpl pendingNode, Consumer<PathImpl> pendingMutation) {
+        this(validatorContext, path, value, parent, pendingNode, pendingMutation, false);
+    }
+
+    private GraphContext(ApacheFactoryContext validatorContext, PathImpl path, Object value, GraphContext parent,
+        NodeImpl pendingNode, Consumer<PathImpl> pendingMutation, boolean reusable) {
         super();
+        this.reusable = reusable;
         this.validatorContext = validatorContext;
         this.path = path;
         this.value = value;
@@ -70,7 +78,8 @@ public class GraphContext {
 
     /**
      * Return this context's own path instance <b>without copying</b>, materializing it (and, transitively, its
-     * ancestors') on first access. A {@link GraphContext}'s path is never mutated after materialization (all
+     * ancestors') on first access, which costs constant time per context since a copied {@link PathImpl} shares the
+     * nodes of its source. A {@link GraphContext}'s path is never mutated after materialization (all
      * mutating operations go through {@link #getPath()} or {@link #child}, which copy first), so the returned
      * instance is safe to read, compare, or use as a map key. Callers <b>must not</b> mutate it.
      */
@@ -111,6 +120,36 @@ public class GraphContext {
         return new GraphContext(validatorContext, null, value, this, null, pathMutation);
     }
 
+    /**
+     * Create a child context to be {@link #rebind(Consumer, Object) rebound} to a succession of values, e.g. the
+     * values of a bean's leaf properties, to avoid allocating a context per value. Such a context, along with any of
+     * its own children, must not be retained once it has been rebound.
+     *
+     * @return {@link GraphContext}
+     */
+    public GraphContext reusableChild() {
+        return new GraphContext(validatorContext, null, null, this, null, p -> {
+        }, true);
+    }
+
+    /**
+     * Rebind a context obtained from {@link #reusableChild()}.
+     *
+     * @param pathMutation
+     *            as in {@link #child(Consumer, Object)}
+     * @param value
+     * @return {@code this}, fluently
+     */
+    public GraphContext rebind(Consumer<PathImpl> pathMutation, Object value) {
+        if (!reusable) {
+            Exceptions.raise(IllegalStateException::new, "%s is not reusable", this);
+        }
+        this.pendingMutation = pathMutation;
+        this.value = value;
+        this.path = null;
+        return this;
+    }
+
     public boolean isRoot() {
         return parent == null;
     }
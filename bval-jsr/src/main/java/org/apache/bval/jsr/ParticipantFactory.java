@@ -20,9 +20,15 @@ package org.apache.bval.jsr;
 
 import java.io.BufferedReader;
 import java.io.Closeable;
+import java.io.File;
 import java.io.IOException;
 import java.io.InputStreamReader;
+import java.net.JarURLConnection;
+import java.net.URISyntaxException;
 import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
@@ -31,10 +37,14 @@ import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
+import java.util.TreeSet;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import jakarta.validation.ValidationException;
 
@@ -136,8 +146,63 @@ class ParticipantFactory implements Closeable {
         return (comment < 0 ? line : line.substring(0, comment)).trim();
     }
 
+    /**
+     * Load the classes of a package and its subpackages, as found in directories and jar files of the classpath;
+     * classes that cannot be loaded are skipped. The classes are not initialized.
+     */
+    Set<Class<?>> loadPackageClasses(String packageName) {
+        Validate.notNull(packageName);
+        final String path = packageName.replace('.', '/') + '/';
+        final Set<Class<?>> result = new LinkedHashSet<>();
+        for (ClassLoader loader : loaders) {
+            final Set<String> classNames = new TreeSet<>();
+            try {
+                for (Enumeration<URL> urls = loader.getResources(path); urls.hasMoreElements();) {
+                    findClassNames(urls.nextElement(), path, classNames);
+                }
+            } catch (IOException | URISyntaxException e) {
+                log.log(Level.SEVERE, "Error searching for classes of package " + packageName, e);
+            }
+            for (String className : classNames) {
+                try {
+                    result.add(Class.forName(className, false, loader));
+                } catch (ClassNotFoundException | LinkageError e) {
+                    log.log(Level.FINE, e, () -> "Unable to load class " + className);
+                }
+            }
+        }
+        return result;
+    }
+
+    private static void findClassNames(URL url, String path, Set<String> classNames)
+        throws IOException, URISyntaxException {
+        if ("file".equals(url.getProtocol())) {
+            final Path root = Paths.get(url.toURI());
+            try (Stream<Path> files = Files.walk(root)) {
+                files.map(f -> path + root.relativize(f).toString().replace(File.separatorChar, '/'))
+                    .forEach(name -> addClassName(name, classNames));
+            }
+        } else if ("jar".equals(url.getProtocol())) {
+            final JarURLConnection connection = (JarURLConnection) url.openConnection();
+            connection.setUseCaches(false);
+            try (JarFile jar = connection.getJarFile()) {
+                jar.stream().map(JarEntry::getName).filter(name -> name.startsWith(path))
+                    .forEach(name -> addClassName(name, classNames));
+            }
+        } else {
+            log.warning(() -> "Unable to search for classes in " + url);
+        }
+    }
+
+    private static void addClassName(String resourceName, Set<String> classNames) {
+        if (resourceName.endsWith(".class") && !resourceName.endsWith("package-info.class")
+            && !resourceName.endsWith("module-info.class")) {
+            classNames.add(resourceName.substring(0, resourceName.length() - ".class".length()).replace('/', '.'));
+        }
+    }
+
     @SuppressWarnings("unchecked")
-    private <T> Class<T> loadClass(final String className) {
+    <T> Class<T> loadClass(final String className) {
         for (ClassLoader loader : loaders) {
             try {
                 return (Class<T>) Class.forName(className, true, loader);
@@ -0,0 +1,74 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one or more
+ *  contributor license agreements.  See the NOTICE file distributed with
+ *  this work for additional information regarding copyright ownership.
+ *  The ASF licenses this file to You under the Apache License, Version 2.0
+ *  (the "License"); you may not use this file except in compliance with
+ *  the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.apache.bval.jsr;
+
+import java.util.Set;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.ValidationException;
+import jakarta.validation.executable.ExecutableValidator;
+
+/**
+ * Validates the parameters and return values of a single method or constructor for fixed groups, as obtained from
+ * {@link ApacheValidator#prepare(java.lang.reflect.Method, Class...)} or
+ * {@link ApacheValidator#prepare(java.lang.reflect.Constructor, Class...)}. The executable's metadata, parameter
+ * names and groups are resolved once, so that a handle can be kept for each invoked executable and used for every
+ * invocation. Handles are thread-safe and report the same violations as the corresponding methods of
+ * {@link ExecutableValidator}.
+ *
+ * @param <T>
+ *            type hosting the executable
+ * @since 4.0
+ */
+public interface PreparedExecutableValidator<T> {
+
+    /**
+     * Validates all constraints placed on the parameters of the executable.
+     *
+     * @param object
+     *            the object on which the method is invoked; ignored, and may be {@code null}, for a constructor
+     * @param parameterValues
+     *            the values provided by the caller for the executable's parameters
+     * @return constraint violations or an empty {@link Set} if none
+     * @throws IllegalArgumentException
+     *             if {@code object} is {@code null} for a method, or if {@code parameterValues} is {@code null} or
+     *             does not match the executable's parameters
+     * @throws ValidationException
+     *             if a non recoverable error happens during the validation process
+     * @see ExecutableValidator#validateParameters(Object, java.lang.reflect.Method, Object[], Class...)
+     * @see ExecutableValidator#validateConstructorParameters(java.lang.reflect.Constructor, Object[], Class...)
+     */
+    Set<ConstraintViolation<T>> validateParameters(T object, Object[] parameterValues);
+
+    /**
+     * Validates all return value constraints of the executable.
+     *
+     * @param object
+     *            the object on which the method was invoked; ignored, and may be {@code null}, for a constructor
+     * @param returnValue
+     *            the value returned by the method, or the object created by the constructor
+     * @return constraint violations or an empty {@link Set} if none
+     * @throws IllegalArgumentException
+     *             if {@code object} is {@code null} for a method, or if {@code returnValue} is {@code null} for a
+     *             constructor or is not an instance of the executable's return type
+     * @throws ValidationException
+     *             if a non recoverable error happens during the validation process
+     * @see ExecutableValidator#validateReturnValue(Object, java.lang.reflect.Method, Object, Class...)
+     * @see ExecutableValidator#validateConstructorReturnValue(java.lang.reflect.Constructor, Object, Class...)
+     */
+    Set<ConstraintViolation<T>> validateReturnValue(T object, Object returnValue);
+}
@@ -0,0 +1,73 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one or more
+ *  contributor license agreements.  See the NOTICE file distributed with
+ *  this work for additional information regarding copyright ownership.
+ *  The ASF licenses this file to You under the Apache License, Version 2.0
+ *  (the "License"); you may not use this file except in compliance with
+ *  the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.apache.bval.jsr;
+
+import java.util.Set;
+import java.util.function.Consumer;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.ValidationException;
+
+/**
+ * Validates beans of a given type for fixed groups, as obtained from {@link ApacheValidator#prepare(Class, Class...)}.
+ * Handles are thread-safe.
+ *
+ * @param <T>
+ *            bean type
+ * @since 4.0
+ */
+public interface PreparedValidator<T> {
+
+    /**
+     * Get the type of the beans validated by this handle.
+     *
+     * @return {@link Class}
+     */
+    Class<T> getBeanClass();
+
+    /**
+     * Validates all constraints on {@code object}.
+     *
+     * @param object
+     *            object to validate
+     * @return constraint violations or an empty {@link Set} if none
+     * @throws IllegalArgumentException
+     *             if {@code object} is {@code null} or not an instance of {@link #getBeanClass()}
+     * @throws ValidationException
+     *             if a non recoverable error happens during the validation process
+     * @see ApacheValidator#validate(Object, Class...)
+     */
+    Set<ConstraintViolation<T>> validate(T object);
+
+    /**
+     * Validates all constraints on {@code object}, passing each {@link ConstraintViolation} to {@code sink} as soon as
+     * it is found.
+     *
+     * @param object
+     *            object to validate
+     * @param sink
+     *            receives violations
+     * @return number of violations passed to {@code sink}
+     * @throws IllegalArgumentException
+     *             if {@code object} or {@code sink} is {@code null}, or if {@code object} is not an instance of
+     *             {@link #getBeanClass()}
+     * @throws ValidationException
+     *             if a non recoverable error happens during the validation process
+     * @see ApacheValidator#validate(Object, Consumer, Class...)
+     */
+    int validate(T object, Consumer<? super ConstraintViolation<T>> sink);
+}
@@ -22,6 +22,7 @@ import java.lang.reflect.Constructor;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 import java.util.Set;
+import java.util.function.Consumer;
 
 import jakarta.validation.ConstraintViolation;
 import jakarta.validation.ValidationException;
@@ -32,7 +33,7 @@ import org.apache.bval.jsr.job.ValidationJobFactory;
 import org.apache.bval.util.Validate;
 import org.apache.bval.util.reflection.Reflection;
 
-public class ValidatorImpl implements CascadingPropertyValidator, ExecutableValidator {
+public class ValidatorImpl implements ApacheValidator, ExecutableValidator {
 
     private final ApacheFactoryContext validatorContext;
     private final ValidationJobFactory validationJobFactory;
@@ -53,6 +54,33 @@ public class ValidatorImpl implements CascadingPropertyValidator, ExecutableVali
         return validationJobFactory.validateBean(object, groups).getResults();
     }
 
+    @Override
+    public <T> int validate(T object, Consumer<? super ConstraintViolation<T>> sink, Class<?>... groups) {
+        return validationJobFactory.validateBean(object, groups).process(sink);
+    }
+
+    @Override
+    public <T> Set<ConstraintViolation<T>> revalidate(T object, Set<String> changedProperties,
+        Set<ConstraintViolation<T>> previousViolations, Class<?>... groups) {
+        return validationJobFactory.validateBean(object, groups).revalidate(changedProperties, previousViolations)
+            .getResults();
+    }
+
+    @Override
+    public <T> PreparedValidator<T> prepare(Class<T> type, Class<?>... groups) {
+        return validationJobFactory.prepare(type, groups);
+    }
+
+    @Override
+    public <T> PreparedExecutableValidator<T> prepare(Method method, Class<?>... groups) {
+        return validationJobFactory.prepare(method, groups);
+    }
+
+    @Override
+    public <T> PreparedExecutableValidator<T> prepare(Constructor<? extends T> constructor, Class<?>... groups) {
+        return validationJobFactory.prepare(constructor, groups);
+    }
+
     @Override
     public <T> Set<ConstraintViolation<T>> validateProperty(T object, String propertyName, boolean cascade,
         Class<?>... groups) {
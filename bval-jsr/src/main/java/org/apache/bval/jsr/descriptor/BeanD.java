@@ -31,6 +31,7 @@ import jakarta.validation.metadata.MethodDescriptor;
 import jakarta.validation.metadata.MethodType;
 import jakarta.validation.metadata.PropertyDescriptor;
 
+import org.apache.bval.jsr.groups.Group;
 import org.apache.bval.jsr.groups.GroupStrategy;
 import org.apache.bval.jsr.metadata.Signature;
 import org.apache.bval.jsr.util.ToUnmodifiable;
@@ -48,6 +49,7 @@ public class BeanD<T> extends ElementD<Class<T>, MetadataReader.ForBean<T>> impl
     private final Map<Signature, ConstructorD<T>> constructors;
     private final Map<Signature, MethodD> methods;
     private final GroupStrategy groupStrategy;
+    final Map<Group, GroupStrategy> defaultGroupRedefinition;
     
     private final Set<ConstructorDescriptor> constrainedConstructors;
     private final Map<Set<MethodType>, Set<MethodDescriptor>> methodCache = new HashMap<>();
@@ -57,6 +59,8 @@ public class BeanD<T> extends ElementD<Class<T>, MetadataReader.ForBean<T>> impl
         this.beanClass = reader.meta.getHost();
 
         groupStrategy = reader.getGroupStrategy();
+        defaultGroupRedefinition = groupStrategy == null ? Collections.emptyMap()
+            : Collections.singletonMap(Group.DEFAULT, groupStrategy);
         propertiesMap = reader.getProperties(this);
         properties =
             propertiesMap.values().stream().filter(DescriptorManager::isConstrained).collect(ToUnmodifiable.set());
@@ -19,6 +19,7 @@
 package org.apache.bval.jsr.descriptor;
 
 import java.lang.reflect.AnnotatedElement;
+import java.util.Map;
 import java.util.Set;
 
 import jakarta.validation.metadata.CascadableDescriptor;
@@ -26,8 +27,11 @@ import jakarta.validation.metadata.ContainerDescriptor;
 import jakarta.validation.metadata.ContainerElementTypeDescriptor;
 import jakarta.validation.metadata.GroupConversionDescriptor;
 
+import org.apache.bval.jsr.groups.Group;
 import org.apache.bval.jsr.groups.GroupConversion;
+import org.apache.bval.jsr.groups.GroupStrategy;
 import org.apache.bval.jsr.util.ToUnmodifiable;
+import org.apache.bval.util.Lazy;
 import org.apache.bval.util.reflection.TypeUtils;
 
 public abstract class CascadableContainerD<P extends ElementD<?, ?>, E extends AnnotatedElement> extends
@@ -35,6 +39,8 @@ public abstract class CascadableContainerD<P extends ElementD<?, ?>, E extends A
 
     private final boolean cascaded;
     private final Set<GroupConversion> groupConversions;
+    private final Lazy<Map<Group, GroupStrategy>> groupConversionRedefinitions =
+        new Lazy<>(() -> groupsComputer.computeConversions(getGroupConversions()));
     private final Set<ContainerElementTypeDescriptor> containerElementTypes;
 
     protected CascadableContainerD(MetadataReader.ForContainer<E> reader, P parent) {
@@ -63,6 +69,15 @@ public abstract class CascadableContainerD<P extends ElementD<?, ?>, E extends A
         return (Set) groupConversions;
     }
 
+    /**
+     * Get the redefinitions of the groups converted by {@link #getGroupConversions()}, computed once.
+     *
+     * @return unmodifiable {@link Map}
+     */
+    public Map<Group, GroupStrategy> getGroupConversionRedefinitions() {
+        return groupConversionRedefinitions.get();
+    }
+
     @Override
     public Set<ContainerElementTypeDescriptor> getConstrainedContainerElementTypes() {
         return containerElementTypes;
@@ -20,6 +20,8 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 
@@ -31,6 +33,7 @@ import jakarta.validation.metadata.ExecutableDescriptor;
 import jakarta.validation.metadata.MethodType;
 
 import org.apache.bval.jsr.ApacheValidatorFactory;
+import org.apache.bval.jsr.groups.GroupStrategy;
 import org.apache.bval.jsr.metadata.AnnotationBehaviorMergeStrategy;
 import org.apache.bval.jsr.metadata.CompositeBuilder;
 import org.apache.bval.jsr.metadata.DualBuilder;
@@ -38,9 +41,36 @@ import org.apache.bval.jsr.metadata.EmptyBuilder;
 import org.apache.bval.jsr.metadata.HierarchyBuilder;
 import org.apache.bval.jsr.metadata.MetadataBuilder;
 import org.apache.bval.jsr.metadata.ReflectionBuilder;
+import org.apache.bval.util.Cache;
 import org.apache.bval.util.Validate;
 
 public class DescriptorManager {
+    /**
+     * Descriptor being built. Building a descriptor only ever waits for the descriptors of its superclasses, so
+     * threads waiting for each other cannot deadlock.
+     */
+    private class Building extends CompletableFuture<BeanD<?>> {
+        final Thread owner = Thread.currentThread();
+
+        BeanD<?> await(Class<?> beanClass) {
+            if (owner == Thread.currentThread()) {
+                // a thread cannot wait for itself:
+                return build(beanClass);
+            }
+            try {
+                return join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException) {
+                    throw (RuntimeException) e.getCause();
+                }
+                if (e.getCause() instanceof Error) {
+                    throw (Error) e.getCause();
+                }
+                throw e;
+            }
+        }
+    }
+
     public static <D extends ElementDescriptor & CascadableDescriptor & ContainerDescriptor> boolean isConstrained(
         D descriptor) {
         return descriptor != null && (descriptor.hasConstraints() || descriptor.isCascaded()
@@ -57,10 +87,16 @@ public class DescriptorManager {
         return descriptor != null && (descriptor.hasConstrainedParameters() || descriptor.hasConstrainedReturnValue());
     }
 
+    // distinct group strategies validated per bean are few; stop caching plans beyond this many:
+    private static final int MAX_PLANS_PER_BEAN = 32;
+
     private final ApacheValidatorFactory validatorFactory;
-    private final ConcurrentMap<Class<?>, BeanD<?>> beanDescriptors = new ConcurrentHashMap<>();
+    private final Cache<Class<?>, BeanD<?>> beanDescriptors;
     /** Same meaning as {@link BeanDescriptor#isBeanConstrained()} — avoids loading metadata on repeat {@code hasWork} checks. */
-    private final ConcurrentMap<Class<?>, Boolean> beanConstrainedByType = new ConcurrentHashMap<>();
+    private final Cache<Class<?>, Boolean> beanConstrainedByType;
+    private final Cache<Class<?>, ConcurrentMap<GroupStrategy, ValidationPlan<?>>> validationPlans;
+    /** Bean descriptors being built, by the thread that first missed the cache. */
+    private final ConcurrentMap<Class<?>, Building> inFlight = new ConcurrentHashMap<>();
     // synchronization unnecessary
     private final ReflectionBuilder reflectionBuilder;
 
@@ -68,6 +104,9 @@ public class DescriptorManager {
         super();
         this.validatorFactory = Validate.notNull(validatorFactory, "validatorFactory");
         this.reflectionBuilder = new ReflectionBuilder(validatorFactory);
+        this.beanDescriptors = validatorFactory.createCache("beanDescriptors", Class.class);
+        this.beanConstrainedByType = validatorFactory.createCache("beanConstrained", Class.class);
+        this.validationPlans = validatorFactory.createCache("validationPlans", Class.class);
     }
 
     /**
@@ -80,22 +119,68 @@ public class DescriptorManager {
     public <T> BeanDescriptor getBeanDescriptor(Class<T> beanClass) {
         Validate.notNull(beanClass, IllegalArgumentException::new, "beanClass");
 
-        // cannot use computeIfAbsent due to recursion being the usual case:
         final BeanD<?> existing = beanDescriptors.get(beanClass);
         if (existing != null) {
-            beanConstrainedByType.put(beanClass, existing.isBeanConstrained());
             return existing;
         }
-        final BeanD<?> value = new BeanD<>(new MetadataReader(validatorFactory, beanClass).forBean(builder(beanClass)));
-        final BeanD<?> previous = beanDescriptors.putIfAbsent(beanClass, value);
-        final BeanD<?> result = previous == null ? value : previous;
-        beanConstrainedByType.put(beanClass, result.isBeanConstrained());
-        return result;
+        // cannot use computeIfAbsent due to recursion (into superclasses) being the usual case; instead, the first
+        // thread to miss builds the descriptor while any others wait for it:
+        final Building building = new Building();
+        final Building inProgress = inFlight.putIfAbsent(beanClass, building);
+        if (inProgress != null) {
+            return inProgress.await(beanClass);
+        }
+        try {
+            // another thread may have finished building between our cache miss and the above:
+            BeanD<?> result = beanDescriptors.get(beanClass);
+            if (result == null) {
+                result = build(beanClass);
+                beanDescriptors.put(beanClass, result);
+            }
+            beanConstrainedByType.put(beanClass, result.isBeanConstrained());
+            building.complete(result);
+            return result;
+        } catch (RuntimeException | Error e) {
+            building.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(beanClass, building);
+        }
+    }
+
+    /**
+     * Get the (cached) {@link ValidationPlan} for the specified bean descriptor and requested group strategy. At
+     * most {@value #MAX_PLANS_PER_BEAN} plans are cached per bean type; plans for further group strategies are
+     * built on each call.
+     *
+     * @param bean
+     * @param groups
+     * @return {@link ValidationPlan}
+     */
+    @SuppressWarnings("unchecked")
+    public <T> ValidationPlan<T> getValidationPlan(BeanD<T> bean, GroupStrategy groups) {
+        final ConcurrentMap<GroupStrategy, ValidationPlan<?>> byGroups =
+            validationPlans.computeIfAbsent(bean.getElementClass(), k -> new ConcurrentHashMap<>());
+
+        final ValidationPlan<?> existing = byGroups.get(groups);
+        if (existing != null && existing.getBean() == bean) {
+            return (ValidationPlan<T>) existing;
+        }
+        final ValidationPlan<T> plan = new ValidationPlan<>(bean, groups);
+        if (existing != null || byGroups.size() < MAX_PLANS_PER_BEAN) {
+            byGroups.put(groups, plan);
+        }
+        return plan;
     }
 
     public void clear() {
         beanDescriptors.clear();
         beanConstrainedByType.clear();
+        validationPlans.clear();
+    }
+
+    private <T> BeanD<T> build(Class<T> beanClass) {
+        return new BeanD<>(new MetadataReader(validatorFactory, beanClass).forBean(builder(beanClass)));
     }
 
     private <T> MetadataBuilder.ForBean<T> builder(Class<T> beanClass) {
@@ -28,6 +28,7 @@ import java.util.Set;
 import jakarta.validation.metadata.ConstraintDescriptor;
 import jakarta.validation.metadata.ElementDescriptor;
 
+import org.apache.bval.jsr.groups.Group;
 import org.apache.bval.jsr.groups.GroupStrategy;
 import org.apache.bval.jsr.groups.GroupsComputer;
 import org.apache.bval.jsr.metadata.Meta;
@@ -119,6 +120,15 @@ public abstract class ElementD<E extends AnnotatedElement, R extends MetadataRea
 
     public abstract GroupStrategy getGroupStrategy();
 
+    /**
+     * Get the redefinition of the {@link Group#DEFAULT} group by {@link #getGroupStrategy()}.
+     *
+     * @return unmodifiable {@link Map}
+     */
+    public final Map<Group, GroupStrategy> getDefaultGroupRedefinition() {
+        return getBean().defaultGroupRedefinition;
+    }
+
     @Override
     public String toString() {
         return String.format("%s: %s", getClass().getSimpleName(), meta.describeHost());
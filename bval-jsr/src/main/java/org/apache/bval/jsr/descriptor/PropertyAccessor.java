@@ -0,0 +1,197 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one or more
+ *  contributor license agreements.  See the NOTICE file distributed with
+ *  this work for additional information regarding copyright ownership.
+ *  The ASF licenses this file to You under the Apache License, Version 2.0
+ *  (the "License"); you may not use this file except in compliance with
+ *  the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.apache.bval.jsr.descriptor;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.function.Function;
+
+import org.apache.bval.util.reflection.Reflection;
+import org.apache.commons.weaver.privilizer.Privilizing;
+import org.apache.commons.weaver.privilizer.Privilizing.CallTo;
+
+/**
+ * Reads the value of a bean property. An accessor is resolved once, when its {@link PropertyD} is built, so that
+ * property reads during validation do not go through core reflection. Getter methods are bound to a
+ * {@link LambdaMetafactory}-generated {@link Function} where the lookup permits, fields (and getters that cannot be
+ * spun as lambdas) to a {@link MethodHandle}; reflection remains the fallback when no lookup is allowed on the
+ * declaring class. Because generating an accessor is comparatively expensive, unconstrained properties (which are
+ * only read when navigated by property path) use reflection directly.
+ */
+@Privilizing(@CallTo(Reflection.class))
+abstract class PropertyAccessor {
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+
+    static PropertyAccessor of(Field field, boolean generate) {
+        if (generate && !Modifier.isStatic(field.getModifiers())) {
+            try {
+                return new ForHandle(lookup(field.getDeclaringClass()).unreflectGetter(field));
+            } catch (IllegalAccessException | RuntimeException e) {
+                // fall through
+            }
+        }
+        return new ForField(field);
+    }
+
+    static PropertyAccessor of(Method getter, boolean generate) {
+        if (generate && !Modifier.isStatic(getter.getModifiers())) {
+            final MethodHandles.Lookup lookup;
+            final MethodHandle handle;
+            try {
+                lookup = lookup(getter.getDeclaringClass());
+                handle = lookup.unreflect(getter);
+            } catch (IllegalAccessException | RuntimeException e) {
+                return new ForMethod(getter);
+            }
+            try {
+                return new ForFunction(lambda(lookup, handle));
+            } catch (Throwable t) {
+                // e.g. the lookup lacks the full privilege access required to spin a lambda class:
+                return new ForGetterHandle(handle);
+            }
+        }
+        return new ForMethod(getter);
+    }
+
+    private static MethodHandles.Lookup lookup(Class<?> declaringClass) throws IllegalAccessException {
+        return MethodHandles.privateLookupIn(declaringClass, MethodHandles.lookup());
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Function<Object, Object> lambda(MethodHandles.Lookup lookup, MethodHandle getter)
+        throws Throwable {
+        final CallSite site = LambdaMetafactory.metafactory(lookup, "apply", MethodType.methodType(Function.class),
+            GETTER_TYPE, getter, getter.type().wrap());
+        return (Function<Object, Object>) site.getTarget().invoke();
+    }
+
+    /**
+     * Read the property value from {@code bean}.
+     *
+     * @param bean
+     *            non-{@code null}
+     * @return property value
+     * @throws Exception
+     *             on failure; exceptions raised by a getter are reported as the cause of an
+     *             {@link IllegalArgumentException} wrapping an {@link InvocationTargetException}, as with reflection
+     */
+    abstract Object get(Object bean) throws Exception;
+
+    private static class ForFunction extends PropertyAccessor {
+        private final Function<Object, Object> function;
+
+        ForFunction(Function<Object, Object> function) {
+            super();
+            this.function = function;
+        }
+
+        @Override
+        Object get(Object bean) throws Exception {
+            try {
+                return function.apply(bean);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable t) {
+                // checked exceptions sneaked out of the getter:
+                throw new IllegalArgumentException(new InvocationTargetException(t));
+            }
+        }
+    }
+
+    private static class ForHandle extends PropertyAccessor {
+        final MethodHandle handle;
+
+        ForHandle(MethodHandle handle) {
+            super();
+            this.handle = handle.asType(GETTER_TYPE);
+        }
+
+        @Override
+        Object get(Object bean) throws Exception {
+            try {
+                return (Object) handle.invokeExact(bean);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable t) {
+                throw new IllegalArgumentException(t);
+            }
+        }
+    }
+
+    private static class ForGetterHandle extends ForHandle {
+
+        ForGetterHandle(MethodHandle handle) {
+            super(handle);
+        }
+
+        @Override
+        Object get(Object bean) throws Exception {
+            try {
+                return (Object) handle.invokeExact(bean);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable t) {
+                throw new IllegalArgumentException(new InvocationTargetException(t));
+            }
+        }
+    }
+
+    private static class ForField extends PropertyAccessor {
+        private final Field field;
+
+        ForField(Field field) {
+            super();
+            this.field = field;
+        }
+
+        @Override
+        Object get(Object bean) throws Exception {
+            Reflection.makeAccessible(field);
+            try {
+                return field.get(bean);
+            } catch (IllegalAccessException e) {
+                throw new IllegalArgumentException(e);
+            }
+        }
+    }
+
+    private static class ForMethod extends PropertyAccessor {
+        private final Method method;
+
+        ForMethod(Method method) {
+            super();
+            this.method = method;
+        }
+
+        @Override
+        Object get(Object bean) throws Exception {
+            Reflection.makeAccessible(method);
+            try {
+                return method.invoke(bean);
+            } catch (IllegalAccessException | InvocationTargetException e) {
+                throw new IllegalArgumentException(e);
+            }
+        }
+    }
+}
@@ -18,8 +18,8 @@ package org.apache.bval.jsr.descriptor;
 
 import java.lang.reflect.AnnotatedElement;
 import java.lang.reflect.Field;
-import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.util.function.Consumer;
 import java.util.stream.Stream;
 
 import jakarta.validation.ValidationException;
@@ -27,18 +27,17 @@ import jakarta.validation.metadata.PropertyDescriptor;
 
 import org.apache.bval.jsr.GraphContext;
 import org.apache.bval.jsr.util.Methods;
-import org.apache.bval.util.reflection.Reflection;
-import org.apache.commons.weaver.privilizer.Privilizing;
-import org.apache.commons.weaver.privilizer.Privilizing.CallTo;
+import org.apache.bval.jsr.util.PathImpl;
 
-@Privilizing(@CallTo(Reflection.class))
 public abstract class PropertyD<E extends AnnotatedElement> extends CascadableContainerD<BeanD<?>, E>
     implements PropertyDescriptor {
 
     static class ForField extends PropertyD<Field> {
+        private final PropertyAccessor accessor;
 
         ForField(MetadataReader.ForContainer<Field> reader, BeanD<?> parent) {
             super(reader, parent);
+            accessor = PropertyAccessor.of(getTarget(), DescriptorManager.isConstrained(this));
         }
 
         @Override
@@ -48,19 +47,16 @@ public abstract class PropertyD<E extends AnnotatedElement> extends CascadableCo
 
         @Override
         public Object getValue(Object parent) throws Exception {
-            Reflection.makeAccessible(getTarget());
-            try {
-                return getTarget().get(parent);
-            } catch (IllegalAccessException e) {
-                throw new IllegalArgumentException(e);
-            }
+            return accessor.get(parent);
         }
     }
 
     static class ForMethod extends PropertyD<Method> {
+        private final PropertyAccessor accessor;
 
         ForMethod(MetadataReader.ForContainer<Method> reader, BeanD<?> parent) {
             super(reader, parent);
+            accessor = PropertyAccessor.of(getTarget(), DescriptorManager.isConstrained(this));
         }
 
         @Override
@@ -70,15 +66,12 @@ public abstract class PropertyD<E extends AnnotatedElement> extends CascadableCo
 
         @Override
         public Object getValue(Object parent) throws Exception {
-            Reflection.makeAccessible(getTarget());
-            try {
-                return getTarget().invoke(parent);
-            } catch (IllegalAccessException | InvocationTargetException e) {
-                throw new IllegalArgumentException(e);
-            }
+            return accessor.get(parent);
         }
     }
 
+    private final Consumer<PathImpl> addPropertyNode = p -> p.addProperty(getPropertyName());
+
     protected PropertyD(MetadataReader.ForContainer<E> reader, BeanD<?> parent) {
         super(reader, parent);
     }
@@ -87,13 +80,33 @@ public abstract class PropertyD<E extends AnnotatedElement> extends CascadableCo
         if (context.getValue() == null) {
             return Stream.empty();
         }
+        return Stream.of(context.child(addPropertyNode, readValue(context.getValue())));
+    }
+
+    /**
+     * Read the value of this property from {@code parent}, reporting failures as {@link ValidationException}s.
+     *
+     * @param parent
+     *            non-{@code null}
+     * @return property value
+     */
+    public final Object readValue(Object parent) {
         try {
-            final Object value = getValue(context.getValue());
-            return Stream.of(context.child(p -> p.addProperty(getPropertyName()), value));
+            return getValue(parent);
         } catch (Exception e) {
             throw e instanceof ValidationException ? (ValidationException) e : new ValidationException(e);
         }
     }
 
+    /**
+     * Get the (shared) mutation that appends the node of this property to a {@link PathImpl}, suitable for
+     * {@link GraphContext#child(Consumer, Object)}.
+     *
+     * @return {@link Consumer}
+     */
+    public final Consumer<PathImpl> getPathMutation() {
+        return addPropertyNode;
+    }
+
     public abstract Object getValue(Object parent) throws Exception;
 }
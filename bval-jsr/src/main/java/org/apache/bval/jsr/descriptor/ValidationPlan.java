@@ -0,0 +1,353 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one or more
+ *  contributor license agreements.  See the NOTICE file distributed with
+ *  this work for additional information regarding copyright ownership.
+ *  The ASF licenses this file to You under the Apache License, Version 2.0
+ *  (the "License"); you may not use this file except in compliance with
+ *  the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.apache.bval.jsr.descriptor;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.groups.Default;
+import jakarta.validation.metadata.ConstraintDescriptor;
+import jakarta.validation.metadata.PropertyDescriptor;
+
+import org.apache.bval.jsr.ApacheFactoryContext;
+import org.apache.bval.jsr.groups.Group;
+import org.apache.bval.jsr.groups.GroupStrategy;
+import org.apache.bval.util.Exceptions;
+import org.apache.bval.util.Validate;
+
+/**
+ * "Compiled" validation structure of a bean type for a given requested {@link GroupStrategy}. Everything a bean
+ * validation would otherwise rediscover on every call is resolved once: the {@link Default} group redefinition, the
+ * group strategy components ("leaves") visited by {@link GroupStrategy#applyTo}, the flattened constrained
+ * properties, and, per leaf, the bean and property constraints matching that leaf's groups. Instances are cached by
+ * {@link DescriptorManager#getValidationPlan(BeanD, GroupStrategy)} and are safe for concurrent use.
+ *
+ * @param <T>
+ *            bean type
+ */
+public final class ValidationPlan<T> {
+    private static final Constraint[] NO_CONSTRAINTS = {};
+
+    /**
+     * A constraint to evaluate. Its {@link ConstraintValidator} is not memoized here: the validator depends on the
+     * type of each validated value, and plans may outlive the cache of initialized validators.
+     */
+    public static final class Constraint {
+        private final ConstraintD<?> descriptor;
+
+        Constraint(ConstraintD<?> descriptor) {
+            super();
+            this.descriptor = descriptor;
+        }
+
+        public ConstraintD<?> getDescriptor() {
+            return descriptor;
+        }
+    }
+
+    /**
+     * A constrained property step.
+     */
+    public static final class Property {
+        private final PropertyD<?> descriptor;
+        private final Constraint[][] constraints;
+        private final boolean cascaded;
+        private final boolean simple;
+
+        private Property(PropertyD<?> descriptor, Constraint[][] constraints) {
+            super();
+            this.descriptor = descriptor;
+            this.constraints = constraints;
+            this.cascaded = DescriptorManager.isCascaded(descriptor);
+            this.simple = !cascaded && descriptor.getConstrainedContainerElementTypes().isEmpty();
+        }
+
+        public PropertyD<?> getDescriptor() {
+            return descriptor;
+        }
+
+        /**
+         * Get the property constraints matching the leaf at {@code leaf}.
+         *
+         * @param leaf
+         *            as returned by {@link ValidationPlan#leafIndex(GroupStrategy)}
+         * @return {@link Constraint} array, not to be modified
+         */
+        public Constraint[] getConstraints(int leaf) {
+            return constraints[leaf];
+        }
+
+        /**
+         * Learn whether validation may cascade from this property, i.e. whether the property or any of its
+         * container elements is marked for cascading.
+         *
+         * @return {@code boolean}
+         */
+        public boolean isCascaded() {
+            return cascaded;
+        }
+
+        /**
+         * Learn whether this property is validated by its own constraints alone, i.e. it neither cascades nor has
+         * constrained container elements.
+         *
+         * @return {@code boolean}
+         */
+        public boolean isSimple() {
+            return simple;
+        }
+    }
+
+    /**
+     * Check of a bean against every constraint of a plan that builds no validation state, as enabled by
+     * {@link org.apache.bval.jsr.ApacheValidatorConfiguration.Properties#COMPILED_BEAN_VALIDATION}.
+     */
+    @FunctionalInterface
+    public interface CompiledCheck {
+
+        /**
+         * Check {@code bean}.
+         *
+         * @param bean
+         * @param validatorContext
+         *            of the validation being performed
+         * @return {@code null} if {@code bean} is known to be valid, otherwise the {@link Handoff} from which it must
+         *         be validated normally
+         */
+        Handoff check(Object bean, ApacheFactoryContext validatorContext);
+    }
+
+    /**
+     * Point from which a bean that a {@link CompiledCheck} could not tell valid is validated normally: the properties
+     * of the plan before {@link #getProperty()} were found valid, and the value of that property, if already read by
+     * the check, is not read again.
+     */
+    public static final class Handoff {
+        private static final Object UNREAD = new Object();
+
+        /**
+         * Validate the whole bean normally.
+         */
+        public static final Handoff ALL = new Handoff(0, UNREAD);
+
+        private final int property;
+        private final Object value;
+
+        /**
+         * Create a new {@link Handoff} instance.
+         *
+         * @param property
+         *            index of the first property to validate, in {@link ValidationPlan#getProperties()}
+         * @param value
+         *            of that property, as read by the check
+         */
+        public Handoff(int property, Object value) {
+            super();
+            this.property = property;
+            this.value = value;
+        }
+
+        public int getProperty() {
+            return property;
+        }
+
+        /**
+         * Learn whether the value of the property at {@link #getProperty()} was read.
+         *
+         * @return {@code boolean}
+         */
+        public boolean isValueRead() {
+            return value != UNREAD;
+        }
+
+        /**
+         * Get the value of the property at {@link #getProperty()}, as read by the check.
+         *
+         * @return {@link Object}
+         * @throws IllegalStateException
+         *             if not {@link #isValueRead()}
+         */
+        public Object getValue() {
+            Validate.validState(isValueRead(), "value not read");
+            return value;
+        }
+    }
+
+    /**
+     * Learn whether {@code constraint} applies to any of {@code targetGroups}.
+     *
+     * @param constraint
+     * @param targetGroups
+     * @return {@code boolean}
+     */
+    public static boolean matchesGroups(ConstraintD<?> constraint, Set<Group> targetGroups) {
+        final Set<Class<?>> constraintGroups = constraint.getGroups();
+        final boolean impliesDefault = constraintGroups.contains(Default.class);
+        for (final Group target : targetGroups) {
+            final Class<?> g = target.getGroup();
+            if (constraintGroups.contains(g) || impliesDefault && constraint.getDeclaringClass().equals(g)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static Constraint[][] constraints(ElementD<?, ?> descriptor, GroupStrategy[] leaves) {
+        final Constraint[][] result = new Constraint[leaves.length][];
+        for (int i = 0; i < leaves.length; i++) {
+            final Set<Group> targetGroups = leaves[i].getGroups();
+            final List<Constraint> matches = new ArrayList<>();
+            for (final ConstraintDescriptor<?> cd : descriptor.getConstraintDescriptors()) {
+                final ConstraintD<?> constraint = (ConstraintD<?>) cd;
+                if (matchesGroups(constraint, targetGroups)) {
+                    matches.add(new Constraint(constraint));
+                }
+            }
+            result[i] = matches.isEmpty() ? NO_CONSTRAINTS : matches.toArray(NO_CONSTRAINTS);
+        }
+        return result;
+    }
+
+    private final BeanD<T> bean;
+    private final GroupStrategy groupStrategy;
+    private final GroupStrategy[] leaves;
+    private final Constraint[][] constraints;
+    private final List<Property> properties;
+    private final boolean redefining;
+    private volatile CompiledCheck compiledCheck;
+
+    ValidationPlan(BeanD<T> bean, GroupStrategy groups) {
+        super();
+        this.bean = Validate.notNull(bean, "bean");
+        Validate.notNull(groups, "groups");
+
+        groupStrategy = GroupStrategy.redefining(groups, bean.getDefaultGroupRedefinition());
+        redefining = groupStrategy != groups;
+
+        final List<GroupStrategy> leafList = new ArrayList<>();
+        groupStrategy.applyTo(leafList::add);
+        leaves = leafList.toArray(new GroupStrategy[leafList.size()]);
+
+        constraints = constraints(bean, leaves);
+
+        final List<Property> props = new ArrayList<>();
+        for (final PropertyDescriptor pd : bean.getConstrainedProperties()) {
+            ComposedD.forEachUnwrapped(pd, PropertyD.class, d -> props.add(new Property(d, constraints(d, leaves))));
+        }
+        properties = Collections.unmodifiableList(props);
+    }
+
+    public BeanD<T> getBean() {
+        return bean;
+    }
+
+    /**
+     * Get the group strategy to apply to the bean, i.e. the requested strategy with the bean's {@link Default} group
+     * redefinition, if any, applied.
+     *
+     * @return {@link GroupStrategy}
+     */
+    public GroupStrategy getGroupStrategy() {
+        return groupStrategy;
+    }
+
+    /**
+     * Learn whether {@link #getGroupStrategy()} differs from the requested strategy.
+     *
+     * @return {@code boolean}
+     */
+    public boolean isRedefining() {
+        return redefining;
+    }
+
+    /**
+     * Get the number of components visited by {@link GroupStrategy#applyTo} on {@link #getGroupStrategy()}.
+     *
+     * @return {@code int}
+     */
+    public int getLeafCount() {
+        return leaves.length;
+    }
+
+    /**
+     * Get the component visited by {@link GroupStrategy#applyTo} on {@link #getGroupStrategy()} at {@code leaf}.
+     *
+     * @param leaf
+     * @return {@link GroupStrategy}
+     */
+    public GroupStrategy getLeaf(int leaf) {
+        return leaves[leaf];
+    }
+
+    /**
+     * Get the index of a component visited by {@link GroupStrategy#applyTo} on {@link #getGroupStrategy()}.
+     *
+     * @param leaf
+     * @return {@code int}
+     * @throws IllegalStateException
+     *             if {@code leaf} is not a component of {@link #getGroupStrategy()}
+     */
+    public int leafIndex(GroupStrategy leaf) {
+        for (int i = 0; i < leaves.length; i++) {
+            if (leaves[i] == leaf) {
+                return i;
+            }
+        }
+        throw Exceptions.create(IllegalStateException::new, "%s is not a component of %s", leaf, groupStrategy);
+    }
+
+    /**
+     * Get the bean constraints matching the leaf at {@code leaf}.
+     *
+     * @param leaf
+     *            as returned by {@link #leafIndex(GroupStrategy)}
+     * @return {@link Constraint} array, not to be modified
+     */
+    public Constraint[] getConstraints(int leaf) {
+        return constraints[leaf];
+    }
+
+    /**
+     * Get the (unwrapped) constrained properties of the bean, in a stable order.
+     *
+     * @return {@link List} of {@link Property}
+     */
+    public List<Property> getProperties() {
+        return properties;
+    }
+
+    /**
+     * Get the memoized compiled check.
+     *
+     * @return {@link CompiledCheck} or {@code null} if not yet computed
+     */
+    public CompiledCheck getCompiledCheck() {
+        return compiledCheck;
+    }
+
+    /**
+     * Memoize the compiled check computed for this plan.
+     *
+     * @param compiledCheck
+     */
+    public void setCompiledCheck(CompiledCheck compiledCheck) {
+        this.compiledCheck = compiledCheck;
+    }
+}
@@ -83,6 +83,10 @@ public final class Group implements GroupStrategy {
             if (Collections.disjoint(redefinitions.keySet(), groups)) {
                 return this;
             }
+            return this.redefinitions.get(redefinitions, this::redefine);
+        }
+
+        private GroupStrategy redefine(Map<Group, ? extends GroupStrategy> redefinitions) {
             final Set<GroupStrategy> components = new LinkedHashSet<>();
 
             final Set<Group> mappedGroups;
@@ -16,19 +16,19 @@
  */
 package org.apache.bval.jsr.groups;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
-import java.util.stream.Collectors;
-
-import org.apache.bval.jsr.util.ToUnmodifiable;
 
 /**
  * Group strategy interface.
@@ -36,9 +36,12 @@ import org.apache.bval.jsr.util.ToUnmodifiable;
 public interface GroupStrategy {
     public static class Simple implements GroupStrategy {
         private final Set<Group> groups;
+        private final int hash;
+        private final RedefinitionCache redefinitions = new RedefinitionCache();
 
         private Simple(Set<Group> groups) {
             this.groups = groups;
+            this.hash = groups.hashCode();
         }
 
         @Override
@@ -51,13 +54,20 @@ public interface GroupStrategy {
             if (Collections.disjoint(redefinitions.keySet(), groups)) {
                 return this;
             }
-            return groups.stream().map(g -> redefinitions.containsKey(g) ? redefinitions.get(g) : g)
-                .collect(Collectors.collectingAndThen(Collectors.toList(), GroupStrategy::composite));
+            return this.redefinitions.get(redefinitions, this::redefine);
+        }
+
+        private GroupStrategy redefine(Map<Group, ? extends GroupStrategy> redefinitions) {
+            final List<GroupStrategy> components = new ArrayList<>(groups.size());
+            for (Group g : groups) {
+                components.add(redefinitions.containsKey(g) ? redefinitions.get(g) : g);
+            }
+            return composite(components);
         }
 
         @Override
         public int hashCode() {
-            return groups.hashCode();
+            return hash;
         }
 
         @Override
@@ -75,28 +85,44 @@ public interface GroupStrategy {
     public static class Composite implements GroupStrategy {
         private final Set<? extends GroupStrategy> components;
         protected final boolean ordered;
+        private final int hash;
+        private volatile Set<Group> allGroups;
+        final RedefinitionCache redefinitions = new RedefinitionCache();
 
         public Composite(Collection<? extends GroupStrategy> components, boolean ordered) {
             this.components = new LinkedHashSet<>(components);
             this.ordered = ordered;
+            this.hash = Objects.hash(this.components, ordered);
         }
 
         @Override
         public Set<Group> getGroups() {
-            return components.stream().map(GroupStrategy::getGroups).flatMap(Collection::stream)
-                .collect(ToUnmodifiable.set());
+            Set<Group> result = allGroups;
+            if (result == null) {
+                final Set<Group> groups = new LinkedHashSet<>();
+                for (GroupStrategy component : components) {
+                    groups.addAll(component.getGroups());
+                }
+                result = Collections.unmodifiableSet(groups);
+                allGroups = result;
+            }
+            return result;
         }
 
         @Override
         public GroupStrategy redefining(Map<Group, ? extends GroupStrategy> redefinitions) {
-            if (!components.isEmpty()) {
-                final Set<GroupStrategy> redef =
-                    components.stream().map(cmp -> cmp.redefining(redefinitions)).collect(Collectors.toSet());
-                if (!redef.equals(components)) {
-                    return new Composite(redef, ordered);
-                }
+            if (components.isEmpty()) {
+                return this;
             }
-            return this;
+            return this.redefinitions.get(redefinitions, this::redefine);
+        }
+
+        private GroupStrategy redefine(Map<Group, ? extends GroupStrategy> redefinitions) {
+            final Set<GroupStrategy> redef = new LinkedHashSet<>();
+            for (GroupStrategy component : components) {
+                redef.add(component.redefining(redefinitions));
+            }
+            return redef.equals(components) ? this : new Composite(redef, ordered);
         }
 
         @Override
@@ -117,7 +143,7 @@ public interface GroupStrategy {
 
         @Override
         public int hashCode() {
-            return Objects.hash(components, ordered);
+            return hash;
         }
 
         @Override
@@ -154,8 +180,13 @@ public interface GroupStrategy {
     public static GroupStrategy redefining(GroupStrategy source, Map<Group, ? extends GroupStrategy> redefinitions) {
         if (!(redefinitions == null || redefinitions.isEmpty())) {
             if (redefinitions.containsValue(null)) {
-                redefinitions = redefinitions.entrySet().stream().filter(e -> e.getValue() != null)
-                    .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+                final Map<Group, GroupStrategy> nonNull = new HashMap<>();
+                redefinitions.forEach((k, v) -> {
+                    if (v != null) {
+                        nonNull.put(k, v);
+                    }
+                });
+                redefinitions = nonNull;
             }
             if (!redefinitions.isEmpty()) {
                 return source.redefining(redefinitions);
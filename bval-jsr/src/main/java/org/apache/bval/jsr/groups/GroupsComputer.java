@@ -21,6 +21,8 @@ package org.apache.bval.jsr.groups;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -58,9 +60,15 @@ public class GroupsComputer {
         }
     }
 
+    // distinct group arrays are few; stop caching beyond this many:
+    private static final int MAX_COMPUTED_GROUPS = 256;
+
     /** caching resolved groups in a thread-safe map. */
     private final Map<Class<?>, List<Group>> resolvedSequences = new ConcurrentHashMap<>();
 
+    /** computed groups by requested group array, so that equal requests share {@link Groups#asStrategy()}. */
+    private final Map<List<Class<?>>, Groups> computedGroups = new ConcurrentHashMap<>();
+
     /**
      * Compute groups from an array of group classes.
      * 
@@ -74,7 +82,34 @@ public class GroupsComputer {
         if (groups.length == 0 || (groups.length == 1 && groups[0] == Default.class)) {
             return DEFAULT_GROUPS;
         }
-        return computeGroups(Arrays.asList(groups));
+        final List<Class<?>> key = Arrays.asList(groups);
+        Groups result = computedGroups.get(key);
+        if (result == null) {
+            result = computeGroups(key);
+            if (computedGroups.size() < MAX_COMPUTED_GROUPS) {
+                // the caller may reuse its array:
+                computedGroups.putIfAbsent(Arrays.asList(groups.clone()), result);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Compute the redefinitions of the groups converted by {@code groupConversions}.
+     *
+     * @param groupConversions
+     * @return unmodifiable {@link Map} of converted {@link Group} to {@link GroupStrategy}
+     */
+    public Map<Group, GroupStrategy> computeConversions(
+        Collection<? extends GroupConversionDescriptor> groupConversions) {
+        if (groupConversions.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        final Map<Group, GroupStrategy> result = new HashMap<>();
+        for (GroupConversionDescriptor gc : groupConversions) {
+            result.put(Group.of(gc.getFrom()), computeGroups(gc.getTo()).asStrategy());
+        }
+        return Collections.unmodifiableMap(result);
     }
 
     /**
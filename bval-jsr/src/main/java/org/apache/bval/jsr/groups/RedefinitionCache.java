@@ -0,0 +1,68 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.bval.jsr.groups;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+
+/**
+ * Memoizes the strategies a {@link GroupStrategy} is redefined to, by redefinition map, so that a strategy validated
+ * repeatedly, e.g. against the {@link Group#DEFAULT} redefinition of a bean or the group conversions of a cascaded
+ * property, is redefined only once per map. Thread-safe.
+ */
+final class RedefinitionCache {
+    // redefinitions are keyed by few distinct maps; stop caching beyond this many:
+    private static final int MAX_SIZE = 64;
+
+    private volatile ConcurrentMap<Map<Group, ? extends GroupStrategy>, GroupStrategy> results;
+
+    /**
+     * Get the memoized redefinition of a strategy by {@code redefinitions}, computing it if absent.
+     *
+     * @param redefinitions
+     * @param redefine
+     *            computes the redefinition
+     * @return {@link GroupStrategy}
+     */
+    GroupStrategy get(Map<Group, ? extends GroupStrategy> redefinitions,
+        Function<Map<Group, ? extends GroupStrategy>, GroupStrategy> redefine) {
+        ConcurrentMap<Map<Group, ? extends GroupStrategy>, GroupStrategy> cache = results;
+        if (cache != null) {
+            final GroupStrategy result = cache.get(redefinitions);
+            if (result != null) {
+                return result;
+            }
+        }
+        final GroupStrategy result = redefine.apply(redefinitions);
+        if (cache == null) {
+            synchronized (this) {
+                cache = results;
+                if (cache == null) {
+                    results = cache = new ConcurrentHashMap<>();
+                }
+            }
+        }
+        if (cache.size() < MAX_SIZE) {
+            // the caller may reuse its map:
+            cache.putIfAbsent(new HashMap<>(redefinitions), result);
+        }
+        return result;
+    }
+}
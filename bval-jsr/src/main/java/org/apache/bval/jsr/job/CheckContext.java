@@ -0,0 +1,95 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.bval.jsr.job;
+
+import jakarta.validation.ClockProvider;
+import jakarta.validation.ConstraintValidatorContext;
+import jakarta.validation.ValidationException;
+
+import org.apache.bval.jsr.ApacheFactoryContext;
+import org.apache.bval.jsr.descriptor.ConstraintD;
+import org.apache.bval.util.Validate;
+
+/**
+ * {@link ConstraintValidatorContext} of a compiled check, which only needs to provide what valid values are checked
+ * against: a validator building a custom violation has found the value invalid, and normal validation will build it
+ * again. One instance serves a single check of a single bean.
+ *
+ * @since 4.0
+ */
+public final class CheckContext implements ConstraintValidatorContext {
+
+    /**
+     * Thrown when a validator builds a custom violation, which only normal validation can report.
+     */
+    static class CustomViolation extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+        static final CustomViolation INSTANCE = new CustomViolation();
+
+        private CustomViolation() {
+            super(null, null, false, false);
+        }
+    }
+
+    private final ApacheFactoryContext validatorContext;
+    ConstraintD<?> constraint;
+
+    /**
+     * Create a new {@link CheckContext} instance.
+     *
+     * @param validatorContext
+     *            of the validation being performed
+     */
+    public CheckContext(ApacheFactoryContext validatorContext) {
+        super();
+        this.validatorContext = Validate.notNull(validatorContext, "validatorContext");
+    }
+
+    ApacheFactoryContext getValidatorContext() {
+        return validatorContext;
+    }
+
+    @Override
+    public void disableDefaultConstraintViolation() {
+        // no violations are reported
+    }
+
+    @Override
+    public String getDefaultConstraintMessageTemplate() {
+        return constraint.getMessageTemplate();
+    }
+
+    @Override
+    public ClockProvider getClockProvider() {
+        return validatorContext.getClockProvider();
+    }
+
+    @Override
+    public ConstraintViolationBuilder buildConstraintViolationWithTemplate(String messageTemplate) {
+        throw CustomViolation.INSTANCE;
+    }
+
+    @Override
+    public <T> T unwrap(Class<T> type) {
+        if (type.isInstance(this)) {
+            return type.cast(this);
+        }
+        throw new ValidationException("Type " + type + " not supported");
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.bval.jsr.job;
+
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ValidationException;
+import jakarta.validation.constraintvalidation.ValidationTarget;
+
+import org.apache.bval.constraints.NotNullValidator;
+import org.apache.bval.jsr.ApacheFactoryContext;
+import org.apache.bval.jsr.ConstraintCached;
+import org.apache.bval.jsr.descriptor.ConstraintD;
+import org.apache.bval.jsr.descriptor.PropertyD;
+
+/**
+ * A property checked by a compiled check, with the built-in constraints it is checked against. It holds no
+ * {@link ConstraintValidator}s, which belong to the (bounded) cache of the factory: they are looked up on each check,
+ * against the context of the validation being performed.
+ *
+ * @since 4.0
+ */
+public final class CheckedProperty {
+    private static final String BUILT_IN_VALIDATORS = NotNullValidator.class.getPackage().getName() + '.';
+
+    /**
+     * Get the built-in validator of {@code constraint} for values of {@code validatedType}.
+     *
+     * @return {@link ConstraintValidator} or {@code null} if configuration selects another
+     */
+    static ConstraintValidator<?, ?> validator(ApacheFactoryContext validatorContext, ConstraintD<?> constraint,
+        Class<?> validatedType) {
+        final ConstraintCached.ConstraintValidators cached =
+            validatorContext.getConstraintsCache().getValidators().get(constraint);
+        ConstraintValidator<?, ?> result = cached == null ? null : cached.get(validatedType);
+        if (result == null) {
+            result = ValidationJob.getConstraintValidator(validatorContext, constraint,
+                ValidationTarget.ANNOTATED_ELEMENT, validatedType);
+        }
+        // validators replaced by configuration may do anything with their context:
+        return result != null && result.getClass().getName().startsWith(BUILT_IN_VALIDATORS) ? result : null;
+    }
+
+    private final int index;
+    private final PropertyD<?> descriptor;
+    private final ConstraintD<?>[] constraints;
+    private final Class<?>[] validatedTypes;
+
+    CheckedProperty(int index, PropertyD<?> descriptor, ConstraintD<?>[] constraints, Class<?>[] validatedTypes) {
+        super();
+        this.index = index;
+        this.descriptor = descriptor;
+        this.constraints = constraints;
+        this.validatedTypes = validatedTypes;
+    }
+
+    /**
+     * Get the index of this property among those of the validation plan.
+     *
+     * @return {@code int}
+     */
+    public int getIndex() {
+        return index;
+    }
+
+    public PropertyD<?> getDescriptor() {
+        return descriptor;
+    }
+
+    /**
+     * Learn whether {@code value}, read from this property, satisfies all of its constraints.
+     *
+     * @param value
+     * @param context
+     *            of the current check
+     * @return {@code false} if a constraint is not satisfied, or if its validator is not built-in, so that the bean
+     *         must be validated normally
+     * @throws ValidationException
+     *             if a validator fails, as normal validation would
+     */
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    public boolean isValid(Object value, CheckContext context) {
+        for (int i = 0; i < constraints.length; i++) {
+            final ConstraintValidator validator =
+                validator(context.getValidatorContext(), constraints[i], validatedTypes[i]);
+            if (validator == null) {
+                return false;
+            }
+            context.constraint = constraints[i];
+            final boolean valid;
+            try {
+                valid = validator.isValid(value, context);
+            } catch (CheckContext.CustomViolation e) {
+                return false;
+            } catch (ValidationException e) {
+                throw e;
+            } catch (Exception e) {
+                throw new ValidationException(e);
+            }
+            if (!valid) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.bval.jsr.job;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.apache.bval.jsr.ApacheFactoryContext;
+import org.apache.bval.jsr.descriptor.ConstraintD;
+import org.apache.bval.jsr.descriptor.PropertyD;
+import org.apache.bval.jsr.descriptor.ValidationPlan;
+
+/**
+ * {@link ValidationPlan.CompiledCheck} of a plan that has a single group strategy component, no bean constraints,
+ * and only simple properties whose constraints are built-in, non-composed constraints on values of a type known in
+ * advance: the check reads each such property and calls the validators of its constraints directly, with no paths,
+ * frames or violations built. It stops at the first property failing a constraint, from which normal validation
+ * takes over with the value already read. Plans not meeting these conditions are compiled to {@link #REJECT}.
+ */
+final class CompiledBeanCheck implements ValidationPlan.CompiledCheck {
+    static final ValidationPlan.CompiledCheck REJECT = (bean, validatorContext) -> ValidationPlan.Handoff.ALL;
+
+    private static final Logger log = Logger.getLogger(CompiledBeanCheck.class.getName());
+    private static final String BUILT_IN_CONSTRAINTS = "jakarta.validation.constraints.";
+
+    /**
+     * Compile {@code plan}, using the {@link CompiledCheckGenerator} of the factory, if any.
+     *
+     * @param plan
+     * @param validatorContext
+     * @return {@link ValidationPlan.CompiledCheck}
+     */
+    static ValidationPlan.CompiledCheck compile(ValidationPlan<?> plan, ApacheFactoryContext validatorContext) {
+        if (plan.getLeafCount() != 1 || plan.getConstraints(0).length > 0) {
+            return REJECT;
+        }
+        final List<CheckedProperty> properties = new ArrayList<>();
+
+        final List<ValidationPlan.Property> planned = plan.getProperties();
+        for (int p = 0; p < planned.size(); p++) {
+            final ValidationPlan.Property property = planned.get(p);
+            // a cascaded property may have nothing to validate but its value:
+            if (!property.isSimple()) {
+                return REJECT;
+            }
+            final ValidationPlan.Constraint[] propertyConstraints = property.getConstraints(0);
+            if (propertyConstraints.length == 0) {
+                continue;
+            }
+            final ConstraintD<?>[] checked = new ConstraintD<?>[propertyConstraints.length];
+            final Class<?>[] types = new Class<?>[propertyConstraints.length];
+            for (int i = 0; i < propertyConstraints.length; i++) {
+                checked[i] = propertyConstraints[i].getDescriptor();
+                types[i] = validatedType(checked[i], property.getDescriptor(), validatorContext);
+                if (types[i] == null) {
+                    return REJECT;
+                }
+            }
+            properties.add(new CheckedProperty(p, property.getDescriptor(), checked, types));
+        }
+        final CheckedProperty[] checkedProperties = properties.toArray(new CheckedProperty[properties.size()]);
+
+        final CompiledCheckGenerator generator = validatorContext.getFactory().getCompiledCheckGenerator();
+        if (generator != null) {
+            final Class<?> beanClass = plan.getBean().getElementClass();
+            try {
+                final ValidationPlan.CompiledCheck generated = generator.generate(beanClass, checkedProperties);
+                if (generated != null) {
+                    return generated;
+                }
+            } catch (RuntimeException | LinkageError e) {
+                log.log(Level.FINE, e, () -> "Unable to generate the compiled check of " + beanClass);
+            }
+        }
+        return new CompiledBeanCheck(checkedProperties);
+    }
+
+    private static Class<?> validatedType(ConstraintD<?> constraint, PropertyD<?> property,
+        ApacheFactoryContext validatorContext) {
+        if (!constraint.getComposingConstraints().isEmpty()
+            || !constraint.getAnnotation().annotationType().getName().startsWith(BUILT_IN_CONSTRAINTS)) {
+            return null;
+        }
+        final Class<?> result = ValidationJob.getKnownValidatedType(
+            validatorContext.getFactory().getValueExtractors(), constraint, property.getElementClass());
+        if (result == null) {
+            return null;
+        }
+        try {
+            return CheckedProperty.validator(validatorContext, constraint, result) == null ? null : result;
+        } catch (RuntimeException e) {
+            // let normal validation report the failure:
+            return null;
+        }
+    }
+
+    private final CheckedProperty[] properties;
+
+    private CompiledBeanCheck(CheckedProperty[] properties) {
+        super();
+        this.properties = properties;
+    }
+
+    @Override
+    public ValidationPlan.Handoff check(Object bean, ApacheFactoryContext validatorContext) {
+        return CompiledCheckGenerator.interpret(properties, bean, new CheckContext(validatorContext));
+    }
+}
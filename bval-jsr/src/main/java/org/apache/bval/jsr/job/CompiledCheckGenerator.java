@@ -0,0 +1,63 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.bval.jsr.job;
+
+import org.apache.bval.jsr.descriptor.ValidationPlan;
+
+/**
+ * Generates the {@link ValidationPlan.CompiledCheck} of a bean class, e.g. as bytecode, in place of the check
+ * interpreting its {@link CheckedProperty} list; configured by
+ * {@link org.apache.bval.jsr.ApacheValidatorConfiguration.Properties#COMPILED_CHECK_GENERATOR}. A generated check
+ * must behave as {@link #interpret(CheckedProperty[], Object, CheckContext)}.
+ *
+ * @since 4.0
+ */
+@FunctionalInterface
+public interface CompiledCheckGenerator {
+
+    /**
+     * Check {@code bean} as the default, interpreted compiled check does: read each property in turn, stopping at
+     * the first one whose value is not valid.
+     *
+     * @param properties
+     * @param bean
+     * @param context
+     * @return {@link ValidationPlan.Handoff} or {@code null} if {@code bean} is valid
+     */
+    static ValidationPlan.Handoff interpret(CheckedProperty[] properties, Object bean, CheckContext context) {
+        for (final CheckedProperty property : properties) {
+            // fails as normal validation would:
+            final Object value = property.getDescriptor().readValue(bean);
+            if (!property.isValid(value, context)) {
+                return new ValidationPlan.Handoff(property.getIndex(), value);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Generate the check of {@code beanClass} against {@code properties}.
+     *
+     * @param beanClass
+     * @param properties
+     *            in plan order
+     * @return {@link ValidationPlan.CompiledCheck} or {@code null} to interpret {@code properties}
+     */
+    ValidationPlan.CompiledCheck generate(Class<?> beanClass, CheckedProperty[] properties);
+}
@@ -18,8 +18,8 @@
  */
 package org.apache.bval.jsr.job;
 
-import java.util.HashSet;
-import java.util.Set;
+import java.util.ArrayList;
+import java.util.List;
 
 import jakarta.validation.ClockProvider;
 import jakarta.validation.ConstraintValidatorContext;
@@ -40,7 +40,6 @@ import org.apache.bval.jsr.util.NodeBuilderDefinedContextImpl;
 import org.apache.bval.jsr.util.NodeImpl;
 import org.apache.bval.jsr.util.PathImpl;
 import org.apache.bval.util.Exceptions;
-import org.apache.bval.util.Lazy;
 import org.apache.bval.util.Validate;
 
 public class ConstraintValidatorContextImpl<T> implements ConstraintValidatorContext, ApacheMessageContext {
@@ -134,10 +133,12 @@ public class ConstraintValidatorContextImpl<T> implements ConstraintValidatorCon
         }
     }
 
-    private final ValidationJob<T>.Frame<?> frame;
-    private final ConstraintD<?> constraint;
-    private final Lazy<Set<ConstraintViolation<T>>> violations = new Lazy<>(HashSet::new);
+    private ValidationJob<T>.Frame<?> frame;
+    private ConstraintD<?> constraint;
+    // collected as a list, so that streamed violations need not be hashed; a Set result de-duplicates them:
+    private List<ConstraintViolation<T>> violations;
     private boolean defaultConstraintViolationDisabled;
+    private boolean exposed;
 
     ConstraintValidatorContextImpl(ValidationJob<T>.Frame<?> frame, ConstraintD<?> constraint) {
         super();
@@ -145,6 +146,32 @@ public class ConstraintValidatorContextImpl<T> implements ConstraintValidatorCon
         this.constraint = Validate.notNull(constraint, "constraint");
     }
 
+    /**
+     * Prepare this context for the evaluation of another constraint. Only contexts that are
+     * {@link #isReusable() reusable} may be reset; arguments are assumed non-{@code null}.
+     *
+     * @param frame
+     * @param constraint
+     * @return {@code this}, fluently
+     */
+    ConstraintValidatorContextImpl<T> reset(ValidationJob<T>.Frame<?> frame, ConstraintD<?> constraint) {
+        this.frame = frame;
+        this.constraint = constraint;
+        this.defaultConstraintViolationDisabled = false;
+        return this;
+    }
+
+    /**
+     * Learn whether this context can be {@link #reset(ValidationJob.Frame, ConstraintD) reset} for another
+     * constraint evaluation, i.e. whether it has neither recorded any violation nor handed out a violation builder
+     * that still refers to it.
+     *
+     * @return {@code boolean}
+     */
+    boolean isReusable() {
+        return violations == null && !exposed;
+    }
+
     @Override
     public void disableDefaultConstraintViolation() {
         this.defaultConstraintViolationDisabled = true;
@@ -157,6 +184,7 @@ public class ConstraintValidatorContextImpl<T> implements ConstraintValidatorCon
 
     @Override
     public ConstraintViolationBuilder buildConstraintViolationWithTemplate(String messageTemplate) {
+        exposed = true;
         return new ConstraintViolationBuilderImpl(messageTemplate, frame.context.getPath());
     }
 
@@ -178,14 +206,14 @@ public class ConstraintValidatorContextImpl<T> implements ConstraintValidatorCon
         return frame;
     }
 
-    Set<ConstraintViolation<T>> getRequiredViolations() {
-        if (!violations.optional().isPresent()) {
+    List<ConstraintViolation<T>> getRequiredViolations() {
+        if (violations == null) {
             if (defaultConstraintViolationDisabled) {
                 Exceptions.raise(ValidationException::new, "Expected custom constraint violation(s)");
             }
             addError(getDefaultConstraintMessageTemplate(), frame.context.getPath());
         }
-        return violations.get();
+        return violations;
     }
 
     @Override
@@ -200,7 +228,10 @@ public class ConstraintValidatorContextImpl<T> implements ConstraintValidatorCon
 
     @SuppressWarnings({ "unchecked", "rawtypes" })
     private void addError(String messageTemplate, PathImpl propertyPath) {
-        violations.get().add(((ValidationJob) frame.getJob()).createViolation(messageTemplate, this, propertyPath));
+        if (violations == null) {
+            violations = new ArrayList<>();
+        }
+        violations.add(((ValidationJob) frame.getJob()).createViolation(messageTemplate, this, propertyPath));
     }
 
     @Override
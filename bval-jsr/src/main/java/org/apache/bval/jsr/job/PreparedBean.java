@@ -0,0 +1,116 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one or more
+ *  contributor license agreements.  See the NOTICE file distributed with
+ *  this work for additional information regarding copyright ownership.
+ *  The ASF licenses this file to You under the Apache License, Version 2.0
+ *  (the "License"); you may not use this file except in compliance with
+ *  the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.apache.bval.jsr.job;
+
+import java.util.Set;
+import java.util.function.Consumer;
+
+import jakarta.validation.ConstraintViolation;
+
+import org.apache.bval.jsr.ApacheFactoryContext;
+import org.apache.bval.jsr.PreparedValidator;
+import org.apache.bval.jsr.descriptor.BeanD;
+import org.apache.bval.jsr.descriptor.DescriptorManager;
+import org.apache.bval.jsr.descriptor.ValidationPlan;
+import org.apache.bval.jsr.groups.GroupStrategy;
+import org.apache.bval.jsr.groups.Groups;
+import org.apache.bval.jsr.util.Proxies;
+import org.apache.bval.util.Exceptions;
+import org.apache.bval.util.Validate;
+
+/**
+ * {@link PreparedValidator} implementation: holds the groups, and the descriptor and validation plan of the most
+ * recently validated bean class, for the {@link ValidateBean} jobs it creates.
+ *
+ * @param <T>
+ *            bean type
+ */
+public class PreparedBean<T> implements PreparedValidator<T> {
+
+    /**
+     * What a {@link ValidateBean} job needs to know about a given bean class.
+     */
+    static final class Resolved<T> {
+        final Class<?> beanClass;
+        final BeanD<T> descriptor;
+        final boolean constrained;
+        final ValidationPlan<T> plan;
+
+        @SuppressWarnings("unchecked")
+        Resolved(DescriptorManager descriptorManager, Class<?> beanClass, GroupStrategy groups) {
+            super();
+            this.beanClass = beanClass;
+            this.descriptor = (BeanD<T>) descriptorManager.getBeanDescriptor(Proxies.classFor(beanClass));
+            this.constrained = descriptor.isBeanConstrained();
+            this.plan = descriptorManager.getValidationPlan(descriptor, groups);
+        }
+    }
+
+    final ApacheFactoryContext validatorContext;
+    final Groups groups;
+    final GroupStrategy groupStrategy;
+
+    private final Class<T> type;
+    // the bean class most recently validated; a prepared validator is usually given instances of a single class:
+    private volatile Resolved<T> resolved;
+
+    PreparedBean(ApacheFactoryContext validatorContext, Class<T> type, Class<?>[] groups) {
+        super();
+        this.validatorContext = Validate.notNull(validatorContext, "validatorContext");
+        this.type = Validate.notNull(type, IllegalArgumentException::new, "type");
+        this.groups = validatorContext.getGroupsComputer().computeGroups(groups);
+        this.groupStrategy = this.groups.asStrategy();
+        this.resolved = new Resolved<>(validatorContext.getDescriptorManager(), type, groupStrategy);
+    }
+
+    @Override
+    public Class<T> getBeanClass() {
+        return type;
+    }
+
+    @Override
+    public Set<ConstraintViolation<T>> validate(T object) {
+        return validateBean(object).getResults();
+    }
+
+    @Override
+    public int validate(T object, Consumer<? super ConstraintViolation<T>> sink) {
+        return validateBean(object).process(sink);
+    }
+
+    /**
+     * Create the job validating {@code bean}.
+     *
+     * @param bean
+     * @return {@link ValidateBean}
+     */
+    public ValidateBean<T> validateBean(T bean) {
+        Validate.notNull(bean, IllegalArgumentException::new, "bean");
+        Exceptions.raiseUnless(type.isInstance(bean), IllegalArgumentException::new, "%s is not an instance of %s",
+            bean, type);
+        return new ValidateBean<>(this, bean);
+    }
+
+    Resolved<T> resolve(Class<?> beanClass) {
+        Resolved<T> result = resolved;
+        if (result.beanClass != beanClass) {
+            result = new Resolved<>(validatorContext.getDescriptorManager(), beanClass, groupStrategy);
+            resolved = result;
+        }
+        return result;
+    }
+}
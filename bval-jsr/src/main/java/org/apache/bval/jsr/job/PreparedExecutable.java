@@ -0,0 +1,214 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one or more
+ *  contributor license agreements.  See the NOTICE file distributed with
+ *  this work for additional information regarding copyright ownership.
+ *  The ASF licenses this file to You under the Apache License, Version 2.0
+ *  (the "License"); you may not use this file except in compliance with
+ *  the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.apache.bval.jsr.job;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Executable;
+import java.lang.reflect.Method;
+import java.lang.reflect.Type;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.ParameterNameProvider;
+import jakarta.validation.Path;
+import jakarta.validation.metadata.ExecutableDescriptor;
+
+import org.apache.bval.jsr.ApacheFactoryContext;
+import org.apache.bval.jsr.PreparedExecutableValidator;
+import org.apache.bval.jsr.groups.GroupStrategy;
+import org.apache.bval.jsr.groups.Groups;
+import org.apache.bval.jsr.metadata.Meta;
+import org.apache.bval.jsr.util.NodeImpl;
+import org.apache.bval.jsr.util.PathImpl;
+import org.apache.bval.util.Lazy;
+import org.apache.bval.util.Validate;
+
+/**
+ * {@link PreparedExecutableValidator} implementation: holds whatever the validation of an executable's parameters
+ * or return value needs regardless of the invocation, and creates the {@link ValidateParameters} and
+ * {@link ValidateReturnValue} jobs for each invocation.
+ *
+ * @param <E>
+ *            executable type
+ * @param <T>
+ *            type hosting the executable
+ */
+public abstract class PreparedExecutable<E extends Executable, T> implements PreparedExecutableValidator<T> {
+
+    public static class ForMethod<T> extends PreparedExecutable<Method, T> {
+        private static class Described {
+            final Class<?> beanClass;
+            final ExecutableDescriptor descriptor;
+
+            Described(Class<?> beanClass, ExecutableDescriptor descriptor) {
+                super();
+                this.beanClass = beanClass;
+                this.descriptor = descriptor;
+            }
+        }
+
+        // the descriptor for the most recent class of object; a method is usually invoked on a single class:
+        private volatile Described described;
+
+        ForMethod(ApacheFactoryContext validatorContext, Method method, Class<?>[] groups) {
+            super(validatorContext,
+                new Meta.ForMethod(Validate.notNull(method, IllegalArgumentException::new, "null method")), groups);
+        }
+
+        @Override
+        public ValidateParameters.ForMethod<T> parameters(T object, Object[] parameterValues) {
+            return new ValidateParameters.ForMethod<>(this, object, parameterValues);
+        }
+
+        @Override
+        public ValidateReturnValue.ForMethod<T> returnValue(T object, Object returnValue) {
+            return new ValidateReturnValue.ForMethod<>(this, object, returnValue);
+        }
+
+        @Override
+        ExecutableDescriptor describe(T object) {
+            final Class<?> beanClass = object.getClass();
+            Described result = described;
+            if (result == null || result.beanClass != beanClass) {
+                result = new Described(beanClass, validatorContext.getDescriptorManager().getBeanDescriptor(beanClass)
+                    .getConstraintsForMethod(executable.getName(), parameterTypes));
+                described = result;
+            }
+            return result.descriptor;
+        }
+
+        @Override
+        Path.Node createNode() {
+            return new NodeImpl.MethodNodeImpl(executable.getName(), Arrays.asList(parameterTypes));
+        }
+
+        @Override
+        List<String> getParameterNames(ParameterNameProvider parameterNameProvider) {
+            return parameterNameProvider.getParameterNames(executable);
+        }
+    }
+
+    public static class ForConstructor<T> extends PreparedExecutable<Constructor<? extends T>, T> {
+        private final Lazy<ExecutableDescriptor> descriptor;
+
+        ForConstructor(ApacheFactoryContext validatorContext, Constructor<? extends T> constructor,
+            Class<?>[] groups) {
+            super(validatorContext, new Meta.ForConstructor<>(
+                Validate.notNull(constructor, IllegalArgumentException::new, "null ctor")), groups);
+            descriptor = new Lazy<>(() -> validatorContext.getDescriptorManager()
+                .getBeanDescriptor(executable.getDeclaringClass()).getConstraintsForConstructor(parameterTypes));
+        }
+
+        @Override
+        public ValidateParameters.ForConstructor<T> parameters(T object, Object[] parameterValues) {
+            return new ValidateParameters.ForConstructor<>(this, parameterValues);
+        }
+
+        @Override
+        public ValidateReturnValue.ForConstructor<T> returnValue(T object, Object returnValue) {
+            return new ValidateReturnValue.ForConstructor<>(this, returnValue);
+        }
+
+        @Override
+        ExecutableDescriptor describe(T object) {
+            return descriptor.get();
+        }
+
+        @Override
+        Path.Node createNode() {
+            return new NodeImpl.ConstructorNodeImpl(executable.getDeclaringClass().getSimpleName(),
+                Arrays.asList(parameterTypes));
+        }
+
+        @Override
+        List<String> getParameterNames(ParameterNameProvider parameterNameProvider) {
+            return parameterNameProvider.getParameterNames(executable);
+        }
+    }
+
+    final ApacheFactoryContext validatorContext;
+    final Meta<E> meta;
+    final E executable;
+    final Groups groups;
+    final GroupStrategy groupStrategy;
+    final Class<?>[] parameterTypes;
+    final Type[] genericParameterTypes;
+    final Lazy<List<String>> parameterNames;
+
+    // copied, never modified:
+    private final Lazy<PathImpl> basePath;
+
+    PreparedExecutable(ApacheFactoryContext validatorContext, Meta<E> meta, Class<?>[] groups) {
+        super();
+        this.validatorContext = Validate.notNull(validatorContext, "validatorContext");
+        this.meta = Validate.notNull(meta, IllegalArgumentException::new, "meta");
+        this.executable = meta.getHost();
+        this.groups = validatorContext.getGroupsComputer().computeGroups(groups);
+        this.groupStrategy = this.groups.asStrategy();
+        this.parameterTypes = executable.getParameterTypes();
+        this.genericParameterTypes = executable.getGenericParameterTypes();
+        this.parameterNames = new Lazy<>(() -> getParameterNames(validatorContext.getParameterNameProvider()));
+        this.basePath = new Lazy<>(() -> PathImpl.create().addNode(createNode()));
+    }
+
+    @Override
+    public Set<ConstraintViolation<T>> validateParameters(T object, Object[] parameterValues) {
+        return parameters(object, parameterValues).getResults();
+    }
+
+    @Override
+    public Set<ConstraintViolation<T>> validateReturnValue(T object, Object returnValue) {
+        return returnValue(object, returnValue).getResults();
+    }
+
+    /**
+     * Create the job validating the parameters of an invocation.
+     *
+     * @param object
+     *            ignored for a constructor
+     * @param parameterValues
+     * @return {@link ValidateParameters}
+     */
+    public abstract ValidateParameters<E, T> parameters(T object, Object[] parameterValues);
+
+    /**
+     * Create the job validating the return value of an invocation.
+     *
+     * @param object
+     *            ignored for a constructor
+     * @param returnValue
+     * @return {@link ValidateReturnValue}
+     */
+    public abstract ValidateReturnValue<E, T> returnValue(T object, Object returnValue);
+
+    /**
+     * Get the path of the executable, which callers must copy rather than modify.
+     *
+     * @return {@link PathImpl}
+     */
+    PathImpl basePath() {
+        return basePath.get();
+    }
+
+    abstract ExecutableDescriptor describe(T object);
+
+    abstract Path.Node createNode();
+
+    abstract List<String> getParameterNames(ParameterNameProvider parameterNameProvider);
+}
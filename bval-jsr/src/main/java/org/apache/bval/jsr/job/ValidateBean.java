@@ -18,31 +18,86 @@
  */
 package org.apache.bval.jsr.job;
 
+import java.util.Iterator;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.ElementKind;
+import jakarta.validation.Path;
+
 import org.apache.bval.jsr.ApacheFactoryContext;
 import org.apache.bval.jsr.ConstraintViolationImpl;
 import org.apache.bval.jsr.GraphContext;
 import org.apache.bval.jsr.descriptor.BeanD;
 import org.apache.bval.jsr.descriptor.ConstraintD;
 import org.apache.bval.jsr.descriptor.DescriptorManager;
+import org.apache.bval.jsr.descriptor.PropertyD;
+import org.apache.bval.jsr.descriptor.ValidationPlan;
+import org.apache.bval.jsr.groups.GroupStrategy;
 import org.apache.bval.jsr.util.PathImpl;
 import org.apache.bval.jsr.util.Proxies;
+import org.apache.bval.util.Cache;
+import org.apache.bval.util.Exceptions;
 import org.apache.bval.util.Validate;
 
-import java.util.Map;
-
 public final class ValidateBean<T> extends ValidationJob<T> {
 
     private final T bean;
+    // descriptor and plan resolved in advance, if any:
+    private final PreparedBean<T> prepared;
+    private final PreparedBean.Resolved<T> resolved;
+    private Set<String> changedProperties;
+    private Set<ConstraintViolation<T>> previousViolations;
+    // where a compiled check that could not tell the bean valid hands off, and the plan it was compiled from:
+    private ValidationPlan.Handoff handoff;
+    private ValidationPlan<?> handoffPlan;
 
     ValidateBean(ApacheFactoryContext validatorContext, T bean, Class<?>[] groups) {
         super(validatorContext, groups);
         this.bean = Validate.notNull(bean, IllegalArgumentException::new, "bean");
+        this.prepared = null;
+        this.resolved = null;
+    }
+
+    ValidateBean(PreparedBean<T> prepared, T bean) {
+        super(prepared.validatorContext, prepared.groups);
+        this.bean = Validate.notNull(bean, IllegalArgumentException::new, "bean");
+        this.prepared = prepared;
+        this.resolved = prepared.resolve(bean.getClass());
+    }
+
+    /**
+     * Validate only the bean constraints and the properties named in {@code changedProperties}, reporting those of
+     * {@code previousViolations}, found by validating the same bean for the same groups, that concern other
+     * properties. Everything is validated anew if a group sequence or a violation limit could make the outcome depend
+     * on violations not found by this job.
+     *
+     * @param changedProperties
+     * @param previousViolations
+     * @return {@code this}, fluently
+     */
+    public ValidateBean<T> revalidate(Set<String> changedProperties, Set<ConstraintViolation<T>> previousViolations) {
+        this.changedProperties = Validate.notNull(changedProperties, IllegalArgumentException::new,
+            "changedProperties");
+        this.previousViolations = Validate.notNull(previousViolations, IllegalArgumentException::new,
+            "previousViolations");
+        Exceptions.raiseUnless(previousViolations.stream().allMatch(v -> v.getRootBean() == bean),
+            IllegalArgumentException::new, "previousViolations were not all reported for %s", bean);
+        return this;
     }
 
     @Override
     protected boolean hasWork() {
+        if (resolved != null) {
+            if (!resolved.constrained) {
+                return false;
+            }
+            return !validatorContext.isCompiledBeanValidation() || handOff(resolved.plan);
+        }
         final Class<?> beanClass = bean.getClass();
-        final Map<Class<?>, Class<?>> classCache = validatorContext.getFactory().getUnwrappedClassCache();
+        final Cache<Class<?>, Class<?>> classCache = validatorContext.getFactory().getUnwrappedClassCache();
         Class<?> unwrappedClass = classCache.get(beanClass);
         if (unwrappedClass == null) {
             unwrappedClass = Proxies.classFor(beanClass);
@@ -50,15 +105,88 @@ public final class ValidateBean<T> extends ValidationJob<T> {
         }
         final DescriptorManager dm = validatorContext.getFactory().getDescriptorManager();
         final Boolean cached = dm.getCachedBeanConstrained(unwrappedClass);
-        if (cached != null) {
+        final boolean compiled = validatorContext.isCompiledBeanValidation();
+        if (cached != null && !(compiled && cached.booleanValue())) {
             return cached;
         }
-        return dm.getBeanDescriptor(unwrappedClass).isBeanConstrained();
+        final BeanD<?> beanDescriptor = (BeanD<?>) dm.getBeanDescriptor(unwrappedClass);
+        if (!beanDescriptor.isBeanConstrained()) {
+            return false;
+        }
+        // a bean passing its compiled check has no violations to find:
+        return !compiled || handOff(dm.getValidationPlan(beanDescriptor, groups.asStrategy()));
+    }
+
+    /**
+     * Check the bean against the compiled check of {@code plan}, keeping where normal validation is to take over.
+     *
+     * @param plan
+     * @return {@code true} if the bean must be validated normally
+     */
+    private boolean handOff(ValidationPlan<?> plan) {
+        handoff = compiledCheck(plan).check(bean, validatorContext);
+        handoffPlan = plan;
+        return handoff != null;
+    }
+
+    private ValidationPlan.CompiledCheck compiledCheck(ValidationPlan<?> plan) {
+        ValidationPlan.CompiledCheck result = plan.getCompiledCheck();
+        if (result == null) {
+            result = CompiledBeanCheck.compile(plan, validatorContext);
+            plan.setCompiledCheck(result);
+        }
+        return result;
     }
 
     @Override
     protected Frame<BeanD<T>> computeBaseFrame() {
-        return new BeanFrame<T>(new GraphContext(validatorContext, PathImpl.create(), bean));
+        final GraphContext context = new GraphContext(validatorContext, PathImpl.create(), bean);
+        if (changedProperties == null) {
+            if (handoff != null && handoff != ValidationPlan.Handoff.ALL) {
+                @SuppressWarnings("unchecked")
+                final ValidationPlan<T> plan = (ValidationPlan<T>) handoffPlan;
+                return new BeanFrame<T>(context, plan, handoff);
+            }
+            return resolved == null ? new BeanFrame<T>(context) : new BeanFrame<T>(context, resolved.plan);
+        }
+        return new BeanFrame<T>(context) {
+            private boolean incremental;
+
+            @Override
+            void process(GroupStrategy groups, Consumer<ConstraintViolation<T>> sink) {
+                final ValidationPlan<T> plan =
+                    validatorContext.getDescriptorManager().getValidationPlan(descriptor, groups);
+                incremental = validatorContext.getMaxViolations() == 0 && plan.getLeafCount() == 1;
+                if (incremental) {
+                    previousViolations.stream().filter(v -> isUnchanged(v, descriptor)).forEach(sink);
+                }
+                super.process(groups, sink);
+            }
+
+            @Override
+            boolean includes(PropertyD<?> d) {
+                return !incremental || changedProperties.contains(d.getPropertyName());
+            }
+        };
+    }
+
+    @Override
+    protected GroupStrategy getGroupStrategy() {
+        return prepared == null ? super.getGroupStrategy() : prepared.groupStrategy;
+    }
+
+    private boolean isUnchanged(ConstraintViolation<T> violation, BeanD<T> beanDescriptor) {
+        // class-level constraints are evaluated again, whatever property node they reported violations on:
+        if (violation.getLeafBean() == bean
+            && beanDescriptor.getConstraintDescriptors().contains(violation.getConstraintDescriptor())) {
+            return false;
+        }
+        final Iterator<Path.Node> nodes = violation.getPropertyPath().iterator();
+        if (!nodes.hasNext()) {
+            return false;
+        }
+        final Path.Node node = nodes.next();
+        return node.getKind() == ElementKind.PROPERTY && !changedProperties.contains(node.getName());
     }
 
     @SuppressWarnings("unchecked")
@@ -68,7 +196,7 @@ public final class ValidateBean<T> extends ValidationJob<T> {
     }
 
     @Override
-    ConstraintViolationImpl<T> createViolation(String messageTemplate, String message,
+    ConstraintViolationImpl<T> createViolation(String messageTemplate, Supplier<String> message,
         ConstraintValidatorContextImpl<T> context, PathImpl propertyPath) {
         return new ConstraintViolationImpl<>(messageTemplate, message, bean,
             context.getFrame().getBean(), propertyPath, context.getFrame().context.getValue(),
@@ -16,56 +16,28 @@
  */
 package org.apache.bval.jsr.job;
 
-import java.lang.annotation.ElementType;
-import java.lang.reflect.Constructor;
 import java.lang.reflect.Executable;
-import java.lang.reflect.Method;
-import java.util.Arrays;
-import java.util.function.Function;
 
-import jakarta.validation.Path;
-import jakarta.validation.Path.Node;
-
-import org.apache.bval.jsr.ApacheFactoryContext;
-import org.apache.bval.jsr.metadata.Meta;
-import org.apache.bval.jsr.util.NodeImpl;
+import org.apache.bval.jsr.groups.GroupStrategy;
 import org.apache.bval.jsr.util.PathImpl;
-import org.apache.bval.util.Exceptions;
 import org.apache.bval.util.Validate;
 
 public abstract class ValidateExecutable<E extends Executable, T> extends ValidationJob<T> {
-    private static final Function<Method, Path.Node> METHOD_NODE =
-        m -> new NodeImpl.MethodNodeImpl(m.getName(), Arrays.asList(m.getParameterTypes()));
-
-    private static final Function<Constructor<?>, Path.Node> CONSTRUCTOR_NODE =
-        c -> new NodeImpl.ConstructorNodeImpl(c.getDeclaringClass().getSimpleName(),
-            Arrays.asList(c.getParameterTypes()));
-
+    protected final PreparedExecutable<E, T> prepared;
     protected final E executable;
 
-    private final Function<E, Path.Node> executableNode;
-
-    @SuppressWarnings("unchecked")
-    public ValidateExecutable(ApacheFactoryContext validatorContext, Class<?>[] groups, Meta<E> meta) {
-        super(validatorContext, groups);
-        this.executable = Validate.notNull(meta, IllegalArgumentException::new, "meta").getHost();
+    ValidateExecutable(PreparedExecutable<E, T> prepared) {
+        super(Validate.notNull(prepared, "prepared").validatorContext, prepared.groups);
+        this.prepared = prepared;
+        this.executable = prepared.executable;
+    }
 
-        switch (meta.getElementType()) {
-        case CONSTRUCTOR:
-            executableNode = (Function<E, Node>) CONSTRUCTOR_NODE;
-            break;
-        case METHOD:
-            executableNode = (Function<E, Node>) METHOD_NODE;
-            break;
-        default:
-            throw Exceptions.create(IllegalArgumentException::new, "Unsupported %s: %s",
-                ElementType.class.getSimpleName(), meta);
-        }
+    @Override
+    protected GroupStrategy getGroupStrategy() {
+        return prepared.groupStrategy;
     }
 
     protected PathImpl createBasePath() {
-        final PathImpl path = PathImpl.create();
-        path.addNode(executableNode.apply(executable));
-        return path;
+        return PathImpl.copy(prepared.basePath());
     }
-}
\ No newline at end of file
+}
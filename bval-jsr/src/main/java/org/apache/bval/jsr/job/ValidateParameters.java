@@ -22,31 +22,25 @@ import java.lang.reflect.Constructor;
 import java.lang.reflect.Executable;
 import java.lang.reflect.Method;
 import java.lang.reflect.Type;
-import java.util.Collections;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Set;
 import java.util.function.Consumer;
-import java.util.stream.Collectors;
-import java.util.stream.IntStream;
+import java.util.function.Supplier;
 
 import jakarta.validation.ConstraintViolation;
-import jakarta.validation.ParameterNameProvider;
 import jakarta.validation.constraintvalidation.ValidationTarget;
 import jakarta.validation.metadata.ExecutableDescriptor;
+import jakarta.validation.metadata.ParameterDescriptor;
 
-import org.apache.bval.jsr.ApacheFactoryContext;
 import org.apache.bval.jsr.ConstraintViolationImpl;
 import org.apache.bval.jsr.GraphContext;
 import org.apache.bval.jsr.descriptor.ConstraintD;
 import org.apache.bval.jsr.descriptor.CrossParameterD;
 import org.apache.bval.jsr.descriptor.ParameterD;
-import org.apache.bval.jsr.groups.Group;
 import org.apache.bval.jsr.groups.GroupStrategy;
-import org.apache.bval.jsr.metadata.Meta;
 import org.apache.bval.jsr.util.NodeImpl;
 import org.apache.bval.jsr.util.PathImpl;
 import org.apache.bval.util.Exceptions;
-import org.apache.bval.util.Lazy;
 import org.apache.bval.util.Validate;
 import org.apache.bval.util.reflection.TypeUtils;
 
@@ -54,17 +48,8 @@ public abstract class ValidateParameters<E extends Executable, T> extends Valida
 
     public static class ForMethod<T> extends ValidateParameters<Method, T> {
 
-        ForMethod(ApacheFactoryContext validatorContext, T object, Method executable, Object[] parameterValues,
-            Class<?>[] groups) {
-            super(validatorContext, object, Validate.notNull(executable, IllegalArgumentException::new, "null method"),
-                parameterValues, groups, new Meta.ForMethod(executable));
-            Validate.notNull(object, IllegalArgumentException::new, "object");
-        }
-
-        @Override
-        protected ExecutableDescriptor describe() {
-            return validatorContext.getDescriptorManager().getBeanDescriptor(object.getClass())
-                .getConstraintsForMethod(executable.getName(), executable.getParameterTypes());
+        ForMethod(PreparedExecutable<Method, T> prepared, T object, Object[] parameterValues) {
+            super(prepared, Validate.notNull(object, IllegalArgumentException::new, "object"), parameterValues);
         }
 
         @SuppressWarnings("unchecked")
@@ -73,11 +58,6 @@ public abstract class ValidateParameters<E extends Executable, T> extends Valida
             return (Class<T>) object.getClass();
         }
 
-        @Override
-        protected List<String> getParameterNames(ParameterNameProvider parameterNameProvider) {
-            return parameterNameProvider.getParameterNames(executable);
-        }
-
         @Override
         protected T getRootBean() {
             return object;
@@ -86,16 +66,8 @@ public abstract class ValidateParameters<E extends Executable, T> extends Valida
 
     public static class ForConstructor<T> extends ValidateParameters<Constructor<? extends T>, T> {
 
-        ForConstructor(ApacheFactoryContext validatorContext, Constructor<? extends T> executable,
-            Object[] parameterValues, Class<?>[] groups) {
-            super(validatorContext, null, Validate.notNull(executable, IllegalArgumentException::new, "null ctor"),
-                parameterValues, groups, new Meta.ForConstructor<>(executable));
-        }
-
-        @Override
-        protected ExecutableDescriptor describe() {
-            return validatorContext.getDescriptorManager().getBeanDescriptor(executable.getDeclaringClass())
-                .getConstraintsForConstructor(executable.getParameterTypes());
+        ForConstructor(PreparedExecutable<Constructor<? extends T>, T> prepared, Object[] parameterValues) {
+            super(prepared, null, parameterValues);
         }
 
         @SuppressWarnings("unchecked")
@@ -104,11 +76,6 @@ public abstract class ValidateParameters<E extends Executable, T> extends Valida
             return (Class<T>) executable.getDeclaringClass();
         }
 
-        @Override
-        protected List<String> getParameterNames(ParameterNameProvider parameterNameProvider) {
-            return parameterNameProvider.getParameterNames(executable);
-        }
-
         @Override
         protected T getRootBean() {
             return null;
@@ -132,14 +99,14 @@ public abstract class ValidateParameters<E extends Executable, T> extends Valida
         @Override
         void process(GroupStrategy groups, Consumer<ConstraintViolation<T>> sink) {
             Validate.notNull(sink, "sink");
-            final Lazy<Set<Frame<?>>> parameterFrames = new Lazy<>(this::parameterFrames);
+            final List<Frame<?>> parameterFrames = parameterFrames();
 
-            GroupStrategy.redefining(groups, Collections.singletonMap(Group.DEFAULT, descriptor.getGroupStrategy()))
-                .applyTo(noViolations(gs -> {
+            GroupStrategy.redefining(groups, descriptor.getDefaultGroupRedefinition())
+                .applyTo(noViolations(sink, gs -> {
                     validateDescriptorConstraints(gs, sink);
-                    parameterFrames.get().forEach(p -> p.validateDescriptorConstraints(gs, sink));
+                    parameterFrames.forEach(p -> p.validateDescriptorConstraints(gs, sink));
                 }));
-            parameterFrames.get().forEach(p -> p.recurse(groups, sink));
+            parameterFrames.forEach(p -> p.recurse(groups, sink));
         }
 
         @Override
@@ -147,34 +114,35 @@ public abstract class ValidateParameters<E extends Executable, T> extends Valida
             return object;
         }
 
-        private Set<Frame<?>> parameterFrames() {
-            return executableDescriptor.getParameterDescriptors().stream()
-                .map(pd -> new SproutFrame<ParameterD<?>>(this, (ParameterD<?>) pd, parameter(pd.getIndex())))
-                .collect(Collectors.toSet());
+        private List<Frame<?>> parameterFrames() {
+            final List<ParameterDescriptor> parameterDescriptors = executableDescriptor.getParameterDescriptors();
+            final List<Frame<?>> result = new ArrayList<>(parameterDescriptors.size());
+            for (ParameterDescriptor pd : parameterDescriptors) {
+                result.add(new SproutFrame<ParameterD<?>>(this, (ParameterD<?>) pd, parameter(pd.getIndex())));
+            }
+            return result;
         }
     }
 
     private static final String PARAMETERS_DO_NOT_MATCH = "Parameters do not match";
 
     protected final T object;
-    protected final Lazy<List<String>> parameterNames =
-        new Lazy<>(() -> getParameterNames(validatorContext.getParameterNameProvider()));
 
     private final Object[] parameterValues;
 
-    ValidateParameters(ApacheFactoryContext validatorContext, T object, E executable, Object[] parameterValues,
-        Class<?>[] groups, Meta<E> meta) {
-        super(validatorContext, groups, meta);
+    ValidateParameters(PreparedExecutable<E, T> prepared, T object, Object[] parameterValues) {
+        super(prepared);
         this.object = object;
         this.parameterValues =
             Validate.notNull(parameterValues, IllegalArgumentException::new, "null parameter values");
 
-        final Type[] genericParameterTypes = executable.getGenericParameterTypes();
+        final Type[] genericParameterTypes = prepared.genericParameterTypes;
         Exceptions.raiseUnless(parameterValues.length == genericParameterTypes.length, IllegalArgumentException::new,
             PARAMETERS_DO_NOT_MATCH);
-        IntStream.range(0, genericParameterTypes.length)
-            .forEach(n -> Exceptions.raiseUnless(TypeUtils.isInstance(parameterValues[n], genericParameterTypes[n]),
-                IllegalArgumentException::new, PARAMETERS_DO_NOT_MATCH));
+        for (int n = 0; n < genericParameterTypes.length; n++) {
+            Exceptions.raiseUnless(TypeUtils.isInstance(parameterValues[n], genericParameterTypes[n]),
+                IllegalArgumentException::new, PARAMETERS_DO_NOT_MATCH);
+        }
     }
 
     @Override
@@ -189,14 +157,14 @@ public abstract class ValidateParameters<E extends Executable, T> extends Valida
         return descriptor != null && descriptor.hasConstrainedParameters();
     }
 
-    protected abstract ExecutableDescriptor describe();
-
-    protected abstract List<String> getParameterNames(ParameterNameProvider parameterNameProvider);
+    protected ExecutableDescriptor describe() {
+        return prepared.describe(object);
+    }
 
     protected abstract T getRootBean();
 
     @Override
-    ConstraintViolationImpl<T> createViolation(String messageTemplate, String message,
+    ConstraintViolationImpl<T> createViolation(String messageTemplate, Supplier<String> message,
         ConstraintValidatorContextImpl<T> context, PathImpl propertyPath) {
         return new ConstraintViolationImpl<T>(messageTemplate, message, getRootBean(), context.getFrame().getBean(),
             propertyPath, context.getFrame().context.getValue(), context.getConstraintDescriptor(), getRootBeanClass(),
@@ -205,7 +173,7 @@ public abstract class ValidateParameters<E extends Executable, T> extends Valida
 
     private GraphContext parameter(int i) {
         final PathImpl path = createBasePath();
-        path.addNode(new NodeImpl.ParameterNodeImpl(parameterNames.get().get(i), i));
+        path.addNode(new NodeImpl.ParameterNodeImpl(prepared.parameterNames.get().get(i), i));
         return new GraphContext(validatorContext, path, parameterValues[i]);
     }
 }
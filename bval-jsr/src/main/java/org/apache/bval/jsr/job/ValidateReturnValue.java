@@ -20,15 +20,14 @@ import java.lang.reflect.Constructor;
 import java.lang.reflect.Executable;
 import java.lang.reflect.Method;
 import java.lang.reflect.Type;
+import java.util.function.Supplier;
 
 import jakarta.validation.metadata.ExecutableDescriptor;
 
-import org.apache.bval.jsr.ApacheFactoryContext;
 import org.apache.bval.jsr.ConstraintViolationImpl;
 import org.apache.bval.jsr.GraphContext;
 import org.apache.bval.jsr.descriptor.ConstraintD;
 import org.apache.bval.jsr.descriptor.ReturnValueD;
-import org.apache.bval.jsr.metadata.Meta;
 import org.apache.bval.jsr.util.NodeImpl;
 import org.apache.bval.jsr.util.PathImpl;
 import org.apache.bval.util.Exceptions;
@@ -39,11 +38,8 @@ public abstract class ValidateReturnValue<E extends Executable, T> extends Valid
     public static class ForMethod<T> extends ValidateReturnValue<Method, T> {
         private final T object;
 
-        ForMethod(ApacheFactoryContext validatorContext, T object, Method method, Object returnValue,
-            Class<?>[] groups) {
-            super(validatorContext,
-                new Meta.ForMethod(Validate.notNull(method, IllegalArgumentException::new, "method")), returnValue,
-                groups);
+        ForMethod(PreparedExecutable<Method, T> prepared, T object, Object returnValue) {
+            super(prepared, returnValue);
             this.object = Validate.notNull(object, IllegalArgumentException::new, "object");
         }
 
@@ -60,8 +56,7 @@ public abstract class ValidateReturnValue<E extends Executable, T> extends Valid
 
         @Override
         protected ExecutableDescriptor describe() {
-            return validatorContext.getDescriptorManager().getBeanDescriptor(object.getClass())
-                .getConstraintsForMethod(executable.getName(), executable.getParameterTypes());
+            return prepared.describe(object);
         }
 
         @Override
@@ -75,13 +70,11 @@ public abstract class ValidateReturnValue<E extends Executable, T> extends Valid
         }
     }
 
-    public static class ForConstructor<T> extends ValidateReturnValue<Constructor<?>, T> {
+    public static class ForConstructor<T> extends ValidateReturnValue<Constructor<? extends T>, T> {
 
-        ForConstructor(ApacheFactoryContext validatorContext, Constructor<? extends T> ctor, Object returnValue,
-            Class<?>[] groups) {
-            super(validatorContext,
-                new Meta.ForConstructor<>(Validate.notNull(ctor, IllegalArgumentException::new, "ctor")),
-                Validate.notNull(returnValue, IllegalArgumentException::new, "constructor cannot return null"), groups);
+        ForConstructor(PreparedExecutable<Constructor<? extends T>, T> prepared, Object returnValue) {
+            super(prepared,
+                Validate.notNull(returnValue, IllegalArgumentException::new, "constructor cannot return null"));
         }
 
         @Override
@@ -97,8 +90,7 @@ public abstract class ValidateReturnValue<E extends Executable, T> extends Valid
 
         @Override
         protected ExecutableDescriptor describe() {
-            return validatorContext.getDescriptorManager().getBeanDescriptor(executable.getDeclaringClass())
-                .getConstraintsForConstructor(executable.getParameterTypes());
+            return prepared.describe(null);
         }
 
         @Override
@@ -115,10 +107,10 @@ public abstract class ValidateReturnValue<E extends Executable, T> extends Valid
 
     private final Object returnValue;
 
-    ValidateReturnValue(ApacheFactoryContext validatorContext, Meta<E> meta, Object returnValue, Class<?>[] groups) {
-        super(validatorContext, groups, meta);
+    ValidateReturnValue(PreparedExecutable<E, T> prepared, Object returnValue) {
+        super(prepared);
 
-        final Type type = Validate.notNull(meta, IllegalArgumentException::new, "meta").getType();
+        final Type type = prepared.meta.getType();
         if (!TypeUtils.isInstance(returnValue, type)) {
             Exceptions.raise(IllegalArgumentException::new, "%s is not an instance of %s", returnValue, type);
         }
@@ -132,7 +124,7 @@ public abstract class ValidateReturnValue<E extends Executable, T> extends Valid
     }
 
     @Override
-    ConstraintViolationImpl<T> createViolation(String messageTemplate, String message,
+    ConstraintViolationImpl<T> createViolation(String messageTemplate, Supplier<String> message,
         ConstraintValidatorContextImpl<T> context, PathImpl propertyPath) {
         return new ConstraintViolationImpl<>(messageTemplate, message, getRootBean(), context.getFrame().getBean(),
             propertyPath, context.getFrame().context.getValue(), context.getConstraintDescriptor(), getRootBeanClass(),
@@ -19,21 +19,28 @@
 package org.apache.bval.jsr.job;
 
 import java.lang.reflect.Array;
+import java.lang.reflect.Modifier;
 import java.lang.reflect.Type;
 import java.lang.reflect.TypeVariable;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
-import java.util.HashMap;
-import java.util.HashSet;
-import java.util.Iterator;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 import jakarta.validation.ConstraintValidator;
 import jakarta.validation.ConstraintViolation;
@@ -44,47 +51,55 @@ import jakarta.validation.TraversableResolver;
 import jakarta.validation.UnexpectedTypeException;
 import jakarta.validation.ValidationException;
 import jakarta.validation.constraintvalidation.ValidationTarget;
-import jakarta.validation.groups.Default;
 import jakarta.validation.metadata.CascadableDescriptor;
+import jakarta.validation.metadata.ConstraintDescriptor;
 import jakarta.validation.metadata.ContainerDescriptor;
 import jakarta.validation.metadata.ContainerElementTypeDescriptor;
-import jakarta.validation.metadata.GroupConversionDescriptor;
 import jakarta.validation.metadata.PropertyDescriptor;
 import jakarta.validation.metadata.ValidateUnwrappedValue;
 import jakarta.validation.valueextraction.ValueExtractor;
 
+import org.apache.bval.constraints.PrimitiveNumberValidator;
 import org.apache.bval.jsr.ApacheFactoryContext;
+import org.apache.bval.jsr.ApacheMessageContext;
+import org.apache.bval.jsr.ConstraintCached;
 import org.apache.bval.jsr.ConstraintViolationImpl;
+import org.apache.bval.jsr.DefaultMessageInterpolator;
 import org.apache.bval.jsr.GraphContext;
 import org.apache.bval.jsr.descriptor.BeanD;
+import org.apache.bval.jsr.descriptor.CascadableContainerD;
 import org.apache.bval.jsr.descriptor.ComposedD;
 import org.apache.bval.jsr.descriptor.ConstraintD;
 import org.apache.bval.jsr.descriptor.ContainerElementTypeD;
 import org.apache.bval.jsr.descriptor.DescriptorManager;
 import org.apache.bval.jsr.descriptor.ElementD;
 import org.apache.bval.jsr.descriptor.PropertyD;
+import org.apache.bval.jsr.descriptor.ValidationPlan;
 import org.apache.bval.jsr.groups.Group;
 import org.apache.bval.jsr.groups.GroupStrategy;
 import org.apache.bval.jsr.groups.Groups;
 import org.apache.bval.jsr.metadata.ContainerElementKey;
+import org.apache.bval.jsr.resolver.CachingTraversableResolver;
 import org.apache.bval.jsr.util.NodeImpl;
 import org.apache.bval.jsr.util.PathImpl;
 import org.apache.bval.jsr.util.Proxies;
 import org.apache.bval.jsr.valueextraction.ExtractValues;
+import org.apache.bval.jsr.valueextraction.PrimitiveArrayExtractor;
 import org.apache.bval.jsr.valueextraction.ValueExtractors;
+import org.apache.bval.util.Cache;
 import org.apache.bval.util.Exceptions;
 import org.apache.bval.util.Lazy;
 import org.apache.bval.util.ObjectUtils;
 import org.apache.bval.util.Validate;
+import org.apache.bval.util.reflection.Reflection;
 import org.apache.bval.util.reflection.TypeUtils;
 
 public abstract class ValidationJob<T> {
-    private static final ConstraintValidator NOOP_VALIDATOR = (o, ctx) -> true;
-
     public abstract class Frame<D extends ElementD<?, ?>> {
         protected final Frame<?> parent;
-        protected final D descriptor;
-        protected final GraphContext context;
+        // not final so that a LeafPropertyFrame can be rebound from one simple property to the next:
+        protected D descriptor;
+        protected GraphContext context;
 
         protected Frame(Frame<?> parent, D descriptor, GraphContext context) {
             super();
@@ -104,8 +119,8 @@ public abstract class ValidationJob<T> {
         void process(GroupStrategy groups, Consumer<ConstraintViolation<T>> sink) {
             Validate.notNull(sink, "sink");
 
-            GroupStrategy.redefining(groups, Collections.singletonMap(Group.DEFAULT, descriptor.getGroupStrategy()))
-                    .applyTo(noViolations(gs -> validateDescriptorConstraints(gs, sink)));
+            GroupStrategy.redefining(groups, descriptor.getDefaultGroupRedefinition())
+                    .applyTo(noViolations(sink, gs -> validateDescriptorConstraints(gs, sink)));
 
             recurse(groups, sink);
         }
@@ -117,7 +132,29 @@ public abstract class ValidationJob<T> {
         abstract Object getBean();
 
         void validateDescriptorConstraints(GroupStrategy groups, Consumer<ConstraintViolation<T>> sink) {
-            constraintsFor(descriptor, groups).forEach(c -> validateUnwrapped(c, sink));
+            final Set<Group> targetGroups = groups.getGroups();
+            for (final ConstraintDescriptor<?> cd : descriptor.getConstraintDescriptors()) {
+                if (isDone(sink)) {
+                    return;
+                }
+                final ConstraintD<?> constraint = (ConstraintD<?>) cd;
+                if (ValidationPlan.matchesGroups(constraint, targetGroups)) {
+                    validateUnwrapped(constraint, sink);
+                }
+            }
+        }
+
+        /**
+         * Validate constraints already selected for {@code groups} by a {@link ValidationPlan}.
+         */
+        void validatePlannedConstraints(GroupStrategy groups, ValidationPlan.Constraint[] constraints,
+            Consumer<ConstraintViolation<T>> sink) {
+            for (final ValidationPlan.Constraint constraint : constraints) {
+                if (isDone(sink)) {
+                    return;
+                }
+                validateUnwrapped(constraint.getDescriptor(), sink);
+            }
         }
 
         // Visit each (possibly unwrapped) frame for this constraint without allocating a Stream per constraint;
@@ -129,6 +166,9 @@ public abstract class ValidationJob<T> {
                         validatorContext.getValueExtractors().findUnwrappingInfo(context.getValue().getClass(),
                                 valueUnwrapping);
                 if (unwrappingInfo.isPresent()) {
+                    if (validatePrimitiveElements(constraint, unwrappingInfo.get(), sink)) {
+                        return;
+                    }
                     for (final GraphContext child : ExtractValues.extract(context,
                             unwrappingInfo.get().containerElementKey, unwrappingInfo.get().valueExtractor)) {
                         final Frame<D> frame = new UnwrappedElementConstraintValidationPseudoFrame<>(this, child);
@@ -140,6 +180,37 @@ public abstract class ValidationJob<T> {
             validate(constraint, sink);
         }
 
+        /**
+         * Validate the elements of a numeric primitive array against {@code constraint} without boxing them, if its
+         * validator supports it: only the elements found invalid are boxed and given a context (and a path), to be
+         * validated as {@link ExtractValues} would have them.
+         *
+         * @return whether the elements were validated
+         */
+        private boolean validatePrimitiveElements(ConstraintD<?> constraint, ValueExtractors.UnwrappingInfo info,
+            Consumer<ConstraintViolation<T>> sink) {
+            if (!PrimitiveArrayExtractor.isNumeric(info.valueExtractor)
+                || !constraint.getComposingConstraints().isEmpty()) {
+                return false;
+            }
+            final Object array = context.getValue();
+            final ConstraintValidator<?, ?> validator =
+                ValidationJob.getConstraintValidator(validatorContext, constraint, getValidationTarget(),
+                    Reflection.primitiveToWrapper(array.getClass().getComponentType()));
+            if (!(validator instanceof PrimitiveNumberValidator)) {
+                return false;
+            }
+            final PrimitiveNumberValidator numberValidator = (PrimitiveNumberValidator) validator;
+            for (int i = PrimitiveArrayExtractor.indexOfInvalid(array, 0, numberValidator); i >= 0;
+                i = PrimitiveArrayExtractor.indexOfInvalid(array, i + 1, numberValidator)) {
+                final GraphContext child = ExtractValues.extractIndexed(context, info.containerElementKey,
+                    PrimitiveArrayExtractor.ELEMENT_NODE_NAME, i, Array.get(array, i));
+                final Frame<D> frame = new UnwrappedElementConstraintValidationPseudoFrame<>(this, child);
+                frame.validate(constraint, sink);
+            }
+            return true;
+        }
+
         @SuppressWarnings({ "rawtypes", "unchecked" })
         private boolean validate(ConstraintD<?> constraint, Consumer<ConstraintViolation<T>> sink) {
             // No per-(constraint, path, value) de-duplication is performed here. It is not needed: groups are
@@ -149,10 +220,9 @@ public abstract class ValidationJob<T> {
             // properties) are distinct paths and must each be reported. Cycles are handled separately via
             // GraphContext#isRecursive(), not by tracking completed validations.
             final ConstraintValidator constraintValidator = getConstraintValidator(constraint);
-            final ConstraintValidatorContextImpl<T> constraintValidatorContext =
-                    new ConstraintValidatorContextImpl<>(this, constraint);
+            final ConstraintValidatorContextImpl<T> constraintValidatorContext = acquireContext(this, constraint);
 
-            final boolean valid;
+            boolean valid;
             if (constraintValidator == null) {
                 // null validator without exception implies composition:
                 valid = true;
@@ -175,9 +245,10 @@ public abstract class ValidationJob<T> {
                     if (valid && constraint.isReportAsSingleViolation()) {
                         constraintValidatorContext.getRequiredViolations().forEach(sink);
                     }
-                    return false;
+                    valid = false;
                 }
             }
+            releaseContext(constraintValidatorContext);
             return valid;
         }
 
@@ -197,39 +268,20 @@ public abstract class ValidationJob<T> {
 
         @SuppressWarnings({ "rawtypes" })
         private ConstraintValidator getConstraintValidator(ConstraintD<?> constraint) {
+            final Object value = context.getValue();
+            final Class<?> valueType = value == null ? null : value.getClass();
             // Fast path: the validator is cached after first use, so avoid building the (capturing) supplier
             // lambda and going through computeIfAbsent on the common cache-hit path.
-            final ConstraintValidator existing =
+            final ConstraintCached.ConstraintValidators cached =
                     validatorContext.getConstraintsCache().getValidators().get(constraint);
-            if (existing != null) {
-                return existing;
-            }
-            return validatorContext.getOrComputeConstraintValidator(constraint, () -> {
-                final Class<? extends ConstraintValidator> constraintValidatorClass =
-                        new ComputeConstraintValidatorClass<>(validatorContext.getConstraintsCache(), constraint,
-                                getValidationTarget(), computeValidatedType(constraint)).get();
-
-                if (constraintValidatorClass == null) {
-                    if (constraint.getComposingConstraints().isEmpty()) {
-                        Exceptions.raise(UnexpectedTypeException::new, "No %s type located for non-composed constraint %s",
-                                ConstraintValidator.class.getSimpleName(), constraint);
-                    }
-                    return NOOP_VALIDATOR;
-                }
-                ConstraintValidator constraintValidator = null;
-                Exception cause = null;
-                try {
-                    constraintValidator =
-                            validatorContext.getConstraintValidatorFactory().getInstance(constraintValidatorClass);
-                } catch (Exception e) {
-                    cause = e;
+            if (cached != null) {
+                final ConstraintValidator existing = cached.get(valueType);
+                if (existing != null) {
+                    return existing;
                 }
-                if (constraintValidator == null) {
-                    Exceptions.raise(ValidationException::new, cause, "Unable to get %s instance from %s",
-                            constraintValidatorClass.getName(), validatorContext.getConstraintValidatorFactory());
-                }
-                return constraintValidator;
-            });
+            }
+            return ValidationJob.getConstraintValidator(validatorContext, constraint, getValidationTarget(),
+                valueType, computeValidatedType(constraint));
         }
 
         private Class<?> computeValidatedType(ConstraintD<?> constraint) {
@@ -248,6 +300,14 @@ public abstract class ValidationJob<T> {
 
     public class BeanFrame<B> extends Frame<BeanD<B>> {
         private final GraphContext realContext;
+        // plan obtained in advance for the groups this frame is processed with, if any:
+        private final ValidationPlan<B> preparedPlan;
+        // where a compiled check of preparedPlan handed off to this frame, if any:
+        private final ValidationPlan.Handoff handoff;
+        private ValidationPlan<B> plan;
+        private Frame<?>[] propertyFrames;
+        private Object[] simplePropertyValues;
+        private LeafPropertyFrame simplePropertyFrame;
 
         BeanFrame(GraphContext context) {
             this(null, context);
@@ -257,27 +317,78 @@ public abstract class ValidationJob<T> {
             super(parent, getBeanDescriptor(context.getValue()),
                     context.child(PathImpl::addBean, context.getValue()));
             this.realContext = context;
+            this.preparedPlan = null;
+            this.handoff = null;
+        }
+
+        /**
+         * Create a root frame to be processed with the groups {@code plan} was obtained for.
+         *
+         * @param context
+         * @param plan
+         */
+        BeanFrame(GraphContext context, ValidationPlan<B> plan) {
+            this(context, plan, null);
+        }
+
+        /**
+         * Create a root frame to be processed with the groups {@code plan} was obtained for, taking over from the
+         * compiled check of {@code plan} at {@code handoff}: the properties before it, already found valid, are
+         * neither read nor validated again.
+         *
+         * @param context
+         * @param plan
+         * @param handoff
+         */
+        BeanFrame(GraphContext context, ValidationPlan<B> plan, ValidationPlan.Handoff handoff) {
+            super(null, Validate.notNull(plan, "plan").getBean(), context.child(PathImpl::addBean, context.getValue()));
+            this.realContext = context;
+            this.preparedPlan = plan;
+            this.handoff = handoff;
         }
 
         @Override
         void process(GroupStrategy groups, Consumer<ConstraintViolation<T>> sink) {
             Validate.notNull(sink, "sink");
-            final Lazy<Set<Frame<?>>> propertyFrames = new Lazy<>(this::propertyFrames);
-
-            final GroupStrategy localGroupStrategy = GroupStrategy.redefining(groups,
-                    Collections.singletonMap(Group.DEFAULT, descriptor.getGroupStrategy()));
+            plan = preparedPlan == null ? validatorContext.getDescriptorManager().getValidationPlan(descriptor, groups)
+                : preparedPlan;
 
-            localGroupStrategy.applyTo(noViolations(gs -> {
-                validateDescriptorConstraints(gs, sink);
-                propertyFrames.get().forEach(p -> {
-                    p.validateDescriptorConstraints(gs, sink);
-                    if (localGroupStrategy == groups) {
-                        p.recurse(gs, sink);
+            if (plan.getLeafCount() == 1) {
+                // nothing to stop short of; avoid tracking violations per group:
+                validateLeaf(0, plan.getLeaf(0), sink);
+            } else {
+                plan.getGroupStrategy()
+                    .applyTo(noViolations(sink, gs -> validateLeaf(plan.leafIndex(gs), gs, sink)));
+            }
+            if (plan.isRedefining()) {
+                final List<ValidationPlan.Property> properties = plan.getProperties();
+                final Frame<?>[] frames = propertyFrames();
+                for (int i = 0; i < frames.length && !isDone(sink); i++) {
+                    if (frames[i] != null && properties.get(i).isCascaded()) {
+                        frames[i].recurse(groups, sink);
                     }
-                });
-            }));
-            if (localGroupStrategy != groups) {
-                propertyFrames.get().forEach(p -> p.recurse(groups, sink));
+                }
+            }
+        }
+
+        private void validateLeaf(int leaf, GroupStrategy groups, Consumer<ConstraintViolation<T>> sink) {
+            validatePlannedConstraints(groups, plan.getConstraints(leaf), sink);
+
+            final List<ValidationPlan.Property> properties = plan.getProperties();
+            final Frame<?>[] frames = propertyFrames();
+            for (int i = 0; i < frames.length && !isDone(sink); i++) {
+                Frame<?> p = frames[i];
+                if (p == null) {
+                    continue;
+                }
+                final ValidationPlan.Property property = properties.get(i);
+                if (p == simplePropertyFrame) {
+                    p = simplePropertyFrame.bind(property.getDescriptor(), simplePropertyValues[i]);
+                }
+                p.validatePlannedConstraints(groups, property.getConstraints(leaf), sink);
+                if (!plan.isRedefining() && property.isCascaded()) {
+                    p.recurse(groups, sink);
+                }
             }
         }
 
@@ -285,36 +396,61 @@ public abstract class ValidationJob<T> {
             return new SproutFrame<>(this, d, context);
         }
 
+        /**
+         * Learn whether the property described by {@code d} is to be validated as part of this bean.
+         *
+         * @param d
+         * @return {@code true} by default
+         */
+        boolean includes(PropertyD<?> d) {
+            return true;
+        }
+
         @Override
         Object getBean() {
             return context.getValue();
         }
 
-        private Set<Frame<?>> propertyFrames() {
-            final TraversableResolver traversableResolver = validatorContext.getTraversableResolver();
-            final Set<Frame<?>> frames = new HashSet<>();
-            for (final PropertyDescriptor pd : descriptor.getConstrainedProperties()) {
-                ComposedD.forEachUnwrapped(pd, PropertyD.class, d -> {
-                    final PathImpl p = realContext.getPath();
-                    p.addProperty(d.getPropertyName());
-                    try {
-                        if (!traversableResolver.isReachable(context.getValue(), p.removeLeafNode(), getRootBeanClass(),
-                                p, d.getElementType())) {
-                            return;
-                        }
-                    } catch (ValidationException ve) {
-                        throw ve;
-                    } catch (Exception e) {
-                        throw new ValidationException(e);
+        /**
+         * Get the frames of the planned properties, by index; a {@code null} element denotes a property that is not
+         * reachable or whose value is already being validated further up the graph. Simple properties share a single
+         * {@link LeafPropertyFrame}, rebound to each of them in turn, their values being kept aside.
+         */
+        private Frame<?>[] propertyFrames() {
+            if (propertyFrames != null) {
+                return propertyFrames;
+            }
+            final List<ValidationPlan.Property> properties = plan.getProperties();
+            // an array of frames of this job cannot be created as such:
+            @SuppressWarnings("unchecked")
+            final Frame<?>[] frames = (Frame<?>[]) new ValidationJob<?>.Frame<?>[properties.size()];
+            final int from = handoff == null ? 0 : handoff.getProperty();
+            for (int i = from; i < frames.length; i++) {
+                final ValidationPlan.Property property = properties.get(i);
+                final PropertyD<?> d = property.getDescriptor();
+                if (!includes(d) || !isReachable(realContext, d)) {
+                    continue;
+                }
+                final Object value = i == from && handoff != null && handoff.isValueRead() ? handoff.getValue()
+                    : d.readValue(realContext.getValue());
+
+                if (property.isSimple()) {
+                    if (simplePropertyFrame == null) {
+                        simplePropertyFrame = new LeafPropertyFrame(this, d);
+                        simplePropertyValues = new Object[frames.length];
                     }
-                    for (final Iterator<GraphContext> it = d.read(realContext).iterator(); it.hasNext();) {
-                        final GraphContext child = it.next();
-                        if (!child.isRecursive()) {
-                            frames.add(propertyFrame(d, child));
-                        }
+                    if (!simplePropertyFrame.bind(d, value).context.isRecursive()) {
+                        simplePropertyValues[i] = value;
+                        frames[i] = simplePropertyFrame;
                     }
-                });
+                } else {
+                    final GraphContext child = realContext.child(d.getPathMutation(), value);
+                    if (!child.isRecursive()) {
+                        frames[i] = propertyFrame(d, child);
+                    }
+                }
             }
+            propertyFrames = frames;
             return frames;
         }
     }
@@ -332,11 +468,21 @@ public abstract class ValidationJob<T> {
         @Override
         void validateDescriptorConstraints(GroupStrategy groups, Consumer<ConstraintViolation<T>> sink) {
             super.validateDescriptorConstraints(groups, sink);
+            validateContainerElementConstraints(groups, sink);
+        }
+
+        @Override
+        void validatePlannedConstraints(GroupStrategy groups, ValidationPlan.Constraint[] constraints,
+            Consumer<ConstraintViolation<T>> sink) {
+            super.validatePlannedConstraints(groups, constraints, sink);
+            validateContainerElementConstraints(groups, sink);
+        }
+
+        private void validateContainerElementConstraints(GroupStrategy groups, Consumer<ConstraintViolation<T>> sink) {
             if (context.getValue() != null) {
                 for (final ContainerElementTypeDescriptor ctd : descriptor.getConstrainedContainerElementTypes()) {
                     ComposedD.forEachUnwrapped(ctd, ContainerElementTypeD.class, d -> {
-                        if (!constraintsFor(d, groups).findFirst().isPresent()
-                                && d.getConstrainedContainerElementTypes().isEmpty()) {
+                        if (!hasConstraintsFor(d, groups) && d.getConstrainedContainerElementTypes().isEmpty()) {
                             return;
                         }
                         final ValueExtractor<?> declaredTypeValueExtractor =
@@ -354,16 +500,14 @@ public abstract class ValidationJob<T> {
 
         @Override
         void recurse(GroupStrategy groups, Consumer<ConstraintViolation<T>> sink) {
-            if (context.getValue() == null || !DescriptorManager.isCascaded(descriptor)) {
+            if (context.getValue() == null || !DescriptorManager.isCascaded(descriptor) || isDone(sink)) {
                 return;
             }
-            final Map<Group, GroupStrategy> conversions = new HashMap<>();
-            for (final GroupConversionDescriptor gc : descriptor.getGroupConversions()) {
-                conversions.put(Group.of(gc.getFrom()),
-                        validatorContext.getGroupsComputer().computeGroups(gc.getTo()).asStrategy());
-            }
+            final Map<Group, GroupStrategy> conversions = descriptor instanceof CascadableContainerD<?, ?>
+                    ? ((CascadableContainerD<?, ?>) descriptor).getGroupConversionRedefinitions()
+                    : validatorContext.getGroupsComputer().computeConversions(descriptor.getGroupConversions());
 
-            GroupStrategy.redefining(groups, conversions).applyTo(noViolations(gs -> cascade(gs, sink)));
+            GroupStrategy.redefining(groups, conversions).applyTo(noViolations(sink, gs -> cascade(gs, sink)));
         }
 
         private void cascade(GroupStrategy groups, Consumer<ConstraintViolation<T>> sink) {
@@ -384,78 +528,188 @@ public abstract class ValidationJob<T> {
             if (!descriptor.isCascaded()) {
                 return;
             }
-            if (descriptor instanceof PropertyDescriptor) {
-                final TraversableResolver traversableResolver = validatorContext.getTraversableResolver();
+            if (descriptor instanceof PropertyDescriptor && !isCascadable(context, (PropertyD<?>) descriptor)) {
+                return;
+            }
+            if (isDone(sink)) {
+                return;
+            }
+            final GraphContext multiplexContext = getMultiplexContext();
+            if (!hasCascadableElements(multiplexContext.getValue())) {
+                return;
+            }
+            final int threshold = validatorContext.getParallelCascadeThreshold();
+            // only fork from the thread running the job: a task that waited for tasks of its own could leave a
+            // bounded executor with every thread blocked; nested containers are cascaded sequentially instead
+            if (threshold > 0 && Thread.currentThread() == owner
+                && containerSize(multiplexContext.getValue()) >= threshold) {
+                cascadeInParallel(multiplexContext, groups, sink);
+            } else {
+                multiplexEach(multiplexContext, cx -> {
+                    cascadeTo(cx, groups, sink);
+                    return !isDone(sink);
+                });
+            }
+        }
 
-                final Object traversableObject =
-                        Optional.ofNullable(context.getParent()).map(GraphContext::getValue).orElse(null);
+        /**
+         * Learn whether cascading to the elements of {@code value} may find anything to validate. The elements of an
+         * array of primitives or of final types are all of the same class, so when that class is not constrained the
+         * elements need not be read, let alone boxed, one by one.
+         */
+        private boolean hasCascadableElements(Object value) {
+            if (value == null || !value.getClass().isArray()) {
+                return true;
+            }
+            final Class<?> componentType = value.getClass().getComponentType();
+            if (!isEffectivelyFinal(componentType)) {
+                return true;
+            }
+            final Class<?> elementClass = Reflection.primitiveToWrapper(componentType);
+            final DescriptorManager dm = validatorContext.getFactory().getDescriptorManager();
+            final Boolean cached = dm.getCachedBeanConstrained(elementClass);
+            if (cached != null) {
+                return cached.booleanValue();
+            }
+            return dm.getBeanDescriptor(elementClass).isBeanConstrained();
+        }
 
-                final PathImpl pathToTraversableObject = context.getPath();
-                final NodeImpl traversableProperty = pathToTraversableObject.removeLeafNode();
+        private void cascadeTo(GraphContext cx, GroupStrategy groups, Consumer<ConstraintViolation<T>> sink) {
+            if (cx.getValue() != null && !cx.isRecursive()) {
+                new BeanFrame<>(this, cx).process(groups, sink);
+            }
+        }
 
-                try {
-                    if (!traversableResolver.isCascadable(traversableObject, traversableProperty, getRootBeanClass(),
-                            pathToTraversableObject, ((PropertyD<?>) descriptor).getElementType())) {
-                        return;
+        /**
+         * Cascade to the elements of a large container in contiguous chunks, each validated by a task submitted to
+         * the configured {@link Executor} into its own {@link Sink}; the chunks' violations are then passed to
+         * {@code sink} in element order, as a sequential cascade would have reported them. Only called on the thread
+         * running this job, which runs any chunk not yet started by the executor itself rather than wait for it: a
+         * job running on a thread of a bounded executor thus never waits for tasks queued behind it.
+         */
+        private void cascadeInParallel(GraphContext multiplexContext, GroupStrategy groups,
+            Consumer<ConstraintViolation<T>> sink) {
+            // element paths derive from this one; materialize it before element contexts are shared across threads:
+            multiplexContext.pathReference();
+
+            final List<GraphContext> elements = new ArrayList<>();
+            multiplexEach(multiplexContext, elements::add);
+
+            final Executor executor = validatorContext.getCascadeExecutor();
+            // a chunk need not find more violations than the whole validation may yet report:
+            final int remaining = sink instanceof Sink<?> ? ((Sink<?>) sink).remaining() : 0;
+            final int size = elements.size();
+            final int chunks = Math.min(size, PARALLEL_CASCADE_CHUNKS);
+
+            final List<Chunk<List<ConstraintViolation<T>>>> tasks = new ArrayList<>(chunks);
+            for (int c = 0; c < chunks; c++) {
+                final List<GraphContext> elementsOfChunk =
+                    elements.subList(c * size / chunks, (c + 1) * size / chunks);
+                final Chunk<List<ConstraintViolation<T>>> chunk = new Chunk<>(() -> {
+                    final List<ConstraintViolation<T>> violations = new ArrayList<>();
+                    final Sink<T> chunkSink = new Sink<>(violations::add, remaining);
+                    for (final GraphContext cx : elementsOfChunk) {
+                        cascadeTo(cx, groups, chunkSink);
+                        if (chunkSink.isFull()) {
+                            break;
+                        }
                     }
-                } catch (ValidationException ve) {
-                    throw ve;
-                } catch (Exception e) {
-                    throw new ValidationException(e);
+                    return violations;
+                });
+                tasks.add(chunk);
+                try {
+                    executor.execute(chunk::run);
+                } catch (RejectedExecutionException e) {
+                    // run on this thread below
                 }
             }
-            multiplexEach(cx -> {
-                if (cx.getValue() != null && !cx.isRecursive()) {
-                    new BeanFrame<>(this, cx).process(groups, sink);
+            for (final Chunk<List<ConstraintViolation<T>>> task : tasks) {
+                // only wait for a chunk that is already running on another thread:
+                task.run();
+                final List<ConstraintViolation<T>> violations;
+                try {
+                    violations = task.join();
+                } catch (CompletionException | CancellationException e) {
+                    tasks.forEach(Chunk::cancel);
+                    final Throwable cause = e.getCause() == null ? e : e.getCause();
+                    if (cause instanceof RuntimeException) {
+                        throw (RuntimeException) cause;
+                    }
+                    if (cause instanceof Error) {
+                        throw (Error) cause;
+                    }
+                    throw new ValidationException(cause);
                 }
-            });
+                violations.forEach(sink);
+                if (isDone(sink)) {
+                    tasks.forEach(Chunk::cancel);
+                    return;
+                }
+            }
         }
 
         protected GraphContext getMultiplexContext() {
             return context;
         }
 
-        private void multiplexEach(Consumer<GraphContext> consumer) {
-            final GraphContext multiplexContext = getMultiplexContext();
+        private void multiplexEach(GraphContext multiplexContext, Predicate<GraphContext> consumer) {
             final Object value = multiplexContext.getValue();
             if (value == null) {
                 return;
             }
-            if (value.getClass().isArray()) {
+            if (value instanceof Object[]) {
                 // inconsistent: use Object[] here but specific type for Iterable? RI compatibility
-                final Class<?> arrayType = value instanceof Object[] ? Object[].class : value.getClass();
+                final Object[] array = (Object[]) value;
+                for (int i = 0; i < array.length; i++) {
+                    if (!consumer.test(multiplexContext.child(NodeImpl.atIndex(i).inContainer(Object[].class, null),
+                            array[i]))) {
+                        return;
+                    }
+                }
+                return;
+            }
+            if (value.getClass().isArray()) {
+                final Class<?> arrayType = value.getClass();
                 for (int i = 0, n = Array.getLength(value); i < n; i++) {
-                    consumer.accept(
-                            multiplexContext.child(NodeImpl.atIndex(i).inContainer(arrayType, null), Array.get(value, i)));
+                    if (!consumer.test(multiplexContext.child(NodeImpl.atIndex(i).inContainer(arrayType, null),
+                            Array.get(value, i)))) {
+                        return;
+                    }
                 }
                 return;
             }
             if (Map.class.isInstance(value)) {
                 for (final Map.Entry<?, ?> e : ((Map<?, ?>) value).entrySet()) {
-                    consumer.accept(multiplexContext.child(
+                    if (!consumer.test(multiplexContext.child(
                             setContainerInformation(NodeImpl.atKey(e.getKey()), MAP_VALUE, descriptor.getElementClass()),
-                            e.getValue()));
+                            e.getValue()))) {
+                        return;
+                    }
                 }
                 return;
             }
             if (List.class.isInstance(value)) {
                 final List<?> l = (List<?>) value;
                 for (int i = 0, n = l.size(); i < n; i++) {
-                    consumer.accept(multiplexContext.child(
+                    if (!consumer.test(multiplexContext.child(
                             setContainerInformation(NodeImpl.atIndex(i), ITERABLE_ELEMENT, descriptor.getElementClass()),
-                            l.get(i)));
+                            l.get(i)))) {
+                        return;
+                    }
                 }
                 return;
             }
             if (Iterable.class.isInstance(value)) {
                 for (final Object o : (Iterable<?>) value) {
-                    consumer.accept(multiplexContext.child(
+                    if (!consumer.test(multiplexContext.child(
                             setContainerInformation(NodeImpl.atIndex(null), ITERABLE_ELEMENT, descriptor.getElementClass()),
-                            o));
+                            o))) {
+                        return;
+                    }
                 }
                 return;
             }
-            consumer.accept(multiplexContext);
+            consumer.test(multiplexContext);
         }
 
         // RI apparently wants to use e.g. Set for Iterable containers, so use declared type + assigned type
@@ -537,6 +791,27 @@ public abstract class ValidationJob<T> {
         }
     }
 
+    /**
+     * Frame shared by the simple (neither cascaded nor container-element-constrained) properties of a bean, rebound
+     * to each in turn so that validating a bean does not allocate per property.
+     */
+    private class LeafPropertyFrame extends SproutFrame<PropertyD<?>> {
+
+        LeafPropertyFrame(BeanFrame<?> parent, PropertyD<?> descriptor) {
+            super(parent, descriptor, parent.realContext.reusableChild());
+        }
+
+        LeafPropertyFrame bind(PropertyD<?> descriptor, Object value) {
+            this.descriptor = descriptor;
+            context.rebind(descriptor.getPathMutation(), value);
+            return this;
+        }
+
+        @Override
+        void recurse(GroupStrategy groups, Consumer<ConstraintViolation<T>> sink) {
+        }
+    }
+
     private class UnwrappedElementConstraintValidationPseudoFrame<D extends ElementD<?, ?>> extends Frame<D> {
         final Lazy<IllegalStateException> exc = new Lazy<>(() -> Exceptions.create(IllegalStateException::new,
                 "%s is not meant to participate in validation lifecycle", getClass()));
@@ -561,25 +836,262 @@ public abstract class ValidationJob<T> {
         }
     }
 
+    /**
+     * Work that is run at most once, by whichever thread claims it first: the executor it was submitted to, or the
+     * thread waiting for its result.
+     *
+     * @param <R>
+     *            result type
+     */
+    private static class Chunk<R> {
+        private final AtomicBoolean claimed = new AtomicBoolean();
+        private final CompletableFuture<R> result = new CompletableFuture<>();
+        private final Supplier<R> work;
+
+        Chunk(Supplier<R> work) {
+            super();
+            this.work = work;
+        }
+
+        void run() {
+            if (claimed.compareAndSet(false, true)) {
+                try {
+                    result.complete(work.get());
+                } catch (Throwable t) {
+                    result.completeExceptionally(t);
+                }
+            }
+        }
+
+        void cancel() {
+            if (claimed.compareAndSet(false, true)) {
+                result.cancel(false);
+            }
+        }
+
+        R join() {
+            return result.join();
+        }
+    }
+
+    /**
+     * {@link Consumer} of the violations found by (part of) a validation, counting those accepted by its target so
+     * that group sequences can stop at the first group yielding violations.
+     *
+     * @param <T>
+     *            root bean type
+     */
+    static class Sink<T> implements Consumer<ConstraintViolation<T>> {
+        private final Predicate<? super ConstraintViolation<T>> target;
+        private final int limit;
+        private int count;
+
+        Sink(Predicate<? super ConstraintViolation<T>> target) {
+            this(target, 0);
+        }
+
+        /**
+         * Create a new {@link Sink} instance.
+         *
+         * @param target
+         *            returns whether a violation was accepted
+         * @param limit
+         *            number of violations after which further violations are ignored and validation should stop;
+         *            {@code <= 0} for no limit
+         */
+        Sink(Predicate<? super ConstraintViolation<T>> target, int limit) {
+            super();
+            this.target = Validate.notNull(target, "target");
+            this.limit = limit;
+        }
+
+        @Override
+        public void accept(ConstraintViolation<T> violation) {
+            if (!isFull() && target.test(violation)) {
+                count++;
+            }
+        }
+
+        int getCount() {
+            return count;
+        }
+
+        boolean isFull() {
+            return limit > 0 && count >= limit;
+        }
+
+        /**
+         * Get the number of violations this sink may still accept.
+         *
+         * @return {@code int}, {@code <= 0} for no limit
+         */
+        int remaining() {
+            return limit > 0 ? limit - count : 0;
+        }
+    }
+
+    /**
+     * Interpolates a violation message on demand, from a snapshot of the {@link MessageInterpolator.Context} and
+     * locale in effect when the violation was created: the {@link ConstraintValidatorContextImpl} and the frame it
+     * refers to may since have been reused.
+     */
+    private static class DeferredMessage implements Supplier<String>, ApacheMessageContext {
+        private final MessageInterpolator interpolator;
+        private final Locale locale;
+        private final Map<String, String> properties;
+        private final String messageTemplate;
+        private final ConstraintDescriptor<?> constraintDescriptor;
+        private final Object validatedValue;
+
+        DeferredMessage(ApacheFactoryContext validatorContext, String messageTemplate,
+            ConstraintValidatorContextImpl<?> context) {
+            super();
+            this.interpolator = validatorContext.getMessageInterpolator();
+            this.locale = interpolator instanceof DefaultMessageInterpolator
+                ? ((DefaultMessageInterpolator) interpolator).getLocale() : null;
+            this.properties = validatorContext.getFactory().getProperties();
+            this.messageTemplate = messageTemplate;
+            this.constraintDescriptor = context.getConstraintDescriptor();
+            this.validatedValue = context.getValidatedValue();
+        }
+
+        @Override
+        public String get() {
+            return interpolate(interpolator, messageTemplate, this, locale);
+        }
+
+        @Override
+        public ConstraintDescriptor<?> getConstraintDescriptor() {
+            return constraintDescriptor;
+        }
+
+        @Override
+        public Object getValidatedValue() {
+            return validatedValue;
+        }
+
+        @Override
+        public <U> U unwrap(Class<U> type) {
+            try {
+                return type.cast(this);
+            } catch (ClassCastException e) {
+                throw new ValidationException(e);
+            }
+        }
+
+        @Override
+        public String getConfigurationProperty(String propertyKey) {
+            return properties.get(propertyKey);
+        }
+    }
+
+    private static final int PARALLEL_CASCADE_CHUNKS = 4 * Runtime.getRuntime().availableProcessors();
+
     protected static final TypeVariable<?> MAP_VALUE = Map.class.getTypeParameters()[1];
     protected static final TypeVariable<?> ITERABLE_ELEMENT = Iterable.class.getTypeParameters()[0];
 
-    private static Stream<ConstraintD<?>> constraintsFor(ElementD<?, ?> descriptor, GroupStrategy groups) {
+    /**
+     * Get the {@link ConstraintValidator} of {@code constraint}, creating, initializing and caching it if necessary.
+     *
+     * @param validatorContext
+     * @param constraint
+     * @param validationTarget
+     * @param validatedType
+     *            type of the (non-{@code null}) validated values, used to select the validator class
+     * @return {@link ConstraintValidator} cached for values of {@code validatedType}, or {@code null} for a
+     *         constraint validated by its composing constraints alone
+     */
+    @SuppressWarnings({ "rawtypes" })
+    public static ConstraintValidator getConstraintValidator(ApacheFactoryContext validatorContext,
+        ConstraintD<?> constraint, ValidationTarget validationTarget, Class<?> validatedType) {
+        return getConstraintValidator(validatorContext, constraint, validationTarget, validatedType, validatedType);
+    }
+
+    @SuppressWarnings({ "rawtypes" })
+    private static ConstraintValidator getConstraintValidator(ApacheFactoryContext validatorContext,
+        ConstraintD<?> constraint, ValidationTarget validationTarget, Class<?> valueType, Class<?> validatedType) {
+        return validatorContext.getOrComputeConstraintValidator(constraint, valueType, () -> {
+            final Class<? extends ConstraintValidator> constraintValidatorClass =
+                    new ComputeConstraintValidatorClass<>(validatorContext.getConstraintsCache(), constraint,
+                            validationTarget, validatedType).get();
+
+            if (constraintValidatorClass == null) {
+                if (constraint.getComposingConstraints().isEmpty()) {
+                    Exceptions.raise(UnexpectedTypeException::new, "No %s type located for non-composed constraint %s",
+                            ConstraintValidator.class.getSimpleName(), constraint);
+                }
+                return null;
+            }
+            ConstraintValidator constraintValidator = null;
+            Exception cause = null;
+            try {
+                constraintValidator =
+                        validatorContext.getConstraintValidatorFactory().getInstance(constraintValidatorClass);
+            } catch (Exception e) {
+                cause = e;
+            }
+            if (constraintValidator == null) {
+                Exceptions.raise(ValidationException::new, cause, "Unable to get %s instance from %s",
+                        constraintValidatorClass.getName(), validatorContext.getConstraintValidatorFactory());
+            }
+            return constraintValidator;
+        });
+    }
+
+    /**
+     * Get the type of any (non-{@code null}) value validated against {@code constraint} on an element of type
+     * {@code elementClass}, when known in advance: i.e. when {@code elementClass} (or its array component type) is
+     * final or primitive and the value is not unwrapped.
+     *
+     * @param valueExtractors
+     * @param constraint
+     * @param elementClass
+     * @return {@link Class} or {@code null} if the validated type depends on the runtime value
+     */
+    public static Class<?> getKnownValidatedType(ValueExtractors valueExtractors, ConstraintD<?> constraint,
+        Class<?> elementClass) {
+        if (!isEffectivelyFinal(elementClass)
+            || valueExtractors.findUnwrappingInfo(elementClass, constraint.getValueUnwrapping()).isPresent()) {
+            return null;
+        }
+        // validated values are never primitive:
+        return Reflection.primitiveToWrapper(elementClass);
+    }
+
+    private static boolean isEffectivelyFinal(Class<?> type) {
+        if (type == null) {
+            return false;
+        }
+        if (type.isArray()) {
+            return isEffectivelyFinal(type.getComponentType());
+        }
+        return type.isPrimitive() || Modifier.isFinal(type.getModifiers());
+    }
+
+    private static int containerSize(Object value) {
+        if (value == null) {
+            return 0;
+        }
+        if (value.getClass().isArray()) {
+            return Array.getLength(value);
+        }
+        if (value instanceof Collection<?>) {
+            return ((Collection<?>) value).size();
+        }
+        if (value instanceof Map<?, ?>) {
+            return ((Map<?, ?>) value).size();
+        }
+        // size unknown:
+        return -1;
+    }
+
+    private static boolean hasConstraintsFor(ElementD<?, ?> descriptor, GroupStrategy groups) {
         // Resolve the target groups once per call rather than once per constraint: GroupStrategy.getGroups()
         // may allocate (a singleton for a plain Group, a fully streamed-and-collected set for a Composite),
         // and it is invariant across the constraints being filtered.
         final Set<Group> targetGroups = groups.getGroups();
-        return descriptor.getConstraintDescriptors().stream().<ConstraintD<?>> map(ConstraintD.class::cast)
-                .filter(c -> matchesGroups(c, targetGroups));
-    }
-
-    private static boolean matchesGroups(ConstraintD<?> constraint, Set<Group> targetGroups) {
-        final Set<Class<?>> constraintGroups = constraint.getGroups();
-        final boolean impliesDefault = constraintGroups.contains(Default.class);
-        for (final Group target : targetGroups) {
-            final Class<?> g = target.getGroup();
-            if (constraintGroups.contains(g)
-                    || impliesDefault && constraint.getDeclaringClass().equals(g)) {
+        for (final ConstraintDescriptor<?> cd : descriptor.getConstraintDescriptors()) {
+            if (ValidationPlan.matchesGroups((ConstraintD<?>) cd, targetGroups)) {
                 return true;
             }
         }
@@ -589,12 +1101,35 @@ public abstract class ValidationJob<T> {
     protected final ApacheFactoryContext validatorContext;
     protected final Groups groups;
 
+    // null if every property is reachable and cascadable:
+    private final TraversableResolver traversableResolver;
+    private final boolean cachingTraversableResolver;
+    // results of traversableResolver for the current run, if to be cached; only used by the owner thread:
+    private CachingTraversableResolver traversableCache;
+
     private final Lazy<Set<ConstraintViolation<T>>> results = new Lazy<>(LinkedHashSet::new);
+    // a constraint validator context that no violation refers to, available for the next constraint evaluation;
+    // only used by the thread that created the job, so that parallel cascades need not synchronize:
+    private ConstraintValidatorContextImpl<T> spareContext;
+    private final Thread owner = Thread.currentThread();
 
     ValidationJob(ApacheFactoryContext validatorContext, Class<?>[] groups) {
+        this(validatorContext,
+            Validate.notNull(validatorContext, "validatorContext").getGroupsComputer().computeGroups(groups));
+    }
+
+    ValidationJob(ApacheFactoryContext validatorContext, Groups groups) {
         super();
         this.validatorContext = Validate.notNull(validatorContext, "validatorContext");
-        this.groups = validatorContext.getGroupsComputer().computeGroups(groups);
+        this.groups = Validate.notNull(groups, "groups");
+
+        if (validatorContext.isTraversingAll()) {
+            traversableResolver = null;
+            cachingTraversableResolver = false;
+        } else {
+            traversableResolver = validatorContext.getTraversableResolver();
+            cachingTraversableResolver = CachingTraversableResolver.needsCaching(traversableResolver);
+        }
     }
 
     public final Set<ConstraintViolation<T>> getResults() {
@@ -602,12 +1137,7 @@ public abstract class ValidationJob<T> {
             return results.get();
         }
         if (hasWork()) {
-            final Frame<?> baseFrame = computeBaseFrame();
-            Validate.validState(baseFrame != null, "%s computed null baseFrame", getClass().getName());
-
-            final Consumer<ConstraintViolation<T>> sink = results.consumer(Set::add);
-
-            baseFrame.process(groups.asStrategy(), sink);
+            run(new Sink<>(v -> results.get().add(v), validatorContext.getMaxViolations()));
             if (results.optional().isPresent()) {
                 return Collections.unmodifiableSet(results.get());
             }
@@ -615,10 +1145,127 @@ public abstract class ValidationJob<T> {
         return results.reset(Collections::emptySet).get();
     }
 
+    /**
+     * Run this job, passing each violation to {@code consumer} as it is found instead of collecting results.
+     *
+     * @param consumer
+     * @return number of violations passed to {@code consumer}
+     */
+    public final int process(Consumer<? super ConstraintViolation<T>> consumer) {
+        Validate.notNull(consumer, IllegalArgumentException::new, "consumer");
+        if (!hasWork()) {
+            return 0;
+        }
+        final Sink<T> sink = new Sink<>(v -> {
+            consumer.accept(v);
+            return true;
+        }, validatorContext.getMaxViolations());
+        run(sink);
+        return sink.getCount();
+    }
+
+    private void run(Sink<T> sink) {
+        final Frame<?> baseFrame = computeBaseFrame();
+        Validate.validState(baseFrame != null, "%s computed null baseFrame", getClass().getName());
+        try {
+            baseFrame.process(getGroupStrategy(), sink);
+        } finally {
+            if (traversableCache != null) {
+                if (validatorContext.getFactory().isTraversableResolverCachePooling()) {
+                    traversableCache.release();
+                }
+                traversableCache = null;
+            }
+        }
+    }
+
+    /**
+     * Get the strategy to process the base frame with.
+     *
+     * @return {@link GroupStrategy} of {@link #groups} by default
+     */
+    protected GroupStrategy getGroupStrategy() {
+        return groups.asStrategy();
+    }
+
+    /**
+     * Learn whether property {@code d} of the bean of {@code beanContext} is reachable. No new path is built unless the
+     * traversable resolver is to be asked.
+     */
+    final boolean isReachable(GraphContext beanContext, PropertyD<?> d) {
+        if (traversableResolver == null) {
+            return true;
+        }
+        final Object traversableObject = beanContext.getValue();
+        try {
+            final CachingTraversableResolver cache = traversableCache();
+            if (cache != null) {
+                return cache.isReachable(traversableObject, d, beanContext.pathReference(), getRootBeanClass(),
+                    d.getElementType(), () -> {
+                        final PathImpl p = beanContext.getPath();
+                        d.getPathMutation().accept(p);
+                        return p;
+                    });
+            }
+            final PathImpl p = beanContext.getPath();
+            d.getPathMutation().accept(p);
+            final NodeImpl traversableProperty = p.removeLeafNode();
+            return traversableResolver.isReachable(traversableObject, traversableProperty, getRootBeanClass(), p,
+                d.getElementType());
+        } catch (ValidationException ve) {
+            throw ve;
+        } catch (Exception e) {
+            throw new ValidationException(e);
+        }
+    }
+
+    /**
+     * Learn whether the value of {@code propertyContext}, that of property {@code d}, is cascadable. No new path is
+     * built unless the traversable resolver is to be asked.
+     */
+    final boolean isCascadable(GraphContext propertyContext, PropertyD<?> d) {
+        if (traversableResolver == null) {
+            return true;
+        }
+        final Optional<GraphContext> parent = Optional.ofNullable(propertyContext.getParent());
+        final Object traversableObject = parent.map(GraphContext::getValue).orElse(null);
+        try {
+            final CachingTraversableResolver cache = traversableCache();
+            if (cache != null) {
+                return cache.isCascadable(traversableObject, d, parent.map(GraphContext::pathReference).orElse(null),
+                    getRootBeanClass(), d.getElementType(), propertyContext::getPath);
+            }
+            final PathImpl p = propertyContext.getPath();
+            final NodeImpl traversableProperty = p.removeLeafNode();
+            return traversableResolver.isCascadable(traversableObject, traversableProperty, getRootBeanClass(), p,
+                d.getElementType());
+        } catch (ValidationException ve) {
+            throw ve;
+        } catch (Exception e) {
+            throw new ValidationException(e);
+        }
+    }
+
+    /**
+     * Get the cache of traversable resolver results for the current run, if the resolver is to be cached and the
+     * current thread is the one running this job; parallel cascades ask the resolver directly.
+     */
+    private CachingTraversableResolver traversableCache() {
+        if (!cachingTraversableResolver || Thread.currentThread() != owner) {
+            return null;
+        }
+        if (traversableCache == null) {
+            traversableCache = validatorContext.getFactory().isTraversableResolverCachePooling()
+                ? CachingTraversableResolver.acquire(traversableResolver)
+                : new CachingTraversableResolver(traversableResolver);
+        }
+        return traversableCache;
+    }
+
     @SuppressWarnings("unchecked")
     private <O> BeanD<O> getBeanDescriptor(Object bean) {
         final Class<?> beanClass = Validate.notNull(bean, "bean").getClass();
-        final Map<Class<?>, Class<?>> classCache = validatorContext.getFactory().getUnwrappedClassCache();
+        final Cache<Class<?>, Class<?>> classCache = validatorContext.getFactory().getUnwrappedClassCache();
         Class<?> unwrappedClass = classCache.get(beanClass);
         if (unwrappedClass == null) {
             unwrappedClass = Proxies.classFor(beanClass);
@@ -635,10 +1282,18 @@ public abstract class ValidationJob<T> {
                 propertyPath.removeLeafNode();
             }
         }
-        return createViolation(messageTemplate, interpolate(messageTemplate, context), context, propertyPath);
+        final Supplier<String> message;
+        if (validatorContext.isLazyMessageInterpolation()) {
+            message = new DeferredMessage(validatorContext, messageTemplate, context);
+        } else {
+            final String interpolated =
+                interpolate(validatorContext.getMessageInterpolator(), messageTemplate, context, null);
+            message = () -> interpolated;
+        }
+        return createViolation(messageTemplate, message, context, propertyPath);
     }
 
-    abstract ConstraintViolationImpl<T> createViolation(String messageTemplate, String message,
+    abstract ConstraintViolationImpl<T> createViolation(String messageTemplate, Supplier<String> message,
                                                         ConstraintValidatorContextImpl<T> context, PathImpl propertyPath);
 
     protected abstract Frame<?> computeBaseFrame();
@@ -649,22 +1304,58 @@ public abstract class ValidationJob<T> {
         return true;
     }
 
-    protected <U> Predicate<U> noViolations(Consumer<? super U> consumer) {
+    /**
+     * Get a {@link ConstraintValidatorContextImpl} for {@code constraint}, reusing the last one released if any.
+     */
+    final ConstraintValidatorContextImpl<T> acquireContext(Frame<?> frame, ConstraintD<?> constraint) {
+        if (Thread.currentThread() != owner) {
+            return new ConstraintValidatorContextImpl<>(frame, constraint);
+        }
+        final ConstraintValidatorContextImpl<T> result = spareContext;
+        if (result == null) {
+            return new ConstraintValidatorContextImpl<>(frame, constraint);
+        }
+        spareContext = null;
+        return result.reset(frame, constraint);
+    }
+
+    /**
+     * Make {@code context} available for reuse unless something may still refer to it.
+     */
+    final void releaseContext(ConstraintValidatorContextImpl<T> context) {
+        if (context.isReusable() && Thread.currentThread() == owner) {
+            spareContext = context;
+        }
+    }
+
+    protected <U> Predicate<U> noViolations(Consumer<ConstraintViolation<T>> sink, Consumer<? super U> consumer) {
         return u -> {
-            final int originalCount = violationCount();
+            final int originalCount = violationCount(sink);
             consumer.accept(u);
-            return violationCount() == originalCount;
+            return violationCount(sink) == originalCount;
         };
     }
 
-    private int violationCount() {
-        final Optional<Set<ConstraintViolation<T>>> maybeResults = results.optional();
-        return maybeResults.isPresent() ? maybeResults.get().size() : 0;
+    /**
+     * Learn whether {@code sink} has reached its violation limit, in which case validation should stop.
+     *
+     * @param sink
+     * @return {@code boolean}
+     */
+    protected boolean isDone(Consumer<ConstraintViolation<T>> sink) {
+        return sink instanceof Sink<?> && ((Sink<?>) sink).isFull();
+    }
+
+    private int violationCount(Consumer<ConstraintViolation<T>> sink) {
+        // violations are counted by a Sink; any other consumer only receives violations to be discarded:
+        return sink instanceof Sink<?> ? ((Sink<?>) sink).getCount() : 0;
     }
 
-    private String interpolate(String messageTemplate, MessageInterpolator.Context context) {
+    private static String interpolate(MessageInterpolator interpolator, String messageTemplate,
+        MessageInterpolator.Context context, Locale locale) {
         try {
-            return validatorContext.getMessageInterpolator().interpolate(messageTemplate, context);
+            return locale == null ? interpolator.interpolate(messageTemplate, context)
+                : interpolator.interpolate(messageTemplate, context, locale);
         } catch (ValidationException e) {
             throw e;
         } catch (Exception e) {
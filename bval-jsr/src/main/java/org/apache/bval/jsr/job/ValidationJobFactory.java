@@ -52,6 +52,17 @@ public class ValidationJobFactory {
         return new ValidateBean<>(validatorContext, bean, groups);
     }
 
+    /**
+     * Prepare the validation of beans of {@code type} for {@code groups}.
+     *
+     * @param type
+     * @param groups
+     * @return {@link PreparedBean}
+     */
+    public <T> PreparedBean<T> prepare(Class<T> type, Class<?>... groups) {
+        return new PreparedBean<>(validatorContext, type, groups);
+    }
+
     /**
      * @see Validator#validateProperty(Object, String, Class...)
      */
@@ -78,12 +89,35 @@ public class ValidationJobFactory {
         return result;
     }
 
+    /**
+     * Prepare the validation of {@code method}'s parameters and return values for {@code groups}.
+     *
+     * @param method
+     * @param groups
+     * @return {@link PreparedExecutable}
+     */
+    public <T> PreparedExecutable.ForMethod<T> prepare(Method method, Class<?>... groups) {
+        return new PreparedExecutable.ForMethod<>(validatorContext, method, groups);
+    }
+
+    /**
+     * Prepare the validation of {@code constructor}'s parameters and return values for {@code groups}.
+     *
+     * @param constructor
+     * @param groups
+     * @return {@link PreparedExecutable}
+     */
+    public <T> PreparedExecutable.ForConstructor<T> prepare(Constructor<? extends T> constructor,
+        Class<?>... groups) {
+        return new PreparedExecutable.ForConstructor<>(validatorContext, constructor, groups);
+    }
+
     /**
      * @see ExecutableValidator#validateParameters(Object, Method, Object[], Class...)
      */
     public <T> ValidateParameters.ForMethod<T> validateParameters(T object, Method method, Object[] parameterValues,
         Class<?>... groups) {
-        return new ValidateParameters.ForMethod<T>(validatorContext, object, method, parameterValues, groups);
+        return this.<T> prepare(method, groups).parameters(object, parameterValues);
     }
 
     /**
@@ -91,7 +125,7 @@ public class ValidationJobFactory {
      */
     public <T> ValidateReturnValue.ForMethod<T> validateReturnValue(T object, Method method, Object returnValue,
         Class<?>... groups) {
-        return new ValidateReturnValue.ForMethod<>(validatorContext, object, method, returnValue, groups);
+        return this.<T> prepare(method, groups).returnValue(object, returnValue);
     }
 
     /**
@@ -99,7 +133,7 @@ public class ValidationJobFactory {
      */
     public <T> ValidateParameters.ForConstructor<T> validateConstructorParameters(Constructor<? extends T> constructor,
         Object[] parameterValues, Class<?>... groups) {
-        return new ValidateParameters.ForConstructor<T>(validatorContext, constructor, parameterValues, groups);
+        return this.<T> prepare(constructor, groups).parameters(null, parameterValues);
     }
 
     /**
@@ -107,6 +141,6 @@ public class ValidationJobFactory {
      */
     public <T> ValidateReturnValue.ForConstructor<T> validateConstructorReturnValue(
         Constructor<? extends T> constructor, T createdObject, Class<?>... groups) {
-        return new ValidateReturnValue.ForConstructor<T>(validatorContext, constructor, createdObject, groups);
+        return this.<T> prepare(constructor, groups).returnValue(null, createdObject);
     }
 }
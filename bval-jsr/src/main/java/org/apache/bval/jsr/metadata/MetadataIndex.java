@@ -0,0 +1,227 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one or more
+ *  contributor license agreements.  See the NOTICE file distributed with
+ *  this work for additional information regarding copyright ownership.
+ *  The ASF licenses this file to You under the Apache License, Version 2.0
+ *  (the "License"); you may not use this file except in compliance with
+ *  the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.apache.bval.jsr.metadata;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Writer;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Executable;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.apache.bval.util.reflection.Reflection;
+import org.apache.commons.weaver.privilizer.Privilizing;
+import org.apache.commons.weaver.privilizer.Privilizing.CallTo;
+
+/**
+ * Build-time index of the members of a class that declare constraint metadata, as written by
+ * {@link MetadataIndexProcessor}. The index of a class lists every field, method and constructor declaring (on itself,
+ * its parameters, or any part of their types) a constraint, {@code @Valid} or any other
+ * {@code jakarta.validation} annotation; the annotations of all other members need not be read.
+ * <p>
+ * Each index records a fingerprint of the declared members of its class, and is ignored unless the loaded class
+ * matches it, e.g. when classes were recompiled without the annotation processor.
+ *
+ * @since 4.0
+ */
+@Privilizing(@CallTo(Reflection.class))
+public final class MetadataIndex {
+    private static final Logger log = Logger.getLogger(MetadataIndex.class.getName());
+
+    /**
+     * Location of the index of a class, followed by its binary name.
+     */
+    public static final String RESOURCE_PREFIX = "META-INF/bval/index/";
+
+    private static final String HEADER = "bval-metadata-index 1";
+
+    private static final String FIELD = "F ";
+    private static final String METHOD = "M ";
+    private static final String CONSTRUCTOR = "C ";
+
+    /**
+     * Find the index of {@code type}.
+     *
+     * @param type
+     * @return {@link MetadataIndex} or {@code null} if {@code type} has no index, or a stale one
+     */
+    public static MetadataIndex find(Class<?> type) {
+        final ClassLoader loader = type.getClassLoader();
+        if (loader == null) {
+            return null;
+        }
+        final List<String> lines;
+        try (InputStream in = loader.getResourceAsStream(RESOURCE_PREFIX + type.getName())) {
+            if (in == null) {
+                return null;
+            }
+            lines = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8)).lines()
+                .collect(Collectors.toList());
+        } catch (IOException e) {
+            log.log(Level.WARNING, e, () -> "Unable to read metadata index of " + type);
+            return null;
+        }
+        if (lines.size() < 2 || !HEADER.equals(lines.get(0))) {
+            log.warning(() -> "Ignoring metadata index of unknown format for " + type);
+            return null;
+        }
+        if (!lines.get(1).equals(fingerprint(members(type)))) {
+            log.fine(() -> "Ignoring stale metadata index of " + type);
+            return null;
+        }
+        return new MetadataIndex(new HashSet<>(lines.subList(2, lines.size())));
+    }
+
+    /**
+     * Write an index.
+     *
+     * @param out
+     * @param members
+     *            descriptors of all declared members of the indexed class, as returned by {@link #field(String)},
+     *            {@link #method(String, List)} and {@link #constructor(List)}
+     * @param constrained
+     *            descriptors of the members declaring constraint metadata
+     * @throws IOException
+     */
+    public static void write(Writer out, Collection<String> members, Collection<String> constrained)
+        throws IOException {
+        out.write(HEADER);
+        out.write('\n');
+        out.write(fingerprint(members));
+        out.write('\n');
+        for (String member : new TreeSet<>(constrained)) {
+            out.write(member);
+            out.write('\n');
+        }
+    }
+
+    /**
+     * Get the descriptor of a field.
+     *
+     * @param name
+     * @return {@link String}
+     */
+    public static String field(String name) {
+        return FIELD + name;
+    }
+
+    /**
+     * Get the descriptor of a method.
+     *
+     * @param name
+     * @param parameterTypes
+     *            erased parameter type names, as returned by {@link Class#getTypeName()}
+     * @return {@link String}
+     */
+    public static String method(String name, List<String> parameterTypes) {
+        return METHOD + name + parameterTypes.stream().collect(Collectors.joining(",", "(", ")"));
+    }
+
+    /**
+     * Get the descriptor of a constructor.
+     *
+     * @param parameterTypes
+     *            erased parameter type names, as returned by {@link Class#getTypeName()}
+     * @return {@link String}
+     */
+    public static String constructor(List<String> parameterTypes) {
+        return CONSTRUCTOR + parameterTypes.stream().collect(Collectors.joining(",", "(", ")"));
+    }
+
+    private static String fingerprint(Collection<String> members) {
+        // 64-bit FNV-1a over the sorted member descriptors:
+        long hash = 0xcbf29ce484222325L;
+        for (String member : new TreeSet<>(members)) {
+            for (int i = 0, n = member.length(); i < n; i++) {
+                hash = (hash ^ member.charAt(i)) * 0x100000001b3L;
+            }
+            hash = (hash ^ '\n') * 0x100000001b3L;
+        }
+        return Long.toHexString(hash);
+    }
+
+    private static Set<String> members(Class<?> type) {
+        final Set<String> result = new HashSet<>();
+        for (Field f : Reflection.getDeclaredFields(type)) {
+            if (!f.isSynthetic()) {
+                result.add(descriptor(f));
+            }
+        }
+        for (Method m : Reflection.getDeclaredMethods(type)) {
+            if (!(m.isSynthetic() || m.isBridge())) {
+                result.add(descriptor(m));
+            }
+        }
+        for (Constructor<?> c : Reflection.getDeclaredConstructors(type)) {
+            if (!c.isSynthetic()) {
+                result.add(descriptor(c));
+            }
+        }
+        return result;
+    }
+
+    private static String descriptor(Field field) {
+        return field(field.getName());
+    }
+
+    private static String descriptor(Executable executable) {
+        final List<String> parameterTypes =
+            Stream.of(executable.getParameterTypes()).map(Class::getTypeName).collect(Collectors.toList());
+        return executable instanceof Constructor<?> ? constructor(parameterTypes)
+            : method(executable.getName(), parameterTypes);
+    }
+
+    private final Set<String> constrained;
+
+    private MetadataIndex(Set<String> constrained) {
+        super();
+        this.constrained = constrained;
+    }
+
+    /**
+     * Learn whether {@code field} declares constraint metadata.
+     *
+     * @param field
+     * @return {@code boolean}
+     */
+    public boolean isConstrained(Field field) {
+        return constrained.contains(descriptor(field));
+    }
+
+    /**
+     * Learn whether {@code executable} declares constraint metadata.
+     *
+     * @param executable
+     * @return {@code boolean}
+     */
+    public boolean isConstrained(Executable executable) {
+        return constrained.contains(descriptor(executable));
+    }
+}
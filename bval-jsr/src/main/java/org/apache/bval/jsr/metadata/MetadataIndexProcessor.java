@@ -0,0 +1,227 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one or more
+ *  contributor license agreements.  See the NOTICE file distributed with
+ *  this work for additional information regarding copyright ownership.
+ *  The ASF licenses this file to You under the Apache License, Version 2.0
+ *  (the "License"); you may not use this file except in compliance with
+ *  the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.apache.bval.jsr.metadata;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.annotation.processing.SupportedOptions;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.type.WildcardType;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import javax.tools.StandardLocation;
+
+/**
+ * Annotation processor writing the {@link MetadataIndex} of each compiled top-level or static nested class or
+ * interface, to be used at runtime if
+ * {@link org.apache.bval.jsr.ApacheValidatorConfiguration.Properties#METADATA_INDEX} is enabled. Not registered as a
+ * service, so it must be configured explicitly, e.g. as an {@code annotationProcessorPaths} entry of the
+ * {@code maven-compiler-plugin}. The option {@value #PACKAGES_OPTION} restricts indexing to a comma-separated list of
+ * packages, including their subpackages.
+ *
+ * @since 4.0
+ */
+@SupportedAnnotationTypes("*")
+@SupportedOptions(MetadataIndexProcessor.PACKAGES_OPTION)
+public class MetadataIndexProcessor extends AbstractProcessor {
+    public static final String PACKAGES_OPTION = "bval.metadata.index.packages";
+
+    private static final String CONSTRAINT = "jakarta.validation.Constraint";
+    private static final String VALIDATION_PACKAGE = "jakarta.validation.";
+
+    private final Map<String, Boolean> metadataAnnotationTypes = new HashMap<>();
+    private List<String> packages;
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        if (packages == null) {
+            final String option = processingEnv.getOptions().get(PACKAGES_OPTION);
+            packages = option == null ? Collections.emptyList()
+                : Stream.of(option.split(",")).map(String::trim).filter(s -> !s.isEmpty())
+                    .collect(Collectors.toList());
+        }
+        ElementFilter.typesIn(roundEnv.getRootElements()).forEach(this::index);
+        // never claim any annotations:
+        return false;
+    }
+
+    private void index(TypeElement type) {
+        if (isIndexable(type)) {
+            final String binaryName = processingEnv.getElementUtils().getBinaryName(type).toString();
+            if (isIncluded(binaryName)) {
+                write(type, binaryName);
+            }
+        }
+        ElementFilter.typesIn(type.getEnclosedElements()).forEach(this::index);
+    }
+
+    private static boolean isIndexable(TypeElement type) {
+        switch (type.getNestingKind()) {
+        case TOP_LEVEL:
+            break;
+        case MEMBER:
+            // constructors of inner classes have an implicit parameter:
+            if (!type.getModifiers().contains(Modifier.STATIC)) {
+                return false;
+            }
+            break;
+        default:
+            return false;
+        }
+        // the implicit members of enums and records need not match between source and class file:
+        return type.getKind() == ElementKind.CLASS || type.getKind() == ElementKind.INTERFACE;
+    }
+
+    private boolean isIncluded(String binaryName) {
+        return packages.isEmpty() || packages.stream().anyMatch(p -> binaryName.startsWith(p + '.'));
+    }
+
+    private void write(TypeElement type, String binaryName) {
+        final List<String> members = new ArrayList<>();
+        final List<String> constrained = new ArrayList<>();
+
+        for (VariableElement field : ElementFilter.fieldsIn(type.getEnclosedElements())) {
+            final String descriptor = MetadataIndex.field(field.getSimpleName().toString());
+            members.add(descriptor);
+            if (hasMetadata(field) || hasMetadata(field.asType())) {
+                constrained.add(descriptor);
+            }
+        }
+        for (ExecutableElement method : ElementFilter.methodsIn(type.getEnclosedElements())) {
+            final String descriptor = MetadataIndex.method(method.getSimpleName().toString(), parameterTypes(method));
+            members.add(descriptor);
+            if (hasMetadata(method)) {
+                constrained.add(descriptor);
+            }
+        }
+        for (ExecutableElement constructor : ElementFilter.constructorsIn(type.getEnclosedElements())) {
+            final String descriptor = MetadataIndex.constructor(parameterTypes(constructor));
+            members.add(descriptor);
+            if (hasMetadata(constructor)) {
+                constrained.add(descriptor);
+            }
+        }
+        try (Writer out = processingEnv.getFiler()
+            .createResource(StandardLocation.CLASS_OUTPUT, "", MetadataIndex.RESOURCE_PREFIX + binaryName, type)
+            .openWriter()) {
+            MetadataIndex.write(out, members, constrained);
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING,
+                "Unable to write metadata index: " + e.getMessage(), type);
+        }
+    }
+
+    private List<String> parameterTypes(ExecutableElement executable) {
+        return executable.getParameters().stream()
+            .map(p -> typeName(processingEnv.getTypeUtils().erasure(p.asType()))).collect(Collectors.toList());
+    }
+
+    private String typeName(TypeMirror erased) {
+        if (erased.getKind() == TypeKind.ARRAY) {
+            return typeName(((ArrayType) erased).getComponentType()) + "[]";
+        }
+        if (erased.getKind() == TypeKind.DECLARED) {
+            return processingEnv.getElementUtils().getBinaryName((TypeElement) ((DeclaredType) erased).asElement())
+                .toString();
+        }
+        if (erased.getKind().isPrimitive()) {
+            // toString() would include any type annotations:
+            return erased.getKind().name().toLowerCase(Locale.ROOT);
+        }
+        return erased.toString();
+    }
+
+    private boolean hasMetadata(ExecutableElement executable) {
+        return hasMetadata((Element) executable) || hasMetadata(executable.getReturnType())
+            || executable.getParameters().stream().anyMatch(p -> hasMetadata(p) || hasMetadata(p.asType()));
+    }
+
+    private boolean hasMetadata(Element element) {
+        return element.getAnnotationMirrors().stream().anyMatch(this::isMetadata);
+    }
+
+    private boolean hasMetadata(TypeMirror type) {
+        if (type.getAnnotationMirrors().stream().anyMatch(this::isMetadata)) {
+            return true;
+        }
+        switch (type.getKind()) {
+        case ARRAY:
+            return hasMetadata(((ArrayType) type).getComponentType());
+        case DECLARED:
+            return ((DeclaredType) type).getTypeArguments().stream().anyMatch(this::hasMetadata);
+        case WILDCARD:
+            final WildcardType wildcard = (WildcardType) type;
+            return wildcard.getExtendsBound() != null && hasMetadata(wildcard.getExtendsBound())
+                || wildcard.getSuperBound() != null && hasMetadata(wildcard.getSuperBound());
+        default:
+            return false;
+        }
+    }
+
+    private boolean isMetadata(AnnotationMirror annotation) {
+        final TypeElement annotationType = (TypeElement) annotation.getAnnotationType().asElement();
+        return metadataAnnotationTypes.computeIfAbsent(annotationType.getQualifiedName().toString(),
+            k -> k.startsWith(VALIDATION_PACKAGE) || isConstraintOrList(annotationType));
+    }
+
+    private boolean isConstraintOrList(TypeElement annotationType) {
+        if (isConstraint(annotationType)) {
+            return true;
+        }
+        // multi-valued constraints:
+        return ElementFilter.methodsIn(annotationType.getEnclosedElements()).stream()
+            .filter(m -> m.getSimpleName().contentEquals("value")).map(ExecutableElement::getReturnType)
+            .filter(t -> t.getKind() == TypeKind.ARRAY).map(t -> ((ArrayType) t).getComponentType())
+            .filter(t -> t.getKind() == TypeKind.DECLARED)
+            .anyMatch(t -> isConstraint((TypeElement) ((DeclaredType) t).asElement()));
+    }
+
+    private boolean isConstraint(TypeElement annotationType) {
+        return annotationType.getAnnotationMirrors().stream().anyMatch(
+            a -> ((TypeElement) a.getAnnotationType().asElement()).getQualifiedName().contentEquals(CONSTRAINT));
+    }
+}
@@ -70,10 +70,13 @@ public class ReflectionBuilder {
 
     private class ForBean<T> implements MetadataBuilder.ForBean<T> {
         private final Meta<Class<T>> meta;
+        /** {@code null} unless the bean class has a valid {@link MetadataIndex}. */
+        private final MetadataIndex index;
 
-        ForBean(Meta<Class<T>> meta) {
+        ForBean(Meta<Class<T>> meta, MetadataIndex index) {
             super();
             this.meta = Validate.notNull(meta, "meta");
+            this.index = index;
         }
 
         @Override
@@ -88,8 +91,7 @@ public class ReflectionBuilder {
                 return Collections.emptyMap();
             }
             return Stream.of(declaredFields).filter(f -> !(Modifier.isStatic(f.getModifiers()) || f.isSynthetic()))
-                .collect(
-                    Collectors.toMap(Field::getName, f -> new ReflectionBuilder.ForContainer<>(new Meta.ForField(f))));
+                .collect(Collectors.toMap(Field::getName, this::forField));
         }
 
         @Override
@@ -109,8 +111,8 @@ public class ReflectionBuilder {
                 if ("class".equals(k)) {
                     return;
                 }
-                final List<MetadataBuilder.ForContainer<Method>> delegates = methods.stream()
-                    .map(g -> new ReflectionBuilder.ForContainer<>(new Meta.ForMethod(g))).collect(Collectors.toList());
+                final List<MetadataBuilder.ForContainer<Method>> delegates =
+                    methods.stream().map(this::forGetter).collect(Collectors.toList());
                 if (delegates.isEmpty()) {
                     return;
                 }
@@ -131,7 +133,8 @@ public class ReflectionBuilder {
             if (declaredConstructors.length == 0) {
                 return Collections.emptyMap();
             }
-            return Stream.of(declaredConstructors).collect(
+            // unconstrained executables are not described; skip those known to be unconstrained:
+            return Stream.of(declaredConstructors).filter(c -> index == null || index.isConstrained(c)).collect(
                 Collectors.toMap(Signature::of, c -> new ReflectionBuilder.ForExecutable<>(new Meta.ForConstructor<>(c),
                     ParameterNameProvider::getParameterNames)));
         }
@@ -144,7 +147,7 @@ public class ReflectionBuilder {
             }
             final Map<Signature, Set<Method>> methodsBySignature = new HashMap<>();
             for (Method m : declaredMethods) {
-                if (!Modifier.isStatic(m.getModifiers())) {
+                if (!Modifier.isStatic(m.getModifiers()) && (index == null || index.isConstrained(m))) {
                     methodsBySignature.computeIfAbsent(Signature.of(m), k -> new LinkedHashSet<>()).add(m);
                 }
             }
@@ -170,6 +173,22 @@ public class ReflectionBuilder {
             });
             return result;
         }
+
+        // properties are described even if unconstrained; avoid reading the annotations of those known to be:
+
+        private MetadataBuilder.ForContainer<Field> forField(Field field) {
+            if (index == null || index.isConstrained(field)) {
+                return new ReflectionBuilder.ForContainer<>(new Meta.ForField(field));
+            }
+            return EmptyBuilder.instance().forContainer();
+        }
+
+        private MetadataBuilder.ForContainer<Method> forGetter(Method getter) {
+            if (index == null || index.isConstrained(getter)) {
+                return new ReflectionBuilder.ForContainer<>(new Meta.ForMethod(getter));
+            }
+            return EmptyBuilder.instance().forContainer();
+        }
     }
 
     private abstract class ForElement<E extends AnnotatedElement> implements MetadataBuilder.ForElement<E> {
@@ -362,15 +381,18 @@ public class ReflectionBuilder {
 
     private final ApacheValidatorFactory validatorFactory;
     private final Lazy<CompositeBuilder> compositeBuilder;
+    private final boolean metadataIndexEnabled;
 
     public ReflectionBuilder(ApacheValidatorFactory validatorFactory) {
         super();
         this.validatorFactory = Validate.notNull(validatorFactory, "validatorFactory");
+        this.metadataIndexEnabled = validatorFactory.isMetadataIndexEnabled();
         this.compositeBuilder =
             new Lazy<>(() -> new CompositeBuilder(this.validatorFactory, x -> AnnotationBehavior.ABSTAIN));
     }
 
     public <T> MetadataBuilder.ForBean<T> forBean(Class<T> beanClass) {
-        return new ReflectionBuilder.ForBean<>(new Meta.ForClass<T>(beanClass));
+        return new ReflectionBuilder.ForBean<>(new Meta.ForClass<T>(beanClass),
+            metadataIndexEnabled ? MetadataIndex.find(beanClass) : null);
     }
 }
@@ -22,20 +22,35 @@ import java.lang.annotation.ElementType;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
+import java.util.function.Supplier;
+
+import org.apache.bval.jsr.util.NodeImpl;
+import org.apache.bval.jsr.util.PathImpl;
 
 /**
  * Cache results of a delegated traversable resovler to optimize calls
  * It works only for a single validate* call and should not be used if
  * the TraversableResolver is accessed concurrently
  * <p/>
+ * Besides the {@link TraversableResolver} methods, whose results are keyed by equal arguments, the validation engine
+ * uses {@link #isReachable(Object, Object, Path, Class, ElementType, Supplier)} and
+ * {@link #isCascadable(Object, Object, Path, Class, ElementType, Supplier)}, whose results are keyed by the identities
+ * of the traversable object and of the property metadata, and by the (shared, immutable) path to the traversable
+ * object, so that no new path need be built unless the delegate is actually asked. Instances can be pooled per thread
+ * with {@link #acquire(TraversableResolver)} and {@link #release()}.
+ * <p/>
  * Date: 25.11.2009 <br/>
  * Time: 13:56:18 <br/>
  *
  * @author Roman Stumm (based on the code of Emmanuel Bernard)
  */
 public class CachingTraversableResolver implements TraversableResolver, CachingRelevant {
+    private static final ThreadLocal<CachingTraversableResolver> POOL = new ThreadLocal<>();
+
     private TraversableResolver delegate;
     private Map<CacheEntry, CacheEntry> cache = new HashMap<>();
+    private final Map<PropertyEntry, PropertyEntry> propertyCache = new HashMap<>();
+    private final PropertyEntry lookup = new PropertyEntry();
 
     /**
      * Convenience method to check whether caching is necessary on a given {@link TraversableResolver}.
@@ -66,6 +81,96 @@ public class CachingTraversableResolver implements TraversableResolver, CachingR
             : traversableResolver;
     }
 
+    /**
+     * Get a cleared instance for {@code delegate}, reusing the one last released by the current thread if any.
+     * @param delegate
+     * @return {@link CachingTraversableResolver}
+     * @see #release()
+     * @since 4.0
+     */
+    public static CachingTraversableResolver acquire(TraversableResolver delegate) {
+        final CachingTraversableResolver pooled = POOL.get();
+        if (pooled == null) {
+            return new CachingTraversableResolver(delegate);
+        }
+        POOL.remove();
+        pooled.delegate = delegate;
+        return pooled;
+    }
+
+    /**
+     * Clear this instance and keep it, with the capacity of its caches, for the next
+     * {@link #acquire(TraversableResolver)} by the current thread. It must not be used afterwards.
+     * @since 4.0
+     */
+    public void release() {
+        delegate = null;
+        cache.clear();
+        propertyCache.clear();
+        // keep no reference to the validated graph or its paths:
+        lookup.set(null, null, null);
+        if (POOL.get() == null) {
+            POOL.set(this);
+        }
+    }
+
+    /**
+     * Learn whether {@code property} of {@code traversableObject} is reachable, asking the delegate only the first
+     * time for a given traversable object, property and path.
+     * @param traversableObject
+     * @param property identifies the traversed property, e.g. its metadata
+     * @param pathToTraversableObject not mutated
+     * @param rootBeanType
+     * @param elementType
+     * @param pathToProperty supplies a new path to the traversed property, only if the delegate is to be asked
+     * @return boolean
+     * @since 4.0
+     */
+    public boolean isReachable(Object traversableObject, Object property, Path pathToTraversableObject,
+        Class<?> rootBeanType, ElementType elementType, Supplier<PathImpl> pathToProperty) {
+        final PropertyEntry entry = entryFor(traversableObject, property, pathToTraversableObject);
+        if (entry.reachable == null) {
+            final PathImpl path = pathToProperty.get();
+            final NodeImpl traversableProperty = path.removeLeafNode();
+            entry.reachable = delegate.isReachable(traversableObject, traversableProperty, rootBeanType, path,
+                elementType);
+        }
+        return entry.reachable;
+    }
+
+    /**
+     * Learn whether {@code property} of {@code traversableObject} is cascadable, asking the delegate only the first
+     * time for a given traversable object, property and path.
+     * @param traversableObject
+     * @param property identifies the traversed property, e.g. its metadata
+     * @param pathToTraversableObject not mutated
+     * @param rootBeanType
+     * @param elementType
+     * @param pathToProperty supplies a new path to the traversed property, only if the delegate is to be asked
+     * @return boolean
+     * @since 4.0
+     */
+    public boolean isCascadable(Object traversableObject, Object property, Path pathToTraversableObject,
+        Class<?> rootBeanType, ElementType elementType, Supplier<PathImpl> pathToProperty) {
+        final PropertyEntry entry = entryFor(traversableObject, property, pathToTraversableObject);
+        if (entry.cascadable == null) {
+            final PathImpl path = pathToProperty.get();
+            final NodeImpl traversableProperty = path.removeLeafNode();
+            entry.cascadable = delegate.isCascadable(traversableObject, traversableProperty, rootBeanType, path,
+                elementType);
+        }
+        return entry.cascadable;
+    }
+
+    private PropertyEntry entryFor(Object traversableObject, Object property, Path pathToTraversableObject) {
+        PropertyEntry entry = propertyCache.get(lookup.set(traversableObject, property, pathToTraversableObject));
+        if (entry == null) {
+            entry = new PropertyEntry().set(traversableObject, property, pathToTraversableObject);
+            propertyCache.put(entry, entry);
+        }
+        return entry;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -116,6 +221,52 @@ public class CachingTraversableResolver implements TraversableResolver, CachingR
         return false; // I am the cache. Do not need cache for cache
     }
 
+    /**
+     * Entry in the cache of properties, keyed by the identities of the object and property and by the path; also
+     * used, mutably, to look entries up.
+     */
+    private static class PropertyEntry {
+        private Object object;
+        private Object property;
+        private Path path;
+        private int hashCode;
+
+        private Boolean reachable;
+        private Boolean cascadable;
+
+        private PropertyEntry set(Object traversableObject, Object property, Path pathToTraversableObject) {
+            this.object = traversableObject;
+            this.property = property;
+            this.path = pathToTraversableObject;
+            this.hashCode = 31 * (31 * System.identityHashCode(traversableObject) + System.identityHashCode(property))
+                + Objects.hashCode(pathToTraversableObject);
+            return this;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof PropertyEntry)) {
+                return false;
+            }
+            final PropertyEntry that = (PropertyEntry) o;
+            return object == that.object && property == that.property && Objects.equals(path, that.path);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+
     /**
      * Entry in the cache.
      */
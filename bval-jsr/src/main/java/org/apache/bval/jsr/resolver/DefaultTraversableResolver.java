@@ -69,6 +69,16 @@ public class DefaultTraversableResolver implements TraversableResolver, CachingR
             pathToTraversableObject, elementType);
     }
 
+    /**
+     * Learn whether every property is reachable and cascadable, i.e. JPA is not available.
+     *
+     * @return {@code boolean}
+     * @since 4.0
+     */
+    public boolean isTraversingAll() {
+        return jpaTR == null;
+    }
+
     /** Tries to load detect and load JPA. */
     @SuppressWarnings("unchecked")
     private void initJpa() {
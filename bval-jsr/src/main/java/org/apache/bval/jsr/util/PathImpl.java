@@ -18,10 +18,16 @@
  */
 package org.apache.bval.jsr.util;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
 import java.io.Serializable;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.Comparator;
+import java.util.Deque;
 import java.util.Iterator;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Objects;
 
@@ -31,8 +37,8 @@ import org.apache.bval.util.Comparators;
 import org.apache.bval.util.Exceptions;
 
 /**
- * Description: object holding the property path as a list of nodes. (Implementation partially based on reference
- * implementation) <br/>
+ * Description: object holding the property path as a list of nodes, linked from leaf to root and shared with the
+ * paths copied from this one. (Implementation partially based on reference implementation) <br/>
  * This class is not synchronized.
  * 
  * @version $Rev: 1498347 $ $Date: 2013-07-01 12:06:18 +0200 (lun., 01 juil. 2013) $
@@ -164,12 +170,80 @@ public class PathImpl implements Path, Serializable {
         return n != null && n.getName() == null && (n.isInIterable() || n.getContainerClass() != null);
     }
 
-    private final LinkedList<NodeImpl> nodeList = new LinkedList<>();
+    /**
+     * Persistent (immutable but for the node of an exclusively owned leaf) list of nodes, linked from leaf to root, so
+     * that paths sharing a prefix share its segments and copying a path costs nothing. The hash code and string of a
+     * segment's nodes are cached once it is known to be interior, i.e. when it is the parent of a path's leaf: the
+     * paths of sibling violations then only hash and print their own leaves.
+     */
+    private static final class Segment {
+        final Segment parent;
+        final NodeImpl node;
+        final int length;
+
+        // 0 until computed, as String#hashCode(), so that no flag may be seen set before the hash by other threads:
+        private int hash;
+        private String string;
+
+        Segment(Segment parent, NodeImpl node) {
+            this.parent = parent;
+            this.node = node;
+            this.length = parent == null ? 1 : parent.length + 1;
+        }
+
+        /**
+         * Get the {@link List#hashCode()} of the nodes up to this interior segment.
+         */
+        int interiorHashCode() {
+            if (hash == 0) {
+                final Deque<Segment> uncached = new ArrayDeque<>();
+                Segment s = this;
+                while (s != null && s.hash == 0) {
+                    uncached.push(s);
+                    s = s.parent;
+                }
+                int h = s == null ? 1 : s.hash;
+                while (!uncached.isEmpty()) {
+                    s = uncached.pop();
+                    h = 31 * h + Objects.hashCode(s.node);
+                    s.hash = h;
+                }
+                return h;
+            }
+            return hash;
+        }
+
+        /**
+         * Get the string representation of the nodes up to this interior segment.
+         */
+        String interiorString() {
+            if (string == null) {
+                // only cache the string asked for, lest every prefix of a deep path keep its own copy:
+                final Deque<Segment> unbuilt = new ArrayDeque<>();
+                Segment s = this;
+                while (s != null && s.string == null) {
+                    unbuilt.push(s);
+                    s = s.parent;
+                }
+                final StringBuilder builder = new StringBuilder();
+                if (s != null) {
+                    builder.append(s.string);
+                }
+                while (!unbuilt.isEmpty()) {
+                    NodeImpl.appendNode(unbuilt.pop().node, builder);
+                }
+                string = builder.toString();
+            }
+            return string;
+        }
+    }
+
+    private transient Segment leaf;
 
-    // Copy-on-write for the leaf node. copy() of another PathImpl shares node references instead of deep-copying
+    // Copy-on-write for the leaf node. copy() of another PathImpl shares its segments instead of deep-copying
     // (nodes are effectively immutable once they are interior; only the current leaf is ever mutated in place).
     // When the leaf may be shared with another path, it is copied before any in-place mutation. See unshareLeaf().
-    private boolean sharedLeaf;
+    private transient boolean sharedLeaf;
 
     private PathImpl() {
     }
@@ -177,15 +251,15 @@ public class PathImpl implements Path, Serializable {
     private PathImpl(Path path) {
         if (path instanceof PathImpl) {
             final PathImpl source = (PathImpl) path;
-            // share node references; the leaf will be copied on first mutation by whichever path mutates it
-            nodeList.addAll(source.nodeList);
-            if (!nodeList.isEmpty()) {
+            // share segments; the leaf will be copied on first mutation by whichever path mutates it
+            leaf = source.leaf;
+            if (leaf != null) {
                 sharedLeaf = true;
                 // the source now shares its leaf with this copy, so it must copy-on-write too
                 source.sharedLeaf = true;
             }
         } else {
-            path.forEach(n -> nodeList.add(newNode(n)));
+            path.forEach(n -> leaf = new Segment(leaf, newNode(n)));
         }
     }
 
@@ -195,18 +269,15 @@ public class PathImpl implements Path, Serializable {
      * @return the (now exclusively owned) leaf node, or {@code null} if this path is empty
      */
     private NodeImpl unshareLeaf() {
-        if (nodeList.isEmpty()) {
+        if (leaf == null) {
             sharedLeaf = false;
             return null;
         }
-        final int last = nodeList.size() - 1;
-        NodeImpl leaf = nodeList.get(last);
         if (sharedLeaf) {
-            leaf = newNode(leaf);
-            nodeList.set(last, leaf);
+            leaf = new Segment(leaf.parent, newNode(leaf.node));
         }
         sharedLeaf = false;
-        return leaf;
+        return leaf.node;
     }
 
     /**
@@ -226,10 +297,10 @@ public class PathImpl implements Path, Serializable {
      */
     // our implementation stores a nameless root node.
     public boolean isRootPath() {
-        if (nodeList.size() != 1) {
+        if (leaf == null || leaf.parent != null) {
             return false;
         }
-        final Path.Node first = nodeList.peekFirst();
+        final Path.Node first = leaf.node;
         return !first.isInIterable() && first.getName() == null;
     }
 
@@ -242,10 +313,7 @@ public class PathImpl implements Path, Serializable {
      */
     public PathImpl addNode(Node node) {
         final NodeImpl impl = node instanceof NodeImpl ? (NodeImpl) node : newNode(node);
-        if (isRootPath()) {
-            nodeList.pop();
-        }
-        nodeList.add(impl);
+        leaf = new Segment(isRootPath() ? null : leaf, impl);
         // the appended node is caller-owned/fresh, so the new leaf is exclusively owned
         sharedLeaf = false;
         return this;
@@ -258,19 +326,19 @@ public class PathImpl implements Path, Serializable {
      * @return {@code this}, fluently
      */
     public PathImpl addProperty(String name) {
-        if (!nodeList.isEmpty()) {
-            NodeImpl leaf = getLeafNode();
-            if (isAwaitingPropertyName(leaf)) {
-                if (!PropertyNode.class.isInstance(leaf)) {
-                    final NodeImpl tmp = new NodeImpl.PropertyNodeImpl(leaf);
+        if (leaf != null) {
+            NodeImpl leafNode = getLeafNode();
+            if (isAwaitingPropertyName(leafNode)) {
+                if (!PropertyNode.class.isInstance(leafNode)) {
+                    final NodeImpl tmp = new NodeImpl.PropertyNodeImpl(leafNode);
                     removeLeafNode();
                     addNode(tmp);
-                    leaf = tmp;
+                    leafNode = tmp;
                 } else {
                     // about to mutate the leaf in place; make sure it is not shared with another path
-                    leaf = unshareLeaf();
+                    leafNode = unshareLeaf();
                 }
-                leaf.setName(name);
+                leafNode.setName(name);
                 return this;
             }
         }
@@ -279,7 +347,7 @@ public class PathImpl implements Path, Serializable {
 
     public PathImpl addBean() {
         final NodeImpl.BeanNodeImpl node;
-        if (!nodeList.isEmpty() && isAwaitingPropertyName(getLeafNode())) {
+        if (leaf != null && isAwaitingPropertyName(getLeafNode())) {
             node = new NodeImpl.BeanNodeImpl(removeLeafNode());
         } else {
             node = new NodeImpl.BeanNodeImpl();
@@ -295,19 +363,18 @@ public class PathImpl implements Path, Serializable {
      *             if no nodes are found
      */
     public NodeImpl removeLeafNode() {
-        Exceptions.raiseIf(isRootPath() || nodeList.isEmpty(), IllegalStateException::new, "No nodes in path!");
-
-        try {
-            return nodeList.removeLast();
-        } finally {
-            if (nodeList.isEmpty()) {
-                nodeList.add(new NodeImpl.BeanNodeImpl());
-                sharedLeaf = false;
-            } else {
-                // the newly exposed leaf was previously interior and may be shared
-                sharedLeaf = true;
-            }
+        Exceptions.raiseIf(isRootPath() || leaf == null, IllegalStateException::new, "No nodes in path!");
+
+        final NodeImpl result = leaf.node;
+        leaf = leaf.parent;
+        if (leaf == null) {
+            leaf = new Segment(null, new NodeImpl.BeanNodeImpl());
+            sharedLeaf = false;
+        } else {
+            // the newly exposed leaf was previously interior and may be shared
+            sharedLeaf = true;
         }
+        return result;
     }
 
     /**
@@ -315,7 +382,7 @@ public class PathImpl implements Path, Serializable {
      */
     @Override
     public int length() {
-        return nodeList.size();
+        return leaf == null ? 0 : leaf.length;
     }
 
     /**
@@ -323,10 +390,15 @@ public class PathImpl implements Path, Serializable {
      */
     @Override
     public NodeImpl getNode(int index) {
-        Exceptions.raiseIf(index < 0 || index >= nodeList.size(), IndexOutOfBoundsException::new,
-            "Index %d is out of bounds for path of length %d", index, nodeList.size());
+        final int length = length();
+        Exceptions.raiseIf(index < 0 || index >= length, IndexOutOfBoundsException::new,
+            "Index %d is out of bounds for path of length %d", index, length);
 
-        return nodeList.get(index);
+        Segment s = leaf;
+        for (int i = length - 1; i > index; i--) {
+            s = s.parent;
+        }
+        return s.node;
     }
 
     /**
@@ -334,9 +406,13 @@ public class PathImpl implements Path, Serializable {
      */
     @Override
     public NodeImpl getRootNode() {
-        Exceptions.raiseIf(nodeList.isEmpty(), IndexOutOfBoundsException::new, "Path is empty");
+        Exceptions.raiseIf(leaf == null, IndexOutOfBoundsException::new, "Path is empty");
 
-        return nodeList.peekFirst();
+        Segment s = leaf;
+        while (s.parent != null) {
+            s = s.parent;
+        }
+        return s.node;
     }
 
     /**
@@ -344,9 +420,9 @@ public class PathImpl implements Path, Serializable {
      */
     @Override
     public NodeImpl getLeafNode() {
-        Exceptions.raiseIf(nodeList.isEmpty(), IndexOutOfBoundsException::new, "Path is empty");
+        Exceptions.raiseIf(leaf == null, IndexOutOfBoundsException::new, "Path is empty");
 
-        return nodeList.peekLast();
+        return leaf.node;
     }
 
     /**
@@ -354,9 +430,12 @@ public class PathImpl implements Path, Serializable {
      */
     @Override
     public Iterator<Path.Node> iterator() {
-        @SuppressWarnings({ "unchecked", "rawtypes" })
-        final Iterator<Path.Node> result = ((List) nodeList).iterator();
-        return result;
+        final Path.Node[] nodes = new Path.Node[length()];
+        int i = nodes.length;
+        for (Segment s = leaf; s != null; s = s.parent) {
+            nodes[--i] = s.node;
+        }
+        return Collections.unmodifiableList(Arrays.asList(nodes)).iterator();
     }
 
     /**
@@ -405,10 +484,14 @@ public class PathImpl implements Path, Serializable {
      */
     @Override
     public String toString() {
+        if (leaf == null) {
+            return "";
+        }
         final StringBuilder builder = new StringBuilder();
-        for (Path.Node node : this) {
-            NodeImpl.appendNode(node, builder);
+        if (leaf.parent != null) {
+            builder.append(leaf.parent.interiorString());
         }
+        NodeImpl.appendNode(leaf.node, builder);
         return builder.toString();
     }
 
@@ -423,7 +506,20 @@ public class PathImpl implements Path, Serializable {
         if (o == null || !getClass().equals(o.getClass())) {
             return false;
         }
-        return Objects.equals(nodeList, ((PathImpl) o).nodeList);
+        Segment s = leaf;
+        Segment t = ((PathImpl) o).leaf;
+        if (length() != ((PathImpl) o).length()) {
+            return false;
+        }
+        // paths copied from one another share their prefixes:
+        while (s != t) {
+            if (!Objects.equals(s.node, t.node)) {
+                return false;
+            }
+            s = s.parent;
+            t = t.parent;
+        }
+        return true;
     }
 
     /**
@@ -431,6 +527,25 @@ public class PathImpl implements Path, Serializable {
      */
     @Override
     public int hashCode() {
-        return Objects.hashCode(nodeList);
+        if (leaf == null) {
+            return 1;
+        }
+        final int h = leaf.parent == null ? 1 : leaf.parent.interiorHashCode();
+        return 31 * h + Objects.hashCode(leaf.node);
+    }
+
+    private void writeObject(ObjectOutputStream out) throws IOException {
+        out.defaultWriteObject();
+        out.writeInt(length());
+        for (Path.Node node : this) {
+            out.writeObject(node);
+        }
+    }
+
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        for (int i = in.readInt(); i > 0; i--) {
+            leaf = new Segment(leaf, (NodeImpl) in.readObject());
+        }
     }
 }
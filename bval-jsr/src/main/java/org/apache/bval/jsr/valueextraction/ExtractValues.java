@@ -106,4 +106,24 @@ public final class ExtractValues {
         }
         return Collections.singletonList(context);
     }
+
+    /**
+     * Get the context of the value at {@code index} of the container in {@code context}, as {@link #extract} would
+     * for a {@link ValueExtractor} reporting that value with {@link ValueExtractor.ValueReceiver#indexedValue}.
+     *
+     * @param context
+     * @param containerElementKey
+     * @param nodeName
+     * @param index
+     * @param value
+     * @return {@link GraphContext}
+     */
+    public static GraphContext extractIndexed(GraphContext context, ContainerElementKey containerElementKey,
+        String nodeName, int index, Object value) {
+        Validate.notNull(context, "context");
+        Validate.notNull(containerElementKey, "containerElementKey");
+        final Receiver receiver = new Receiver(context, containerElementKey);
+        receiver.indexedValue(nodeName, index, value);
+        return receiver.result.get().get(0);
+    }
 }
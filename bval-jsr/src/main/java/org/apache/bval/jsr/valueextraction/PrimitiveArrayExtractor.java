@@ -0,0 +1,190 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.bval.jsr.valueextraction;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+import jakarta.validation.valueextraction.ExtractedValue;
+import jakarta.validation.valueextraction.ValueExtractor;
+
+import org.apache.bval.constraints.PrimitiveNumberValidator;
+
+/**
+ * {@link ValueExtractor}s of the elements of arrays of primitives, to which constraints declared with
+ * {@link jakarta.validation.valueextraction.Unwrapping.Unwrap} apply. The elements of numeric arrays can also be
+ * checked against a {@link PrimitiveNumberValidator} without boxing them.
+ */
+public abstract class PrimitiveArrayExtractor {
+    public static final String ELEMENT_NODE_NAME = "<iterable element>";
+
+    public static class ForBoolean implements ValueExtractor<boolean @ExtractedValue(type = Boolean.class) []> {
+
+        @Override
+        public void extractValues(boolean[] originalValue, ValueExtractor.ValueReceiver receiver) {
+            for (int i = 0; i < originalValue.length; i++) {
+                receiver.indexedValue(ELEMENT_NODE_NAME, i, Boolean.valueOf(originalValue[i]));
+            }
+        }
+    }
+
+    public static class ForChar implements ValueExtractor<char @ExtractedValue(type = Character.class) []> {
+
+        @Override
+        public void extractValues(char[] originalValue, ValueExtractor.ValueReceiver receiver) {
+            for (int i = 0; i < originalValue.length; i++) {
+                receiver.indexedValue(ELEMENT_NODE_NAME, i, Character.valueOf(originalValue[i]));
+            }
+        }
+    }
+
+    public static class ForByte implements ValueExtractor<byte @ExtractedValue(type = Byte.class) []> {
+
+        @Override
+        public void extractValues(byte[] originalValue, ValueExtractor.ValueReceiver receiver) {
+            for (int i = 0; i < originalValue.length; i++) {
+                receiver.indexedValue(ELEMENT_NODE_NAME, i, Byte.valueOf(originalValue[i]));
+            }
+        }
+    }
+
+    public static class ForShort implements ValueExtractor<short @ExtractedValue(type = Short.class) []> {
+
+        @Override
+        public void extractValues(short[] originalValue, ValueExtractor.ValueReceiver receiver) {
+            for (int i = 0; i < originalValue.length; i++) {
+                receiver.indexedValue(ELEMENT_NODE_NAME, i, Short.valueOf(originalValue[i]));
+            }
+        }
+    }
+
+    public static class ForInt implements ValueExtractor<int @ExtractedValue(type = Integer.class) []> {
+
+        @Override
+        public void extractValues(int[] originalValue, ValueExtractor.ValueReceiver receiver) {
+            for (int i = 0; i < originalValue.length; i++) {
+                receiver.indexedValue(ELEMENT_NODE_NAME, i, Integer.valueOf(originalValue[i]));
+            }
+        }
+    }
+
+    public static class ForLong implements ValueExtractor<long @ExtractedValue(type = Long.class) []> {
+
+        @Override
+        public void extractValues(long[] originalValue, ValueExtractor.ValueReceiver receiver) {
+            for (int i = 0; i < originalValue.length; i++) {
+                receiver.indexedValue(ELEMENT_NODE_NAME, i, Long.valueOf(originalValue[i]));
+            }
+        }
+    }
+
+    public static class ForFloat implements ValueExtractor<float @ExtractedValue(type = Float.class) []> {
+
+        @Override
+        public void extractValues(float[] originalValue, ValueExtractor.ValueReceiver receiver) {
+            for (int i = 0; i < originalValue.length; i++) {
+                receiver.indexedValue(ELEMENT_NODE_NAME, i, Float.valueOf(originalValue[i]));
+            }
+        }
+    }
+
+    public static class ForDouble implements ValueExtractor<double @ExtractedValue(type = Double.class) []> {
+
+        @Override
+        public void extractValues(double[] originalValue, ValueExtractor.ValueReceiver receiver) {
+            for (int i = 0; i < originalValue.length; i++) {
+                receiver.indexedValue(ELEMENT_NODE_NAME, i, Double.valueOf(originalValue[i]));
+            }
+        }
+    }
+
+    private static final Set<Class<?>> NUMERIC = Collections.unmodifiableSet(new HashSet<>(Arrays.asList(
+        ForByte.class, ForShort.class, ForInt.class, ForLong.class, ForFloat.class, ForDouble.class)));
+
+    /**
+     * Learn whether {@code extractor} is one of the extractors of numeric arrays declared here, whose elements
+     * {@link #indexOfInvalid(Object, int, PrimitiveNumberValidator)} can check instead.
+     *
+     * @param extractor
+     * @return {@code boolean}
+     */
+    public static boolean isNumeric(ValueExtractor<?> extractor) {
+        return extractor != null && NUMERIC.contains(extractor.getClass());
+    }
+
+    /**
+     * Find the first element of a numeric array, from {@code fromIndex}, that {@code validator} finds invalid.
+     *
+     * @param array
+     *            of {@code byte}, {@code short}, {@code int}, {@code long}, {@code float} or {@code double}
+     * @param fromIndex
+     * @param validator
+     * @return index, or {@code -1} if there is no such element
+     */
+    public static int indexOfInvalid(Object array, int fromIndex, PrimitiveNumberValidator validator) {
+        if (array instanceof int[]) {
+            final int[] values = (int[]) array;
+            for (int i = fromIndex; i < values.length; i++) {
+                if (!validator.isValid((long) values[i])) {
+                    return i;
+                }
+            }
+        } else if (array instanceof double[]) {
+            final double[] values = (double[]) array;
+            for (int i = fromIndex; i < values.length; i++) {
+                if (!validator.isValid(values[i])) {
+                    return i;
+                }
+            }
+        } else if (array instanceof long[]) {
+            final long[] values = (long[]) array;
+            for (int i = fromIndex; i < values.length; i++) {
+                if (!validator.isValid(values[i])) {
+                    return i;
+                }
+            }
+        } else if (array instanceof float[]) {
+            final float[] values = (float[]) array;
+            for (int i = fromIndex; i < values.length; i++) {
+                if (!validator.isValid((double) values[i])) {
+                    return i;
+                }
+            }
+        } else if (array instanceof short[]) {
+            final short[] values = (short[]) array;
+            for (int i = fromIndex; i < values.length; i++) {
+                if (!validator.isValid((long) values[i])) {
+                    return i;
+                }
+            }
+        } else if (array instanceof byte[]) {
+            final byte[] values = (byte[]) array;
+            for (int i = fromIndex; i < values.length; i++) {
+                if (!validator.isValid((long) values[i])) {
+                    return i;
+                }
+            }
+        } else {
+            throw new IllegalArgumentException(String.valueOf(array));
+        }
+        return -1;
+    }
+}
@@ -319,6 +319,11 @@ public class ValueExtractors {
         }
         final Map<Class<?>, Optional<UnwrappingInfo>> cache =
             valueUnwrapping == ValidateUnwrappedValue.UNWRAP ? unwrapForcedCache : unwrapDefaultCache;
+        final Optional<UnwrappingInfo> cached = cache.get(containerClass);
+        if (cached != null) {
+            // avoid allocating the capturing mapping function on the (usual) cache hit:
+            return cached;
+        }
         // computeIfAbsent does not cache a thrown exception, so the UNWRAP "not found" error below is
         // re-evaluated on each call for that (rare, misconfigured) case rather than being memoized.
         return cache.computeIfAbsent(containerClass, k -> computeUnwrappingInfo(k, valueUnwrapping));
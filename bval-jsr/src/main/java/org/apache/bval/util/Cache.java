@@ -0,0 +1,168 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one or more
+ *  contributor license agreements.  See the NOTICE file distributed with
+ *  this work for additional information regarding copyright ownership.
+ *  The ASF licenses this file to You under the Apache License, Version 2.0
+ *  (the "License"); you may not use this file except in compliance with
+ *  the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.apache.bval.util;
+
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Thread-safe cache of values that can be recomputed when missing, e.g. because they were evicted. {@code null}
+ * keys and values are not supported.
+ *
+ * @param <K>
+ *            key type
+ * @param <V>
+ *            value type
+ * @since 4.0
+ */
+public interface Cache<K, V> {
+
+    /**
+     * Creates the caches of a validator factory. Implementations must have a public no-arg constructor in order to be
+     * configured by class name.
+     */
+    @FunctionalInterface
+    interface Factory {
+
+        /**
+         * Create a cache.
+         *
+         * @param name
+         *            identifying the cache within its validator factory, e.g. for statistics
+         * @param keyType
+         *            common supertype of the cache's keys
+         * @return {@link Cache}
+         */
+        <K, V> Cache<K, V> create(String name, Class<?> keyType);
+
+        /**
+         * Create a cache that passes each value it evicts, or that is replaced by {@link Cache#put(Object, Object)}
+         * or removed by {@link Cache#clear()}, to {@code evictionListener}, e.g. to release resources the value
+         * holds. The default implementation delegates to {@link #create(String, Class)} and never notifies
+         * {@code evictionListener}; factories of bounded caches should override it.
+         *
+         * @param name
+         *            identifying the cache within its validator factory, e.g. for statistics
+         * @param keyType
+         *            common supertype of the cache's keys
+         * @param evictionListener
+         * @return {@link Cache}
+         */
+        default <K, V> Cache<K, V> create(String name, Class<?> keyType, Consumer<? super V> evictionListener) {
+            return create(name, keyType);
+        }
+    }
+
+    /**
+     * Point-in-time cache statistics.
+     */
+    final class Stats {
+        private final long hitCount;
+        private final long missCount;
+        private final long evictionCount;
+        private final int size;
+
+        public Stats(long hitCount, long missCount, long evictionCount, int size) {
+            super();
+            this.hitCount = hitCount;
+            this.missCount = missCount;
+            this.evictionCount = evictionCount;
+            this.size = size;
+        }
+
+        public long getHitCount() {
+            return hitCount;
+        }
+
+        public long getMissCount() {
+            return missCount;
+        }
+
+        /**
+         * Get the number of entries removed to keep the cache within its bounds.
+         *
+         * @return {@code long}
+         */
+        public long getEvictionCount() {
+            return evictionCount;
+        }
+
+        public int getSize() {
+            return size;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%s{hits=%d, misses=%d, evictions=%d, size=%d}", Stats.class.getSimpleName(),
+                hitCount, missCount, evictionCount, size);
+        }
+    }
+
+    /**
+     * Get the value cached for {@code key}.
+     *
+     * @param key
+     * @return {@code V} or {@code null}
+     */
+    V get(K key);
+
+    /**
+     * Get the value cached for {@code key}, computing and caching it if absent.
+     *
+     * @param key
+     * @param mappingFunction
+     *            must not update this cache; may return {@code null} to cache nothing
+     * @return {@code V} or {@code null}
+     */
+    V computeIfAbsent(K key, Function<? super K, ? extends V> mappingFunction);
+
+    /**
+     * Cache {@code value} for {@code key} unless a value is already cached.
+     *
+     * @param key
+     * @param value
+     * @return the value previously cached for {@code key}, or {@code null}
+     */
+    V putIfAbsent(K key, V value);
+
+    /**
+     * Cache {@code value} for {@code key}, replacing any value already cached.
+     *
+     * @param key
+     * @param value
+     */
+    void put(K key, V value);
+
+    /**
+     * Remove all entries.
+     */
+    void clear();
+
+    /**
+     * Get the number of entries currently cached.
+     *
+     * @return {@code int}
+     */
+    int size();
+
+    /**
+     * Get statistics about this cache's use; counters are zero unless statistics are recorded.
+     *
+     * @return {@link Stats}
+     */
+    Stats stats();
+}
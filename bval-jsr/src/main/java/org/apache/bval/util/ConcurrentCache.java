@@ -0,0 +1,259 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one or more
+ *  contributor license agreements.  See the NOTICE file distributed with
+ *  this work for additional information regarding copyright ownership.
+ *  The ASF licenses this file to You under the Apache License, Version 2.0
+ *  (the "License"); you may not use this file except in compliance with
+ *  the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.apache.bval.util;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * {@link ConcurrentHashMap}-backed {@link Cache}, optionally:
+ * <ul>
+ * <li>bounded: once the maximum size is exceeded, entries are evicted in approximate least-recently-used order by a
+ * "second chance" clock sweep, so that reads never lock or reorder anything;</li>
+ * <li>passing each value it drops, whether evicted, replaced by {@link #put(Object, Object)} or cleared, to a
+ * listener;</li>
+ * <li>recording hit, miss and eviction counts.</li>
+ * </ul>
+ *
+ * @param <K>
+ *            key type
+ * @param <V>
+ *            value type
+ * @since 4.0
+ */
+public class ConcurrentCache<K, V> implements Cache<K, V> {
+
+    /**
+     * {@link Cache.Factory} of {@link ConcurrentCache} instances sharing the same settings.
+     */
+    public static class Factory implements Cache.Factory {
+        private final int maximumSize;
+        private final boolean recordStats;
+
+        /**
+         * Create a factory of unbounded caches that do not record statistics.
+         */
+        public Factory() {
+            this(0, false);
+        }
+
+        /**
+         * Create a new {@link Factory} instance.
+         *
+         * @param maximumSize
+         *            maximum size of each cache, {@code <= 0} for unbounded caches
+         * @param recordStats
+         */
+        public Factory(int maximumSize, boolean recordStats) {
+            super();
+            this.maximumSize = maximumSize;
+            this.recordStats = recordStats;
+        }
+
+        @Override
+        public <K, V> Cache<K, V> create(String name, Class<?> keyType) {
+            return new ConcurrentCache<>(maximumSize, recordStats);
+        }
+
+        @Override
+        public <K, V> Cache<K, V> create(String name, Class<?> keyType, Consumer<? super V> evictionListener) {
+            return new ConcurrentCache<>(maximumSize, recordStats, evictionListener);
+        }
+    }
+
+    private static class Node<K, V> {
+        final K key;
+        final V value;
+        volatile boolean referenced;
+
+        Node(K key, V value) {
+            super();
+            this.key = key;
+            this.value = value;
+        }
+    }
+
+    private final ConcurrentMap<K, Node<K, V>> map = new ConcurrentHashMap<>();
+    private final int maximumSize;
+    /** Clock of admitted nodes; {@code null} if unbounded. */
+    private final Queue<Node<K, V>> clock;
+    private final Consumer<? super V> evictionListener;
+    private final LongAdder hits;
+    private final LongAdder misses;
+    private final LongAdder evictions;
+
+    /**
+     * Create a new {@link ConcurrentCache} instance.
+     *
+     * @param maximumSize
+     *            {@code <= 0} for an unbounded cache
+     * @param recordStats
+     */
+    public ConcurrentCache(int maximumSize, boolean recordStats) {
+        this(maximumSize, recordStats, null);
+    }
+
+    /**
+     * Create a new {@link ConcurrentCache} instance.
+     *
+     * @param maximumSize
+     *            {@code <= 0} for an unbounded cache
+     * @param recordStats
+     * @param evictionListener
+     *            passed each value evicted to keep the cache within its bounds, replaced or cleared, if not
+     *            {@code null}
+     */
+    public ConcurrentCache(int maximumSize, boolean recordStats, Consumer<? super V> evictionListener) {
+        super();
+        this.maximumSize = maximumSize;
+        this.clock = maximumSize > 0 ? new ConcurrentLinkedQueue<>() : null;
+        this.evictionListener = evictionListener;
+        this.hits = recordStats ? new LongAdder() : null;
+        this.misses = recordStats ? new LongAdder() : null;
+        this.evictions = recordStats ? new LongAdder() : null;
+    }
+
+    @Override
+    public V get(K key) {
+        final Node<K, V> node = map.get(key);
+        if (node == null) {
+            if (misses != null) {
+                misses.increment();
+            }
+            return null;
+        }
+        if (hits != null) {
+            hits.increment();
+        }
+        if (clock != null && !node.referenced) {
+            node.referenced = true;
+        }
+        return node.value;
+    }
+
+    @Override
+    public V computeIfAbsent(K key, Function<? super K, ? extends V> mappingFunction) {
+        final V existing = get(key);
+        if (existing != null) {
+            return existing;
+        }
+        Validate.notNull(key, "key");
+        @SuppressWarnings("unchecked")
+        final Node<K, V>[] created = new Node[1];
+        final Node<K, V> node = map.computeIfAbsent(key, k -> {
+            final V value = mappingFunction.apply(k);
+            if (value == null) {
+                return null;
+            }
+            created[0] = new Node<>(k, value);
+            return created[0];
+        });
+        if (node == null) {
+            return null;
+        }
+        if (node == created[0]) {
+            admit(node);
+        }
+        return node.value;
+    }
+
+    @Override
+    public V putIfAbsent(K key, V value) {
+        Validate.notNull(key, "key");
+        Validate.notNull(value, "value");
+        final Node<K, V> node = new Node<>(key, value);
+        final Node<K, V> previous = map.putIfAbsent(key, node);
+        if (previous != null) {
+            return previous.value;
+        }
+        admit(node);
+        return null;
+    }
+
+    @Override
+    public void put(K key, V value) {
+        Validate.notNull(key, "key");
+        Validate.notNull(value, "value");
+        final Node<K, V> node = new Node<>(key, value);
+        final Node<K, V> previous = map.put(key, node);
+        if (previous != null && previous.value != value && evictionListener != null) {
+            evictionListener.accept(previous.value);
+        }
+        admit(node);
+    }
+
+    @Override
+    public void clear() {
+        if (evictionListener == null) {
+            map.clear();
+        } else {
+            // remove one by one, so that each value is passed to the listener exactly once:
+            map.keySet().forEach(key -> {
+                final Node<K, V> removed = map.remove(key);
+                if (removed != null) {
+                    evictionListener.accept(removed.value);
+                }
+            });
+        }
+        if (clock != null) {
+            clock.clear();
+        }
+    }
+
+    @Override
+    public int size() {
+        return map.size();
+    }
+
+    @Override
+    public Stats stats() {
+        return hits == null ? new Stats(0, 0, 0, size())
+            : new Stats(hits.sum(), misses.sum(), evictions.sum(), size());
+    }
+
+    private void admit(Node<K, V> node) {
+        if (clock == null) {
+            return;
+        }
+        clock.offer(node);
+        // each pass over the clock clears the reference bits it passes, so that two passes find a victim unless
+        // concurrent reads keep setting them; bound the sweep rather than compete with those:
+        int budget = 2 * map.size() + 16;
+        while (map.size() > maximumSize && budget-- > 0) {
+            final Node<K, V> candidate = clock.poll();
+            if (candidate == null) {
+                break;
+            }
+            if (candidate.referenced) {
+                candidate.referenced = false;
+                clock.offer(candidate);
+            } else if (map.remove(candidate.key, candidate)) {
+                if (evictions != null) {
+                    evictions.increment();
+                }
+                if (evictionListener != null) {
+                    evictionListener.accept(candidate.value);
+                }
+            }
+        }
+    }
+}
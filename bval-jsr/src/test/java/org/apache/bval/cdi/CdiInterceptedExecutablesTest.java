@@ -0,0 +1,166 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.bval.cdi;
+
+import jakarta.annotation.Priority;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.context.Dependent;
+import jakarta.enterprise.inject.Instance;
+import jakarta.inject.Inject;
+import jakarta.interceptor.AroundConstruct;
+import jakarta.interceptor.AroundInvoke;
+import jakarta.interceptor.Interceptor;
+import jakarta.interceptor.InvocationContext;
+import jakarta.validation.ConstraintViolationException;
+import jakarta.validation.constraints.NotNull;
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.junit.Arquillian;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.ClassRule;
+import org.junit.Test;
+import org.junit.rules.ExternalResource;
+import org.junit.runner.RunWith;
+
+import java.io.Serializable;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Checks which executables {@link BValExtension} binds the interceptor to, by recording the invocations of another
+ * interceptor with the same {@link BValBinding}.
+ */
+@RunWith(Arquillian.class)
+public class CdiInterceptedExecutablesTest {
+    @ClassRule
+    public static ExternalResource allowServiceTypes = new ExternalResource() {
+        @Override
+        protected void before() throws Throwable {
+            BValExtension.setAnnotatedTypeFilter(
+                at -> at.getJavaClass() == GreetingServiceImpl.class || at.getJavaClass() == Greeting.class);
+        }
+
+        @Override
+        protected void after() {
+            BValExtension.setAnnotatedTypeFilter(BValExtension.DEFAULT_ANNOTATED_TYPE_FILTER);
+        }
+    };
+
+    @Inject
+    private GreetingServiceImpl service;
+
+    @Inject
+    private Instance<Greeting> greetings;
+
+    @Deployment
+    public static JavaArchive createDeployment() {
+        return ShrinkWrap.create(JavaArchive.class).addClasses(GreetingService.class, BaseGreetingService.class,
+            GreetingServiceImpl.class, Greeting.class, RecordingInterceptor.class);
+    }
+
+    @Before
+    public void clear() {
+        RecordingInterceptor.INTERCEPTED.clear();
+    }
+
+    @Test
+    public void interfaceConstrainedMethodIntercepted() {
+        Assert.assertThrows(ConstraintViolationException.class, () -> service.greet(null));
+        Assert.assertEquals("Hello world", service.greet("world"));
+        Assert.assertTrue(RecordingInterceptor.INTERCEPTED.contains("greet"));
+    }
+
+    @Test
+    public void inheritedConstrainedMethodIntercepted() {
+        Assert.assertThrows(ConstraintViolationException.class, () -> service.farewell(null));
+        Assert.assertEquals("Goodbye world", service.farewell("world"));
+        Assert.assertTrue(RecordingInterceptor.INTERCEPTED.contains("farewell"));
+    }
+
+    @Test
+    public void unconstrainedMethodNotIntercepted() {
+        Assert.assertNull(service.echo(null));
+        Assert.assertTrue(RecordingInterceptor.INTERCEPTED.isEmpty());
+    }
+
+    @Test
+    public void constrainedConstructorIntercepted() {
+        Assert.assertEquals("Hello world", greetings.get().text());
+        Assert.assertTrue(RecordingInterceptor.INTERCEPTED.contains(Greeting.class.getSimpleName()));
+    }
+
+    public interface GreetingService {
+        String greet(@NotNull String name);
+    }
+
+    public abstract static class BaseGreetingService {
+        public String farewell(@NotNull String name) {
+            return "Goodbye " + name;
+        }
+    }
+
+    @ApplicationScoped
+    public static class GreetingServiceImpl extends BaseGreetingService implements GreetingService {
+        @Override
+        public String greet(String name) {
+            return "Hello " + name;
+        }
+
+        public String echo(String name) {
+            return name;
+        }
+    }
+
+    @Dependent
+    public static class Greeting {
+        private final GreetingServiceImpl service;
+
+        @Inject
+        public Greeting(@NotNull GreetingServiceImpl service) {
+            this.service = service;
+        }
+
+        public String text() {
+            return service.greet("world");
+        }
+    }
+
+    @Interceptor
+    @BValBinding
+    @Priority(4900)
+    public static class RecordingInterceptor implements Serializable {
+        private static final long serialVersionUID = 1L;
+
+        static final List<String> INTERCEPTED = new CopyOnWriteArrayList<>();
+
+        @AroundConstruct
+        public Object construct(InvocationContext context) throws Exception {
+            INTERCEPTED.add(context.getConstructor().getDeclaringClass().getSimpleName());
+            return context.proceed();
+        }
+
+        @AroundInvoke
+        public Object invoke(InvocationContext context) throws Exception {
+            INTERCEPTED.add(context.getMethod().getName());
+            return context.proceed();
+        }
+    }
+}
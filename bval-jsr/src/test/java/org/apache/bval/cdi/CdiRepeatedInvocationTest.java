@@ -0,0 +1,90 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.bval.cdi;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.validation.ConstraintViolationException;
+import jakarta.validation.constraints.NotNull;
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.junit.Arquillian;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.Assert;
+import org.junit.ClassRule;
+import org.junit.Test;
+import org.junit.rules.ExternalResource;
+import org.junit.runner.RunWith;
+
+/**
+ * Checks that violations are still raised once the interceptor has cached the invocation plan of a method.
+ */
+@RunWith(Arquillian.class)
+public class CdiRepeatedInvocationTest {
+    @ClassRule
+    public static ExternalResource allowGreetingServiceType = new ExternalResource() {
+        @Override
+        protected void before() throws Throwable {
+            BValExtension.setAnnotatedTypeFilter(at -> at.getJavaClass() == GreetingService.class);
+        }
+
+        @Override
+        protected void after() {
+            BValExtension.setAnnotatedTypeFilter(BValExtension.DEFAULT_ANNOTATED_TYPE_FILTER);
+        }
+    };
+
+    @Inject
+    private GreetingService service;
+
+    @Deployment
+    public static JavaArchive createDeployment() {
+        return ShrinkWrap.create(JavaArchive.class).addClasses(GreetingService.class);
+    }
+
+    @Test
+    public void repeatedInvocations() {
+        for (int i = 0; i < 3; i++) {
+            Assert.assertThrows(ConstraintViolationException.class, () -> service.greet(null));
+            Assert.assertEquals("Hello world", service.greet("world"));
+
+            Assert.assertThrows(ConstraintViolationException.class, () -> service.find(null));
+            Assert.assertEquals("world", service.find("world"));
+
+            Assert.assertNull(service.echo(null));
+            Assert.assertEquals("world", service.echo("world"));
+        }
+    }
+
+    @ApplicationScoped
+    public static class GreetingService {
+        public String greet(@NotNull String name) {
+            return "Hello " + name;
+        }
+
+        @NotNull
+        public String find(String name) {
+            return name;
+        }
+
+        public String echo(String name) {
+            return name;
+        }
+    }
+}
@@ -0,0 +1,249 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.bval.constraints;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.lang.annotation.Annotation;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.function.Supplier;
+import java.util.stream.DoubleStream;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Digits;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.Positive;
+
+import org.junit.Test;
+
+/**
+ * Checks that the validators of specific {@link Number} types agree with the validators of {@link Number}.
+ */
+public class SpecializedNumberValidatorsTest {
+    private static final String[] DECIMALS = { "-9223372036854775809", "-9223372036854775808.5", "-3", "-2.5", "0",
+        "0.1", "1.5", "99.95", "100", "1E+3", "9223372036854775807", "9223372036854775807.5", "1E+400", "1E-400" };
+
+    private static final long[] LONGS = { Long.MIN_VALUE, Integer.MIN_VALUE, -1000, -100, -99, -3, -2, -1, 0, 1, 2, 9,
+        10, 99, 100, 1000, Integer.MAX_VALUE, Long.MAX_VALUE - 1, Long.MAX_VALUE };
+
+    private static final double[] DOUBLES = { -Double.MAX_VALUE, -1e20, -100.0, -3.0, -2.5, -Double.MIN_VALUE, -0.0,
+        0.0, Double.MIN_VALUE, 0.1, 1.5, 1.51, 99.9, 99.95, 100.0, 1e3, 9.223372036854776E18, 1e20, Double.MAX_VALUE };
+
+    @DecimalMin("1.5")
+    @DecimalMax("99.95")
+    @Digits(integer = 2, fraction = 1)
+    @Min(-2)
+    @Max(99)
+    private Number inclusive;
+
+    @DecimalMin(value = "-3", inclusive = false)
+    @DecimalMax(value = "1E+3", inclusive = false)
+    @Digits(integer = 0, fraction = 2)
+    private Number exclusive;
+
+    @DecimalMin("-9223372036854775808.5")
+    @DecimalMax("9223372036854775807.5")
+    @Digits(integer = 19, fraction = 0)
+    @Min(Long.MIN_VALUE)
+    @Max(Long.MAX_VALUE)
+    private Number wide;
+
+    public static class Measurement {
+        @DecimalMax("1.5")
+        @Digits(integer = 2, fraction = 1)
+        Number value;
+
+        Measurement(Number value) {
+            this.value = value;
+        }
+    }
+
+    private static <A extends Annotation> A constraint(String field, Class<A> type) throws Exception {
+        return SpecializedNumberValidatorsTest.class.getDeclaredField(field).getAnnotation(type);
+    }
+
+    /**
+     * The validators of {@link Number} compare integers as doubles, but not {@link BigDecimal}s.
+     */
+    private static Number exact(Number value) {
+        if (value instanceof Long || value instanceof Integer) {
+            return BigDecimal.valueOf(value.longValue());
+        }
+        return value;
+    }
+
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    private static void assertAgree(Annotation constraint, ConstraintValidator generic,
+        ConstraintValidator specialized, Stream<? extends Number> values) {
+        generic.initialize(constraint);
+        specialized.initialize(constraint);
+        values.forEach(value -> assertEquals(constraint + " " + value, generic.isValid(exact(value), null),
+            specialized.isValid(value, null)));
+    }
+
+    private static <A extends Annotation> void assertAgree(A constraint, Supplier<ConstraintValidator<A, ?>> generic,
+        ConstraintValidator<A, ?> forBigDecimal, ConstraintValidator<A, ?> forBigInteger,
+        ConstraintValidator<A, ?> forLong, ConstraintValidator<A, ?> forInteger, ConstraintValidator<A, ?> forDouble,
+        ConstraintValidator<A, ?> forFloat) {
+        assertAgree(constraint, generic.get(), forBigDecimal, Stream.of(DECIMALS).map(BigDecimal::new));
+        assertAgree(constraint, generic.get(), forBigInteger, LongStream.of(LONGS).mapToObj(BigInteger::valueOf));
+        assertAgree(constraint, generic.get(), forLong, LongStream.of(LONGS).boxed());
+        assertAgree(constraint, generic.get(), forInteger, LongStream.of(LONGS).mapToObj(l -> (int) l));
+        assertAgree(constraint, generic.get(), forDouble, DoubleStream.of(DOUBLES).boxed());
+        // the validators of Number do not support infinite values:
+        assertAgree(constraint, generic.get(), forFloat,
+            DoubleStream.of(DOUBLES).mapToObj(d -> (float) d).filter(f -> !f.isInfinite()));
+    }
+
+    @Test
+    public void testDecimalMin() throws Exception {
+        for (String field : new String[] { "inclusive", "exclusive", "wide" }) {
+            assertAgree(constraint(field, DecimalMin.class), DecimalMinValidator.ForNumber::new,
+                new DecimalMinValidator.ForBigDecimal(), new DecimalMinValidator.ForBigInteger(),
+                new DecimalMinValidator.ForIntegral.OfLong(), new DecimalMinValidator.ForIntegral.OfInteger(),
+                new DecimalMinValidator.ForFloatingPoint.OfDouble(),
+                new DecimalMinValidator.ForFloatingPoint.OfFloat());
+        }
+    }
+
+    @Test
+    public void testDecimalMax() throws Exception {
+        for (String field : new String[] { "inclusive", "exclusive", "wide" }) {
+            assertAgree(constraint(field, DecimalMax.class), DecimalMaxValidator.ForNumber::new,
+                new DecimalMaxValidator.ForBigDecimal(), new DecimalMaxValidator.ForBigInteger(),
+                new DecimalMaxValidator.ForIntegral.OfLong(), new DecimalMaxValidator.ForIntegral.OfInteger(),
+                new DecimalMaxValidator.ForFloatingPoint.OfDouble(),
+                new DecimalMaxValidator.ForFloatingPoint.OfFloat());
+        }
+    }
+
+    @Test
+    public void testDigits() throws Exception {
+        for (String field : new String[] { "inclusive", "exclusive", "wide" }) {
+            assertAgree(constraint(field, Digits.class), DigitsValidatorForNumber::new,
+                new DigitsValidatorForNumber.ForBigDecimal(), new DigitsValidatorForNumber.ForBigInteger(),
+                new DigitsValidatorForNumber.ForIntegral.OfLong(), new DigitsValidatorForNumber.ForIntegral.OfInteger(),
+                new DigitsValidatorForNumber.ForFloatingPoint.OfDouble(),
+                new DigitsValidatorForNumber.ForFloatingPoint.OfFloat());
+        }
+    }
+
+    @Test
+    public void testMinMax() throws Exception {
+        for (String field : new String[] { "inclusive", "wide" }) {
+            assertAgree(constraint(field, Min.class), MinValidatorForNumber::new,
+                new MinValidatorForNumber.ForBigDecimal(), new MinValidatorForNumber.ForBigInteger(),
+                new MinValidatorForNumber.ForPrimitive.OfLong(), new MinValidatorForNumber.ForPrimitive.OfInteger(),
+                new MinValidatorForNumber.ForPrimitive.OfDouble(), new MinValidatorForNumber.ForPrimitive.OfFloat());
+            assertAgree(constraint(field, Max.class), MaxValidatorForNumber::new,
+                new MaxValidatorForNumber.ForBigDecimal(), new MaxValidatorForNumber.ForBigInteger(),
+                new MaxValidatorForNumber.ForPrimitive.OfLong(), new MaxValidatorForNumber.ForPrimitive.OfInteger(),
+                new MaxValidatorForNumber.ForPrimitive.OfDouble(), new MaxValidatorForNumber.ForPrimitive.OfFloat());
+        }
+    }
+
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    private static void assertPrimitiveAgree(Annotation constraint, ConstraintValidator forLong,
+        ConstraintValidator forDouble) {
+        if (constraint != null) {
+            forLong.initialize(constraint);
+            forDouble.initialize(constraint);
+        }
+        for (long value : LONGS) {
+            assertEquals(constraint + " " + value, forLong.isValid(Long.valueOf(value), null),
+                ((PrimitiveNumberValidator) forLong).isValid(value));
+        }
+        DoubleStream.concat(DoubleStream.of(DOUBLES),
+            DoubleStream.of(Double.NaN, Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY))
+            .forEach(value -> assertEquals(constraint + " " + value, forDouble.isValid(Double.valueOf(value), null),
+                ((PrimitiveNumberValidator) forDouble).isValid(value)));
+    }
+
+    @Test
+    public void testPrimitiveValues() throws Exception {
+        for (String field : new String[] { "inclusive", "exclusive", "wide" }) {
+            assertPrimitiveAgree(constraint(field, DecimalMin.class), new DecimalMinValidator.ForIntegral.OfLong(),
+                new DecimalMinValidator.ForFloatingPoint.OfDouble());
+            assertPrimitiveAgree(constraint(field, DecimalMax.class), new DecimalMaxValidator.ForIntegral.OfLong(),
+                new DecimalMaxValidator.ForFloatingPoint.OfDouble());
+        }
+        for (String field : new String[] { "inclusive", "wide" }) {
+            assertPrimitiveAgree(constraint(field, Min.class), new MinValidatorForNumber.ForPrimitive.OfLong(),
+                new MinValidatorForNumber.ForPrimitive.OfDouble());
+            assertPrimitiveAgree(constraint(field, Max.class), new MaxValidatorForNumber.ForPrimitive.OfLong(),
+                new MaxValidatorForNumber.ForPrimitive.OfDouble());
+        }
+        assertPrimitiveAgree(null, new NumberSignValidator.ForPositive(), new NumberSignValidator.ForPositive());
+        assertPrimitiveAgree(null, new NumberSignValidator.ForPositive.OrZero(),
+            new NumberSignValidator.ForPositive.OrZero());
+        assertPrimitiveAgree(null, new NumberSignValidator.ForNegative(), new NumberSignValidator.ForNegative());
+        assertPrimitiveAgree(null, new NumberSignValidator.ForNegative.OrZero(),
+            new NumberSignValidator.ForNegative.OrZero());
+    }
+
+    @Test
+    public void testNumberElementOfChangingRuntimeType() {
+        try (ValidatorFactory factory = Validation.buildDefaultValidatorFactory()) {
+            final Validator validator = factory.getValidator();
+            assertTrue(validator.validate(new Measurement(1)).isEmpty());
+            assertEquals(1, validator.validate(new Measurement(1.9)).size());
+            assertEquals(1, validator.validate(new Measurement(new BigDecimal("1.6"))).size());
+            assertEquals(2, validator.validate(new Measurement(new BigDecimal("1.55"))).size());
+            assertTrue(validator.validate(new Measurement(BigInteger.ONE)).isEmpty());
+            assertEquals(1, validator.validate(new Measurement(2L)).size());
+            assertEquals(1, validator.validate(new Measurement(1.6f)).size());
+            assertTrue(validator.validate(new Measurement(null)).isEmpty());
+            assertTrue(validator.validate(new Measurement(1.5)).isEmpty());
+        }
+    }
+
+    @Test
+    public void testNaN() throws Exception {
+        final DecimalMinValidator.ForFloatingPoint.OfDouble min = new DecimalMinValidator.ForFloatingPoint.OfDouble();
+        min.initialize(constraint("wide", DecimalMin.class));
+        assertFalse(min.isValid(Double.NaN, null));
+        assertTrue(min.isValid(Double.POSITIVE_INFINITY, null));
+        assertFalse(min.isValid(Double.NEGATIVE_INFINITY, null));
+
+        final DecimalMaxValidator.ForFloatingPoint.OfFloat max = new DecimalMaxValidator.ForFloatingPoint.OfFloat();
+        max.initialize(constraint("wide", DecimalMax.class));
+        assertFalse(max.isValid(Float.NaN, null));
+    }
+
+    @Test
+    public void testSignOfBigNumbers() {
+        final NumberSignValidator<Positive> positive = new NumberSignValidator.ForPositive();
+        assertTrue(positive.isValid(new BigDecimal("1E-400"), null));
+        assertFalse(positive.isValid(new BigDecimal("-1E-400"), null));
+        assertFalse(positive.isValid(BigDecimal.ZERO, null));
+        assertTrue(positive.isValid(BigInteger.ONE.shiftLeft(2000), null));
+        assertFalse(positive.isValid(BigInteger.ONE.shiftLeft(2000).negate(), null));
+    }
+}
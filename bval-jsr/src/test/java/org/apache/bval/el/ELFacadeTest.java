@@ -0,0 +1,70 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.bval.el;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.apache.bval.util.Cache;
+import org.apache.bval.util.ConcurrentCache;
+import org.junit.Test;
+
+public class ELFacadeTest {
+
+    private static Map<String, Cache<?, ?>> cachesOf(ELFacade facade, int maximumSize) {
+        final Map<String, Cache<?, ?>> caches = new HashMap<>();
+        final ConcurrentCache.Factory delegate = new ConcurrentCache.Factory(maximumSize, false);
+        facade.setCacheFactory(new Cache.Factory() {
+
+            @Override
+            public <K, V> Cache<K, V> create(String name, Class<?> keyType) {
+                final Cache<K, V> result = delegate.create(name, keyType);
+                caches.put(name, result);
+                return result;
+            }
+        });
+        return caches;
+    }
+
+    @Test
+    public void testBoundedExpressionCache() {
+        final ELFacade facade = new ELFacade();
+        final Cache<?, ?> expressions = cachesOf(facade, 10).get("elExpressions");
+        for (int i = 0; i < 100; i++) {
+            assertEquals("value " + (i + 1),
+                facade.interpolate("value ${" + i + " + 1}", Collections.emptyMap(), null));
+        }
+        assertTrue(expressions.size() <= 10);
+    }
+
+    @Test
+    public void testUnboundedExpressionCacheStopsGrowing() {
+        final ELFacade facade = new ELFacade();
+        final Cache<?, ?> expressions = cachesOf(facade, 0).get("elExpressions");
+        for (int i = 0; i < 1100; i++) {
+            assertEquals("value " + (i + 1),
+                facade.interpolate("value ${" + i + " + 1}", Collections.emptyMap(), null));
+        }
+        assertTrue(expressions.size() <= 1000);
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.bval.jsr;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import org.junit.Test;
+
+/**
+ * Checks cascading to the elements of arrays of primitive, final and non-final types.
+ */
+public class ArrayCascadeTest extends ValidationTestBase {
+
+    public static final class Reading {
+        @Min(0)
+        int value;
+
+        Reading(int value) {
+            this.value = value;
+        }
+    }
+
+    public static class Telemetry {
+        @Valid
+        @Size(max = 10_000)
+        double[] samples = new double[10_000];
+
+        @Valid
+        String[] tags = { "a", null, "b" };
+
+        @Valid
+        Reading[] readings = { new Reading(1), new Reading(-1) };
+
+        @Valid
+        Object[] objects = { new Reading(-2), "c", null };
+
+        @NotNull
+        String name;
+    }
+
+    private static Set<String> paths(Set<? extends ConstraintViolation<?>> violations) {
+        return violations.stream().map(v -> v.getPropertyPath().toString())
+            .collect(Collectors.toCollection(TreeSet::new));
+    }
+
+    @Test
+    public void testCascadeToArrays() {
+        assertEquals(new TreeSet<>(Arrays.asList("name", "objects[0].value", "readings[1].value")),
+            paths(validator.validate(new Telemetry())));
+    }
+
+    @Test
+    public void testArraysOfUnconstrainedTypes() {
+        final Telemetry telemetry = new Telemetry();
+        telemetry.name = "t";
+        telemetry.readings = new Reading[0];
+        telemetry.objects = null;
+        assertTrue(validator.validate(telemetry).isEmpty());
+
+        telemetry.samples = new double[10_001];
+        assertEquals(new TreeSet<>(Arrays.asList("samples")), paths(validator.validate(telemetry)));
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.bval.jsr;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorFactory;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import jakarta.validation.constraints.NotNull;
+
+import org.apache.bval.constraints.NotNullValidator;
+import org.apache.bval.util.Cache;
+import org.apache.bval.util.ConcurrentCache;
+import org.junit.Test;
+
+/**
+ * Tests the cache properties of {@link ApacheValidatorConfiguration.Properties}.
+ */
+public class CacheConfigurationTest {
+
+    public static class A {
+        @NotNull
+        String value;
+    }
+
+    public static class B {
+        @NotNull
+        String value;
+    }
+
+    public static class C {
+        @NotNull
+        String value;
+    }
+
+    public static class RecordingCacheFactory implements Cache.Factory {
+        static final Set<String> NAMES = new ConcurrentSkipListSet<>();
+
+        @Override
+        public <K, V> Cache<K, V> create(String name, Class<?> keyType) {
+            NAMES.add(name);
+            return new ConcurrentCache<>(0, false);
+        }
+    }
+
+    @Test
+    public void testBoundedCachesWithStats() {
+        try (ValidatorFactory vf = Validation.byProvider(ApacheValidationProvider.class).configure()
+            .addProperty(ApacheValidatorConfiguration.Properties.CACHE_MAXIMUM_SIZE, "2")
+            .addProperty(ApacheValidatorConfiguration.Properties.CACHE_RECORD_STATS, "true")
+            .buildValidatorFactory()) {
+            final Validator validator = vf.getValidator();
+            for (int i = 0; i < 3; i++) {
+                assertEquals(1, validator.validate(new A()).size());
+                assertEquals(1, validator.validate(new B()).size());
+                assertEquals(1, validator.validate(new C()).size());
+            }
+            final Map<String, Cache.Stats> stats = vf.unwrap(ApacheValidatorFactory.class).getCacheStats();
+            final Cache.Stats beanDescriptors = stats.get("beanDescriptors");
+            assertTrue(beanDescriptors.getSize() <= 2);
+            assertTrue(beanDescriptors.getEvictionCount() > 0);
+            assertTrue(stats.get("unwrappedClasses").getMissCount() > 0);
+            assertTrue(stats.get("messageTemplates").getHitCount() > 0);
+        }
+    }
+
+    @Test
+    public void testConstraintValidatorsReleasedOnClose() {
+        final List<ConstraintValidator<?, ?>> released = new CopyOnWriteArrayList<>();
+        final ConstraintValidatorFactory constraintValidatorFactory = new DefaultConstraintValidatorFactory() {
+            @Override
+            public void releaseInstance(ConstraintValidator<?, ?> instance) {
+                released.add(instance);
+            }
+        };
+        try (ValidatorFactory vf = Validation.byProvider(ApacheValidationProvider.class).configure()
+            .constraintValidatorFactory(constraintValidatorFactory)
+            .addProperty(ApacheValidatorConfiguration.Properties.CACHE_MAXIMUM_SIZE, "1")
+            .buildValidatorFactory()) {
+            final Validator validator = vf.getValidator();
+            assertEquals(1, validator.validate(new A()).size());
+            // evicting A's validator must not release it: a concurrent validation may still be using it
+            assertEquals(1, validator.validate(new B()).size());
+            assertTrue(released.isEmpty());
+        }
+        assertEquals(2, released.size());
+        assertTrue(released.stream().allMatch(NotNullValidator.class::isInstance));
+    }
+
+    @Test
+    public void testCacheFactory() {
+        try (ValidatorFactory vf = Validation.byProvider(ApacheValidationProvider.class).configure()
+            .addProperty(ApacheValidatorConfiguration.Properties.CACHE_FACTORY, RecordingCacheFactory.class.getName())
+            .buildValidatorFactory()) {
+            assertEquals(1, vf.getValidator().validate(new A()).size());
+            assertTrue(RecordingCacheFactory.NAMES.contains("beanDescriptors"));
+            assertTrue(RecordingCacheFactory.NAMES.contains("constraintValidators"));
+        }
+    }
+}
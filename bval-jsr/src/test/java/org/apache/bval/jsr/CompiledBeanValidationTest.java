@@ -0,0 +1,191 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.bval.jsr;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Valid;
+import jakarta.validation.Validation;
+import jakarta.validation.ValidationException;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Past;
+import jakarta.validation.constraints.Size;
+
+import org.apache.bval.jsr.resolver.SimpleTraversableResolver;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests {@link ApacheValidatorConfiguration.Properties#COMPILED_BEAN_VALIDATION}.
+ */
+public class CompiledBeanValidationTest {
+
+    public static class Simple {
+        int reads;
+
+        @NotNull
+        @Size(max = 3)
+        String name = "abc";
+
+        @Min(0)
+        int count;
+
+        @Past
+        LocalDate since = LocalDate.of(2000, 1, 1);
+
+        String code = "x";
+
+        @NotNull
+        public String getCode() {
+            reads++;
+            return code;
+        }
+    }
+
+    public static class Cascading {
+        int reads;
+
+        @Valid
+        Simple simple = new Simple();
+
+        @NotNull
+        public String getCode() {
+            reads++;
+            return null;
+        }
+    }
+
+    public static class Sized {
+        int reads;
+
+        String value = "abcd";
+
+        @Size(max = 3)
+        public String getValue() {
+            reads++;
+            return value;
+        }
+    }
+
+    public static class Failing {
+        @NotNull
+        public String getCode() {
+            throw new IllegalStateException("unreadable");
+        }
+    }
+
+    private ValidatorFactory factory;
+    private Validator validator;
+
+    @Before
+    public void setup() {
+        // the JPA-aware default resolver, if JPA is present, would not let beans be checked by compiled checks:
+        factory = Validation.byProvider(ApacheValidationProvider.class).configure()
+            .traversableResolver(new SimpleTraversableResolver())
+            .addProperty(ApacheValidatorConfiguration.Properties.COMPILED_BEAN_VALIDATION, "true")
+            .buildValidatorFactory();
+        validator = factory.getValidator();
+    }
+
+    @After
+    public void tearDown() {
+        factory.close();
+    }
+
+    private static Set<String> paths(Set<? extends ConstraintViolation<?>> violations) {
+        return violations.stream().map(v -> v.getPropertyPath().toString())
+            .collect(Collectors.toCollection(TreeSet::new));
+    }
+
+    @Test
+    public void testValidBeanCheckedOnce() {
+        final Simple bean = new Simple();
+        assertTrue(validator.validate(bean).isEmpty());
+        assertEquals(1, bean.reads);
+    }
+
+    @Test
+    public void testInvalidBeanValidatedNormally() {
+        final Simple bean = new Simple();
+        bean.code = null;
+
+        final Set<ConstraintViolation<Simple>> violations = validator.validate(bean);
+        assertEquals(Collections.singleton("code"), paths(violations));
+        // normal validation takes over with the value read by the compiled check:
+        assertEquals(1, bean.reads);
+
+        bean.code = "x";
+        bean.name = "abcd";
+        bean.count = -1;
+        assertEquals(new TreeSet<>(Arrays.asList("count", "name")), paths(validator.validate(bean)));
+
+        try (ValidatorFactory plain = Validation.byProvider(ApacheValidationProvider.class).configure()
+            .buildValidatorFactory()) {
+            assertEquals(paths(validator.validate(bean)), paths(plain.getValidator().validate(bean)));
+        }
+    }
+
+    @Test
+    public void testClockProvider() {
+        final Clock past = Clock.fixed(LocalDate.of(1990, 1, 1).atStartOfDay().toInstant(ZoneOffset.UTC),
+            ZoneOffset.UTC);
+        final Validator pastValidator = factory.usingContext().clockProvider(() -> past).getValidator();
+
+        assertEquals(Collections.singleton("since"), paths(pastValidator.validate(new Simple())));
+        assertTrue(validator.validate(new Simple()).isEmpty());
+    }
+
+    @Test
+    public void testCascadingBeanNotCompiled() {
+        final Cascading bean = new Cascading();
+        bean.simple.count = -1;
+
+        assertEquals(new TreeSet<>(Arrays.asList("code", "simple.count")), paths(validator.validate(bean)));
+        assertEquals(1, bean.reads);
+    }
+
+    @Test
+    public void testFailingPropertyReadOnce() {
+        final Sized bean = new Sized();
+        assertEquals(Collections.singleton("value"), paths(validator.validate(bean)));
+        assertEquals(1, bean.reads);
+        bean.value = "ab";
+        assertTrue(validator.validate(bean).isEmpty());
+    }
+
+    @Test(expected = ValidationException.class)
+    public void testPropertyReadFailure() {
+        validator.validate(new Failing());
+    }
+}
@@ -0,0 +1,141 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.bval.jsr;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import jakarta.validation.metadata.BeanDescriptor;
+
+import org.apache.bval.util.Cache;
+import org.apache.bval.util.ConcurrentCache;
+import org.junit.Test;
+
+/**
+ * Tests that concurrently requested bean descriptors are built once.
+ */
+public class ConcurrentDescriptorTest {
+    private static final int THREADS = 16;
+
+    public static class Base {
+        @NotNull
+        String id;
+    }
+
+    public static class Sub extends Base {
+        @Size(min = 1)
+        String name;
+
+        @Min(0)
+        int count;
+    }
+
+    /**
+     * Counts the writes to each cache, by key.
+     */
+    public static class WriteCountingCacheFactory implements Cache.Factory {
+        static final Map<String, Map<Object, AtomicInteger>> WRITES = new ConcurrentHashMap<>();
+
+        @Override
+        public <K, V> Cache<K, V> create(String name, Class<?> keyType) {
+            final Map<Object, AtomicInteger> writes = new ConcurrentHashMap<>();
+            WRITES.put(name, writes);
+
+            return new ConcurrentCache<K, V>(0, false) {
+                @Override
+                public V computeIfAbsent(K key, Function<? super K, ? extends V> mappingFunction) {
+                    count(key);
+                    return super.computeIfAbsent(key, mappingFunction);
+                }
+
+                @Override
+                public V putIfAbsent(K key, V value) {
+                    count(key);
+                    return super.putIfAbsent(key, value);
+                }
+
+                @Override
+                public void put(K key, V value) {
+                    count(key);
+                    super.put(key, value);
+                }
+
+                private void count(K key) {
+                    writes.computeIfAbsent(key, k -> new AtomicInteger()).incrementAndGet();
+                }
+            };
+        }
+
+        static int writes(String name, Class<?> key) {
+            final AtomicInteger result = WRITES.get(name).get(key);
+            return result == null ? 0 : result.get();
+        }
+    }
+
+    @Test
+    public void testBuiltOnce() throws Exception {
+        final ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try (ValidatorFactory factory = Validation.byProvider(ApacheValidationProvider.class).configure()
+            .addProperty(ApacheValidatorConfiguration.Properties.CACHE_FACTORY,
+                WriteCountingCacheFactory.class.getName())
+            .buildValidatorFactory()) {
+            final Validator validator = factory.getValidator();
+            final CyclicBarrier barrier = new CyclicBarrier(THREADS);
+
+            final List<Future<BeanDescriptor>> results = new ArrayList<>();
+            for (int i = 0; i < THREADS; i++) {
+                results.add(executor.submit(() -> {
+                    barrier.await();
+                    return validator.getConstraintsForClass(Sub.class);
+                }));
+            }
+            final BeanDescriptor descriptor = results.get(0).get();
+            for (Future<BeanDescriptor> result : results) {
+                assertSame(descriptor, result.get());
+            }
+            assertEquals(1, WriteCountingCacheFactory.writes("beanDescriptors", Sub.class));
+            assertEquals(1, WriteCountingCacheFactory.writes("beanDescriptors", Base.class));
+
+            // cache hits write nothing:
+            assertSame(descriptor, validator.getConstraintsForClass(Sub.class));
+            assertEquals(1, validator.validate(new Sub()).size());
+            assertEquals(1, WriteCountingCacheFactory.writes("beanDescriptors", Sub.class));
+            assertEquals(1, WriteCountingCacheFactory.writes("beanConstrained", Sub.class));
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
@@ -234,6 +234,21 @@ public class DefaultMessageInterpolatorTest {
             interpolator.interpolate(context.getConstraintDescriptor().getMessageTemplate(), context));
     }
 
+    @Test
+    public void testCachedExpressionEvaluatedPerContext() {
+        assumeTrue(elAvailable);
+
+        for (String value : Arrays.asList("1234", "12345678", "")) {
+            final MessageInterpolator.Context context = context(value,
+                () -> validator.getConstraintsForClass(Person.class).getConstraintsForProperty("mixedMessageValue")
+                .getConstraintDescriptors().stream().filter(forConstraintType(Pattern.class)).findFirst()
+                .orElseThrow(() -> new AssertionError("expected constraint missing")));
+
+            assertEquals("Mixed message value of length " + value.length() + " should match ....$",
+                interpolator.interpolate(context.getConstraintDescriptor().getMessageTemplate(), context));
+        }
+    }
+
     @Test
     public void testELEscapingTomcatJuel() {
         assumeTrue(elAvailable);
@@ -311,6 +326,26 @@ public class DefaultMessageInterpolatorTest {
                     .orElseThrow(() -> new AssertionError("expected constraint missing")))));
     }
 
+    @Test
+    public void testEscapedAndUnresolvedParameters() {
+        assertEquals("{regexp} ....$ {unknown} {} []", interpolator
+            .interpolate("\\{regexp} {regexp} {unknown} {} {flags}", context("12345678", () -> pattern("idNumber"))));
+    }
+
+    @Test
+    public void testCompiledTemplateSharedAcrossConstraints() {
+        assertEquals("must match ....$", interpolator.interpolate("must match {regexp}",
+            context("12345678", () -> pattern("idNumber"))));
+        assertEquals("must match .\\n", interpolator.interpolate("must match {regexp}",
+            context("12345678", () -> pattern("otherId"))));
+    }
+
+    private ConstraintDescriptor<?> pattern(String property) {
+        return validator.getConstraintsForClass(Person.class).getConstraintsForProperty(property)
+            .getConstraintDescriptors().stream().filter(forConstraintType(Pattern.class)).findFirst()
+            .orElseThrow(() -> new AssertionError("expected constraint missing"));
+    }
+
     @SuppressWarnings("unchecked")
     private ApacheMessageContext context(Object validatedValue, Supplier<ConstraintDescriptor<?>> descriptor) {
         final ApacheMessageContext result = Mockito.mock(ApacheMessageContext.class);
@@ -0,0 +1,101 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.bval.jsr;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import jakarta.validation.Valid;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+
+import org.junit.Test;
+
+/**
+ * Tests the violation limit configured by {@link ApacheValidatorConfiguration.Properties#FAIL_FAST},
+ * {@link ApacheValidatorConfiguration.Properties#MAX_VIOLATIONS} or their {@link ApacheFactoryContext} counterparts.
+ */
+public class FailFastTest extends ValidationTestBase {
+
+    public static class Line {
+        @NotNull
+        String sku;
+
+        @Min(1)
+        int quantity;
+    }
+
+    public static class Order {
+        @NotNull
+        String customer;
+
+        @Valid
+        final List<Line> lines = new ArrayList<>();
+    }
+
+    private static Order invalidOrder(int lines) {
+        final Order order = new Order();
+        for (int i = 0; i < lines; i++) {
+            order.lines.add(new Line());
+        }
+        return order;
+    }
+
+    @Test
+    public void testUnlimitedByDefault() {
+        assertEquals(1 + 2 * 50, validator.validate(invalidOrder(50)).size());
+    }
+
+    @Test
+    public void testFailFastProperty() {
+        try (ValidatorFactory vf = Validation.byProvider(ApacheValidationProvider.class).configure()
+            .addProperty(ApacheValidatorConfiguration.Properties.FAIL_FAST, "true").buildValidatorFactory()) {
+            assertEquals(1, vf.getValidator().validate(invalidOrder(50)).size());
+        }
+    }
+
+    @Test
+    public void testMaxViolationsProperty() {
+        try (ValidatorFactory vf = Validation.byProvider(ApacheValidationProvider.class).configure()
+            .addProperty(ApacheValidatorConfiguration.Properties.FAIL_FAST, "true")
+            .addProperty(ApacheValidatorConfiguration.Properties.MAX_VIOLATIONS, "5").buildValidatorFactory()) {
+            assertEquals(5, vf.getValidator().validate(invalidOrder(50)).size());
+        }
+    }
+
+    @Test
+    public void testUsingContext() {
+        final ApacheFactoryContext context = factory.unwrap(ApacheValidatorFactory.class).usingContext();
+        assertEquals(1, context.failFast(true).getValidator().validate(invalidOrder(50)).size());
+        assertEquals(7, context.maxViolations(7).getValidator().validate(invalidOrder(50)).size());
+        assertEquals(1 + 2 * 50, context.failFast(false).getValidator().validate(invalidOrder(50)).size());
+    }
+
+    @Test
+    public void testLimitWithParallelCascade() {
+        final Validator v = factory.unwrap(ApacheValidatorFactory.class).usingContext().parallelCascadeThreshold(4)
+            .maxViolations(9).getValidator();
+        assertEquals(9, v.validate(invalidOrder(1000)).size());
+    }
+}
@@ -0,0 +1,158 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.bval.jsr;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.MessageInterpolator;
+import jakarta.validation.Validation;
+import jakarta.validation.ValidatorFactory;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import org.junit.Test;
+
+/**
+ * Tests {@link ApacheValidatorConfiguration.Properties#LAZY_MESSAGE_INTERPOLATION}.
+ */
+public class LazyMessageInterpolationTest extends ValidationTestBase {
+
+    public static class Person {
+        @NotNull
+        String name;
+
+        @Size(max = 2)
+        String firstName = "abc";
+
+        @Size(max = 2)
+        String lastName = "defg";
+    }
+
+    static class CountingInterpolator implements MessageInterpolator {
+        final AtomicInteger count = new AtomicInteger();
+
+        @Override
+        public String interpolate(String messageTemplate, Context context) {
+            count.incrementAndGet();
+            return context.getConstraintDescriptor().getAnnotation().annotationType().getSimpleName() + ':'
+                + context.getValidatedValue();
+        }
+
+        @Override
+        public String interpolate(String messageTemplate, Context context, Locale locale) {
+            return interpolate(messageTemplate, context);
+        }
+    }
+
+    private static Map<String, String> messagesByPath(Set<? extends ConstraintViolation<?>> violations) {
+        final Map<String, String> result = new TreeMap<>();
+        violations.forEach(v -> result.put(v.getPropertyPath().toString(), v.getMessage()));
+        return result;
+    }
+
+    @Test
+    public void testEagerByDefault() {
+        final CountingInterpolator interpolator = new CountingInterpolator();
+        final Set<ConstraintViolation<Person>> violations = factory.unwrap(ApacheValidatorFactory.class).usingContext()
+            .messageInterpolator(interpolator).getValidator().validate(new Person());
+        assertEquals(3, violations.size());
+        assertEquals(3, interpolator.count.get());
+    }
+
+    @Test
+    public void testInterpolatedOnFirstAccess() {
+        final CountingInterpolator interpolator = new CountingInterpolator();
+        final Set<ConstraintViolation<Person>> violations =
+            factory.unwrap(ApacheValidatorFactory.class).usingContext().messageInterpolator(interpolator)
+                .lazyMessageInterpolation(true).getValidator().validate(new Person());
+        assertEquals(3, violations.size());
+        assertEquals(0, interpolator.count.get());
+
+        final ConstraintViolation<Person> violation = violations.iterator().next();
+        final String message = violation.getMessage();
+        assertEquals(1, interpolator.count.get());
+        assertEquals(message, violation.getMessage());
+        assertEquals(1, interpolator.count.get());
+
+        final Map<String, String> messages = messagesByPath(violations);
+        assertEquals(3, interpolator.count.get());
+        assertEquals("NotNull:null", messages.get("name"));
+        assertEquals("Size:abc", messages.get("firstName"));
+        assertEquals("Size:defg", messages.get("lastName"));
+    }
+
+    @Test
+    public void testLocaleCapturedOnCreation() {
+        final DefaultMessageInterpolator interpolator = new DefaultMessageInterpolator();
+        interpolator.setLocale(Locale.ENGLISH);
+        final Set<ConstraintViolation<Person>> violations =
+            factory.unwrap(ApacheValidatorFactory.class).usingContext().messageInterpolator(interpolator)
+                .lazyMessageInterpolation(true).getValidator().validateProperty(new Person(), "name");
+        interpolator.setLocale(Locale.GERMAN);
+        assertEquals(1, violations.size());
+        assertEquals("may not be null", violations.iterator().next().getMessage());
+    }
+
+    @Test
+    public void testProperty() {
+        try (ValidatorFactory vf = Validation.byProvider(ApacheValidationProvider.class).configure()
+            .addProperty(ApacheValidatorConfiguration.Properties.LAZY_MESSAGE_INTERPOLATION, "true")
+            .buildValidatorFactory()) {
+            final CountingInterpolator interpolator = new CountingInterpolator();
+            final Set<ConstraintViolation<Person>> violations =
+                vf.usingContext().messageInterpolator(interpolator).getValidator().validate(new Person());
+            assertEquals(0, interpolator.count.get());
+            assertEquals(3, messagesByPath(violations).size());
+            assertEquals(3, interpolator.count.get());
+        }
+    }
+
+    @Test
+    public void testSerializationInterpolates() throws Exception {
+        final AtomicInteger count = new AtomicInteger();
+        final ConstraintViolationImpl<Object> violation = new ConstraintViolationImpl<>("{template}", () -> {
+            count.incrementAndGet();
+            return "message";
+        }, null, null, null, null, null, Object.class, null, null, null);
+
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(violation);
+        }
+        assertEquals(1, count.get());
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            final ConstraintViolation<?> copy = (ConstraintViolation<?>) in.readObject();
+            assertEquals("message", copy.getMessage());
+            assertEquals(violation, copy);
+            assertEquals(violation.hashCode(), copy.hashCode());
+        }
+        assertEquals(1, count.get());
+    }
+}
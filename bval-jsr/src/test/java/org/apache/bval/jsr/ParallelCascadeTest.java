@@ -0,0 +1,168 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.bval.jsr;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Valid;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+/**
+ * Checks that cascading to large containers in parallel reports the same violations, in the same order, as a
+ * sequential cascade.
+ */
+public class ParallelCascadeTest extends ValidationTestBase {
+    private static ValidatorFactory parallelFactory;
+
+    public static class Item {
+        @NotNull
+        String name;
+
+        @Min(0)
+        int quantity;
+
+        Item(String name, int quantity) {
+            this.name = name;
+            this.quantity = quantity;
+        }
+    }
+
+    public static class Batch {
+        @Valid
+        final List<Item> items = new ArrayList<>();
+
+        @Valid
+        Item[] array;
+    }
+
+    @BeforeClass
+    public static void setupParallelFactory() {
+        parallelFactory = Validation.byProvider(ApacheValidationProvider.class).configure()
+            .addProperty(ApacheValidatorConfiguration.Properties.PARALLEL_CASCADE_THRESHOLD, "16")
+            .buildValidatorFactory();
+    }
+
+    @AfterClass
+    public static void closeParallelFactory() {
+        parallelFactory.close();
+    }
+
+    @Test
+    public void testParallelCascadeMatchesSequentialOrder() {
+        final Batch batch = batch(5000);
+        final List<String> expected = describe(validator.validate(batch));
+        // 715 null names and 454 negative quantities, reached through both the list and the array:
+        assertEquals(2 * (715 + 454), expected.size());
+        assertEquals(expected, describe(parallelFactory.getValidator().validate(batch)));
+    }
+
+    @Test
+    public void testParallelCascadeOnSuppliedExecutor() {
+        final ExecutorService executor = Executors.newFixedThreadPool(3);
+        try {
+            final Validator v = factory.unwrap(ApacheValidatorFactory.class).usingContext()
+                .parallelCascadeThreshold(8).cascadeExecutor(executor).getValidator();
+            final Batch batch = batch(1000);
+            assertEquals(describe(validator.validate(batch)), describe(v.validate(batch)));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    public static class Shipment {
+        @Valid
+        final List<Batch> batches = new ArrayList<>();
+    }
+
+    @Test(timeout = 60_000)
+    public void testNestedContainersOnFixedSizePool() {
+        final ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            final Validator v = factory.unwrap(ApacheValidatorFactory.class).usingContext()
+                .parallelCascadeThreshold(4).cascadeExecutor(executor).getValidator();
+            final Shipment shipment = new Shipment();
+            for (int i = 0; i < 16; i++) {
+                shipment.batches.add(batch(100));
+            }
+            assertEquals(describe(validator.validate(shipment)), describe(v.validate(shipment)));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test(timeout = 60_000)
+    public void testValidateOnThreadOfCascadeExecutor() throws Exception {
+        final ExecutorService executor = Executors.newFixedThreadPool(1);
+        try {
+            final Validator v = factory.unwrap(ApacheValidatorFactory.class).usingContext()
+                .parallelCascadeThreshold(8).cascadeExecutor(executor).getValidator();
+            final Batch batch = batch(1000);
+            // the only thread of the pool runs the validation; chunks queued behind it must not be waited for:
+            final Future<List<String>> result = executor.submit(() -> describe(v.validate(batch)));
+            assertEquals(describe(validator.validate(batch)), result.get());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testSmallContainerAndValidBatch() {
+        final Batch batch = new Batch();
+        batch.items.add(new Item("a", 1));
+        batch.array = new Item[] { new Item(null, 1) };
+        assertEquals(List.of("array[0].name"), describe(parallelFactory.getValidator().validate(batch)).stream()
+            .map(s -> s.substring(0, s.indexOf('='))).collect(Collectors.toList()));
+
+        batch.array[0].name = "b";
+        assertTrue(parallelFactory.getValidator().validate(batch).isEmpty());
+        assertTrue(parallelFactory.getValidator().validate(batch(0)).isEmpty());
+    }
+
+    private static Batch batch(int size) {
+        final Batch batch = new Batch();
+        for (int i = 0; i < size; i++) {
+            batch.items.add(new Item(i % 7 == 0 ? null : "item" + i, i % 11 == 0 ? -i : i));
+        }
+        batch.array = batch.items.toArray(new Item[size]);
+        return batch;
+    }
+
+    private static List<String> describe(Set<? extends ConstraintViolation<?>> violations) {
+        return violations.stream().map(v -> v.getPropertyPath() + "=" + v.getInvalidValue())
+            .collect(Collectors.toList());
+    }
+}
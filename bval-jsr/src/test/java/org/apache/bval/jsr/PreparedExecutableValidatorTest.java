@@ -0,0 +1,154 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.bval.jsr;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import jakarta.validation.executable.ExecutableValidator;
+
+import org.junit.Test;
+
+/**
+ * Checks that {@link PreparedExecutableValidator}s report the same violations as {@link ExecutableValidator}.
+ */
+public class PreparedExecutableValidatorTest extends ValidationTestBase {
+
+    public interface Strict {
+    }
+
+    public static class OrderService {
+        @NotNull
+        String prefix;
+
+        public OrderService() {
+        }
+
+        @Valid
+        public OrderService(@NotNull @Size(min = 2) String prefix) {
+            this.prefix = prefix;
+        }
+
+        @Size(max = 3)
+        public String place(@NotNull String item, @Min(1) @Min(value = 10, groups = Strict.class) int quantity) {
+            return prefix + item;
+        }
+    }
+
+    public static class DiscountOrderService extends OrderService {
+        @Override
+        @NotNull
+        public String place(String item, int quantity) {
+            return null;
+        }
+    }
+
+    private static Set<String> describe(Set<? extends ConstraintViolation<?>> violations) {
+        return violations.stream().map(v -> v.getPropertyPath() + ": " + v.getMessageTemplate())
+            .collect(Collectors.toCollection(TreeSet::new));
+    }
+
+    private ApacheValidator apacheValidator() {
+        return validator.unwrap(ApacheValidator.class);
+    }
+
+    private ExecutableValidator executableValidator() {
+        return validator.forExecutables();
+    }
+
+    @Test
+    public void testMethod() throws Exception {
+        final Method place = OrderService.class.getMethod("place", String.class, int.class);
+        final PreparedExecutableValidator<OrderService> prepared = apacheValidator().prepare(place);
+        final OrderService service = new OrderService("ab");
+
+        for (int i = 0; i < 2; i++) {
+            final Object[] args = { null, 0 };
+            final Set<ConstraintViolation<OrderService>> violations = prepared.validateParameters(service, args);
+            assertEquals(2, violations.size());
+            assertEquals(describe(executableValidator().validateParameters(service, place, args)),
+                describe(violations));
+            assertTrue(violations.stream().allMatch(v -> v.getRootBean() == service));
+        }
+        assertTrue(prepared.validateParameters(service, new Object[] { "x", 1 }).isEmpty());
+
+        final Set<ConstraintViolation<OrderService>> violations = prepared.validateReturnValue(service, "abcd");
+        assertEquals(1, violations.size());
+        assertEquals(describe(executableValidator().validateReturnValue(service, place, "abcd")),
+            describe(violations));
+        assertTrue(prepared.validateReturnValue(service, "abc").isEmpty());
+    }
+
+    @Test
+    public void testGroups() throws Exception {
+        final Method place = OrderService.class.getMethod("place", String.class, int.class);
+        final Object[] args = { null, 5 };
+        final Set<ConstraintViolation<OrderService>> violations =
+            apacheValidator().<OrderService> prepare(place, Strict.class).validateParameters(new OrderService(), args);
+
+        assertEquals(1, violations.size());
+        assertEquals(describe(executableValidator().validateParameters(new OrderService(), place, args, Strict.class)),
+            describe(violations));
+    }
+
+    @Test
+    public void testSubclassOfDeclaringClass() throws Exception {
+        final Method place = OrderService.class.getMethod("place", String.class, int.class);
+        final PreparedExecutableValidator<OrderService> prepared = apacheValidator().prepare(place);
+
+        assertTrue(prepared.validateReturnValue(new OrderService(), null).isEmpty());
+        assertEquals(1, prepared.validateReturnValue(new DiscountOrderService(), null).size());
+        assertTrue(prepared.validateReturnValue(new OrderService(), null).isEmpty());
+    }
+
+    @Test
+    public void testConstructor() throws Exception {
+        final Constructor<OrderService> ctor = OrderService.class.getConstructor(String.class);
+        final PreparedExecutableValidator<OrderService> prepared = apacheValidator().prepare(ctor);
+
+        final Object[] args = { "a" };
+        final Set<ConstraintViolation<OrderService>> violations = prepared.validateParameters(null, args);
+        assertEquals(1, violations.size());
+        assertEquals(describe(executableValidator().validateConstructorParameters(ctor, args)), describe(violations));
+        assertTrue(prepared.validateParameters(null, new Object[] { "ab" }).isEmpty());
+
+        final OrderService created = new OrderService();
+        assertEquals(1, prepared.validateReturnValue(null, created).size());
+        assertEquals(describe(executableValidator().validateConstructorReturnValue(ctor, created)),
+            describe(prepared.validateReturnValue(null, created)));
+        assertTrue(prepared.validateReturnValue(null, new OrderService("ab")).isEmpty());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testParametersMismatch() throws Exception {
+        apacheValidator().<OrderService> prepare(OrderService.class.getMethod("place", String.class, int.class))
+            .validateParameters(new OrderService(), new Object[] { "x" });
+    }
+}
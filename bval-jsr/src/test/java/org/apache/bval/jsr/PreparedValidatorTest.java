@@ -0,0 +1,140 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.bval.jsr;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.GroupSequence;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import org.junit.Test;
+
+/**
+ * Checks that {@link PreparedValidator}s report the same violations as {@link ApacheValidator#validate}.
+ */
+public class PreparedValidatorTest extends ValidationTestBase {
+
+    public interface Checks {
+    }
+
+    @GroupSequence({ Message.class, Checks.class })
+    public static class Message {
+        @NotNull
+        String id;
+
+        @Size(min = 2, groups = Checks.class)
+        String body = "b";
+
+        @Valid
+        Header header = new Header();
+    }
+
+    public static class Header {
+        @Min(0)
+        int priority = -1;
+    }
+
+    public static class UrgentMessage extends Message {
+        @NotNull
+        String escalation;
+    }
+
+    private static Set<String> paths(Set<? extends ConstraintViolation<?>> violations) {
+        return violations.stream().map(v -> v.getPropertyPath().toString())
+            .collect(Collectors.toCollection(TreeSet::new));
+    }
+
+    private static Set<String> paths(String... paths) {
+        return new TreeSet<>(Arrays.asList(paths));
+    }
+
+    private ApacheValidator apacheValidator() {
+        return validator.unwrap(ApacheValidator.class);
+    }
+
+    @Test
+    public void testRedefinedDefaultGroup() {
+        final PreparedValidator<Message> prepared = apacheValidator().prepare(Message.class);
+        final Message message = new Message();
+
+        for (int i = 0; i < 2; i++) {
+            final Set<String> paths = paths(prepared.validate(message));
+            assertEquals(paths(validator.validate(message)), paths);
+            assertTrue(paths.contains("id"));
+            assertFalse(paths.contains("body"));
+        }
+        message.id = "m";
+        message.header.priority = 1;
+        assertEquals(paths("body"), paths(prepared.validate(message)));
+        message.body = "body";
+        assertTrue(prepared.validate(message).isEmpty());
+    }
+
+    @Test
+    public void testGroups() {
+        final PreparedValidator<Message> prepared = apacheValidator().prepare(Message.class, Checks.class);
+        final Message message = new Message();
+
+        assertEquals(paths("body"), paths(prepared.validate(message)));
+        assertEquals(paths(validator.validate(message, Checks.class)), paths(prepared.validate(message)));
+    }
+
+    @Test
+    public void testSubclasses() {
+        final PreparedValidator<Message> prepared = apacheValidator().prepare(Message.class);
+
+        final Set<String> paths = paths(prepared.validate(new Message()));
+        final UrgentMessage urgent = new UrgentMessage();
+        assertEquals(paths(validator.validate(urgent)), paths(prepared.validate(urgent)));
+        assertTrue(paths(prepared.validate(urgent)).contains("escalation"));
+        assertEquals(paths, paths(prepared.validate(new Message())));
+    }
+
+    @Test
+    public void testSink() {
+        final PreparedValidator<Message> prepared = apacheValidator().prepare(Message.class);
+        final List<ConstraintViolation<Message>> violations = new ArrayList<>();
+        final Message message = new Message();
+
+        final int count = prepared.validate(message, violations::add);
+        assertEquals(violations.size(), count);
+        assertTrue(count > 0);
+        assertEquals(paths(validator.validate(message)), paths(new HashSet<>(violations)));
+    }
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    @Test(expected = IllegalArgumentException.class)
+    public void testNotAnInstance() {
+        ((PreparedValidator) apacheValidator().prepare(Message.class)).validate(new Header());
+    }
+}
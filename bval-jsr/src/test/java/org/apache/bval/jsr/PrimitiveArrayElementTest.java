@@ -0,0 +1,132 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.bval.jsr;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
+import jakarta.validation.valueextraction.ExtractedValue;
+import jakarta.validation.valueextraction.Unwrapping;
+import jakarta.validation.valueextraction.ValueExtractor;
+
+import org.apache.bval.jsr.valueextraction.PrimitiveArrayExtractor;
+import org.junit.Test;
+
+/**
+ * Checks that the elements of arrays of primitives, validated without boxing them, are reported as they are when
+ * extracted one by one.
+ */
+public class PrimitiveArrayElementTest extends ValidationTestBase {
+
+    public static class Readings {
+        @Min(value = 0, payload = Unwrapping.Unwrap.class)
+        @Size(max = 3)
+        int[] ints = { 1, -1, 2, -3 };
+
+        @Max(value = 10, payload = Unwrapping.Unwrap.class)
+        short[] shorts = { 10, 11 };
+
+        @Positive(payload = Unwrapping.Unwrap.class)
+        long[] longs = { 1, 0, -1 };
+
+        @DecimalMax(value = "1.5", payload = Unwrapping.Unwrap.class)
+        double[] doubles = { 1.0, 2.0, Double.NaN };
+
+        @Max(value = 1, payload = Unwrapping.Unwrap.class)
+        float[] floats = { 1.9f, 2f };
+
+        @Size(min = 1)
+        byte[] bytes = {};
+    }
+
+    /**
+     * Extracts boxed elements one by one, as any other {@link ValueExtractor} would.
+     */
+    public static class BoxingIntArrayExtractor
+        implements ValueExtractor<int @ExtractedValue(type = Integer.class) []> {
+
+        @Override
+        public void extractValues(int[] originalValue, ValueExtractor.ValueReceiver receiver) {
+            for (int i = 0; i < originalValue.length; i++) {
+                receiver.indexedValue(PrimitiveArrayExtractor.ELEMENT_NODE_NAME, i, Integer.valueOf(originalValue[i]));
+            }
+        }
+    }
+
+    public static class BoxingDoubleArrayExtractor
+        implements ValueExtractor<double @ExtractedValue(type = Double.class) []> {
+
+        @Override
+        public void extractValues(double[] originalValue, ValueExtractor.ValueReceiver receiver) {
+            for (int i = 0; i < originalValue.length; i++) {
+                receiver.indexedValue(PrimitiveArrayExtractor.ELEMENT_NODE_NAME, i, Double.valueOf(originalValue[i]));
+            }
+        }
+    }
+
+    private static Set<String> describe(Set<? extends ConstraintViolation<?>> violations) {
+        return violations.stream()
+            .map(v -> v.getPropertyPath() + " " + v.getInvalidValue() + " " + v.getLeafBean().getClass().getSimpleName()
+                + " " + v.getConstraintDescriptor().getAnnotation().annotationType().getSimpleName() + " "
+                + v.getMessage())
+            .collect(Collectors.toCollection(TreeSet::new));
+    }
+
+    @Test
+    public void testInvalidElements() {
+        final Set<ConstraintViolation<Readings>> violations = validator.validate(new Readings());
+        // as Max compares the integral part of floating point values, floats[0] is valid:
+        assertEquals(
+            new TreeSet<>(Arrays.asList("bytes", "doubles[1].<iterable element>", "doubles[2].<iterable element>",
+                "floats[1].<iterable element>", "ints", "ints[1].<iterable element>", "ints[3].<iterable element>",
+                "longs[1].<iterable element>", "longs[2].<iterable element>", "shorts[1].<iterable element>")),
+            violations.stream().map(v -> v.getPropertyPath().toString())
+                .collect(Collectors.toCollection(TreeSet::new)));
+        assertTrue(violations.stream()
+            .filter(v -> v.getPropertyPath().toString().equals("ints[1].<iterable element>"))
+            .allMatch(v -> Integer.valueOf(-1).equals(v.getInvalidValue())));
+    }
+
+    @Test
+    public void testSameAsBoxedExtraction() {
+        try (ValidatorFactory boxing = Validation.byDefaultProvider().configure()
+            .addValueExtractor(new BoxingIntArrayExtractor()).addValueExtractor(new BoxingDoubleArrayExtractor())
+            .buildValidatorFactory()) {
+            ((DefaultMessageInterpolator) boxing.getMessageInterpolator()).setLocale(Locale.ENGLISH);
+            final Validator boxingValidator = boxing.getValidator();
+            final Readings readings = new Readings();
+            assertEquals(describe(boxingValidator.validate(readings)), describe(validator.validate(readings)));
+        }
+    }
+}
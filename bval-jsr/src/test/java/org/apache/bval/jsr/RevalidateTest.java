@@ -0,0 +1,225 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.bval.jsr;
+
+import static java.lang.annotation.ElementType.TYPE;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+import static org.junit.Assert.assertEquals;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+import jakarta.validation.Constraint;
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorContext;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.GroupSequence;
+import jakarta.validation.Payload;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import jakarta.validation.groups.Default;
+
+import org.junit.Test;
+
+/**
+ * Tests {@link ApacheValidator#revalidate(Object, Set, Set, Class...)}.
+ */
+public class RevalidateTest extends ValidationTestBase {
+
+    public static class Form {
+        final Map<String, Integer> reads = new HashMap<>();
+
+        String name;
+        int age = -1;
+        String email = "x";
+        Address address = new Address();
+
+        int read(String property) {
+            return reads.getOrDefault(property, 0);
+        }
+
+        private void count(String property) {
+            reads.merge(property, 1, Integer::sum);
+        }
+
+        @NotNull
+        public String getName() {
+            count("name");
+            return name;
+        }
+
+        @Min(0)
+        public int getAge() {
+            count("age");
+            return age;
+        }
+
+        @Size(min = 3)
+        public String getEmail() {
+            count("email");
+            return email;
+        }
+
+        @Valid
+        public Address getAddress() {
+            count("address");
+            return address;
+        }
+
+        @AssertTrue
+        public boolean isAdult() {
+            count("adult");
+            return age >= 18;
+        }
+    }
+
+    public static class Address {
+        @NotNull
+        String city;
+    }
+
+    @Constraint(validatedBy = ConfirmedValidator.class)
+    @Documented
+    @Target(TYPE)
+    @Retention(RUNTIME)
+    public @interface Confirmed {
+        String message() default "Passwords do not match";
+
+        Class<?>[] groups() default {};
+
+        Class<? extends Payload>[] payload() default {};
+    }
+
+    public static class ConfirmedValidator implements ConstraintValidator<Confirmed, Registration> {
+        @Override
+        public boolean isValid(Registration value, ConstraintValidatorContext context) {
+            if (Objects.equals(value.password, value.confirm)) {
+                return true;
+            }
+            context.disableDefaultConstraintViolation();
+            context.buildConstraintViolationWithTemplate(context.getDefaultConstraintMessageTemplate())
+                .addPropertyNode("confirm").addConstraintViolation();
+            return false;
+        }
+    }
+
+    @Confirmed
+    public static class Registration {
+        @NotNull
+        String password = "secret";
+
+        String confirm = "secrets";
+    }
+
+    public interface First {
+    }
+
+    @GroupSequence({ Default.class, First.class })
+    public interface Ordered {
+    }
+
+    private static Set<String> paths(Set<? extends ConstraintViolation<?>> violations) {
+        return violations.stream().map(v -> v.getPropertyPath().toString())
+            .collect(Collectors.toCollection(TreeSet::new));
+    }
+
+    private static Set<String> set(String... values) {
+        return new HashSet<>(Arrays.asList(values));
+    }
+
+    private ApacheValidator apacheValidator() {
+        return validator.unwrap(ApacheValidator.class);
+    }
+
+    @Test
+    public void testOnlyChangedPropertiesValidated() {
+        final Form form = new Form();
+        Set<ConstraintViolation<Form>> violations = validator.validate(form);
+        assertEquals(new TreeSet<>(Arrays.asList("adult", "address.city", "age", "email", "name")),
+            paths(violations));
+
+        form.age = 20;
+        form.address.city = "Paris";
+        violations = apacheValidator().revalidate(form, set("age", "adult", "address"), violations);
+        assertEquals(new TreeSet<>(Arrays.asList("email", "name")), paths(violations));
+        assertEquals(1, form.read("name"));
+        assertEquals(1, form.read("email"));
+        assertEquals(2, form.read("age"));
+        assertEquals(2, form.read("address"));
+
+        form.name = "n";
+        form.email = "n@example.org";
+        violations = apacheValidator().revalidate(form, set("name", "email"), violations);
+        assertEquals(Collections.emptySet(), paths(violations));
+        assertEquals(2, form.read("age"));
+        assertEquals(paths(validator.validate(form)), paths(violations));
+    }
+
+    @Test
+    public void testUnchangedViolationsKept() {
+        final Form form = new Form();
+        final Set<ConstraintViolation<Form>> violations = validator.validate(form);
+        assertEquals(violations, apacheValidator().revalidate(form, Collections.emptySet(), violations));
+        assertEquals(1, form.read("name"));
+    }
+
+    @Test
+    public void testGroupSequenceValidatesAll() {
+        final Form form = new Form();
+        final Set<ConstraintViolation<Form>> violations =
+            apacheValidator().revalidate(form, Collections.emptySet(), Collections.emptySet(), Ordered.class);
+        assertEquals(1, form.read("name"));
+        assertEquals(paths(validator.validate(form, Ordered.class)), paths(violations));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testViolationsOfAnotherBean() {
+        final Set<ConstraintViolation<Form>> violations = validator.validate(new Form());
+        apacheValidator().revalidate(new Form(), Collections.emptySet(), violations);
+    }
+
+    @Test
+    public void testClassLevelViolationOnUnchangedProperty() {
+        final Registration registration = new Registration();
+        Set<ConstraintViolation<Registration>> violations = validator.validate(registration);
+        assertEquals(Collections.singleton("confirm"), paths(violations));
+
+        registration.password = "secret!";
+        violations = apacheValidator().revalidate(registration, set("password"), violations);
+        assertEquals(1, violations.size());
+        assertEquals(Collections.singleton("confirm"), paths(violations));
+
+        registration.password = "secrets";
+        violations = apacheValidator().revalidate(registration, set("password"), violations);
+        assertEquals(Collections.emptySet(), violations);
+    }
+}
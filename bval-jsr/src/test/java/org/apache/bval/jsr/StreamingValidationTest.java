@@ -0,0 +1,111 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.bval.jsr;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+
+import org.junit.Test;
+
+/**
+ * Tests {@link ApacheValidator#validate(Object, Consumer, Class...)}.
+ */
+public class StreamingValidationTest extends ValidationTestBase {
+
+    public static class Row {
+        @NotNull
+        String id;
+
+        @Min(0)
+        int amount;
+    }
+
+    public static class File {
+        @NotNull
+        String name;
+
+        @Valid
+        final List<Row> rows = new ArrayList<>();
+    }
+
+    private static File file() {
+        final File file = new File();
+        for (int i = 0; i < 20; i++) {
+            final Row row = new Row();
+            row.id = i % 2 == 0 ? null : "row" + i;
+            row.amount = i % 3 == 0 ? -1 : 1;
+            file.rows.add(row);
+        }
+        return file;
+    }
+
+    @Test
+    public void testStreamsSameViolationsInSameOrder() {
+        final File file = file();
+        final List<ConstraintViolation<File>> streamed = new ArrayList<>();
+
+        final int count = validator.unwrap(ApacheValidator.class).validate(file, streamed::add);
+
+        final List<String> expected = new ArrayList<>();
+        validator.validate(file).forEach(v -> expected.add(v.getPropertyPath().toString()));
+        final List<String> actual = new ArrayList<>();
+        streamed.forEach(v -> actual.add(v.getPropertyPath().toString()));
+
+        assertEquals(expected, actual);
+        assertEquals(streamed.size(), count);
+        assertEquals(1 + 10 + 7, count);
+    }
+
+    @Test
+    public void testValidBeanStreamsNothing() {
+        final File file = new File();
+        file.name = "valid";
+        assertEquals(0, validator.unwrap(ApacheValidator.class).validate(file, v -> {
+            throw new AssertionError(v);
+        }));
+    }
+
+    @Test
+    public void testViolationLimitApplies() {
+        final List<ConstraintViolation<File>> streamed = new ArrayList<>();
+        final ApacheValidator v = factory.unwrap(ApacheValidatorFactory.class).usingContext().maxViolations(3)
+            .getValidator().unwrap(ApacheValidator.class);
+        assertEquals(3, v.validate(file(), streamed::add));
+        assertEquals(3, streamed.size());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNullSink() {
+        validator.unwrap(ApacheValidator.class).validate(file(), (Consumer<ConstraintViolation<File>>) null);
+    }
+
+    @Test
+    public void testUnwrap() {
+        assertTrue(validator.unwrap(ApacheValidator.class) instanceof CascadingPropertyValidator);
+    }
+}
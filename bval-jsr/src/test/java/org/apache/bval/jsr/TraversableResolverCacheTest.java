@@ -0,0 +1,169 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.bval.jsr;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.lang.annotation.ElementType;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.GroupSequence;
+import jakarta.validation.Path;
+import jakarta.validation.TraversableResolver;
+import jakarta.validation.Valid;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import jakarta.validation.constraints.NotNull;
+
+import org.junit.Test;
+
+/**
+ * Checks the caching of {@link TraversableResolver} results within a validation.
+ */
+public class TraversableResolverCacheTest extends ValidationTestBase {
+
+    public interface First {
+    }
+
+    public interface Second {
+    }
+
+    @GroupSequence({ First.class, Second.class })
+    public interface Sequence {
+    }
+
+    public static class Child {
+        @NotNull(groups = { First.class, Second.class })
+        String value = "v";
+    }
+
+    public static class Parent {
+        @NotNull(groups = { First.class, Second.class })
+        String name;
+
+        @Valid
+        Child child = new Child();
+    }
+
+    public static class Siblings {
+        @Valid
+        Child first;
+
+        @Valid
+        Child second;
+    }
+
+    public static class RecordingResolver implements TraversableResolver {
+        final List<String> calls = new ArrayList<>();
+        final Set<String> unreachable = new HashSet<>();
+
+        @Override
+        public boolean isReachable(Object traversableObject, Path.Node traversableProperty, Class<?> rootBeanType,
+            Path pathToTraversableObject, ElementType elementType) {
+            calls.add("reachable " + pathToTraversableObject + "/" + traversableProperty.getName());
+            return !unreachable.contains(traversableProperty.getName());
+        }
+
+        @Override
+        public boolean isCascadable(Object traversableObject, Path.Node traversableProperty, Class<?> rootBeanType,
+            Path pathToTraversableObject, ElementType elementType) {
+            calls.add("cascadable " + pathToTraversableObject + "/" + traversableProperty.getName());
+            return true;
+        }
+    }
+
+    private static Set<String> paths(Set<? extends ConstraintViolation<?>> violations) {
+        return violations.stream().map(v -> v.getPropertyPath().toString()).collect(Collectors.toSet());
+    }
+
+    private static void assertAskedOnce(List<String> calls) {
+        assertEquals(calls.toString(), new HashSet<>(calls).size(), calls.size());
+    }
+
+    @Test
+    public void testResolverAskedOncePerProperty() {
+        final RecordingResolver resolver = new RecordingResolver();
+        final Parent parent = new Parent();
+        parent.name = "p";
+
+        assertTrue(factory.usingContext().traversableResolver(resolver).getValidator()
+            .validate(parent, Sequence.class).isEmpty());
+        assertTrue(resolver.calls.contains("reachable child/value"));
+        assertTrue(resolver.calls.contains("cascadable /child"));
+        assertAskedOnce(resolver.calls);
+    }
+
+    @Test
+    public void testUnreachableProperty() {
+        final RecordingResolver resolver = new RecordingResolver();
+        resolver.unreachable.add("name");
+        final Parent parent = new Parent();
+        parent.child.value = null;
+
+        assertEquals(Collections.singleton("child.value"), paths(
+            factory.usingContext().traversableResolver(resolver).getValidator().validate(parent, First.class)));
+    }
+
+    @Test
+    public void testPooledCaches() {
+        final RecordingResolver resolver = new RecordingResolver();
+        try (ValidatorFactory pooling = Validation.byProvider(ApacheValidationProvider.class).configure()
+            .addProperty(ApacheValidatorConfiguration.Properties.TRAVERSABLE_RESOLVER_CACHE_POOLING, "true")
+            .traversableResolver(resolver).buildValidatorFactory()) {
+            final Validator validator = pooling.getValidator();
+            final Parent parent = new Parent();
+
+            assertEquals(Collections.singleton("name"), paths(validator.validate(parent, Sequence.class)));
+            assertAskedOnce(resolver.calls);
+            final List<String> firstCalls = new ArrayList<>(resolver.calls);
+
+            // a pooled cache starts empty:
+            resolver.calls.clear();
+            assertEquals(Collections.singleton("name"), paths(validator.validate(parent, Sequence.class)));
+            assertEquals(firstCalls, resolver.calls);
+        }
+    }
+
+    @Test
+    public void testSameObjectOnDifferentPaths() {
+        final Child child = new Child();
+        child.value = null;
+        final Siblings siblings = new Siblings();
+        siblings.first = child;
+        siblings.second = child;
+
+        final TraversableResolver resolver = new RecordingResolver() {
+            @Override
+            public boolean isReachable(Object traversableObject, Path.Node traversableProperty,
+                Class<?> rootBeanType, Path pathToTraversableObject, ElementType elementType) {
+                return !"second".equals(pathToTraversableObject.toString());
+            }
+        };
+        assertEquals(Collections.singleton("first.value"), paths(
+            factory.usingContext().traversableResolver(resolver).getValidator().validate(siblings, First.class)));
+    }
+}
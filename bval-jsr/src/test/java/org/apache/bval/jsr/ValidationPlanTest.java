@@ -0,0 +1,149 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.bval.jsr;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.Closeable;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.GroupSequence;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import jakarta.validation.groups.Default;
+
+import org.apache.bval.jsr.descriptor.BeanD;
+import org.apache.bval.jsr.descriptor.DescriptorManager;
+import org.apache.bval.jsr.groups.Group;
+import org.apache.bval.jsr.groups.GroupStrategy;
+import org.junit.Test;
+
+/**
+ * Checks that validation results stay stable once the validation plan of a bean type has been computed and cached.
+ */
+public class ValidationPlanTest extends ValidationTestBase {
+
+    public interface Second {
+    }
+
+    @GroupSequence({ Sequenced.class, Second.class })
+    public static class Sequenced {
+        @NotNull
+        String first;
+
+        @Size(max = 1, groups = Second.class)
+        String second = "too long";
+
+        @Valid
+        Child child;
+    }
+
+    public static class Child {
+        @NotNull
+        String name;
+
+        @NotNull(groups = Second.class)
+        String other;
+    }
+
+    @Test
+    public void testRepeatedValidationWithRedefinedDefaultGroup() {
+        final Sequenced bean = new Sequenced();
+        bean.child = new Child();
+
+        for (int i = 0; i < 3; i++) {
+            assertEquals(Set.of("first", "child.name"), paths(validator.validate(bean)));
+        }
+        bean.first = "x";
+        bean.child.name = "y";
+        for (int i = 0; i < 3; i++) {
+            assertEquals(Set.of("second"), paths(validator.validate(bean)));
+        }
+        bean.second = "z";
+        assertTrue(validator.validate(bean).isEmpty());
+    }
+
+    @Test
+    public void testSameBeanTypeWithDifferentGroups() {
+        final Sequenced bean = new Sequenced();
+        bean.child = new Child();
+
+        assertEquals(Set.of("second", "child.other"), paths(validator.validate(bean, Second.class)));
+        assertEquals(Set.of("first", "child.name"), paths(validator.validate(bean, Default.class)));
+        assertEquals(Set.of("second", "child.other"), paths(validator.validate(bean, Second.class)));
+    }
+
+    public static class Simple {
+        @Size(min = 2)
+        String a = "a";
+
+        @Size(min = 2)
+        String b = "bb";
+
+        @Size(min = 2)
+        String c = "c";
+    }
+
+    @Test
+    public void testSimplePropertyViolationsKeepTheirOwnPathAndValue() {
+        final Set<ConstraintViolation<Simple>> violations = validator.validate(new Simple());
+        assertEquals(Set.of("a=a", "c=c"), violations.stream()
+            .map(v -> v.getPropertyPath() + "=" + v.getInvalidValue()).collect(Collectors.toSet()));
+        assertTrue(validator.validate(new Simple(), Second.class).isEmpty());
+    }
+
+    @Test
+    public void testPlansCachedPerBeanAreBounded() {
+        final DescriptorManager descriptorManager =
+            factory.unwrap(ApacheValidatorFactory.class).getDescriptorManager();
+        @SuppressWarnings("unchecked")
+        final BeanD<Simple> bean = (BeanD<Simple>) descriptorManager.getBeanDescriptor(Simple.class);
+
+        final Class<?>[] groups = { Second.class, Runnable.class, Comparable.class, Cloneable.class,
+            Serializable.class, AutoCloseable.class, Closeable.class, CharSequence.class, Iterable.class,
+            Appendable.class, Readable.class };
+        final List<GroupStrategy> strategies = new ArrayList<>();
+        for (int i = 0; i < groups.length; i++) {
+            for (int j = i + 1; j < groups.length; j++) {
+                strategies.add(GroupStrategy.simple(Group.DEFAULT, Group.of(groups[i]), Group.of(groups[j])));
+            }
+        }
+        final GroupStrategy first = strategies.get(0);
+        final GroupStrategy last = strategies.get(strategies.size() - 1);
+        final Object firstPlan = descriptorManager.getValidationPlan(bean, first);
+        strategies.forEach(gs -> assertSame(bean, descriptorManager.getValidationPlan(bean, gs).getBean()));
+
+        assertSame(firstPlan, descriptorManager.getValidationPlan(bean, first));
+        assertNotSame(descriptorManager.getValidationPlan(bean, last), descriptorManager.getValidationPlan(bean, last));
+        assertEquals(Set.of("a", "c"), paths(validator.validate(new Simple())));
+    }
+
+    private static Set<String> paths(Set<? extends ConstraintViolation<?>> violations) {
+        return violations.stream().map(v -> v.getPropertyPath().toString()).collect(Collectors.toSet());
+    }
+}
@@ -23,6 +23,7 @@ import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThrows;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
@@ -728,6 +729,26 @@ public class ValidationTest extends ValidationTestBase {
         assertEquals("booleanFalse", violation.getPropertyPath().toString());
     }
 
+    @Test
+    public void testGetterErrorNotWrapped() {
+        final AssertionError error = new AssertionError("broken getter");
+        assertSame(error,
+            assertThrows(AssertionError.class, () -> validator.validate(new FailingGetterSubject(error))));
+    }
+
+    public static class FailingGetterSubject {
+        private final AssertionError error;
+
+        FailingGetterSubject(AssertionError error) {
+            this.error = error;
+        }
+
+        @NotNull
+        public String getValue() {
+            throw error;
+        }
+    }
+
     public static class Issue149Subject {
         @AssertTrue(message = "true")
         public boolean isBooleanTrue() {
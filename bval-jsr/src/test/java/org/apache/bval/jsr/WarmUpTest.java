@@ -0,0 +1,145 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.bval.jsr;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.validation.Valid;
+import jakarta.validation.Validation;
+import jakarta.validation.ValidatorFactory;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import org.apache.bval.jsr.groups.GroupsComputer;
+import org.apache.bval.jsr.groups.implicit.Order;
+import org.junit.Test;
+
+/**
+ * Tests {@link ApacheValidatorFactory#warmUp(java.util.Collection, java.util.concurrent.Executor)} and
+ * {@link ApacheValidatorConfiguration.Properties#WARM_UP}.
+ */
+public class WarmUpTest {
+
+    public static class Person {
+        @NotNull
+        String name;
+
+        @Min(0)
+        int age = -1;
+
+        // the validator depends on the runtime type:
+        @NotNull
+        Object id;
+
+        @Valid
+        Address address = new Address();
+    }
+
+    public static class Address {
+        @Size(min = 5)
+        String zip = "123";
+    }
+
+    public static class Unrelated {
+        @NotNull
+        String value;
+    }
+
+    private static ValidatorFactory createFactory(String warmUp) {
+        final ApacheValidatorConfiguration configuration =
+            Validation.byProvider(ApacheValidationProvider.class).configure()
+                .addProperty(ApacheValidatorConfiguration.Properties.CACHE_RECORD_STATS, "true");
+        if (warmUp != null) {
+            configuration.addProperty(ApacheValidatorConfiguration.Properties.WARM_UP, warmUp);
+        }
+        return configuration.buildValidatorFactory();
+    }
+
+    private static long size(ValidatorFactory factory, String cache) {
+        return factory.unwrap(ApacheValidatorFactory.class).getCacheStats().get(cache).getSize();
+    }
+
+    @Test
+    public void testWarmUp() throws Exception {
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        try (ValidatorFactory factory = createFactory(null)) {
+            factory.unwrap(ApacheValidatorFactory.class)
+                .warmUp(Arrays.asList(Person.class, Address.class, Unrelated.class), executor)
+                .get(10, TimeUnit.SECONDS);
+
+            assertEquals(3, size(factory, "beanDescriptors"));
+            // name, age, zip, value; not id:
+            assertEquals(4, size(factory, "constraintValidators"));
+
+            final Person person = new Person();
+            person.id = "x";
+            assertEquals(3, factory.getValidator().validate(person).size());
+            assertEquals(3, size(factory, "beanDescriptors"));
+            assertEquals(5, size(factory, "constraintValidators"));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testWarmUpProperty() throws Exception {
+        try (ValidatorFactory factory = createFactory(" " + Person.class.getName() + " ,")) {
+            final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+            while (size(factory, "constraintValidators") < 3 && System.nanoTime() < deadline) {
+                Thread.sleep(10);
+            }
+            // the cascaded Address is included:
+            assertEquals(2, size(factory, "beanDescriptors"));
+            assertEquals(3, size(factory, "constraintValidators"));
+        }
+    }
+
+    @Test
+    public void testCloseCancelsWarmUp() throws Exception {
+        final ValidatorFactory factory = createFactory(Person.class.getName());
+        factory.close();
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            // a closed factory warms up nothing:
+            factory.unwrap(ApacheValidatorFactory.class).warmUp(Arrays.asList(Unrelated.class), executor)
+                .get(10, TimeUnit.SECONDS);
+            // at most Person and Address, should the background warm-up have started before close:
+            assertTrue(size(factory, "beanDescriptors") <= 2);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testLoadPackageClasses() {
+        final ParticipantFactory participantFactory = new ParticipantFactory(WarmUpTest.class.getClassLoader());
+        final Set<Class<?>> groups = participantFactory.loadPackageClasses("org.apache.bval.jsr.groups");
+        assertTrue(groups.contains(GroupsComputer.class));
+        assertTrue(groups.contains(Order.class));
+        assertTrue(groups.stream().allMatch(c -> c.getName().startsWith("org.apache.bval.jsr.groups.")));
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.bval.jsr.groups;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.groups.ConvertGroup;
+import jakarta.validation.groups.Default;
+
+import org.apache.bval.jsr.ValidationTestBase;
+import org.apache.bval.jsr.example.First;
+import org.apache.bval.jsr.example.Last;
+import org.apache.bval.jsr.example.Second;
+import org.junit.Test;
+
+/**
+ * Checks the memoization of {@link GroupStrategy} redefinitions and computed {@link Groups}.
+ */
+public class GroupStrategyTest extends ValidationTestBase {
+    private static final Group FIRST = Group.of(First.class);
+    private static final Group SECOND = Group.of(Second.class);
+    private static final Group LAST = Group.of(Last.class);
+
+    public static class Child {
+        @NotNull(groups = First.class)
+        String value;
+    }
+
+    public static class Parent {
+        @Valid
+        @ConvertGroup(from = Default.class, to = First.class)
+        Child child = new Child();
+    }
+
+    private static Map<Group, GroupStrategy> redefine(Group from, GroupStrategy to) {
+        final Map<Group, GroupStrategy> result = new HashMap<>();
+        result.put(from, to);
+        return result;
+    }
+
+    @Test
+    public void testRedefinitionMemoized() {
+        final GroupStrategy source = new GroupStrategy.Composite(Arrays.asList(FIRST, Group.DEFAULT), false);
+        final GroupStrategy redefined = source.redefining(redefine(Group.DEFAULT, GroupStrategy.simple(SECOND, LAST)));
+        assertSame(redefined, source.redefining(redefine(Group.DEFAULT, GroupStrategy.simple(SECOND, LAST))));
+        assertSame(source.getGroups(), source.getGroups());
+        assertSame(source, source.redefining(redefine(LAST, FIRST)));
+    }
+
+    @Test
+    public void testOrderedRedefinition() {
+        final GroupStrategy source = new GroupStrategy.Composite(Arrays.asList(Group.DEFAULT, LAST), true);
+        final GroupStrategy redefined =
+            source.redefining(redefine(Group.DEFAULT, new GroupStrategy.Composite(Arrays.asList(SECOND, FIRST), true)));
+        assertEquals(Arrays.asList(SECOND, FIRST, LAST), redefined.getGroups().stream().collect(Collectors.toList()));
+    }
+
+    @Test
+    public void testComputedGroupsMemoized() {
+        final GroupsComputer groupsComputer = new GroupsComputer();
+        final Groups groups = groupsComputer.computeGroups(First.class, Second.class);
+        assertSame(groups, groupsComputer.computeGroups(First.class, Second.class));
+        assertSame(groups.asStrategy(), groups.asStrategy());
+        assertTrue(groupsComputer.computeConversions(Collections.emptySet()).isEmpty());
+    }
+
+    @Test
+    public void testConversionOnCascade() {
+        for (int i = 0; i < 2; i++) {
+            final Set<ConstraintViolation<Parent>> violations = validator.validate(new Parent());
+            assertEquals(Collections.singleton("child.value"),
+                violations.stream().map(v -> v.getPropertyPath().toString()).collect(Collectors.toSet()));
+        }
+    }
+}
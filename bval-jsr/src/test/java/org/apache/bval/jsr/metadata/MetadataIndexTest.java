@@ -0,0 +1,146 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one or more
+ *  contributor license agreements.  See the NOTICE file distributed with
+ *  this work for additional information regarding copyright ownership.
+ *  The ASF licenses this file to You under the Apache License, Version 2.0
+ *  (the "License"); you may not use this file except in compliance with
+ *  the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.apache.bval.jsr.metadata;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assume.assumeNotNull;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.ValidatorFactory;
+import jakarta.validation.constraints.NotNull;
+
+import org.apache.bval.jsr.ApacheValidationProvider;
+import org.apache.bval.jsr.ApacheValidatorConfiguration;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class MetadataIndexTest {
+    private static final String PERSON = String.join("\n",
+        "package indexed;",
+        "import java.util.List;",
+        "import jakarta.validation.constraints.*;",
+        "public class Person {",
+        "    @NotNull public String name;",
+        "    public String nickname;",
+        "    public List<@Size(max = 3) String> tags = List.of(\"abcd\");",
+        "    public String getNickname() { return nickname; }",
+        "    @Min(0) public int getAge() { return -1; }",
+        "    public void greet(@NotNull String greeting) {}",
+        "}");
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private Path compile() throws IOException {
+        final JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        assumeNotNull(compiler);
+
+        final Path src = folder.newFolder("src").toPath();
+        final Path source = src.resolve("indexed").resolve("Person.java");
+        Files.createDirectories(source.getParent());
+        Files.write(source, PERSON.getBytes(StandardCharsets.UTF_8));
+
+        final Path out = folder.newFolder("classes").toPath();
+        try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(null, null, null)) {
+            final List<String> options = Arrays.asList("-d", out.toString(), "-classpath",
+                location(NotNull.class) + File.pathSeparator + location(MetadataIndexProcessor.class));
+            final Iterable<? extends JavaFileObject> units = fileManager.getJavaFileObjects(source.toFile());
+            final JavaCompiler.CompilationTask task = compiler.getTask(null, fileManager, null, options, null, units);
+            task.setProcessors(Collections.singletonList(new MetadataIndexProcessor()));
+            assertTrue(task.call());
+        }
+        return out;
+    }
+
+    private static String location(Class<?> type) {
+        try {
+            return new File(type.getProtectionDomain().getCodeSource().getLocation().toURI()).getPath();
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static Set<String> violations(Path classes, boolean useIndex) throws Exception {
+        try (URLClassLoader loader = new URLClassLoader(new URL[] { classes.toUri().toURL() },
+            MetadataIndexTest.class.getClassLoader());
+            ValidatorFactory factory = Validation.byProvider(ApacheValidationProvider.class).configure()
+                .addProperty(ApacheValidatorConfiguration.Properties.METADATA_INDEX, Boolean.toString(useIndex))
+                .buildValidatorFactory()) {
+            final Class<?> person = loader.loadClass("indexed.Person");
+
+            assertNotNull(factory.getValidator().getConstraintsForClass(person).getConstraintsForMethod("greet",
+                String.class));
+
+            final Set<ConstraintViolation<Object>> violations =
+                factory.getValidator().validate(person.getConstructor().newInstance());
+            return violations.stream().map(v -> v.getPropertyPath().toString())
+                .collect(Collectors.toCollection(TreeSet::new));
+        }
+    }
+
+    @Test
+    public void testIndexWritten() throws Exception {
+        final List<String> index =
+            Files.readAllLines(compile().resolve(MetadataIndex.RESOURCE_PREFIX + "indexed.Person"));
+        assertEquals(Arrays.asList("F name", "F tags", "M getAge()", "M greet(java.lang.String)"),
+            index.subList(2, index.size()));
+        assertFalse(index.contains("F nickname"));
+    }
+
+    @Test
+    public void testIndexedMetadata() throws Exception {
+        final Path classes = compile();
+        final Set<String> expected = new TreeSet<>(Arrays.asList("age", "name", "tags[0].<list element>"));
+        assertEquals(expected, violations(classes, false));
+        assertEquals(expected, violations(classes, true));
+    }
+
+    @Test
+    public void testStaleIndexIgnored() throws Exception {
+        final Path classes = compile();
+        final Path index = classes.resolve(MetadataIndex.RESOURCE_PREFIX + "indexed.Person");
+        // an index of a different class listing no constrained members:
+        Files.write(index, Arrays.asList("bval-metadata-index 1", "0"), StandardCharsets.UTF_8);
+
+        assertEquals(new TreeSet<>(Arrays.asList("age", "name", "tags[0].<list element>")),
+            violations(classes, true));
+    }
+}
@@ -25,8 +25,14 @@ import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertThrows;
 import static org.junit.Assert.assertTrue;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Iterator;
+import java.util.List;
 
 import jakarta.validation.Path;
 import jakarta.validation.ValidationException;
@@ -232,6 +238,48 @@ public class PathImplTest {
         assertThrows(IndexOutOfBoundsException.class, path::getLeafNode);
     }
 
+    @Test
+    public void testCopiesAreIndependent() {
+        final PathImpl path = PathImpl.createPathFromString("order[3].deliveryAddress");
+        final PathImpl copy = PathImpl.copy(path);
+
+        copy.addProperty("addressline");
+        assertEquals("order[3].deliveryAddress", path.toString());
+        assertEquals("order[3].deliveryAddress.addressline", copy.toString());
+
+        copy.removeLeafNode();
+        assertEquals(path, copy);
+        assertEquals(path.hashCode(), copy.hashCode());
+
+        copy.mutableLeafNode().setName("billingAddress");
+        assertEquals("order[3].deliveryAddress", path.toString());
+        assertEquals("order[3].billingAddress", copy.toString());
+        assertFalse(path.equals(copy));
+    }
+
+    @Test
+    public void testHashCodeOfNodeList() {
+        final PathImpl path = PathImpl.createPathFromString("order[3].deliveryAddress.addressline[1]");
+        final List<Path.Node> nodes = new ArrayList<>();
+        path.forEach(nodes::add);
+        assertEquals(nodes.hashCode(), path.hashCode());
+        assertEquals(nodes.hashCode(), PathImpl.copy(path).hashCode());
+    }
+
+    @Test
+    public void testSerialization() throws Exception {
+        final PathImpl path = PathImpl.createPathFromString("order[3].deliveryAddress.addressline[1]");
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(path);
+        }
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            final PathImpl read = (PathImpl) in.readObject();
+            assertEquals(path, read);
+            assertEquals(path.toString(), read.toString());
+        }
+    }
+
     /**
      * A {@link PathImpl} holding no nodes at all. {@link PathImpl#create()} always seeds a root node and
      * {@link PathImpl#removeLeafNode()} restores one, so the only way to reach this state is to copy a foreign
@@ -0,0 +1,131 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.bval.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+public class ConcurrentCacheTest {
+
+    @Test
+    public void testUnbounded() {
+        final Cache<Integer, String> cache = new ConcurrentCache<>(0, false);
+        for (int i = 0; i < 1000; i++) {
+            cache.putIfAbsent(i, Integer.toString(i));
+        }
+        assertEquals(1000, cache.size());
+        assertEquals("42", cache.get(42));
+        assertEquals("42", cache.putIfAbsent(42, "other"));
+    }
+
+    @Test
+    public void testComputeIfAbsent() {
+        final Cache<String, Integer> cache = new ConcurrentCache<>(0, true);
+        final AtomicInteger computations = new AtomicInteger();
+        assertEquals(Integer.valueOf(3), cache.computeIfAbsent("foo", k -> {
+            computations.incrementAndGet();
+            return k.length();
+        }));
+        assertEquals(Integer.valueOf(3), cache.computeIfAbsent("foo", k -> computations.incrementAndGet()));
+        assertEquals(1, computations.get());
+
+        assertNull(cache.computeIfAbsent("bar", k -> null));
+        assertEquals(1, cache.size());
+
+        final Cache.Stats stats = cache.stats();
+        assertEquals(1, stats.getHitCount());
+        assertEquals(2, stats.getMissCount());
+    }
+
+    @Test
+    public void testBoundedEvictsLeastRecentlyUsed() {
+        final Cache<Integer, String> cache = new ConcurrentCache<>(10, true);
+        for (int i = 0; i < 10; i++) {
+            cache.put(i, Integer.toString(i));
+        }
+        // touch the first half:
+        for (int i = 0; i < 5; i++) {
+            assertNotNull(cache.get(i));
+        }
+        for (int i = 10; i < 15; i++) {
+            cache.put(i, Integer.toString(i));
+        }
+        assertEquals(10, cache.size());
+        for (int i = 0; i < 5; i++) {
+            assertEquals(Integer.toString(i), cache.get(i));
+        }
+        for (int i = 5; i < 10; i++) {
+            assertNull(cache.get(i));
+        }
+        assertEquals(5, cache.stats().getEvictionCount());
+    }
+
+    @Test
+    public void testBoundedUnderLoad() {
+        final Cache<Integer, Integer> cache = new ConcurrentCache<>(100, false);
+        for (int i = 0; i < 100_000; i++) {
+            final int key = i % 1000;
+            assertEquals(Integer.valueOf(key), cache.computeIfAbsent(key, Integer::valueOf));
+        }
+        assertTrue(cache.size() <= 100);
+    }
+
+    @Test
+    public void testEvictionListener() {
+        final List<String> evicted = new ArrayList<>();
+        final Cache<Integer, String> cache = new ConcurrentCache<>(3, false, evicted::add);
+        for (int i = 0; i < 5; i++) {
+            cache.put(i, Integer.toString(i));
+        }
+        assertEquals(3, cache.size());
+        assertEquals(Arrays.asList("0", "1"), evicted);
+    }
+
+    @Test
+    public void testEvictionListenerNotifiedOfReplacedAndClearedValues() {
+        final List<String> dropped = new ArrayList<>();
+        final Cache<Integer, String> cache = new ConcurrentCache<>(0, false, dropped::add);
+        cache.put(1, "1");
+        cache.put(2, "2");
+        cache.put(1, "one");
+        assertEquals(Arrays.asList("1"), dropped);
+        cache.clear();
+        assertEquals(0, cache.size());
+        assertEquals(3, dropped.size());
+        assertTrue(dropped.containsAll(Arrays.asList("one", "2")));
+    }
+
+    @Test
+    public void testClear() {
+        final Cache<Integer, String> cache = new ConcurrentCache<>(5, false);
+        cache.put(1, "1");
+        cache.clear();
+        assertEquals(0, cache.size());
+        assertNull(cache.get(1));
+    }
+}
@@ -0,0 +1,172 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.bval.jsr;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.validation.Valid;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+/**
+ * Measures start-up costs: building a {@link ValidatorFactory}, and the metadata built the first time a bean type is
+ * described or validated. Each invocation uses a fresh factory, so the metadata caches are always cold.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class BootstrapBenchmark {
+
+    public static void main(String[] args) throws RunnerException {
+        final Options opt = new OptionsBuilder()
+            .include(BootstrapBenchmark.class.getSimpleName())
+            .addProfiler(GCProfiler.class)
+
+            .forks(1)
+
+            .measurementIterations(5)
+            .measurementTime(TimeValue.seconds(5))
+
+            .warmupIterations(3)
+            .warmupTime(TimeValue.seconds(5))
+
+            .build();
+
+        new Runner(opt).run();
+    }
+
+    public enum BeanType {
+        FLAT(new Flat()), NESTED(new Order());
+
+        final Object instance;
+
+        private BeanType(Object instance) {
+            this.instance = instance;
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class ColdFactory {
+        @Param
+        public BeanType beanType;
+
+        ValidatorFactory factory;
+        Validator validator;
+
+        // per-invocation setup is only acceptable because building metadata takes much longer than the timestamping
+        // overhead it introduces:
+        @Setup(Level.Invocation)
+        public void setup() {
+            factory = Validation.byProvider(ApacheValidationProvider.class).configure().buildValidatorFactory();
+            validator = factory.getValidator();
+        }
+
+        @TearDown(Level.Invocation)
+        public void tearDown() {
+            factory.close();
+        }
+    }
+
+    @Benchmark
+    public Object buildFactory() {
+        try (ValidatorFactory factory =
+            Validation.byProvider(ApacheValidationProvider.class).configure().buildValidatorFactory()) {
+            return factory.getValidator();
+        }
+    }
+
+    @Benchmark
+    public Object firstDescribe(ColdFactory cold) {
+        return cold.validator.getConstraintsForClass(cold.beanType.instance.getClass());
+    }
+
+    @Benchmark
+    public Object firstValidate(ColdFactory cold) {
+        return cold.validator.validate(cold.beanType.instance);
+    }
+
+    public static class Flat {
+        @NotBlank
+        @Size(max = 20)
+        private String name = "name";
+        @Email
+        private String email = "someone@example.org";
+        @Pattern(regexp = "\\d{5}")
+        private String zip = "12345";
+        @Min(0)
+        @Max(150)
+        private int age = 42;
+        @NotNull
+        private Long id = 1L;
+    }
+
+    public static class Order {
+        @NotNull
+        @Valid
+        private Flat customer = new Flat();
+        @NotNull
+        @Valid
+        private Address shipping = new Address();
+        @Size(min = 1)
+        private List<@NotNull @Valid Line> lines = Collections.singletonList(new Line());
+    }
+
+    public static class Address {
+        @NotBlank
+        private String street = "street";
+        @NotBlank
+        private String city = "city";
+        @Pattern(regexp = "\\d{5}")
+        private String zip = "12345";
+    }
+
+    public static class Line {
+        @NotBlank
+        private String product = "product";
+        @Min(1)
+        private int quantity = 1;
+    }
+}
@@ -0,0 +1,175 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.bval.jsr;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.validation.Valid;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+/**
+ * Measures cascaded validation of deep object graphs and of large containers of beans and of values; time and
+ * allocation should grow linearly with the depth and size parameters.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CascadeBenchmark {
+
+    public static void main(String[] args) throws RunnerException {
+        final Options opt = new OptionsBuilder()
+            .include(CascadeBenchmark.class.getSimpleName())
+            .addProfiler(GCProfiler.class)
+
+            .forks(1)
+
+            .measurementIterations(5)
+            .measurementTime(TimeValue.seconds(5))
+
+            .warmupIterations(3)
+            .warmupTime(TimeValue.seconds(5))
+
+            .build();
+
+        new Runner(opt).run();
+    }
+
+    @State(Scope.Benchmark)
+    public static class DeepGraph {
+        @Param({ "1", "10", "50" })
+        public int depth;
+
+        Node root;
+
+        @Setup
+        public void setup() {
+            for (int i = 0; i < depth; i++) {
+                root = new Node(i, root);
+            }
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class LargeContainers {
+        @Param({ "10", "1000", "10000" })
+        public int size;
+
+        Catalog catalog;
+
+        @Setup
+        public void setup() {
+            catalog = new Catalog();
+            for (int i = 0; i < size; i++) {
+                final Item item = new Item("item" + i, i);
+                catalog.items.add(item);
+                catalog.itemsByName.put(item.name, item);
+                catalog.tags.add("tag" + i);
+            }
+        }
+    }
+
+    private ValidatorFactory factory;
+    private Validator validator;
+
+    @Setup
+    public void setup() {
+        factory = Validation.byProvider(ApacheValidationProvider.class).configure().buildValidatorFactory();
+        validator = factory.getValidator();
+    }
+
+    @TearDown
+    public void tearDown() {
+        factory.close();
+    }
+
+    @Benchmark
+    public Object deepCascade(DeepGraph graph) {
+        return validator.validate(graph.root);
+    }
+
+    @Benchmark
+    public Object largeContainers(LargeContainers containers) {
+        return validator.validate(containers.catalog);
+    }
+
+    public static class Node {
+        @Min(0)
+        private int value;
+
+        @NotNull
+        private String label;
+
+        @Valid
+        private Node next;
+
+        Node(int value, Node next) {
+            this.value = value;
+            this.label = "node" + value;
+            this.next = next;
+        }
+    }
+
+    public static class Catalog {
+        @Valid
+        private List<Item> items = new ArrayList<>();
+
+        private Map<@NotNull String, @Valid Item> itemsByName = new HashMap<>();
+
+        private List<@NotNull @Size(max = 16) String> tags = new ArrayList<>();
+    }
+
+    public static class Item {
+        @NotNull
+        @Size(max = 16)
+        private String name;
+
+        @Min(0)
+        private int stock;
+
+        Item(String name, int stock) {
+            this.name = name;
+            this.stock = stock;
+        }
+    }
+}
@@ -0,0 +1,246 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.bval.jsr;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.validation.Valid;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Past;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Measures a burst of threads describing the same graph of bean types, with a fresh factory for each iteration, so
+ * that all threads miss the metadata caches at once. Besides the time taken, the CPU time all threads spent is
+ * reported as {@code cpuNanos}; descriptors built more than once show up there rather than in the elapsed time.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Threads(8)
+@Warmup(iterations = 20)
+@Measurement(iterations = 50)
+public class DescriptorBuildingBenchmark {
+
+    public static void main(String[] args) throws RunnerException {
+        final Options opt = new OptionsBuilder()
+            .include(DescriptorBuildingBenchmark.class.getSimpleName())
+            .addProfiler(GCProfiler.class)
+
+            .forks(1)
+
+            .build();
+
+        new Runner(opt).run();
+    }
+
+    private static final Class<?>[] TYPES = { Customer.class, Supplier.class, Employee.class, Order.class,
+        Invoice.class, Shipment.class, Address.class, Line.class, Entity.class, Party.class };
+
+    private static final ThreadMXBean THREADS = ManagementFactory.getThreadMXBean();
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class CpuTime {
+        public long cpuNanos;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            cpuNanos = 0;
+        }
+    }
+
+    private ValidatorFactory factory;
+    private Validator validator;
+
+    @Setup(Level.Iteration)
+    public void setup() {
+        factory = Validation.byProvider(ApacheValidationProvider.class).configure().buildValidatorFactory();
+        validator = factory.getValidator();
+    }
+
+    @TearDown(Level.Iteration)
+    public void tearDown() {
+        factory.close();
+    }
+
+    @Benchmark
+    public int describeGraph(CpuTime cpu) {
+        final long start = THREADS.getCurrentThreadCpuTime();
+        int result = 0;
+        for (Class<?> type : TYPES) {
+            result += validator.getConstraintsForClass(type).getConstrainedProperties().size();
+        }
+        cpu.cpuNanos += THREADS.getCurrentThreadCpuTime() - start;
+        return result;
+    }
+
+    public static class Entity {
+        @NotNull
+        @Min(1)
+        Long id;
+
+        @NotNull
+        @Past
+        Date created;
+
+        @Past
+        Date modified;
+    }
+
+    public static class Party extends Entity {
+        @NotBlank
+        @Size(max = 100)
+        String name;
+
+        @Email
+        String email;
+
+        @Pattern(regexp = "\\+?[0-9 ]{6,20}")
+        String phone;
+
+        @NotNull
+        @Valid
+        Address address;
+    }
+
+    public static class Customer extends Party {
+        @Min(0)
+        @Max(100)
+        int discount;
+
+        @Valid
+        List<@NotNull @Valid Order> orders;
+    }
+
+    public static class Supplier extends Party {
+        @NotBlank
+        @Pattern(regexp = "[A-Z]{2}[0-9]{8,12}")
+        String vatNumber;
+
+        @Valid
+        List<@NotNull @Valid Shipment> shipments;
+    }
+
+    public static class Employee extends Party {
+        @NotBlank
+        String department;
+
+        @Min(0)
+        long salary;
+
+        @Valid
+        Employee manager;
+    }
+
+    public static class Order extends Entity {
+        @NotNull
+        @Valid
+        Customer customer;
+
+        @Size(min = 1)
+        List<@NotNull @Valid Line> lines;
+
+        @Valid
+        Invoice invoice;
+    }
+
+    public static class Invoice extends Entity {
+        @NotBlank
+        @Pattern(regexp = "INV-[0-9]{8}")
+        String number;
+
+        @NotNull
+        @Valid
+        Order order;
+
+        @Min(0)
+        long total;
+    }
+
+    public static class Shipment extends Entity {
+        @NotNull
+        @Valid
+        Supplier supplier;
+
+        @NotNull
+        @Valid
+        Address destination;
+
+        @Size(min = 1)
+        List<@NotNull @Valid Line> lines;
+    }
+
+    public static class Address {
+        @NotBlank
+        String street;
+
+        @NotBlank
+        String city;
+
+        @Pattern(regexp = "\\d{5}")
+        String zip;
+
+        @NotBlank
+        @Size(min = 2, max = 2)
+        String country;
+    }
+
+    public static class Line {
+        @NotBlank
+        String product;
+
+        @Min(1)
+        int quantity;
+
+        @Min(0)
+        long price;
+    }
+}
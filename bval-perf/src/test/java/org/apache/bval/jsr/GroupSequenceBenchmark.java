@@ -0,0 +1,155 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.bval.jsr;
+
+import java.util.concurrent.TimeUnit;
+
+import jakarta.validation.GroupSequence;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+import jakarta.validation.groups.Default;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+/**
+ * Measures validation against explicit groups, a group sequence and a redefined default group sequence. Invalid
+ * beans fail the first group of each sequence, so that the remaining groups are skipped.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class GroupSequenceBenchmark {
+
+    public static void main(String[] args) throws RunnerException {
+        final Options opt = new OptionsBuilder()
+            .include(GroupSequenceBenchmark.class.getSimpleName())
+            .addProfiler(GCProfiler.class)
+
+            .forks(1)
+
+            .measurementIterations(5)
+            .measurementTime(TimeValue.seconds(5))
+
+            .warmupIterations(3)
+            .warmupTime(TimeValue.seconds(5))
+
+            .build();
+
+        new Runner(opt).run();
+    }
+
+    public interface Basic {
+    }
+
+    public interface Extended {
+    }
+
+    @GroupSequence({ Basic.class, Extended.class })
+    public interface Ordered {
+    }
+
+    @Param({ "true", "false" })
+    public boolean valid;
+
+    private ValidatorFactory factory;
+    private Validator validator;
+    private Form form;
+    private RedefinedForm redefinedForm;
+
+    @Setup
+    public void setup() {
+        factory = Validation.byProvider(ApacheValidationProvider.class).configure().buildValidatorFactory();
+        validator = factory.getValidator();
+        form = new Form();
+        redefinedForm = new RedefinedForm();
+        if (!valid) {
+            form.name = null;
+            redefinedForm.name = null;
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        factory.close();
+    }
+
+    @Benchmark
+    public Object validateGroups() {
+        return validator.validate(form, Default.class, Basic.class, Extended.class);
+    }
+
+    @Benchmark
+    public Object validateGroupSequence() {
+        return validator.validate(form, Ordered.class);
+    }
+
+    @Benchmark
+    public Object validateRedefinedDefaultSequence() {
+        return validator.validate(redefinedForm);
+    }
+
+    public static class Form {
+        @NotNull(groups = Basic.class)
+        @Size(min = 2, max = 32, groups = Extended.class)
+        String name = "name";
+
+        @NotNull(groups = Basic.class)
+        @Pattern(regexp = "\\d{5}", groups = Extended.class)
+        String zip = "12345";
+
+        @Min(value = 0, groups = Basic.class)
+        @Max(value = 150, groups = Extended.class)
+        int age = 42;
+    }
+
+    @GroupSequence({ RedefinedForm.class, Extended.class })
+    public static class RedefinedForm {
+        @NotNull
+        @Size(min = 2, max = 32, groups = Extended.class)
+        String name = "name";
+
+        @NotNull
+        @Pattern(regexp = "\\d{5}", groups = Extended.class)
+        String zip = "12345";
+
+        @Min(0)
+        @Max(value = 150, groups = Extended.class)
+        int age = 42;
+    }
+}
@@ -0,0 +1,155 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.bval.jsr;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+/**
+ * Measures validating invalid beans, whose violation messages are plain text, contain annotation parameters, or
+ * contain EL expressions; with lazy message interpolation, {@link #validate()} defers interpolation to the messages
+ * actually read, as {@link #validateAndReadMessages(Blackhole)} does.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class MessageInterpolationBenchmark {
+
+    public static void main(String[] args) throws RunnerException {
+        final Options opt = new OptionsBuilder()
+            .include(MessageInterpolationBenchmark.class.getSimpleName())
+            .addProfiler(GCProfiler.class)
+
+            .forks(1)
+
+            .measurementIterations(5)
+            .measurementTime(TimeValue.seconds(5))
+
+            .warmupIterations(3)
+            .warmupTime(TimeValue.seconds(5))
+
+            .build();
+
+        new Runner(opt).run();
+    }
+
+    public enum MessageType {
+        PLAIN(new PlainMessages()), PARAMETERS(new ParameterMessages()), EL(new ExpressionMessages());
+
+        final Object bean;
+
+        private MessageType(Object bean) {
+            this.bean = bean;
+        }
+    }
+
+    @Param
+    public MessageType messageType;
+
+    @Param({ "false", "true" })
+    public boolean lazy;
+
+    private ValidatorFactory factory;
+    private Validator validator;
+
+    @Setup
+    public void setup() {
+        factory = Validation.byProvider(ApacheValidationProvider.class).configure()
+            .addProperty(ApacheValidatorConfiguration.Properties.LAZY_MESSAGE_INTERPOLATION, Boolean.toString(lazy))
+            .buildValidatorFactory();
+        validator = factory.getValidator();
+    }
+
+    @TearDown
+    public void tearDown() {
+        factory.close();
+    }
+
+    @Benchmark
+    public Object validate() {
+        return validator.validate(messageType.bean);
+    }
+
+    @Benchmark
+    public void validateAndReadMessages(Blackhole bh) {
+        final Set<ConstraintViolation<Object>> violations = validator.validate(messageType.bean);
+        for (ConstraintViolation<Object> violation : violations) {
+            bh.consume(violation.getMessage());
+        }
+    }
+
+    public static class PlainMessages {
+        @NotNull(message = "name is required")
+        String name;
+
+        @NotNull(message = "zip is required")
+        String zip;
+
+        @NotNull(message = "age is required")
+        Integer age;
+    }
+
+    public static class ParameterMessages {
+        @Size(min = 5, max = 10)
+        String name = "abc";
+
+        @Pattern(regexp = "\\d{5}")
+        String zip = "abc";
+
+        @Max(150)
+        int age = 200;
+    }
+
+    public static class ExpressionMessages {
+        @Size(min = 5, max = 10, message = "'${validatedValue}' must have between {min} and {max} characters")
+        String name = "abc";
+
+        @Pattern(regexp = "\\d{5}", message = "'${validatedValue}' must match ${regexp}")
+        String zip = "abc";
+
+        @Max(value = 150, message = "${validatedValue} is greater than ${formatter.format('%d', value)}")
+        int age = 200;
+    }
+}
@@ -0,0 +1,177 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.bval.jsr;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import org.apache.bval.jsr.descriptor.ComposedD;
+import org.apache.bval.jsr.descriptor.PropertyD;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+/**
+ * Compares reading bean properties through the accessors generated for {@link PropertyD} against the core
+ * reflection calls they replace, and measures the effect on validating a wide bean.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PropertyAccessBenchmark {
+
+    public static void main(String[] args) throws RunnerException {
+        final Options opt = new OptionsBuilder()
+            .include(PropertyAccessBenchmark.class.getSimpleName())
+
+            .forks(1)
+
+            .measurementIterations(5)
+            .measurementTime(TimeValue.seconds(5))
+
+            .warmupIterations(3)
+            .warmupTime(TimeValue.seconds(5))
+
+            .build();
+
+        new Runner(opt).run();
+    }
+
+    private ValidatorFactory factory;
+    private Validator validator;
+    private WideBean bean;
+
+    private Field field;
+    private Method getter;
+    private PropertyD<?> fieldProperty;
+    private PropertyD<?> getterProperty;
+
+    @Setup
+    public void setup() throws Exception {
+        factory = Validation.byProvider(ApacheValidationProvider.class).configure().buildValidatorFactory();
+        validator = factory.getValidator();
+        bean = new WideBean();
+
+        field = WideBean.class.getDeclaredField("f0");
+        field.setAccessible(true);
+        getter = WideBean.class.getDeclaredMethod("getG0");
+        getter.setAccessible(true);
+
+        fieldProperty = property("f0");
+        getterProperty = property("g0");
+    }
+
+    @TearDown
+    public void tearDown() {
+        factory.close();
+    }
+
+    private PropertyD<?> property(String name) {
+        return ComposedD.unwrap(validator.getConstraintsForClass(WideBean.class).getConstraintsForProperty(name),
+            PropertyD.class).findFirst().get();
+    }
+
+    @Benchmark
+    public void reflectionField(final Blackhole bh) throws Exception {
+        bh.consume(field.get(bean));
+    }
+
+    @Benchmark
+    public void accessorField(final Blackhole bh) throws Exception {
+        bh.consume(fieldProperty.getValue(bean));
+    }
+
+    @Benchmark
+    public void reflectionGetter(final Blackhole bh) throws Exception {
+        bh.consume(getter.invoke(bean));
+    }
+
+    @Benchmark
+    public void accessorGetter(final Blackhole bh) throws Exception {
+        bh.consume(getterProperty.getValue(bean));
+    }
+
+    @Benchmark
+    public void validateWideBean(final Blackhole bh) {
+        bh.consume(validator.validate(bean));
+    }
+
+    public static class WideBean {
+        @NotNull
+        private String f0 = "f0";
+        @NotNull
+        private String f1 = "f1";
+        @Size(max = 10)
+        private String f2 = "f2";
+        @Size(max = 10)
+        private String f3 = "f3";
+        @Min(0)
+        private int f4 = 4;
+        @Min(0)
+        private int f5 = 5;
+        @NotNull
+        private Integer f6 = 6;
+        @NotNull
+        private Long f7 = 7L;
+
+        private String g0 = "g0";
+        private String g1 = "g1";
+        private int g2 = 2;
+        private int g3 = 3;
+
+        @NotNull
+        public String getG0() {
+            return g0;
+        }
+
+        @Size(max = 10)
+        public String getG1() {
+            return g1;
+        }
+
+        @Min(0)
+        public int getG2() {
+            return g2;
+        }
+
+        @Min(0)
+        public int getG3() {
+            return g3;
+        }
+    }
+}
@@ -0,0 +1,151 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.bval.jsr;
+
+import java.util.concurrent.TimeUnit;
+
+import jakarta.validation.Valid;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+/**
+ * Measures the allocation rate of validating beans that have no violations; run with the GC profiler (as
+ * {@link #main(String[])} does) and compare {@code gc.alloc.rate.norm} across bean widths: validating a valid bean
+ * should allocate a small number of objects regardless of its number of simple constraints.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ValidBeanAllocationBenchmark {
+
+    public static void main(String[] args) throws RunnerException {
+        final Options opt = new OptionsBuilder()
+            .include(ValidBeanAllocationBenchmark.class.getSimpleName())
+            .addProfiler(GCProfiler.class)
+
+            .forks(1)
+
+            .measurementIterations(5)
+            .measurementTime(TimeValue.seconds(5))
+
+            .warmupIterations(3)
+            .warmupTime(TimeValue.seconds(5))
+
+            .build();
+
+        new Runner(opt).run();
+    }
+
+    private ValidatorFactory factory;
+    private Validator validator;
+    private NarrowBean narrow;
+    private WideBean wide;
+    private Parent parent;
+
+    @Setup
+    public void setup() {
+        factory = Validation.byProvider(ApacheValidationProvider.class).configure().buildValidatorFactory();
+        validator = factory.getValidator();
+        narrow = new NarrowBean();
+        wide = new WideBean();
+        parent = new Parent();
+    }
+
+    @TearDown
+    public void tearDown() {
+        factory.close();
+    }
+
+    @Benchmark
+    public Object validateNarrowBean() {
+        return validator.validate(narrow);
+    }
+
+    @Benchmark
+    public Object validateWideBean() {
+        return validator.validate(wide);
+    }
+
+    @Benchmark
+    public Object validateCascadedBean() {
+        return validator.validate(parent);
+    }
+
+    public static class NarrowBean {
+        @NotNull
+        private String a = "a";
+        @Min(0)
+        private int b = 1;
+    }
+
+    public static class WideBean {
+        @NotNull
+        @Size(max = 10)
+        private String a = "a";
+        @NotNull
+        @Size(max = 10)
+        private String b = "b";
+        @NotNull
+        @Size(max = 10)
+        private String c = "c";
+        @NotNull
+        @Size(max = 10)
+        private String d = "d";
+        @Min(0)
+        @Max(100)
+        private int e = 1;
+        @Min(0)
+        @Max(100)
+        private int f = 2;
+        @Min(0)
+        @Max(100)
+        private long g = 3L;
+        @Min(0)
+        @Max(100)
+        private long h = 4L;
+    }
+
+    public static class Parent {
+        @NotNull
+        private String name = "parent";
+        @Valid
+        @NotNull
+        private WideBean child = new WideBean();
+    }
+}
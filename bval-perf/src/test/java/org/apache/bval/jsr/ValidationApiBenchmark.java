@@ -0,0 +1,168 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.bval.jsr;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import jakarta.validation.executable.ExecutableValidator;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+/**
+ * Measures each entry point of the validation API in steady state, i.e. with metadata already built, against values
+ * that either satisfy or violate their constraints, with and without compiled bean validation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ValidationApiBenchmark {
+
+    public static void main(String[] args) throws RunnerException {
+        final Options opt = new OptionsBuilder()
+            .include(ValidationApiBenchmark.class.getSimpleName())
+            .addProfiler(GCProfiler.class)
+
+            .forks(1)
+
+            .measurementIterations(5)
+            .measurementTime(TimeValue.seconds(5))
+
+            .warmupIterations(3)
+            .warmupTime(TimeValue.seconds(5))
+
+            .build();
+
+        new Runner(opt).run();
+    }
+
+    @Param({ "true", "false" })
+    public boolean valid;
+
+    @Param({ "false", "true" })
+    public boolean compiled;
+
+    private ValidatorFactory factory;
+    private Validator validator;
+    private ExecutableValidator executableValidator;
+    private Account account;
+    private Method deposit;
+    private Object[] depositArguments;
+    private Method getBalance;
+    private String owner;
+    private Integer balance;
+
+    @Setup
+    public void setup() throws Exception {
+        factory = Validation.byProvider(ApacheValidationProvider.class).configure()
+            .addProperty(ApacheValidatorConfiguration.Properties.COMPILED_BEAN_VALIDATION, Boolean.toString(compiled))
+            .buildValidatorFactory();
+        validator = factory.getValidator();
+        executableValidator = validator.forExecutables();
+
+        account = new Account();
+        deposit = Account.class.getMethod("deposit", String.class, int.class);
+        getBalance = Account.class.getMethod("getBalance");
+        if (valid) {
+            account.owner = "owner";
+            account.balance = 100;
+            depositArguments = new Object[] { "reference", 10 };
+        } else {
+            account.owner = null;
+            account.balance = -1;
+            depositArguments = new Object[] { null, 0 };
+        }
+        owner = account.owner;
+        balance = Integer.valueOf(account.balance);
+
+        // build all metadata up front:
+        validator.validate(account);
+        executableValidator.validateParameters(account, deposit, depositArguments);
+        executableValidator.validateReturnValue(account, getBalance, balance);
+    }
+
+    @TearDown
+    public void tearDown() {
+        factory.close();
+    }
+
+    @Benchmark
+    public Object validate() {
+        return validator.validate(account);
+    }
+
+    @Benchmark
+    public Object validateProperty() {
+        return validator.validateProperty(account, "owner");
+    }
+
+    @Benchmark
+    public Object validateValue() {
+        return validator.validateValue(Account.class, "owner", owner);
+    }
+
+    @Benchmark
+    public Object validateParameters() {
+        return executableValidator.validateParameters(account, deposit, depositArguments);
+    }
+
+    @Benchmark
+    public Object validateReturnValue() {
+        return executableValidator.validateReturnValue(account, getBalance, balance);
+    }
+
+    public static class Account {
+        @NotNull
+        @Size(min = 1, max = 32)
+        private String owner;
+
+        private int balance;
+
+        public void deposit(@NotNull @Size(max = 16) String reference, @Min(1) int amount) {
+            balance += amount;
+        }
+
+        @Min(0)
+        @Max(1_000_000)
+        public int getBalance() {
+            return balance;
+        }
+    }
+}